@@ -0,0 +1,60 @@
+package com.example.bookstoreapi.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.bookstoreapi.data.AuthorDataFactory;
+import com.example.bookstoreapi.data.BookDataFactory;
+import com.example.bookstoreapi.model.Author;
+import com.example.bookstoreapi.model.Book;
+
+/**
+ * Measures how many books and authors the data factories generate per second on one
+ * thread (i.e., per core), for each {@code data.generator} backend.
+ * <p>
+ * The factories read {@code data.generator} once when they are initialized, so the
+ * property is set before their first use; JMH runs each parameter value in its own fork.
+ * </p>
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="DataFactoryBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class DataFactoryBenchmark {
+
+    @Param({"faker", "fast"})
+    public String generator;
+
+    @Setup
+    public void setup() {
+        System.setProperty("data.generator", generator);
+    }
+
+    @Benchmark
+    public Book createBaseBook() {
+        return BookDataFactory.createBaseBook();
+    }
+
+    @Benchmark
+    public Author createBaseAuthor() {
+        return AuthorDataFactory.createBaseAuthor();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.bookstoreapi.benchmark;
+
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.bookstoreapi.api.AuthorsApis;
+import com.example.bookstoreapi.json.JsonMapper;
+
+import io.restassured.response.Response;
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Compares assertions on a list response through RestAssured's Groovy object tree
+ * ({@code body("size()", ...)}, {@code body("id", everyItem(...))}) with the same checks
+ * on a {@link com.example.bookstoreapi.json.RecordStream}.
+ * <p>
+ * The response is fetched once from a {@link LoopbackServer}; every invocation then
+ * works on the same buffered body. Run with {@code -prof gc} to compare allocation.
+ * </p>
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ListExtractionBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListExtractionBenchmark {
+
+    /** 610 is the size of the real author list. */
+    @Param({"610", "20000"})
+    private int authors;
+
+    private LoopbackServer server;
+    private Response response;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int id = 1; id <= authors; id++) {
+            if (id > 1) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(id)
+                .append(",\"idBook\":").append((id - 1) % 200 + 1)
+                .append(",\"firstName\":\"First Name ").append(id)
+                .append("\",\"lastName\":\"Last Name ").append(id).append("\"}");
+        }
+        server = LoopbackServer.start(json.append(']').toString());
+        response = new AuthorsApis(server.baseUrl()).getAllAuthors();
+        response.asByteArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public ValidatableResponse treeSize() {
+        return response.then().body("size()", greaterThan(0));
+    }
+
+    @Benchmark
+    public long streamCount() {
+        return JsonMapper.streamAuthors(response.asInputStream()).count();
+    }
+
+    @Benchmark
+    public ValidatableResponse treeEveryItem() {
+        return response.then().body("idBook", everyItem(notNullValue()));
+    }
+
+    @Benchmark
+    public boolean streamAllMatch() {
+        return JsonMapper.streamAuthors(response.asInputStream()).allMatch(author -> author.getBookId() != null);
+    }
+}
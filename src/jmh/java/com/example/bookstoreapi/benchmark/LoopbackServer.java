@@ -0,0 +1,82 @@
+package com.example.bookstoreapi.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * {@code LoopbackServer} is a minimal in-process HTTP endpoint used by the benchmarks.
+ * <p>
+ * It answers every request with the same canned JSON body, so the measured time is
+ * dominated by the client-side work instead of the network or a real server.
+ * </p>
+ */
+public final class LoopbackServer implements AutoCloseable {
+
+    static {
+        // Without TCP_NODELAY the split header/body writes stall on delayed ACKs (~40 ms per request)
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final byte[] body;
+
+    private LoopbackServer(String json) throws IOException {
+        this.body = json.getBytes(StandardCharsets.UTF_8);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.executor = Executors.newFixedThreadPool(4);
+        server.createContext("/", this::respond);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Starts a loopback server on an ephemeral port.
+     *
+     * @param json the body returned for every request
+     * @return the started server
+     * @throws IOException if the server socket cannot be bound
+     */
+    public static LoopbackServer start(String json) throws IOException {
+        LoopbackServer loopback = new LoopbackServer(json);
+        loopback.server.start();
+        return loopback;
+    }
+
+    /**
+     * @return the base URL of the server (e.g., {@code http://127.0.0.1:54321})
+     */
+    public String baseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] drain = new byte[4096];
+            while (in.read(drain) != -1) {
+                // discard the request body
+            }
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+        exchange.close();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
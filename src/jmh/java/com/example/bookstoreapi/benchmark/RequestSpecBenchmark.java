@@ -0,0 +1,115 @@
+package com.example.bookstoreapi.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.bookstoreapi.api.BooksApis;
+
+import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Compares the per-call cost of the previous request setup (a new {@code given()},
+ * a new {@link AllureRestAssured} filter and headers on every call) with the
+ * cached base specification used by {@link BooksApis}.
+ * <p>
+ * The {@code build*} variants only build the request; the others also send
+ * {@code GET /api/v1/Books/1} to a {@link LoopbackServer}.
+ * Run with {@code -prof gc} to compare the allocation rate per call:
+ * </p>
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="RequestSpecBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestSpecBenchmark {
+
+    private static final String BOOK_JSON = "{\"id\":1,\"title\":\"Book 1\",\"description\":\"Lorem ipsum\","
+        + "\"pageCount\":100,\"excerpt\":\"Lorem ipsum\",\"publishDate\":\"2024-01-01T00:00:00\"}";
+
+    private LoopbackServer server;
+    private BooksApis booksApis;
+    private RequestSpecification cachedSpec;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        server = LoopbackServer.start(BOOK_JSON);
+        System.setProperty("base.url", server.baseUrl());
+        // The previous clients relied on the global base URI
+        RestAssured.baseURI = server.baseUrl();
+        booksApis = new BooksApis();
+        cachedSpec = new RequestSpecBuilder()
+            .setBaseUri(server.baseUrl())
+            .setBasePath("/api/v1/Books")
+            .addFilter(new AllureRestAssured())
+            .setAccept(ContentType.JSON)
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RestAssured.reset();
+        server.close();
+    }
+
+    /**
+     * Builds (without sending) a request the way it was built before the base
+     * specification was cached.
+     */
+    @Benchmark
+    public RequestSpecification buildPerCallSpec() {
+        return RestAssured.given()
+            .filter(new AllureRestAssured())
+            .accept(ContentType.JSON);
+    }
+
+    /**
+     * Builds (without sending) a request from a cached base specification.
+     */
+    @Benchmark
+    public RequestSpecification buildFromCachedSpec() {
+        return RestAssured.given().spec(cachedSpec);
+    }
+
+    /**
+     * The request setup as it was before the base specification was cached.
+     */
+    @Benchmark
+    public Response perCallSpec() {
+        return RestAssured.given()
+            .filter(new AllureRestAssured())
+            .accept(ContentType.JSON)
+            .when()
+            .get("/api/v1/Books/" + 1);
+    }
+
+    /**
+     * The request setup derived from the client's cached base specification.
+     */
+    @Benchmark
+    public Response cachedSpec() {
+        return booksApis.getBookById(1);
+    }
+}
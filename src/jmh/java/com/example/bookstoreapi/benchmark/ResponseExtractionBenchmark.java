@@ -0,0 +1,102 @@
+package com.example.bookstoreapi.benchmark;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import static com.example.bookstoreapi.json.JsonMatchers.at;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.bookstoreapi.api.BooksApis;
+import com.example.bookstoreapi.json.JsonView;
+
+import io.restassured.response.Response;
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Measures extracting and asserting fields on a {@link Response}, as the tests do with
+ * {@code extract().path("id")} and {@code body("title", equalTo(...))}, against the same
+ * through a {@link JsonView} and compiled paths.
+ * <p>
+ * The response is fetched once from a {@link LoopbackServer}; every invocation then
+ * works on the same buffered body, so only the extraction itself is measured.
+ * </p>
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ResponseExtractionBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseExtractionBenchmark {
+
+    private static final String BOOK_JSON = "{\"id\":1,\"title\":\"Book 1\",\"description\":\"Lorem ipsum\","
+        + "\"pageCount\":100,\"excerpt\":\"Lorem ipsum\",\"publishDate\":\"2024-01-01T00:00:00\"}";
+
+    private LoopbackServer server;
+    private Response response;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        server = LoopbackServer.start(BOOK_JSON);
+        response = new BooksApis(server.baseUrl()).getBookById(1);
+        response.asByteArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public Object extractPath() {
+        return response.then().extract().path("id");
+    }
+
+    @Benchmark
+    public int jsonPathGetInt() {
+        return response.jsonPath().getInt("id");
+    }
+
+    @Benchmark
+    public ValidatableResponse assertBodyField() {
+        return response.then().body("title", equalTo("Book 1"));
+    }
+
+    @Benchmark
+    public ValidatableResponse assertBodyFields() {
+        return response.then().body("id", equalTo(1)).body("title", equalTo("Book 1")).body("pageCount", equalTo(100));
+    }
+
+    @Benchmark
+    public int viewIntAt() {
+        return JsonView.of(response).intAt("id");
+    }
+
+    @Benchmark
+    public ValidatableResponse assertBodyFieldCompiled() {
+        return response.then().body(at("title", equalTo("Book 1")));
+    }
+
+    @Benchmark
+    public ValidatableResponse assertBodyFieldsCompiled() {
+        return response.then()
+            .body(at("id", equalTo(1))).body(at("title", equalTo("Book 1"))).body(at("pageCount", equalTo(100)));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.bookstoreapi.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.bookstoreapi.json.AuthorCodec;
+import com.example.bookstoreapi.json.BookCodec;
+import com.example.bookstoreapi.json.JsonMapper;
+import com.example.bookstoreapi.json.JsonWriter;
+import com.example.bookstoreapi.model.Author;
+import com.example.bookstoreapi.model.Book;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.internal.mapping.ObjectMapping;
+
+/**
+ * Measures serializing {@link Book} and {@link Author} request bodies to JSON, and reading a
+ * book back from a response body.
+ * <p>
+ * {@code restAssured*} goes through RestAssured's object mapping, which is what
+ * {@code BooksApis.createBook(Object)} did for a POJO body. {@code jackson*} uses a cached
+ * Jackson mapper, as the asynchronous clients did. {@code codec*} uses the reflection-free
+ * {@link BookCodec} and {@link AuthorCodec} that both clients use now; {@code codecBookReused}
+ * writes into one {@link JsonWriter} without copying the result out. Run with the GC profiler
+ * to compare allocation per operation:
+ * </p>
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="SerializationBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final String CONTENT_TYPE = "application/json; charset=UTF-8";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JsonWriter writer = new JsonWriter(512);
+
+    private Book book;
+    private Author author;
+    private RestAssuredConfig config;
+    private String bookJson;
+
+    @Setup
+    public void setup() {
+        book = new Book(42, "The Benchmark", "Lorem ipsum dolor sit amet, consectetur adipiscing elit.", 350,
+            "Sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam.",
+            "2024-05-01T10:15:30");
+        author = new Author(7, 42, "Ada", "Lovelace");
+        config = RestAssuredConfig.config();
+        bookJson = new String(BookCodec.encode(book), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String restAssuredBook() {
+        return ObjectMapping.serialize(book, CONTENT_TYPE, "UTF-8", null,
+            config.getObjectMapperConfig(), config.getEncoderConfig());
+    }
+
+    @Benchmark
+    public String restAssuredAuthor() {
+        return ObjectMapping.serialize(author, CONTENT_TYPE, "UTF-8", null,
+            config.getObjectMapperConfig(), config.getEncoderConfig());
+    }
+
+    @Benchmark
+    public byte[] jacksonBook() throws Exception {
+        return mapper.writeValueAsBytes(book);
+    }
+
+    @Benchmark
+    public byte[] jacksonAuthor() throws Exception {
+        return mapper.writeValueAsBytes(author);
+    }
+
+    @Benchmark
+    public byte[] codecBook() {
+        return BookCodec.encode(book);
+    }
+
+    @Benchmark
+    public byte[] codecAuthor() {
+        return AuthorCodec.encode(author);
+    }
+
+    @Benchmark
+    public int codecBookReused() {
+        writer.reset();
+        BookCodec.write(book, writer);
+        return writer.size();
+    }
+
+    /** The tree-based mapping {@link JsonMapper#readBook(String)} used before the codecs. */
+    @Benchmark
+    public Book jacksonTreeReadBook() throws Exception {
+        JsonNode node = mapper.readTree(bookJson);
+        return new Book(node.get("id").asInt(), node.get("title").asText(), node.get("description").asText(),
+            node.get("pageCount").asInt(), node.get("excerpt").asText(), node.get("publishDate").asText());
+    }
+
+    @Benchmark
+    public Book codecReadBook() {
+        return JsonMapper.readBook(bookJson);
+    }
+}
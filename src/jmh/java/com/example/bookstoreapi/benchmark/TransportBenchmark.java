@@ -0,0 +1,70 @@
+package com.example.bookstoreapi.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.bookstoreapi.api.BooksApis;
+import com.example.bookstoreapi.http.HttpTransport;
+
+import io.restassured.response.Response;
+
+/**
+ * Compares the per-call cost of the {@code restassured} and {@code jdk} transports for
+ * {@code GET /api/v1/Books/1} against a {@link LoopbackServer}, through the full client
+ * (base specification, Allure filter).
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="TransportBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransportBenchmark {
+
+    private static final String BOOK_JSON = "{\"id\":1,\"title\":\"Book 1\",\"description\":\"Lorem ipsum\","
+        + "\"pageCount\":100,\"excerpt\":\"Lorem ipsum\",\"publishDate\":\"2024-01-01T00:00:00\"}";
+
+    @Param({HttpTransport.RESTASSURED, "jdk"})
+    public String transport;
+
+    private LoopbackServer server;
+    private BooksApis booksApis;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        server = LoopbackServer.start(BOOK_JSON);
+        System.setProperty("http.transport", transport);
+        booksApis = new BooksApis(server.baseUrl());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.clearProperty("http.transport");
+        server.close();
+    }
+
+    /**
+     * Sends one request over the configured transport.
+     */
+    @Benchmark
+    public Response getBookById() {
+        return booksApis.getBookById(1);
+    }
+}
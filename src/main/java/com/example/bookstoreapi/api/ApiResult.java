@@ -0,0 +1,42 @@
+package com.example.bookstoreapi.api;
+
+/**
+ * {@code ApiResult} is the typed outcome of a call made by the asynchronous clients.
+ * <p>
+ * It carries the HTTP status code, the raw response body and, for successful
+ * responses, the body mapped to the model type. As with the synchronous clients,
+ * a non-2xx status is not treated as an error here; deciding what is expected
+ * belongs to the caller.
+ * </p>
+ *
+ * @param <T> the type of the mapped response body
+ */
+public final class ApiResult<T> {
+
+    private final int statusCode;
+    private final String body;
+    private final T value;
+
+    ApiResult(int statusCode, String body, T value) {
+        this.statusCode = statusCode;
+        this.body = body;
+        this.value = value;
+    }
+
+    /** @return the HTTP status code */
+    public int getStatusCode() { return statusCode; }
+
+    /** @return the raw response body (empty if the response had none) */
+    public String getBody() { return body; }
+
+    /** @return the mapped response body, or {@code null} if the status was not 2xx or there was no body */
+    public T getValue() { return value; }
+
+    /** @return {@code true} if the status code is in the 2xx range */
+    public boolean isSuccessful() { return statusCode >= 200 && statusCode < 300; }
+
+    @Override
+    public String toString() {
+        return "ApiResult[statusCode=" + statusCode + ", value=" + value + "]";
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.bookstoreapi.api;
+
+import java.net.http.HttpClient;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import com.example.bookstoreapi.config.ConfigReader;
+import com.example.bookstoreapi.http.JdkHttpClients;
+import com.example.bookstoreapi.json.JsonMapper;
+import com.example.bookstoreapi.json.RecordStream;
+import com.example.bookstoreapi.model.Author;
+
+/**
+ * {@code AsyncAuthorsApis} is the asynchronous counterpart of {@link AuthorsApis}.
+ * <p>
+ * Each method sends its request on the non-blocking {@code java.net.http} client and
+ * returns immediately with a {@link CompletableFuture} of an {@link ApiResult}, so a
+ * single thread can keep many requests in flight. As in {@link AuthorsApis}, no
+ * assertions are performed here.
+ * </p>
+ */
+public class AsyncAuthorsApis {
+
+    private static final String BASE_PATH = "/api/v1/Authors";
+    /** Paths below {@link #BASE_PATH}, as named in the API metrics. */
+    private static final List<String> PATHS = List.of("", "/{id}", "/authors/books/{idBook}");
+
+    private final AsyncRequestSender sender;
+
+    /**
+     * Creates a client for the API configured under {@code base.url}.
+     */
+    public AsyncAuthorsApis() {
+        this(ConfigReader.get("base.url"));
+    }
+
+    /**
+     * Creates a client for the API at the given base URL using the shared HTTP client.
+     *
+     * @param baseUrl the base URL of the API
+     */
+    public AsyncAuthorsApis(String baseUrl) {
+        this(baseUrl, JdkHttpClients.shared());
+    }
+
+    /**
+     * Creates a client for the API at the given base URL using the given HTTP client.
+     *
+     * @param baseUrl    the base URL of the API
+     * @param httpClient the client used to send the requests
+     */
+    public AsyncAuthorsApis(String baseUrl, HttpClient httpClient) {
+        this.sender = new AsyncRequestSender(httpClient, baseUrl, BASE_PATH, PATHS);
+    }
+
+    /**
+     * Retrieves all authors from the API.
+     *
+     * @return a future of the result containing the list of authors
+     */
+    public CompletableFuture<ApiResult<List<Author>>> getAllAuthorsAsync() {
+        return sender.send("GET", "", JsonMapper::readAuthors);
+    }
+
+    /**
+     * Retrieves all authors and reads them one at a time while the response arrives, in
+     * constant memory, instead of reading the whole list first.
+     *
+     * @return a future of the result containing a {@link RecordStream} of the authors, to be closed
+     *         by the caller (or consumed by one of its helpers)
+     */
+    public CompletableFuture<ApiResult<RecordStream<Author>>> streamAllAuthorsAsync() {
+        return sender.stream("", JsonMapper::streamAuthors);
+    }
+
+    /**
+     * Retrieves an author by its ID.
+     *
+     * @param id the ID of the author
+     * @return a future of the result containing the author details
+     */
+    public CompletableFuture<ApiResult<Author>> getAuthorByIdAsync(int id) {
+        return sender.send("GET", "/" + id, JsonMapper::readAuthor);
+    }
+
+    /**
+     * Retrieves the authors linked to a book.
+     *
+     * @param idBook the ID of the book
+     * @return a future of the result containing the authors linked to the book
+     */
+    public CompletableFuture<ApiResult<List<Author>>> getAuthorByBookIdAsync(int idBook) {
+        return sender.send("GET", "/authors/books/" + idBook, JsonMapper::readAuthors);
+    }
+
+    /**
+     * Creates a new author in the system.
+     *
+     * @param author the author to create
+     * @return a future of the result containing the created author
+     */
+    public CompletableFuture<ApiResult<Author>> createAuthorAsync(Author author) {
+        return sender.send("POST", "", JsonMapper.toJson(author), JsonMapper::readAuthor);
+    }
+
+    /**
+     * Creates a new author from a pre-serialized JSON body, e.g. a
+     * {@link com.example.bookstoreapi.data.PayloadPool} payload, which is sent without copying.
+     *
+     * @param json the JSON body of the author to create
+     * @return a future of the result containing the created author
+     */
+    public CompletableFuture<ApiResult<Author>> createAuthorAsync(ByteBuffer json) {
+        return sender.send("POST", "", json, JsonMapper::readAuthor);
+    }
+
+    /**
+     * Updates an existing author.
+     *
+     * @param id     the ID of the author to update
+     * @param author the updated author
+     * @return a future of the result containing the updated author
+     */
+    public CompletableFuture<ApiResult<Author>> updateAuthorAsync(int id, Author author) {
+        return sender.send("PUT", "/" + id, JsonMapper.toJson(author), JsonMapper::readAuthor);
+    }
+
+    /**
+     * Updates an existing author from a pre-serialized JSON body, which is sent without copying.
+     *
+     * @param id   the ID of the author to update
+     * @param json the JSON body of the updated author
+     * @return a future of the result containing the updated author
+     */
+    public CompletableFuture<ApiResult<Author>> updateAuthorAsync(int id, ByteBuffer json) {
+        return sender.send("PUT", "/" + id, json, JsonMapper::readAuthor);
+    }
+
+    /**
+     * Deletes an author by its ID.
+     *
+     * @param id the ID of the author to delete
+     * @return a future of the result of the delete request
+     */
+    public CompletableFuture<ApiResult<Void>> deleteAuthorAsync(int id) {
+        return sender.send("DELETE", "/" + id, null);
+    }
+
+    /**
+     * Creates authors, keeping up to {@code api.bulk.max.in.flight} requests in flight.
+     *
+     * @param authors the authors to create
+     * @return the result of every item, in iteration order, and the aggregate timing
+     * @throws InterruptedException if interrupted while waiting for the requests
+     */
+    public BulkResult<Author> createAuthors(Collection<Author> authors) throws InterruptedException {
+        return createAuthors(authors, BulkRunner.configuredMaxInFlight());
+    }
+
+    /**
+     * Creates authors, keeping up to {@code maxInFlight} requests in flight.
+     *
+     * @param authors     the authors to create
+     * @param maxInFlight the maximum number of requests outstanding at once
+     * @return the result of every item, in iteration order, and the aggregate timing
+     * @throws InterruptedException if interrupted while waiting for the requests
+     */
+    public BulkResult<Author> createAuthors(Collection<Author> authors, int maxInFlight) throws InterruptedException {
+        return BulkRunner.run(new ArrayList<>(authors), maxInFlight, this::createAuthorAsync);
+    }
+
+    /**
+     * Updates authors by their IDs, keeping up to {@code api.bulk.max.in.flight} requests in flight.
+     * Authors without an ID fail without a request.
+     *
+     * @param authors the updated authors
+     * @return the result of every item, in iteration order, and the aggregate timing
+     * @throws InterruptedException if interrupted while waiting for the requests
+     */
+    public BulkResult<Author> updateAuthors(Collection<Author> authors) throws InterruptedException {
+        return updateAuthors(authors, BulkRunner.configuredMaxInFlight());
+    }
+
+    /**
+     * Updates authors by their IDs, keeping up to {@code maxInFlight} requests in flight.
+     * Authors without an ID fail without a request.
+     *
+     * @param authors     the updated authors
+     * @param maxInFlight the maximum number of requests outstanding at once
+     * @return the result of every item, in iteration order, and the aggregate timing
+     * @throws InterruptedException if interrupted while waiting for the requests
+     */
+    public BulkResult<Author> updateAuthors(Collection<Author> authors, int maxInFlight) throws InterruptedException {
+        return BulkRunner.run(new ArrayList<>(authors), maxInFlight, author -> author.getId() == null
+            ? CompletableFuture.failedFuture(new IllegalArgumentException("Cannot update a author without an ID: " + author))
+            : updateAuthorAsync(author.getId(), author));
+    }
+
+    /**
+     * Deletes authors by their IDs, keeping up to {@code api.bulk.max.in.flight} requests in flight.
+     *
+     * @param ids the IDs of the authors to delete
+     * @return the result of every item, in array order, and the aggregate timing
+     * @throws InterruptedException if interrupted while waiting for the requests
+     */
+    public BulkResult<Void> deleteAuthors(int[] ids) throws InterruptedException {
+        return deleteAuthors(ids, BulkRunner.configuredMaxInFlight());
+    }
+
+    /**
+     * Deletes authors by their IDs, keeping up to {@code maxInFlight} requests in flight.
+     *
+     * @param ids         the IDs of the authors to delete
+     * @param maxInFlight the maximum number of requests outstanding at once
+     * @return the result of every item, in array order, and the aggregate timing
+     * @throws InterruptedException if interrupted while waiting for the requests
+     */
+    public BulkResult<Void> deleteAuthors(int[] ids, int maxInFlight) throws InterruptedException {
+        return BulkRunner.run(Arrays.stream(ids).boxed().collect(Collectors.toList()), maxInFlight, this::deleteAuthorAsync);
+    }
+}
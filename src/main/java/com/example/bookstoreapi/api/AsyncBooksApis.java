@@ -0,0 +1,216 @@
+package com.example.bookstoreapi.api;
+
+import java.net.http.HttpClient;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import com.example.bookstoreapi.config.ConfigReader;
+import com.example.bookstoreapi.http.JdkHttpClients;
+import com.example.bookstoreapi.json.JsonMapper;
+import com.example.bookstoreapi.json.RecordStream;
+import com.example.bookstoreapi.model.Book;
+
+/**
+ * {@code AsyncBooksApis} is the asynchronous counterpart of {@link BooksApis}.
+ * <p>
+ * Each method sends its request on the non-blocking {@code java.net.http} client and
+ * returns immediately with a {@link CompletableFuture} of an {@link ApiResult}, so a
+ * single thread can keep many requests in flight. As in {@link BooksApis}, no
+ * assertions are performed here.
+ * </p>
+ */
+public class AsyncBooksApis {
+
+    private static final String BASE_PATH = "/api/v1/Books";
+    /** Paths below {@link #BASE_PATH}, as named in the API metrics. */
+    private static final List<String> PATHS = List.of("", "/{id}");
+
+    private final AsyncRequestSender sender;
+
+    /**
+     * Creates a client for the API configured under {@code base.url}.
+     */
+    public AsyncBooksApis() {
+        this(ConfigReader.get("base.url"));
+    }
+
+    /**
+     * Creates a client for the API at the given base URL using the shared HTTP client.
+     *
+     * @param baseUrl the base URL of the API
+     */
+    public AsyncBooksApis(String baseUrl) {
+        this(baseUrl, JdkHttpClients.shared());
+    }
+
+    /**
+     * Creates a client for the API at the given base URL using the given HTTP client.
+     *
+     * @param baseUrl    the base URL of the API
+     * @param httpClient the client used to send the requests
+     */
+    public AsyncBooksApis(String baseUrl, HttpClient httpClient) {
+        this.sender = new AsyncRequestSender(httpClient, baseUrl, BASE_PATH, PATHS);
+    }
+
+    /**
+     * Retrieves all books from the API.
+     *
+     * @return a future of the result containing the list of books
+     */
+    public CompletableFuture<ApiResult<List<Book>>> getAllBooksAsync() {
+        return sender.send("GET", "", JsonMapper::readBooks);
+    }
+
+    /**
+     * Retrieves all books and reads them one at a time while the response arrives, in
+     * constant memory, instead of reading the whole list first.
+     *
+     * @return a future of the result containing a {@link RecordStream} of the books, to be closed
+     *         by the caller (or consumed by one of its helpers)
+     */
+    public CompletableFuture<ApiResult<RecordStream<Book>>> streamAllBooksAsync() {
+        return sender.stream("", JsonMapper::streamBooks);
+    }
+
+    /**
+     * Retrieves a book by its ID.
+     *
+     * @param id the ID of the book
+     * @return a future of the result containing the book details
+     */
+    public CompletableFuture<ApiResult<Book>> getBookByIdAsync(int id) {
+        return sender.send("GET", "/" + id, JsonMapper::readBook);
+    }
+
+    /**
+     * Creates a new book in the system.
+     *
+     * @param book the book to create
+     * @return a future of the result containing the created book
+     */
+    public CompletableFuture<ApiResult<Book>> createBookAsync(Book book) {
+        return sender.send("POST", "", JsonMapper.toJson(book), JsonMapper::readBook);
+    }
+
+    /**
+     * Creates a new book from a pre-serialized JSON body, e.g. a
+     * {@link com.example.bookstoreapi.data.PayloadPool} payload, which is sent without copying.
+     *
+     * @param json the JSON body of the book to create
+     * @return a future of the result containing the created book
+     */
+    public CompletableFuture<ApiResult<Book>> createBookAsync(ByteBuffer json) {
+        return sender.send("POST", "", json, JsonMapper::readBook);
+    }
+
+    /**
+     * Updates an existing book.
+     *
+     * @param id   the ID of the book to update
+     * @param book the updated book
+     * @return a future of the result containing the updated book
+     */
+    public CompletableFuture<ApiResult<Book>> updateBookAsync(int id, Book book) {
+        return sender.send("PUT", "/" + id, JsonMapper.toJson(book), JsonMapper::readBook);
+    }
+
+    /**
+     * Updates an existing book from a pre-serialized JSON body, which is sent without copying.
+     *
+     * @param id   the ID of the book to update
+     * @param json the JSON body of the updated book
+     * @return a future of the result containing the updated book
+     */
+    public CompletableFuture<ApiResult<Book>> updateBookAsync(int id, ByteBuffer json) {
+        return sender.send("PUT", "/" + id, json, JsonMapper::readBook);
+    }
+
+    /**
+     * Deletes a book by its ID.
+     *
+     * @param id the ID of the book to delete
+     * @return a future of the result of the delete request
+     */
+    public CompletableFuture<ApiResult<Void>> deleteBookAsync(int id) {
+        return sender.send("DELETE", "/" + id, null);
+    }
+
+    /**
+     * Creates books, keeping up to {@code api.bulk.max.in.flight} requests in flight.
+     *
+     * @param books the books to create
+     * @return the result of every item, in iteration order, and the aggregate timing
+     * @throws InterruptedException if interrupted while waiting for the requests
+     */
+    public BulkResult<Book> createBooks(Collection<Book> books) throws InterruptedException {
+        return createBooks(books, BulkRunner.configuredMaxInFlight());
+    }
+
+    /**
+     * Creates books, keeping up to {@code maxInFlight} requests in flight.
+     *
+     * @param books       the books to create
+     * @param maxInFlight the maximum number of requests outstanding at once
+     * @return the result of every item, in iteration order, and the aggregate timing
+     * @throws InterruptedException if interrupted while waiting for the requests
+     */
+    public BulkResult<Book> createBooks(Collection<Book> books, int maxInFlight) throws InterruptedException {
+        return BulkRunner.run(new ArrayList<>(books), maxInFlight, this::createBookAsync);
+    }
+
+    /**
+     * Updates books by their IDs, keeping up to {@code api.bulk.max.in.flight} requests in flight.
+     * Books without an ID fail without a request.
+     *
+     * @param books the updated books
+     * @return the result of every item, in iteration order, and the aggregate timing
+     * @throws InterruptedException if interrupted while waiting for the requests
+     */
+    public BulkResult<Book> updateBooks(Collection<Book> books) throws InterruptedException {
+        return updateBooks(books, BulkRunner.configuredMaxInFlight());
+    }
+
+    /**
+     * Updates books by their IDs, keeping up to {@code maxInFlight} requests in flight.
+     * Books without an ID fail without a request.
+     *
+     * @param books       the updated books
+     * @param maxInFlight the maximum number of requests outstanding at once
+     * @return the result of every item, in iteration order, and the aggregate timing
+     * @throws InterruptedException if interrupted while waiting for the requests
+     */
+    public BulkResult<Book> updateBooks(Collection<Book> books, int maxInFlight) throws InterruptedException {
+        return BulkRunner.run(new ArrayList<>(books), maxInFlight, book -> book.getId() == null
+            ? CompletableFuture.failedFuture(new IllegalArgumentException("Cannot update a book without an ID: " + book))
+            : updateBookAsync(book.getId(), book));
+    }
+
+    /**
+     * Deletes books by their IDs, keeping up to {@code api.bulk.max.in.flight} requests in flight.
+     *
+     * @param ids the IDs of the books to delete
+     * @return the result of every item, in array order, and the aggregate timing
+     * @throws InterruptedException if interrupted while waiting for the requests
+     */
+    public BulkResult<Void> deleteBooks(int[] ids) throws InterruptedException {
+        return deleteBooks(ids, BulkRunner.configuredMaxInFlight());
+    }
+
+    /**
+     * Deletes books by their IDs, keeping up to {@code maxInFlight} requests in flight.
+     *
+     * @param ids         the IDs of the books to delete
+     * @param maxInFlight the maximum number of requests outstanding at once
+     * @return the result of every item, in array order, and the aggregate timing
+     * @throws InterruptedException if interrupted while waiting for the requests
+     */
+    public BulkResult<Void> deleteBooks(int[] ids, int maxInFlight) throws InterruptedException {
+        return BulkRunner.run(Arrays.stream(ids).boxed().collect(Collectors.toList()), maxInFlight, this::deleteBookAsync);
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.bookstoreapi.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+import com.example.bookstoreapi.config.ConfigSnapshot;
+import com.example.bookstoreapi.loadtest.LatencyRecorder;
+import com.example.bookstoreapi.metrics.EndpointNamer;
+import com.example.bookstoreapi.metrics.MetricsRegistry;
+
+/**
+ * {@code AsyncRequestSender} sends the requests of the asynchronous clients for one
+ * resource (e.g., {@code /api/v1/Books}) and maps the responses to {@link ApiResult}s.
+ * Calls to the configured {@code base.url} are recorded in the shared {@link MetricsRegistry},
+ * unless metrics are disabled.
+ * A call fails with {@link java.net.http.HttpTimeoutException} after {@code http.read.timeout.ms},
+ * if set.
+ */
+final class AsyncRequestSender {
+
+    private static final String JSON = "application/json";
+
+    private final HttpClient client;
+    private final String resourceUrl;
+    private final EndpointNamer namer;
+    private final MetricsRegistry metrics;
+    private final Duration timeout = ConfigSnapshot.current().getReadTimeout();
+
+    AsyncRequestSender(HttpClient client, String baseUrl, String basePath, List<String> paths) {
+        this.client = client;
+        this.resourceUrl = baseUrl + basePath;
+        this.namer = new EndpointNamer(basePath, paths);
+        this.metrics = MetricsRegistry.sharedFor(baseUrl);
+    }
+
+    /**
+     * Sends a request without a body.
+     *
+     * @param method the HTTP method
+     * @param path   the path below the resource (e.g., {@code /5}), or an empty string
+     * @param mapper maps a successful response body to the result value
+     * @return a future completed with the result, or exceptionally if the request could not be sent
+     */
+    <T> CompletableFuture<ApiResult<T>> send(String method, String path, Function<String, T> mapper) {
+        HttpRequest request = newRequest(path)
+            .method(method, HttpRequest.BodyPublishers.noBody())
+            .build();
+        return send(method, path, request, mapper);
+    }
+
+    /**
+     * Sends a request with a JSON body.
+     *
+     * @param method the HTTP method
+     * @param path   the path below the resource (e.g., {@code /5}), or an empty string
+     * @param json   the JSON body
+     * @param mapper maps a successful response body to the result value
+     * @return a future completed with the result, or exceptionally if the request could not be sent
+     */
+    <T> CompletableFuture<ApiResult<T>> send(String method, String path, byte[] json, Function<String, T> mapper) {
+        HttpRequest request = newRequest(path)
+            .header("Content-Type", JSON)
+            .method(method, HttpRequest.BodyPublishers.ofByteArray(json))
+            .build();
+        return send(method, path, request, mapper);
+    }
+
+    /**
+     * Sends a request with a JSON body held in a buffer. The buffer's remaining bytes
+     * are handed to the client as they are, without copying; the buffer itself is not modified.
+     *
+     * @param method the HTTP method
+     * @param path   the path below the resource (e.g., {@code /5}), or an empty string
+     * @param json   the JSON body
+     * @param mapper maps a successful response body to the result value
+     * @return a future completed with the result, or exceptionally if the request could not be sent
+     */
+    <T> CompletableFuture<ApiResult<T>> send(String method, String path, ByteBuffer json, Function<String, T> mapper) {
+        HttpRequest request = newRequest(path)
+            .header("Content-Type", JSON)
+            .method(method, ofByteBuffer(json))
+            .build();
+        return send(method, path, request, mapper);
+    }
+
+    /**
+     * Sends a {@code GET} whose successful response body is handed to {@code reader} as a stream,
+     * while it is still arriving. The result's raw body is empty in that case; for other statuses
+     * the body is read into the result as usual.
+     *
+     * @param path   the path below the resource (e.g., {@code /5}), or an empty string
+     * @param reader wraps the response body stream into the result value, without reading it
+     * @return a future completed once the response headers have arrived
+     */
+    <T> CompletableFuture<ApiResult<T>> stream(String path, Function<InputStream, T> reader) {
+        HttpRequest request = newRequest(path).GET().build();
+        return record("GET", path, System.nanoTime(), client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream()))
+            .thenApply(response -> {
+                int status = response.statusCode();
+                if (status >= 200 && status < 300) {
+                    return new ApiResult<>(status, "", reader.apply(response.body()));
+                }
+                try (InputStream body = response.body()) {
+                    return new ApiResult<>(status, new String(body.readAllBytes(), StandardCharsets.UTF_8), null);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+    }
+
+    /**
+     * {@code BodyPublishers} has no buffer variant; this publishes a fresh view of
+     * the buffer to every subscriber, so the request can be sent more than once.
+     */
+    private static HttpRequest.BodyPublisher ofByteBuffer(ByteBuffer json) {
+        ByteBuffer body = json.duplicate();
+        Flow.Publisher<ByteBuffer> publisher = subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+            private boolean done;
+
+            @Override
+            public void request(long n) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                if (n <= 0) {
+                    subscriber.onError(new IllegalArgumentException("non-positive request: " + n));
+                } else {
+                    subscriber.onNext(body.duplicate());
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                done = true;
+            }
+        });
+        return HttpRequest.BodyPublishers.fromPublisher(publisher, body.remaining());
+    }
+
+    private HttpRequest.Builder newRequest(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(resourceUrl + path))
+            .header("Accept", JSON);
+        return timeout.isZero() ? builder : builder.timeout(timeout);
+    }
+
+    private <T> CompletableFuture<ApiResult<T>> send(String method, String path, HttpRequest request,
+                                                     Function<String, T> mapper) {
+        return record(method, path, System.nanoTime(), client.sendAsync(request, HttpResponse.BodyHandlers.ofString()))
+            .thenApply(response -> toResult(response, mapper));
+    }
+
+    /** {@code startNanos} is taken before the call is sent, as the argument before it. */
+    private <B> CompletableFuture<HttpResponse<B>> record(String method, String path, long startNanos,
+                                                          CompletableFuture<HttpResponse<B>> call) {
+        if (metrics == null) {
+            return call;
+        }
+        String endpoint = namer.name(method, path);
+        return call.whenComplete((response, error) -> metrics.record(endpoint, System.nanoTime() - startNanos,
+            response == null ? LatencyRecorder.NO_RESPONSE : response.statusCode()));
+    }
+
+    private static <T> ApiResult<T> toResult(HttpResponse<String> response, Function<String, T> mapper) {
+        int status = response.statusCode();
+        String body = response.body();
+        T value = null;
+        if (status >= 200 && status < 300 && mapper != null && body != null && !body.isEmpty()) {
+            value = mapper.apply(body);
+        }
+        return new ApiResult<>(status, body == null ? "" : body, value);
+    }
+}
@@ -1,12 +1,15 @@
 package com.example.bookstoreapi.api;
 
-import io.qameta.allure.restassured.AllureRestAssured;
-import io.restassured.http.ContentType;
+import java.util.List;
+
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 
 import static io.restassured.RestAssured.*;
 
 import com.example.bookstoreapi.config.ConfigReader;
+import com.example.bookstoreapi.json.AuthorCodec;
+import com.example.bookstoreapi.model.Author;
 
 /**
  * {@code AuthorsApis} provides methods for interacting
@@ -21,10 +24,35 @@ import com.example.bookstoreapi.config.ConfigReader;
 public class AuthorsApis {
 
     private static final String BASE_PATH = "/api/v1/Authors";
+    /** Paths below {@link #BASE_PATH}, as named in the API metrics. */
+    private static final List<String> PATHS = List.of("", "/{id}", "/authors/books/{idBook}");
+
+    private final RequestSpecification baseSpec;
+    private final RequestSpecification readSpec;
+    private final RequestSpecification writeSpec;
 
-    // Static initializer to set base URI once
-    static {
-        baseURI = ConfigReader.get("base.url");
+    /**
+     * Creates a client for the API configured under {@code base.url}.
+     */
+    public AuthorsApis() {
+        this(ConfigReader.get("base.url"));
+    }
+
+    /**
+     * Creates a client for the API at the given base URL.
+     * <p>
+     * All configuration is held by this instance: the request specifications are
+     * built once here and shared by every call made through it, and no global
+     * RestAssured state is touched. A single instance can be used from several
+     * threads, and instances pointing at different base URLs can coexist.
+     * </p>
+     *
+     * @param baseUrl the base URL of the API (e.g., {@code https://fakerestapi.azurewebsites.net})
+     */
+    public AuthorsApis(String baseUrl) {
+        baseSpec = RequestSpecFactory.base(baseUrl, BASE_PATH, PATHS);
+        readSpec = RequestSpecFactory.acceptJson(baseSpec);
+        writeSpec = RequestSpecFactory.sendJson(baseSpec);
     }
 
     /**
@@ -34,10 +62,9 @@ public class AuthorsApis {
      */
     public Response getAllAuthors() {
         return given()
-            .filter(new AllureRestAssured())
-            .accept(ContentType.JSON)
+            .spec(readSpec)
             .when()
-            .get(BASE_PATH);
+            .get();
     }
 
     /**
@@ -48,10 +75,9 @@ public class AuthorsApis {
      */
     public Response getAuthorById(Integer id) {
         return given()
-            .filter(new AllureRestAssured())
-            .accept(ContentType.JSON)
+            .spec(readSpec)
             .when()
-            .get(BASE_PATH + "/" + id);
+            .get("/" + id);
     }
 
     /**
@@ -62,10 +88,9 @@ public class AuthorsApis {
      */
     public Response getAuthorById(String id) {
         return given()
-            .filter(new AllureRestAssured())
-            .accept(ContentType.JSON)
+            .spec(readSpec)
             .when()
-            .get(BASE_PATH + "/" + id);
+            .get("/" + id);
     }
 
     /**
@@ -76,10 +101,9 @@ public class AuthorsApis {
      */
     public Response getAuthorByBookId(Integer idBook) {
         return given()
-            .filter(new AllureRestAssured())
-            .accept(ContentType.JSON)
+            .spec(readSpec)
             .when()
-            .get(BASE_PATH + "/authors/books/" + idBook);
+            .get("/authors/books/" + idBook);
     }
 
     /**
@@ -90,41 +114,76 @@ public class AuthorsApis {
      */
     public Response getAuthorByBookId(String bookId) {
         return given()
-            .filter(new AllureRestAssured())
-            .accept(ContentType.JSON)
+            .spec(readSpec)
             .when()
-            .get(BASE_PATH + "/authors/books/" + bookId);
+            .get("/authors/books/" + bookId);
     }
 
     /**
      * Creates a new author in the system.
+     * An {@link Author} is encoded by the {@link AuthorCodec}; anything else goes through RestAssured's object mapping.
      *
      * @param author the author object (POJO or map) to create
      * @return the {@link Response} containing the created author
      */
     public Response createAuthor(Object author) {
+        if (author instanceof Author) {
+            return createAuthor(AuthorCodec.encode((Author) author));
+        }
         return given()
-            .filter(new AllureRestAssured())
-            .contentType(ContentType.JSON)
+            .spec(writeSpec)
             .body(author)
             .when()
-            .post(BASE_PATH);
+            .post();
+    }
+
+    /**
+     * Creates a new author from a pre-serialized JSON body (e.g., from a
+     * {@link com.example.bookstoreapi.data.PayloadPool}), skipping object mapping.
+     *
+     * @param json the JSON body of the author to create
+     * @return the {@link Response} containing the created author
+     */
+    public Response createAuthor(byte[] json) {
+        return given()
+            .spec(writeSpec)
+            .body(json)
+            .when()
+            .post();
     }
 
     /**
      * Updates an existing author by numeric ID.
+     * An {@link Author} is encoded by the {@link AuthorCodec}; anything else goes through RestAssured's object mapping.
      *
      * @param id     the ID of the author to update
      * @param author the updated author object
      * @return the {@link Response} containing the updated author
      */
     public Response updateAuthor(Integer id, Object author) {
+        if (author instanceof Author) {
+            return updateAuthor(id, AuthorCodec.encode((Author) author));
+        }
         return given()
-            .filter(new AllureRestAssured())
-            .contentType(ContentType.JSON)
+            .spec(writeSpec)
             .body(author)
             .when()
-            .put(BASE_PATH + "/" + id);
+            .put("/" + id);
+    }
+
+    /**
+     * Updates an existing author from a pre-serialized JSON body, skipping object mapping.
+     *
+     * @param id   the ID of the author to update
+     * @param json the JSON body of the updated author
+     * @return the {@link Response} containing the updated author
+     */
+    public Response updateAuthor(Integer id, byte[] json) {
+        return given()
+            .spec(writeSpec)
+            .body(json)
+            .when()
+            .put("/" + id);
     }
 
     /**
@@ -135,9 +194,9 @@ public class AuthorsApis {
      */
     public Response deleteAuthor(Integer id) {
         return given()
-            .filter(new AllureRestAssured())
+            .spec(baseSpec)
             .when()
-            .delete(BASE_PATH + "/" + id);
+            .delete("/" + id);
     }
 
     /**
@@ -148,9 +207,9 @@ public class AuthorsApis {
      */
     public Response deleteAuthor(String id) {
         return given()
-            .filter(new AllureRestAssured())
+            .spec(baseSpec)
             .when()
-            .delete(BASE_PATH + "/" + id);
+            .delete("/" + id);
     }
 
 }
@@ -1,12 +1,15 @@
 package com.example.bookstoreapi.api;
 
-import io.restassured.http.ContentType;
+import java.util.List;
+
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 
 import static io.restassured.RestAssured.*;
 
 import com.example.bookstoreapi.config.ConfigReader;
-import io.qameta.allure.restassured.AllureRestAssured;
+import com.example.bookstoreapi.json.BookCodec;
+import com.example.bookstoreapi.model.Book;
 
 /**
  * {@code BooksApis} is a utility class that provides methods for interacting
@@ -20,10 +23,35 @@ import io.qameta.allure.restassured.AllureRestAssured;
 public class BooksApis {
 
     private static final String BASE_PATH = "/api/v1/Books";
+    /** Paths below {@link #BASE_PATH}, as named in the API metrics. */
+    private static final List<String> PATHS = List.of("", "/{id}");
+
+    private final RequestSpecification baseSpec;
+    private final RequestSpecification readSpec;
+    private final RequestSpecification writeSpec;
 
-    // Static initializer to set base URI once
-    static {
-        baseURI = ConfigReader.get("base.url");
+    /**
+     * Creates a client for the API configured under {@code base.url}.
+     */
+    public BooksApis() {
+        this(ConfigReader.get("base.url"));
+    }
+
+    /**
+     * Creates a client for the API at the given base URL.
+     * <p>
+     * All configuration is held by this instance: the request specifications are
+     * built once here and shared by every call made through it, and no global
+     * RestAssured state is touched. A single instance can be used from several
+     * threads, and instances pointing at different base URLs can coexist.
+     * </p>
+     *
+     * @param baseUrl the base URL of the API (e.g., {@code https://fakerestapi.azurewebsites.net})
+     */
+    public BooksApis(String baseUrl) {
+        baseSpec = RequestSpecFactory.base(baseUrl, BASE_PATH, PATHS);
+        readSpec = RequestSpecFactory.acceptJson(baseSpec);
+        writeSpec = RequestSpecFactory.sendJson(baseSpec);
     }
 
     /**
@@ -33,10 +61,9 @@ public class BooksApis {
      */
     public Response getAllBooks() {
         return given()
-            .filter(new AllureRestAssured())
-            .accept(ContentType.JSON)
+            .spec(readSpec)
             .when()
-            .get(BASE_PATH);
+            .get();
     }
 
     /**
@@ -47,10 +74,9 @@ public class BooksApis {
      */
     public Response getBookById(Integer id) {
         return given()
-            .filter(new AllureRestAssured())
-            .accept(ContentType.JSON)
+            .spec(readSpec)
             .when()
-            .get(BASE_PATH + "/" + id);
+            .get("/" + id);
     }
 
     /**
@@ -61,41 +87,76 @@ public class BooksApis {
      */
     public Response getBookById(String id) {
         return given()
-            .filter(new AllureRestAssured())
-            .accept(ContentType.JSON)
+            .spec(readSpec)
             .when()
-            .get(BASE_PATH + "/" + id);
+            .get("/" + id);
     }
 
     /**
      * Creates a new book in the system.
+     * A {@link Book} is encoded by the {@link BookCodec}; anything else goes through RestAssured's object mapping.
      *
      * @param book the book object (POJO or map) to create
      * @return the {@link Response} containing the created book
      */
     public Response createBook(Object book) {
+        if (book instanceof Book) {
+            return createBook(BookCodec.encode((Book) book));
+        }
         return given()
-            .filter(new AllureRestAssured())
-            .contentType(ContentType.JSON)
+            .spec(writeSpec)
             .body(book)
             .when()
-            .post(BASE_PATH);
+            .post();
+    }
+
+    /**
+     * Creates a new book from a pre-serialized JSON body (e.g., from a
+     * {@link com.example.bookstoreapi.data.PayloadPool}), skipping object mapping.
+     *
+     * @param json the JSON body of the book to create
+     * @return the {@link Response} containing the created book
+     */
+    public Response createBook(byte[] json) {
+        return given()
+            .spec(writeSpec)
+            .body(json)
+            .when()
+            .post();
     }
 
     /**
      * Updates an existing book by numeric ID.
+     * A {@link Book} is encoded by the {@link BookCodec}; anything else goes through RestAssured's object mapping.
      *
      * @param id   the ID of the book to update
      * @param book the updated book object
      * @return the {@link Response} containing the updated book
      */
     public Response updateBook(Integer id, Object book) {
+        if (book instanceof Book) {
+            return updateBook(id, BookCodec.encode((Book) book));
+        }
         return given()
-            .filter(new AllureRestAssured())
-            .contentType(ContentType.JSON)
+            .spec(writeSpec)
             .body(book)
             .when()
-            .put(BASE_PATH + "/" + id);
+            .put("/" + id);
+    }
+
+    /**
+     * Updates an existing book from a pre-serialized JSON body, skipping object mapping.
+     *
+     * @param id   the ID of the book to update
+     * @param json the JSON body of the updated book
+     * @return the {@link Response} containing the updated book
+     */
+    public Response updateBook(Integer id, byte[] json) {
+        return given()
+            .spec(writeSpec)
+            .body(json)
+            .when()
+            .put("/" + id);
     }
 
     /**
@@ -106,9 +167,9 @@ public class BooksApis {
      */
     public Response deleteBook(Integer id) {
         return given()
-            .filter(new AllureRestAssured())
+            .spec(baseSpec)
             .when()
-            .delete(BASE_PATH + "/" + id);
+            .delete("/" + id);
     }
 
     /**
@@ -119,9 +180,9 @@ public class BooksApis {
      */
     public Response deleteBook(String id) {
         return given()
-            .filter(new AllureRestAssured())
+            .spec(baseSpec)
             .when()
-            .delete(BASE_PATH + "/" + id);
+            .delete("/" + id);
     }
 
 }
@@ -0,0 +1,94 @@
+package com.example.bookstoreapi.api;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code BulkResult} is the outcome of a bulk call of the asynchronous clients, such as
+ * {@link AsyncBooksApis#createBooks(java.util.Collection)}.
+ * <p>
+ * It holds one {@link ApiResult} per item, in the order the items were given, and the
+ * exception for each item whose request could not be sent or answered. As with
+ * {@link ApiResult}, a non-2xx status is reported, not thrown. The aggregate timing covers
+ * the whole bulk call; the per-item latencies are measured from the moment each request
+ * was sent, so they do not include the time an item waited for an in-flight slot.
+ * </p>
+ *
+ * @param <T> the type of the mapped response bodies
+ */
+public final class BulkResult<T> {
+
+    private final List<ApiResult<T>> results;
+    private final Map<Integer, Throwable> failures;
+    private final int succeeded;
+    private final long elapsedNanos;
+    private final long[] sortedLatencyNanos;
+
+    BulkResult(ApiResult<T>[] results, Throwable[] failures, long[] latencyNanos, long elapsedNanos) {
+        this.results = Collections.unmodifiableList(Arrays.asList(results));
+        Map<Integer, Throwable> failed = new TreeMap<>();
+        int ok = 0;
+        for (int i = 0; i < results.length; i++) {
+            if (failures[i] != null) {
+                failed.put(i, failures[i]);
+            } else if (results[i] != null && results[i].isSuccessful()) {
+                ok++;
+            }
+        }
+        this.failures = Collections.unmodifiableMap(failed);
+        this.succeeded = ok;
+        this.elapsedNanos = elapsedNanos;
+        this.sortedLatencyNanos = latencyNanos.clone();
+        Arrays.sort(this.sortedLatencyNanos);
+    }
+
+    /** @return the number of items */
+    public int size() { return results.size(); }
+
+    /** @return one result per item, in item order; {@code null} where the item failed with an exception */
+    public List<ApiResult<T>> getResults() { return results; }
+
+    /** @return the exception of each item that got no response, by item index */
+    public Map<Integer, Throwable> getFailures() { return failures; }
+
+    /** @return items answered with a 2xx status */
+    public int getSucceeded() { return succeeded; }
+
+    /** @return items answered with a non-2xx status or failed with an exception */
+    public int getFailed() { return size() - succeeded; }
+
+    /** @return {@code true} if every item was answered with a 2xx status */
+    public boolean isSuccessful() { return succeeded == size(); }
+
+    /** @return the time the whole bulk call took */
+    public Duration getElapsed() { return Duration.ofNanos(elapsedNanos); }
+
+    /** @return items completed per second */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : size() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * @param percentile the percentile, from 0 to 100
+     * @return the per-item latency at that percentile in milliseconds, or 0 if there were no items
+     */
+    public double getLatencyMillis(double percentile) {
+        if (sortedLatencyNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sortedLatencyNanos.length) - 1;
+        return sortedLatencyNanos[Math.max(0, Math.min(index, sortedLatencyNanos.length - 1))] / 1e6;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BulkResult[items=%d, succeeded=%d, failed=%d, elapsed=%.1f s, %.0f items/s, p50=%.2f ms, p99=%.2f ms, max=%.2f ms]",
+            size(), succeeded, getFailed(), elapsedNanos / 1e9, getThroughput(),
+            getLatencyMillis(50), getLatencyMillis(99), getLatencyMillis(100));
+    }
+}
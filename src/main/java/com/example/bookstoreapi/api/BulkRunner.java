@@ -0,0 +1,78 @@
+package com.example.bookstoreapi.api;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import com.example.bookstoreapi.config.ConfigReader;
+
+/**
+ * {@code BulkRunner} pipelines the requests of a bulk call: it keeps up to {@code maxInFlight}
+ * requests outstanding on the non-blocking client, sends the next item as soon as one
+ * completes, and collects every result into a {@link BulkResult}.
+ */
+final class BulkRunner {
+
+    private BulkRunner() {
+    }
+
+    /**
+     * @return the in-flight limit configured under {@code api.bulk.max.in.flight} (default 32)
+     */
+    static int configuredMaxInFlight() {
+        return ConfigReader.getInt("api.bulk.max.in.flight", 32);
+    }
+
+    /**
+     * Sends one request per item and waits until all of them have completed.
+     *
+     * @param items       the items, in the order their results are reported
+     * @param maxInFlight the maximum number of requests outstanding at once
+     * @param call        sends the request for one item
+     * @return the results of all items
+     * @throws InterruptedException if interrupted while waiting; requests already sent are not cancelled
+     */
+    static <I, T> BulkResult<T> run(List<I> items, int maxInFlight,
+                                    Function<I, CompletableFuture<ApiResult<T>>> call) throws InterruptedException {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1: " + maxInFlight);
+        }
+        int size = items.size();
+        @SuppressWarnings("unchecked")
+        ApiResult<T>[] results = new ApiResult[size];
+        Throwable[] failures = new Throwable[size];
+        long[] latencies = new long[size];
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        CountDownLatch remaining = new CountDownLatch(size);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < size; i++) {
+            inFlight.acquire();
+            int index = i;
+            long sent = System.nanoTime();
+            CompletableFuture<ApiResult<T>> future;
+            try {
+                future = call.apply(items.get(i));
+            } catch (RuntimeException ex) {
+                future = CompletableFuture.failedFuture(ex);
+            }
+            future.whenComplete((result, failure) -> {
+                latencies[index] = System.nanoTime() - sent;
+                if (failure != null) {
+                    failures[index] = failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause() : failure;
+                } else {
+                    results[index] = result;
+                }
+                inFlight.release();
+                remaining.countDown();
+            });
+        }
+        remaining.await();
+        // the latch orders every callback's writes before this read
+        return new BulkResult<>(results, failures, latencies, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.bookstoreapi.api;
+
+import java.util.List;
+
+import com.example.bookstoreapi.http.AllureHttpFilter;
+import com.example.bookstoreapi.http.CassetteFilter;
+import com.example.bookstoreapi.http.ConnectionPool;
+import com.example.bookstoreapi.http.ResponseCache;
+import com.example.bookstoreapi.http.ResponseCacheFilter;
+import com.example.bookstoreapi.http.TransportFilter;
+import com.example.bookstoreapi.metrics.EndpointNamer;
+import com.example.bookstoreapi.metrics.MetricsFilter;
+import com.example.bookstoreapi.metrics.MetricsRegistry;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * {@code RequestSpecFactory} builds the base {@link RequestSpecification}s
+ * shared by the API clients.
+ * <p>
+ * Each client builds its specifications once and derives every request from
+ * them, instead of configuring a fresh request (and a fresh Allure filter)
+ * on every call. The specifications are never modified after they are built,
+ * so a single client instance can be shared between threads.
+ * </p>
+ */
+final class RequestSpecFactory {
+
+    private RequestSpecFactory() {
+    }
+
+    /**
+     * Builds the base specification for a resource: base URI, base path, the shared
+     * {@link AllureHttpFilter} and an HTTP client backed by the shared {@link ConnectionPool}. When enabled, the
+     * shared {@link ResponseCache} and the configured {@link CassetteFilter} are added as well, and
+     * a {@link TransportFilter} when {@code http.transport} selects a transport other than RestAssured's,
+     * and a {@link MetricsFilter} recording into the shared {@link MetricsRegistry} when {@code baseUrl} is
+     * the configured {@code base.url} and metrics are enabled.
+     *
+     * @param baseUrl  the base URL of the API (e.g., {@code https://fakerestapi.azurewebsites.net})
+     * @param basePath the resource path (e.g., {@code /api/v1/Books})
+     * @param paths    the path templates below the resource, used to name endpoints in the metrics
+     * @return the base {@link RequestSpecification}
+     */
+    static RequestSpecification base(String baseUrl, String basePath, List<String> paths) {
+        ConnectionPool pool = ConnectionPool.shared();
+        CassetteFilter cassette = CassetteFilter.fromConfig();
+        TransportFilter transport = TransportFilter.fromConfig();
+        if (transport == null && (cassette == null || !cassette.isReplaying())) {
+            pool.prewarm(baseUrl);
+        }
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+            .setBaseUri(baseUrl)
+            .setBasePath(basePath)
+            .setConfig(RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                .reuseHttpClientInstance()
+                .httpClientFactory(pool::newHttpClient)))
+            .addFilter(AllureHttpFilter.shared());
+        MetricsRegistry metrics = MetricsRegistry.sharedFor(baseUrl);
+        if (metrics != null) {
+            builder.addFilter(new MetricsFilter(metrics, new EndpointNamer(basePath, paths)));
+        }
+        if (ResponseCache.isEnabled()) {
+            builder.addFilter(new ResponseCacheFilter(ResponseCache.shared()));
+        }
+        if (cassette != null) {
+            builder.addFilter(cassette);
+        }
+        if (transport != null) {
+            builder.addFilter(transport);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Derives a specification for requests that expect a JSON response.
+     *
+     * @param base the base specification
+     * @return a {@link RequestSpecification} accepting {@link ContentType#JSON}
+     */
+    static RequestSpecification acceptJson(RequestSpecification base) {
+        return new RequestSpecBuilder()
+            .addRequestSpecification(base)
+            .setAccept(ContentType.JSON)
+            .build();
+    }
+
+    /**
+     * Derives a specification for requests that send a JSON body.
+     *
+     * @param base the base specification
+     * @return a {@link RequestSpecification} with content type {@link ContentType#JSON}
+     */
+    static RequestSpecification sendJson(RequestSpecification base) {
+        return new RequestSpecBuilder()
+            .addRequestSpecification(base)
+            .setContentType(ContentType.JSON)
+            .build();
+    }
+}
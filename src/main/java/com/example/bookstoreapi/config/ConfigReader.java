@@ -2,7 +2,10 @@ package com.example.bookstoreapi.config;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * {@code ConfigReader} is a utility class responsible for loading application
@@ -18,23 +21,50 @@ import java.util.Properties;
  * This allows flexible configuration across environments (local, CI/CD, Docker, etc.)
  * without modifying the source code.
  * </p>
+ * <p>
+ * {@code config.properties} can define named profiles as {@code profile.<name>.<key>} entries.
+ * Selecting a profile with {@code profile} (e.g., {@code -Dprofile=load}) makes those entries
+ * replace the plain {@code <key>} values of the file; system properties and environment
+ * variables still take precedence. The file, the profile and the environment are resolved
+ * once, when the class is loaded. System properties are looked up on every call, since the
+ * run may set some (e.g., {@code base.url} of the stand-in server).
+ * </p>
+ * See {@link ConfigSnapshot} for the typed settings the profiles are meant to tune.
  */
 public class ConfigReader {
 
-    /** Holds loaded configuration properties from {@code config.properties}. */
-    private static final Properties properties = new Properties();
+    /** The key that selects the profile. */
+    public static final String PROFILE = "profile";
+
+    private static final String PROFILE_PREFIX = "profile.";
+
+    /** Holds loaded configuration properties from {@code config.properties}, with the active profile applied. */
+    private static final Properties properties;
+
+    /** The environment variables of the process, which do not change while it runs. */
+    private static final Map<String, String> environment = System.getenv();
+
+    /** The active profile, or {@code null} if none was selected. */
+    private static final String profile;
 
     // Static initializer to load config.properties file into memory
     static {
+        Properties file = new Properties();
         try (InputStream input = ConfigReader.class.getClassLoader()
                 .getResourceAsStream("config.properties")) {
             if (input == null) {
                 throw new RuntimeException("config.properties not found in resources folder");
             }
-            properties.load(input);
+            file.load(input);
         } catch (IOException ex) {
             throw new RuntimeException("Failed to load config.properties", ex);
         }
+        String selected = System.getProperty(PROFILE);
+        if (selected == null) {
+            selected = environment.getOrDefault(PROFILE.toUpperCase(), file.getProperty(PROFILE));
+        }
+        profile = selected == null || selected.trim().isEmpty() ? null : selected.trim();
+        properties = withProfile(file, profile);
     }
 
     /**
@@ -56,10 +86,96 @@ public class ConfigReader {
         if (sysProp != null) return sysProp;
 
         // 2. Check environment variable (convert key to uppercase and replace '.' with '_')
-        String envVar = System.getenv(key.replace('.', '_').toUpperCase());
+        String envVar = environment.get(key.replace('.', '_').toUpperCase());
         if (envVar != null) return envVar;
 
-        // 3. Fallback to config.properties
+        // 3. Fallback to config.properties (with the profile applied)
         return properties.getProperty(key);
     }
-}
\ No newline at end of file
+
+    /**
+     * @return the active profile (e.g., {@code load}), or {@code null} if none was selected
+     */
+    public static String getProfile() {
+        return profile;
+    }
+
+    /**
+     * Applies a profile to the values of a properties file.
+     *
+     * @param file    the values of the file, including the {@code profile.<name>.<key>} entries
+     * @param profile the profile to apply, or {@code null} for none
+     * @return a copy of {@code file} in which every {@code profile.<profile>.<key>} replaces {@code <key>}
+     * @throws IllegalArgumentException if the file defines no entries for {@code profile}
+     */
+    public static Properties withProfile(Properties file, String profile) {
+        Properties resolved = new Properties();
+        resolved.putAll(file);
+        if (profile == null) {
+            return resolved;
+        }
+        String prefix = PROFILE_PREFIX + profile + ".";
+        boolean found = false;
+        for (String name : file.stringPropertyNames()) {
+            if (name.startsWith(prefix)) {
+                resolved.setProperty(name.substring(prefix.length()), file.getProperty(name));
+                found = true;
+            }
+        }
+        if (!found) {
+            throw new IllegalArgumentException("profile must be one of " + profiles(file) + ": " + profile);
+        }
+        return resolved;
+    }
+
+    private static Set<String> profiles(Properties file) {
+        Set<String> names = new TreeSet<>();
+        for (String name : file.stringPropertyNames()) {
+            int end = name.indexOf('.', PROFILE_PREFIX.length());
+            if (name.startsWith(PROFILE_PREFIX) && end > 0) {
+                names.add(name.substring(PROFILE_PREFIX.length(), end));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Retrieves the configuration value for the given key as an integer.
+     *
+     * @param key          the configuration key (e.g., {@code http.pool.max.total})
+     * @param defaultValue the value returned when the key is not configured
+     * @return the resolved value, or {@code defaultValue} if not found
+     * @throws IllegalArgumentException if the configured value is not a valid integer
+     */
+    public static int getInt(String key, int defaultValue) {
+        String value = get(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Configuration value for '" + key + "' is not an integer: " + value, ex);
+        }
+    }
+
+    /**
+     * Retrieves the configuration value for the given key as a decimal number.
+     *
+     * @param key          the configuration key (e.g., {@code metrics.regression.alpha})
+     * @param defaultValue the value returned when the key is not configured
+     * @return the resolved value, or {@code defaultValue} if not found
+     * @throws IllegalArgumentException if the configured value is not a valid number
+     */
+    public static double getDouble(String key, double defaultValue) {
+        String value = get(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Configuration value for '" + key + "' is not a number: " + value, ex);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.bookstoreapi.config;
+
+import java.time.Duration;
+
+/**
+ * {@code ConfigSnapshot} holds the settings that decide how hard a run drives the API, typed
+ * and resolved once.
+ * <p>
+ * These are the settings the profiles of {@code config.properties} tune, so one
+ * {@code -Dprofile=load} reconfigures test parallelism, the connection pool, timeouts, report
+ * sampling and load test duration together. They are read through {@link ConfigReader}:
+ * </p>
+ * <ul>
+ *   <li>{@code junit.parallel.threads} - test threads of a parallel run (default 8)</li>
+ *   <li>{@code http.pool.max.per.route} - maximum connections per host (default 20)</li>
+ *   <li>{@code http.pool.max.total} - maximum connections overall (default 50)</li>
+ *   <li>{@code http.pool.idle.evict.seconds} - idle time after which a connection is closed (default 30, 0 disables eviction)</li>
+ *   <li>{@code http.pool.prewarm} - connections opened up front for each new route (default 0)</li>
+ *   <li>{@code http.connect.timeout.ms} - time allowed to open a connection (default 10000, 0 for no limit)</li>
+ *   <li>{@code http.read.timeout.ms} - time allowed for a response (default 0, no limit)</li>
+ *   <li>{@code allure.http.sample.percent} - share of the calls of a passing test attached to the report (default 10)</li>
+ *   <li>{@code loadtest.duration.seconds} - how long a load test runs (default 30)</li>
+ * </ul>
+ * The snapshot is taken on the first call of {@link #current()}; later changes to system
+ * properties do not affect it.
+ */
+public final class ConfigSnapshot {
+
+    private static volatile ConfigSnapshot current;
+
+    private final String profile;
+    private final int parallelism;
+    private final int poolMaxPerRoute;
+    private final int poolMaxTotal;
+    private final int poolIdleEvictSeconds;
+    private final int poolPrewarm;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final int httpSamplePercent;
+    private final Duration loadTestDuration;
+
+    /**
+     * @param profile              the profile the values came from, or {@code null} for none
+     * @param parallelism          test threads of a parallel run
+     * @param poolMaxPerRoute      maximum connections per host
+     * @param poolMaxTotal         maximum connections overall
+     * @param poolIdleEvictSeconds idle time in seconds after which connections are closed, {@code 0} to disable
+     * @param poolPrewarm          connections opened up front for each new route
+     * @param connectTimeout       time allowed to open a connection, {@link Duration#ZERO} for no limit
+     * @param readTimeout          time allowed for a response, {@link Duration#ZERO} for no limit
+     * @param httpSamplePercent    share of the calls of a passing test attached to the report, 0 to 100
+     * @param loadTestDuration     how long a load test runs
+     */
+    public ConfigSnapshot(String profile, int parallelism, int poolMaxPerRoute, int poolMaxTotal, int poolIdleEvictSeconds,
+                          int poolPrewarm, Duration connectTimeout, Duration readTimeout, int httpSamplePercent,
+                          Duration loadTestDuration) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("junit.parallel.threads must be positive: " + parallelism);
+        }
+        if (poolMaxPerRoute <= 0 || poolMaxTotal < poolMaxPerRoute) {
+            throw new IllegalArgumentException("http.pool.max.per.route must be positive and at most http.pool.max.total: "
+                + poolMaxPerRoute + " / " + poolMaxTotal);
+        }
+        if (poolIdleEvictSeconds < 0 || poolPrewarm < 0) {
+            throw new IllegalArgumentException("http.pool.idle.evict.seconds and http.pool.prewarm must not be negative: "
+                + poolIdleEvictSeconds + " / " + poolPrewarm);
+        }
+        if (connectTimeout.isNegative()) {
+            throw new IllegalArgumentException("http.connect.timeout.ms must not be negative: " + connectTimeout.toMillis());
+        }
+        if (readTimeout.isNegative()) {
+            throw new IllegalArgumentException("http.read.timeout.ms must not be negative: " + readTimeout.toMillis());
+        }
+        if (httpSamplePercent < 0 || httpSamplePercent > 100) {
+            throw new IllegalArgumentException("allure.http.sample.percent must be between 0 and 100: " + httpSamplePercent);
+        }
+        if (loadTestDuration.isNegative()) {
+            throw new IllegalArgumentException("loadtest.duration.seconds must not be negative: " + loadTestDuration.getSeconds());
+        }
+        this.profile = profile;
+        this.parallelism = parallelism;
+        this.poolMaxPerRoute = poolMaxPerRoute;
+        this.poolMaxTotal = poolMaxTotal;
+        this.poolIdleEvictSeconds = poolIdleEvictSeconds;
+        this.poolPrewarm = poolPrewarm;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.httpSamplePercent = httpSamplePercent;
+        this.loadTestDuration = loadTestDuration;
+    }
+
+    /**
+     * Returns the snapshot of this JVM, reading it from the configuration on first use.
+     *
+     * @return the shared {@code ConfigSnapshot}
+     */
+    public static ConfigSnapshot current() {
+        ConfigSnapshot snapshot = current;
+        if (snapshot == null) {
+            synchronized (ConfigSnapshot.class) {
+                snapshot = current;
+                if (snapshot == null) {
+                    snapshot = fromConfig();
+                    current = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Reads the settings from the configuration.
+     *
+     * @return the configured {@code ConfigSnapshot}
+     */
+    public static ConfigSnapshot fromConfig() {
+        return new ConfigSnapshot(
+            ConfigReader.getProfile(),
+            ConfigReader.getInt("junit.parallel.threads", 8),
+            ConfigReader.getInt("http.pool.max.per.route", 20),
+            ConfigReader.getInt("http.pool.max.total", 50),
+            ConfigReader.getInt("http.pool.idle.evict.seconds", 30),
+            ConfigReader.getInt("http.pool.prewarm", 0),
+            Duration.ofMillis(ConfigReader.getInt("http.connect.timeout.ms", 10_000)),
+            Duration.ofMillis(ConfigReader.getInt("http.read.timeout.ms", 0)),
+            ConfigReader.getInt("allure.http.sample.percent", 10),
+            Duration.ofSeconds(ConfigReader.getInt("loadtest.duration.seconds", 30)));
+    }
+
+    /** @return the profile the values came from, or {@code null} for none */
+    public String getProfile() { return profile; }
+
+    /** @return test threads of a parallel run */
+    public int getParallelism() { return parallelism; }
+
+    /** @return maximum connections per host */
+    public int getPoolMaxPerRoute() { return poolMaxPerRoute; }
+
+    /** @return maximum connections overall */
+    public int getPoolMaxTotal() { return poolMaxTotal; }
+
+    /** @return idle time in seconds after which connections are closed, {@code 0} if they are kept */
+    public int getPoolIdleEvictSeconds() { return poolIdleEvictSeconds; }
+
+    /** @return connections opened up front for each new route */
+    public int getPoolPrewarm() { return poolPrewarm; }
+
+    /** @return time allowed to open a connection, {@link Duration#ZERO} if there is no limit */
+    public Duration getConnectTimeout() { return connectTimeout; }
+
+    /** @return time allowed for a response, {@link Duration#ZERO} for no limit */
+    public Duration getReadTimeout() { return readTimeout; }
+
+    /** @return share of the calls of a passing test attached to the report, 0 to 100 */
+    public int getHttpSamplePercent() { return httpSamplePercent; }
+
+    /** @return how long a load test runs */
+    public Duration getLoadTestDuration() { return loadTestDuration; }
+
+    @Override
+    public String toString() {
+        return "ConfigSnapshot[profile=" + (profile == null ? "none" : profile)
+            + ", parallelism=" + parallelism
+            + ", pool=" + poolMaxPerRoute + "/" + poolMaxTotal
+            + ", connectTimeout=" + connectTimeout.toMillis() + "ms"
+            + ", readTimeout=" + (readTimeout.isZero() ? "none" : readTimeout.toMillis() + "ms")
+            + ", httpSamplePercent=" + httpSamplePercent
+            + ", loadTestDuration=" + loadTestDuration.getSeconds() + "s]";
+    }
+}
@@ -1,38 +1,50 @@
 package com.example.bookstoreapi.data;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 import com.example.bookstoreapi.model.Author;
-import com.github.javafaker.Faker;
 
 public class AuthorDataFactory {
 
-    private static final Faker faker = new Faker();
+    /** Random text backend, selected by the {@code data.generator} configuration key. */
+    private static final TextGenerator text = TextGenerator.fromConfig();
 
     /**
      * Helper method to generate a random ID within the specified range.
      *
+     * @param random the random generator to draw from
      * @param min minimum value (inclusive)
      * @param max maximum value (exclusive)
      * @return a random integer between min (inclusive) and max (exclusive)
      */
-    private static int randomId(int min, int max) {
-        return ThreadLocalRandom.current().nextInt(min, max);
+    private static int randomId(RandomGenerator random, int min, int max) {
+        return random.nextInt(min, max);
+    }
+
+    /**
+     * Generates an ID of an author that exists in the fake API.
+     *
+     * @return a random author ID between 1 (inclusive) and 604 (exclusive)
+     */
+    public static int randomAuthorId() {
+        return randomId(DataRandom.nextRecord(), 1, 604);
     }
 
     /**
      * Base valid author generator.
      * Creates an author with a valid ID (between 1 and 604) and valid book Id (between 1 and 200)
      * because in this fake API only for those IDs the API is returning an author.
+     * Each call is one record of {@link DataRandom}, so it can be regenerated from its {@link DataCoordinates}.
      *
      * @return a valid Author instance with random data
      */
     public static Author createBaseAuthor() {
+        RandomGenerator random = DataRandom.nextRecord();
         return new Author(
-                randomId(1, 604),
-                randomId(1, 200),
-                faker.name().firstName(),
-                faker.name().lastName()     
+                randomId(random, 1, 604),
+                randomId(random, 1, 200),
+                text.firstName(random),
+                text.lastName(random)
         );
     }
 
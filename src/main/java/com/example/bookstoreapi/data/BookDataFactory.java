@@ -2,58 +2,81 @@ package com.example.bookstoreapi.data;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 import com.example.bookstoreapi.model.Book;
-import com.github.javafaker.Faker;
 
 public class BookDataFactory {
 
-    private static final Faker faker = new Faker();
+    /** Random text backend, selected by the {@code data.generator} configuration key. */
+    private static final TextGenerator text = TextGenerator.fromConfig();
+
+    /** Publish dates are drawn from 2000-01-01 onwards, within this many seconds (25 years). */
+    private static final long PUBLISH_DATE_RANGE_SECONDS = 25L * 365 * 24 * 60 * 60;
+
+    private static final LocalDateTime FIRST_PUBLISH_DATE = LocalDateTime.of(2000, 1, 1, 0, 0);
 
     /**
-     * Helper method to get current date in ISO format.
+     * Helper method to get a random publish date in ISO format.
+     * The date comes from the record's random generator rather than the clock, so that the
+     * record can be regenerated from its {@link DataCoordinates}.
      *
-     * @return the current date and time as an ISO 8601 formatted string
+     * @param random the record's random generator
+     * @return a date and time as an ISO 8601 formatted string
      */
-    private static String nowIsoDate() {
-        return LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME);
+    private static String randomIsoDate(RandomGenerator random) {
+        return FIRST_PUBLISH_DATE.plusSeconds(random.nextLong(PUBLISH_DATE_RANGE_SECONDS))
+            .format(DateTimeFormatter.ISO_DATE_TIME);
     }
 
     /**
      * Helper method to generate a random ID.
      *
+     * @param random the random generator to draw from
      * @param min minimum value (inclusive)
      * @param max maximum value (exclusive)
      * @return a random integer between min (inclusive) and max (exclusive)
      */
-    private static int randomId(int min, int max) {
-        return ThreadLocalRandom.current().nextInt(min, max);
+    private static int randomId(RandomGenerator random, int min, int max) {
+        return random.nextInt(min, max);
     }
 
     /**
      * Helper method to generate a random page count.
      *
+     * @param random the random generator to draw from
      * @return a random integer representing page count between 50 and 1000
      */
-    private static int randomPageCount() {
-        return ThreadLocalRandom.current().nextInt(50, 1000);
+    private static int randomPageCount(RandomGenerator random) {
+        return random.nextInt(50, 1000);
+    }
+
+    /**
+     * Generates an ID of a book that exists in the fake API.
+     * Drawn as one record of {@link DataRandom}, so the same seed requests the same IDs.
+     *
+     * @return a random book ID between 1 (inclusive) and 200 (exclusive)
+     */
+    public static int randomBookId() {
+        return randomId(DataRandom.nextRecord(), 1, 200);
     }
 
     /**
      * Base valid book generator.
      * Because of testing purposes I am limiting the ID to 200, as the fake API is returning books only for IDs in the range of 1-200.
+     * Each call is one record of {@link DataRandom}, so it can be regenerated from its {@link DataCoordinates}.
      *
      * @return a valid Book instance with random data
      */
     public static Book createBaseBook() {
+        RandomGenerator random = DataRandom.nextRecord();
         return new Book(
-                randomId(1, 200),
-                faker.book().title(),
-                faker.lorem().sentence(10),
-                randomPageCount(),
-                faker.lorem().paragraph(),
-                nowIsoDate()
+                randomId(random, 1, 200),
+                text.bookTitle(random),
+                text.sentence(random, 10),
+                randomPageCount(random),
+                text.paragraph(random),
+                randomIsoDate(random)
         );
     }
 
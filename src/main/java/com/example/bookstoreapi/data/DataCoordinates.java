@@ -0,0 +1,39 @@
+package com.example.bookstoreapi.data;
+
+/**
+ * {@code DataCoordinates} identify one generated record: the run seed, the shard
+ * (stream) it was drawn from and its index within that shard.
+ * <p>
+ * The coordinates are enough to generate the same record again with
+ * {@link DataRandom#regenerate(DataCoordinates, java.util.function.Supplier)}.
+ * </p>
+ */
+public final class DataCoordinates {
+
+    private final long seed;
+    private final int shard;
+    private final long index;
+
+    public DataCoordinates(long seed, int shard, long index) {
+        this.seed = seed;
+        this.shard = shard;
+        this.index = index;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getShard() {
+        return shard;
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "seed=" + seed + ", shard=" + shard + ", index=" + index;
+    }
+}
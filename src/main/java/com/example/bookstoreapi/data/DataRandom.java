@@ -0,0 +1,129 @@
+package com.example.bookstoreapi.data;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+import com.example.bookstoreapi.config.ConfigReader;
+
+/**
+ * {@code DataRandom} supplies the randomness for the data factories, derived from a
+ * single run seed so that any generated record can be reproduced.
+ * <p>
+ * The run seed is read from the {@code data.seed} configuration key; when it is not set
+ * (or set to {@code random}) a fresh seed is drawn and should be logged by the caller.
+ * Every thread draws from its own shard, numbered in order of first use unless the
+ * thread picks one with {@link #startShard(int)}. Each record gets its own
+ * {@link SplittableRandom}, seeded from a hash of {@code (seed, shard, index)} alone, so a
+ * record never depends on the records generated before it or on other threads.
+ * </p>
+ */
+public final class DataRandom {
+
+    /** Added to a coordinate before it is hashed, so that coordinate 0 does not hash to 0. */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final long RUN_SEED = resolveSeed(ConfigReader.get("data.seed"));
+
+    private static final AtomicInteger NEXT_SHARD = new AtomicInteger();
+
+    private static final ThreadLocal<Position> POSITION =
+        ThreadLocal.withInitial(() -> new Position(RUN_SEED, NEXT_SHARD.getAndIncrement(), 0));
+
+    private DataRandom() {
+    }
+
+    /**
+     * @return the run seed
+     */
+    public static long seed() {
+        return RUN_SEED;
+    }
+
+    /**
+     * Moves the current thread to the start of the given shard of the run seed.
+     * <p>
+     * Giving each test or virtual user a stable shard makes its data independent
+     * of which thread it happens to run on.
+     * </p>
+     *
+     * @param shard the shard number
+     */
+    public static void startShard(int shard) {
+        POSITION.set(new Position(RUN_SEED, shard, 0));
+    }
+
+    /**
+     * @return the coordinates of the next record the current thread will generate
+     */
+    public static DataCoordinates position() {
+        Position position = POSITION.get();
+        return new DataCoordinates(position.seed, position.shard, position.index);
+    }
+
+    /**
+     * Generates a record again from its coordinates, e.g.
+     * {@code DataRandom.regenerate(coordinates, BookDataFactory::createBaseBook)}.
+     *
+     * @param coordinates the coordinates the record was generated at
+     * @param factory     the factory method that generated it
+     * @param <T>         the record type
+     * @return the regenerated record
+     */
+    public static <T> T regenerate(DataCoordinates coordinates, Supplier<T> factory) {
+        Position saved = POSITION.get();
+        POSITION.set(new Position(coordinates.getSeed(), coordinates.getShard(), coordinates.getIndex()));
+        try {
+            return factory.get();
+        } finally {
+            POSITION.set(saved);
+        }
+    }
+
+    /**
+     * Advances the current thread to its next record.
+     *
+     * @return the random generator for that record
+     */
+    static RandomGenerator nextRecord() {
+        Position position = POSITION.get();
+        // Seeds spaced by GOLDEN_GAMMA would start SplittableRandom at successive points of one
+        // stream, making each record a shifted copy of its neighbour; hashing keeps them apart
+        long shardSeed = mix64(position.seed ^ mix64(position.shard + GOLDEN_GAMMA));
+        return new SplittableRandom(mix64(shardSeed ^ mix64(position.index++ + GOLDEN_GAMMA)));
+    }
+
+    /** The 64-bit finalizer of MurmurHash3 (Stafford's variant 13, as in {@link SplittableRandom}). */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long resolveSeed(String value) {
+        if (value == null || value.trim().isEmpty() || value.trim().equalsIgnoreCase("random")) {
+            return new SecureRandom().nextLong();
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Configuration value for 'data.seed' is not a number: " + value, ex);
+        }
+    }
+
+    /** Mutable per-thread cursor; only ever touched by its own thread. */
+    private static final class Position {
+
+        private final long seed;
+        private final int shard;
+        private long index;
+
+        Position(long seed, int shard, long index) {
+            this.seed = seed;
+            this.shard = shard;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.bookstoreapi.data;
+
+import java.util.random.RandomGenerator;
+
+import com.github.javafaker.Faker;
+
+/**
+ * {@link TextGenerator} backed by JavaFaker.
+ * <p>
+ * Each thread has its own {@link Faker} over a {@link SeedableRandom}, which is
+ * pointed at the caller's generator before every call.
+ * </p>
+ */
+final class FakerTextGenerator implements TextGenerator {
+
+    private final ThreadLocal<SeededFaker> fakers = ThreadLocal.withInitial(SeededFaker::new);
+
+    private Faker faker(RandomGenerator random) {
+        SeededFaker seeded = fakers.get();
+        seeded.random.use(random);
+        return seeded.faker;
+    }
+
+    @Override
+    public String bookTitle(RandomGenerator random) {
+        return faker(random).book().title();
+    }
+
+    @Override
+    public String sentence(RandomGenerator random, int wordCount) {
+        return faker(random).lorem().sentence(wordCount);
+    }
+
+    @Override
+    public String paragraph(RandomGenerator random) {
+        return faker(random).lorem().paragraph();
+    }
+
+    @Override
+    public String firstName(RandomGenerator random) {
+        return faker(random).name().firstName();
+    }
+
+    @Override
+    public String lastName(RandomGenerator random) {
+        return faker(random).name().lastName();
+    }
+
+    private static final class SeededFaker {
+
+        private final SeedableRandom random = new SeedableRandom();
+        private final Faker faker = new Faker(random);
+    }
+}
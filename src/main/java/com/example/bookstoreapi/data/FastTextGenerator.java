@@ -0,0 +1,103 @@
+package com.example.bookstoreapi.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+import com.github.javafaker.service.FakeValuesService;
+import com.github.javafaker.service.RandomService;
+
+/**
+ * {@link TextGenerator} that picks values from word tables by index.
+ * <p>
+ * The tables are read once from JavaFaker's English dictionaries, so the values are
+ * the same kinds as {@link FakerTextGenerator} produces and sentences and paragraphs
+ * follow the same length rules. Each call only draws random indexes and appends to a
+ * single {@link StringBuilder}.
+ * </p>
+ */
+final class FastTextGenerator implements TextGenerator {
+
+    static final FastTextGenerator INSTANCE = new FastTextGenerator();
+
+    /** Faker adds up to this many words (exclusive) to the requested sentence length. */
+    private static final int RANDOM_WORDS_TO_ADD = 6;
+
+    private final String[] words;
+    private final String[] bookTitles;
+    private final String[] firstNames;
+    private final String[] lastNames;
+
+    private FastTextGenerator() {
+        FakeValuesService values = new FakeValuesService(Locale.ENGLISH, new RandomService());
+        words = table(values, "lorem.words");
+        bookTitles = table(values, "book.title");
+        firstNames = table(values, "name.female_first_name", "name.male_first_name");
+        lastNames = table(values, "name.last_name");
+    }
+
+    private static String[] table(FakeValuesService values, String... keys) {
+        List<String> table = new ArrayList<>();
+        for (String key : keys) {
+            for (Object value : (List<?>) values.fetchObject(key)) {
+                table.add(value.toString());
+            }
+        }
+        return table.toArray(new String[0]);
+    }
+
+    private static String pick(String[] table, RandomGenerator random) {
+        return table[random.nextInt(table.length)];
+    }
+
+    @Override
+    public String bookTitle(RandomGenerator random) {
+        return pick(bookTitles, random);
+    }
+
+    @Override
+    public String sentence(RandomGenerator random, int wordCount) {
+        StringBuilder sb = new StringBuilder(wordCount * 10);
+        appendSentence(sb, wordCount, random);
+        return sb.toString();
+    }
+
+    @Override
+    public String paragraph(RandomGenerator random) {
+        int sentences = 3 + random.nextInt(3);
+        StringBuilder sb = new StringBuilder(sentences * 64);
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            appendSentence(sb, 3, random);
+        }
+        return sb.toString();
+    }
+
+    private void appendSentence(StringBuilder sb, int wordCount, RandomGenerator random) {
+        int count = wordCount + random.nextInt(RANDOM_WORDS_TO_ADD);
+        int start = sb.length();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(pick(words, random));
+        }
+        sb.append('.');
+        if (count > 0) {
+            sb.setCharAt(start, Character.toUpperCase(sb.charAt(start)));
+        }
+    }
+
+    @Override
+    public String firstName(RandomGenerator random) {
+        return pick(firstNames, random);
+    }
+
+    @Override
+    public String lastName(RandomGenerator random) {
+        return pick(lastNames, random);
+    }
+}
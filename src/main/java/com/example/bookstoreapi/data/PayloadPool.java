@@ -0,0 +1,243 @@
+package com.example.bookstoreapi.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.example.bookstoreapi.json.JsonMapper;
+
+/**
+ * {@code PayloadPool} is a file of pre-generated request bodies, already serialized
+ * to JSON, that load runs send instead of calling the data factories.
+ * <p>
+ * The file is generated once (e.g., from {@link BookDataFactory#createBaseBook()})
+ * and memory-mapped read-only when opened. {@link #get(int)}, {@link #next()} and
+ * {@link #random()} return views of the mapping, so reading a payload copies no
+ * bytes and allocates no payload objects. A pool is safe to share between threads.
+ * </p>
+ * <p>
+ * File layout (big-endian): magic {@code "BKPL"}, version, payload count, then
+ * {@code count + 1} offsets into the data section, then the payloads back to back.
+ * A single mapping is limited to 2 GB, which holds several million books.
+ * </p>
+ */
+public final class PayloadPool {
+
+    private static final int MAGIC = 0x424B504C;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private final Path file;
+    private final MappedByteBuffer mapping;
+    private final int count;
+    private final int dataStart;
+    private final AtomicLong cursor = new AtomicLong();
+
+    private PayloadPool(Path file, MappedByteBuffer mapping) throws IOException {
+        this.file = file;
+        this.mapping = mapping;
+        if (mapping.capacity() < HEADER_BYTES || mapping.getInt(0) != MAGIC || mapping.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Not a payload pool file: " + file);
+        }
+        this.count = mapping.getInt(2 * Integer.BYTES);
+        long indexEnd = HEADER_BYTES + (count + 1L) * Integer.BYTES;
+        if (count < 0 || indexEnd > mapping.capacity()) {
+            throw corrupt(file);
+        }
+        this.dataStart = (int) indexEnd;
+        // Every offset is checked once here, so get(int) never slices outside the data section.
+        int end = 0;
+        for (int i = 0; i <= count; i++) {
+            int offset = offset(i);
+            if (i == 0 ? offset != 0 : offset < end) {
+                throw corrupt(file);
+            }
+            end = offset;
+        }
+        if (dataStart + (long) end != mapping.capacity()) {
+            throw corrupt(file);
+        }
+    }
+
+    /**
+     * Opens an existing pool file.
+     *
+     * @param file the pool file
+     * @return the memory-mapped pool
+     * @throws IOException if the file cannot be read or is not a pool file
+     */
+    public static PayloadPool open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Payload pool file exceeds 2 GB: " + file);
+            }
+            return new PayloadPool(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Opens a pool file, generating it first if it does not exist yet.
+     * Delete the file to generate a fresh pool.
+     *
+     * @param file    the pool file
+     * @param count   the number of payloads to generate if the file is missing
+     * @param factory the factory to generate each payload with
+     * @return the memory-mapped pool
+     * @throws IOException if the file cannot be written or read
+     */
+    public static PayloadPool openOrGenerate(Path file, int count, Supplier<?> factory) throws IOException {
+        if (!Files.exists(file)) {
+            generate(file, count, factory);
+        }
+        return open(file);
+    }
+
+    /**
+     * Generates a pool file by serializing {@code count} objects from the factory.
+     * The file is written next to its destination and moved into place when complete.
+     *
+     * @param file    the pool file to (re)write
+     * @param count   the number of payloads
+     * @param factory the factory to generate each payload with, e.g. {@code BookDataFactory::createBaseBook}
+     * @throws IOException if the file cannot be written
+     * @throws IllegalStateException if the payloads do not fit into 2 GB
+     */
+    public static void generate(Path file, int count, Supplier<?> factory) throws IOException {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be at least 1: " + count);
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path partial = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long dataStart = HEADER_BYTES + (count + 1L) * Integer.BYTES;
+            if (dataStart > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Payload pool index for " + count + " payloads exceeds 2 GB");
+            }
+            int[] offsets = new int[count + 1];
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+            channel.position(dataStart);
+            long written = 0;
+            for (int i = 0; i < count; i++) {
+                byte[] json = JsonMapper.toJson(factory.get());
+                written += json.length;
+                if (dataStart + written > Integer.MAX_VALUE) {
+                    throw new IllegalStateException("Payload pool exceeds 2 GB after " + i + " payloads");
+                }
+                offsets[i + 1] = (int) written;
+                if (json.length > buffer.remaining()) {
+                    flush(channel, buffer);
+                }
+                if (json.length > buffer.remaining()) {
+                    writeFully(channel, ByteBuffer.wrap(json));
+                } else {
+                    buffer.put(json);
+                }
+            }
+            flush(channel, buffer);
+
+            ByteBuffer header = ByteBuffer.allocate((int) dataStart).order(ByteOrder.BIG_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(count);
+            for (int offset : offsets) {
+                header.putInt(offset);
+            }
+            channel.position(0);
+            flush(channel, header);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(partial);
+            throw ex;
+        }
+        Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** Writes what has been put into the buffer and clears it. */
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        writeFully(channel, buffer);
+        buffer.clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private int offset(int index) {
+        return mapping.getInt(HEADER_BYTES + index * Integer.BYTES);
+    }
+
+    private static IOException corrupt(Path file) {
+        return new IOException("Payload pool file is truncated or corrupt: " + file);
+    }
+
+    /**
+     * @return the pool file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return the number of payloads in the pool
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns a payload as a read-only view of the mapped file.
+     *
+     * @param index the payload index, from 0 to {@code size() - 1}
+     * @return the JSON bytes of the payload, positioned at the start
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public ByteBuffer get(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Payload index " + index + " out of range for pool of " + count);
+        }
+        int start = offset(index);
+        return mapping.slice(dataStart + start, offset(index + 1) - start);
+    }
+
+    /**
+     * Returns the next payload in order, shared by all threads and wrapping around
+     * at the end of the pool.
+     *
+     * @return the JSON bytes of the payload
+     */
+    public ByteBuffer next() {
+        return get((int) Math.floorMod(cursor.getAndIncrement(), (long) count));
+    }
+
+    /**
+     * Returns a payload picked at random.
+     *
+     * @return the JSON bytes of the payload
+     */
+    public ByteBuffer random() {
+        return get(ThreadLocalRandom.current().nextInt(count));
+    }
+
+    /**
+     * Copies a payload into a byte array, for clients that only accept arrays.
+     *
+     * @param payload a payload returned by this pool
+     * @return the JSON bytes of the payload
+     */
+    public static byte[] toBytes(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.duplicate().get(bytes);
+        return bytes;
+    }
+}
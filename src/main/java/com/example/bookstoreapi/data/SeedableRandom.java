@@ -0,0 +1,28 @@
+package com.example.bookstoreapi.data;
+
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * {@link Random} that draws its bits from a replaceable {@link RandomGenerator}.
+ * <p>
+ * JavaFaker only accepts a {@code java.util.Random}; pointing one long-lived
+ * instance at each record's generator avoids building a new {@code Faker}
+ * (and reloading its dictionaries) for every record.
+ * </p>
+ */
+final class SeedableRandom extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient RandomGenerator source = RandomGenerator.getDefault();
+
+    void use(RandomGenerator source) {
+        this.source = source;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (source.nextLong() >>> (64 - bits));
+    }
+}
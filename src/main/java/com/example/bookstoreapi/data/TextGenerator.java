@@ -0,0 +1,83 @@
+package com.example.bookstoreapi.data;
+
+import java.util.random.RandomGenerator;
+
+import com.example.bookstoreapi.config.ConfigReader;
+
+/**
+ * {@code TextGenerator} produces the random text used by the data factories:
+ * book titles, lorem sentences and paragraphs, and author names.
+ * <p>
+ * The backend is selected with the {@code data.generator} configuration key:
+ * </p>
+ * <ul>
+ *   <li>{@code faker} (default) &ndash; delegates to JavaFaker.</li>
+ *   <li>{@code fast} &ndash; picks from word tables loaded once from JavaFaker's
+ *       dictionaries, producing the same kinds of values without the per-call
+ *       lookups and expression parsing.</li>
+ * </ul>
+ * Every method draws only from the {@link RandomGenerator} it is given, so the same
+ * generator state always yields the same text. Implementations are thread-safe.
+ */
+public interface TextGenerator {
+
+    /**
+     * @param random the source of randomness
+     * @return a random book title
+     */
+    String bookTitle(RandomGenerator random);
+
+    /**
+     * Generates a capitalized sentence ending with a period.
+     *
+     * @param random    the source of randomness
+     * @param wordCount the minimum number of words; up to 5 more are added at random
+     * @return a random sentence
+     */
+    String sentence(RandomGenerator random, int wordCount);
+
+    /**
+     * @param random the source of randomness
+     * @return a random paragraph of 3 to 5 sentences
+     */
+    String paragraph(RandomGenerator random);
+
+    /**
+     * @param random the source of randomness
+     * @return a random first name
+     */
+    String firstName(RandomGenerator random);
+
+    /**
+     * @param random the source of randomness
+     * @return a random last name
+     */
+    String lastName(RandomGenerator random);
+
+    /**
+     * Creates the generator selected by the {@code data.generator} configuration key.
+     *
+     * @return a {@link TextGenerator}
+     * @throws IllegalArgumentException if the configured backend is unknown
+     */
+    static TextGenerator fromConfig() {
+        return forName(ConfigReader.get("data.generator"));
+    }
+
+    /**
+     * Creates a generator by backend name.
+     *
+     * @param name {@code faker} or {@code fast}; {@code null} or blank selects {@code faker}
+     * @return a {@link TextGenerator}
+     * @throws IllegalArgumentException if the backend is unknown
+     */
+    static TextGenerator forName(String name) {
+        if (name == null || name.trim().isEmpty() || name.trim().equalsIgnoreCase("faker")) {
+            return new FakerTextGenerator();
+        }
+        if (name.trim().equalsIgnoreCase("fast")) {
+            return FastTextGenerator.INSTANCE;
+        }
+        throw new IllegalArgumentException("Unknown data.generator '" + name + "', expected faker or fast");
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.bookstoreapi.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.attachment.DefaultAttachmentProcessor;
+import io.qameta.allure.attachment.FreemarkerAttachmentRenderer;
+import io.qameta.allure.attachment.http.HttpRequestAttachment;
+import io.qameta.allure.attachment.http.HttpResponseAttachment;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.internal.NameAndValue;
+import io.restassured.internal.support.Prettifier;
+import io.restassured.parsing.Parser;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * {@code AllureHttpFilter} is a RestAssured filter that attaches HTTP calls to the Allure report
+ * like {@code AllureRestAssured}, but only where they help: every call of a failing test, and a
+ * sample of the calls of a passing one.
+ * <p>
+ * The calls of a test are kept until {@link #testFinished(boolean)} reports its outcome, and only
+ * then rendered into attachments - or dropped. A call that throws is always attached. Bodies longer
+ * than {@link HttpAttachmentSettings#getMaxBodyBytes()} are truncated in the rendered attachment and
+ * streamed whole, as they are, into a separate attachment file, so a large body is never pretty-printed
+ * or turned into a string. Until then only their first bytes stay in memory: the whole body is written
+ * to a file in {@link HttpAttachmentSettings#getSpillDirectory()} when the call completes, and the file
+ * is deleted once attached or dropped. Calls made outside a test (load runs, benchmarks) are not captured at all.
+ * </p>
+ * The filter runs before the {@link ResponseCacheFilter}, the {@link CassetteFilter} and the
+ * {@link TransportFilter}, so cached and replayed calls are reported like any other.
+ */
+public final class AllureHttpFilter implements OrderedFilter {
+
+    private static final String REQUEST_TEMPLATE = "http-request.ftl";
+    private static final String RESPONSE_TEMPLATE = "http-response.ftl";
+    private static final Prettifier PRETTIFIER = new Prettifier();
+
+    private static volatile AllureHttpFilter shared;
+
+    private final HttpAttachmentSettings settings;
+    private final AllureLifecycle lifecycle;
+    private final Map<String, TestCalls> pending = new ConcurrentHashMap<>();
+
+    /**
+     * @param settings  which calls to attach and how much of their bodies
+     * @param lifecycle the Allure lifecycle to attach to
+     */
+    public AllureHttpFilter(HttpAttachmentSettings settings, AllureLifecycle lifecycle) {
+        this.settings = settings;
+        this.lifecycle = lifecycle;
+    }
+
+    /**
+     * Returns the filter shared by the API clients, configured by {@link HttpAttachmentSettings#fromConfig()},
+     * creating it on first use.
+     *
+     * @return the shared filter
+     */
+    public static AllureHttpFilter shared() {
+        AllureHttpFilter filter = shared;
+        if (filter == null) {
+            synchronized (AllureHttpFilter.class) {
+                filter = shared;
+                if (filter == null) {
+                    filter = new AllureHttpFilter(HttpAttachmentSettings.fromConfig(), Allure.getLifecycle());
+                    shared = filter;
+                }
+            }
+        }
+        return filter;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 3;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Optional<String> test = lifecycle.getCurrentTestCase();
+        if (!test.isPresent()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        Call call = new Call(requestSpec, settings);
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException | Error ex) {
+            keep(test.get(), call, true);
+            throw ex;
+        }
+        call.responded(response, settings);
+        keep(test.get(), call, isSampled());
+        return response;
+    }
+
+    /**
+     * Attaches the calls of the current test that should be reported and forgets the rest.
+     * Called when the test has finished, before its Allure result is written.
+     *
+     * @param failed whether the test failed; then every call is attached
+     */
+    public void testFinished(boolean failed) {
+        Optional<String> test = lifecycle.getCurrentTestCase();
+        TestCalls calls = test.isPresent() ? pending.remove(test.get()) : null;
+        if (calls == null) {
+            return;
+        }
+        synchronized (calls) {
+            if (failed && calls.dropped > 0) {
+                lifecycle.addAttachment("HTTP calls not attached", "text/plain", "txt",
+                    (calls.dropped + " earlier call(s) of this test were dropped; raise allure.http.max.calls.per.test "
+                        + "to keep more").getBytes(StandardCharsets.UTF_8));
+            }
+            for (Call call : calls.calls) {
+                if (failed || call.attach) {
+                    attach(call);
+                } else {
+                    call.discard();
+                }
+            }
+        }
+    }
+
+    private boolean isSampled() {
+        int percent = settings.getSamplePercent();
+        return percent >= 100 || percent > 0 && ThreadLocalRandom.current().nextInt(100) < percent;
+    }
+
+    private void keep(String test, Call call, boolean attach) {
+        call.attach = attach;
+        TestCalls calls = pending.computeIfAbsent(test, key -> new TestCalls());
+        synchronized (calls) {
+            calls.calls.addLast(call);
+            if (calls.calls.size() <= settings.getMaxCallsPerTest()) {
+                return;
+            }
+            // Make room: drop the oldest call that depends on the outcome, or attach the oldest sampled one now
+            for (Iterator<Call> oldest = calls.calls.iterator(); oldest.hasNext(); ) {
+                Call candidate = oldest.next();
+                if (!candidate.attach) {
+                    oldest.remove();
+                    candidate.discard();
+                    calls.dropped++;
+                    return;
+                }
+            }
+            attach(calls.calls.removeFirst());
+        }
+    }
+
+    private void attach(Call call) {
+        DefaultAttachmentProcessor processor = new DefaultAttachmentProcessor(lifecycle);
+        HttpRequestAttachment.Builder request = HttpRequestAttachment.Builder.create("Request", call.uri)
+            .setMethod(call.method)
+            .setHeaders(call.requestHeaders)
+            .setCookies(call.requestCookies);
+        if (call.requestBody != null) {
+            request.setBody(render(call.requestBody, call.requestContentType));
+        }
+        processor.addAttachment(request.build(), new FreemarkerAttachmentRenderer(REQUEST_TEMPLATE));
+        attachWhole("Request body", call.requestBody, call.requestContentType);
+        if (call.statusLine == null) {
+            return;
+        }
+        HttpResponseAttachment.Builder response = HttpResponseAttachment.Builder.create(call.statusLine)
+            .setResponseCode(call.statusCode)
+            .setHeaders(call.responseHeaders);
+        if (call.responseBody != null) {
+            response.setBody(render(call.responseBody, call.responseContentType));
+        }
+        processor.addAttachment(response.build(), new FreemarkerAttachmentRenderer(RESPONSE_TEMPLATE));
+        attachWhole("Response body", call.responseBody, call.responseContentType);
+    }
+
+    private static String render(Body body, String contentType) {
+        if (!body.isTruncated()) {
+            return PRETTIFIER.prettify(new String(body.shown, StandardCharsets.UTF_8), Parser.fromContentType(contentType));
+        }
+        return new String(body.shown, StandardCharsets.UTF_8) + "\n... truncated: " + body.shown.length + " of "
+            + body.length + " bytes shown, " + (body.file != null
+                ? "the whole body is attached separately" : "the whole body could not be saved");
+    }
+
+    private void attachWhole(String name, Body body, String contentType) {
+        if (body == null || body.file == null) {
+            return;
+        }
+        String type = contentType == null || contentType.isEmpty() ? "text/plain" : contentType.split(";", 2)[0].trim();
+        String extension = type.endsWith("json") ? "json" : type.endsWith("xml") ? "xml" : "txt";
+        try (InputStream in = Files.newInputStream(body.file)) {
+            lifecycle.addAttachment(name, type, extension, in);
+        } catch (IOException ex) {
+            // Only the truncated part is reported then
+        } finally {
+            body.discard();
+        }
+    }
+
+    private static Map<String, String> toMap(Iterable<? extends NameAndValue> values) {
+        Map<String, String> map = new HashMap<>();
+        for (NameAndValue value : values) {
+            map.put(value.getName(), value.getValue());
+        }
+        return map;
+    }
+
+    private static byte[] bytesOf(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** The calls of one test, oldest first. */
+    private static final class TestCalls {
+        private final ArrayDeque<Call> calls = new ArrayDeque<>();
+        private int dropped;
+    }
+
+    /** What is attached of one call. */
+    private static final class Call {
+        private final String method;
+        private final String uri;
+        private final Map<String, String> requestHeaders;
+        private final Map<String, String> requestCookies;
+        private final String requestContentType;
+        private final Body requestBody;
+        private String statusLine;
+        private int statusCode;
+        private Map<String, String> responseHeaders;
+        private String responseContentType;
+        private Body responseBody;
+        private boolean attach;
+
+        private Call(FilterableRequestSpecification requestSpec, HttpAttachmentSettings settings) {
+            this.method = requestSpec.getMethod();
+            this.uri = requestSpec.getURI();
+            this.requestHeaders = toMap(requestSpec.getHeaders());
+            this.requestCookies = toMap(requestSpec.getCookies());
+            this.requestContentType = requestSpec.getContentType();
+            this.requestBody = Body.of(bytesOf(requestSpec.getBody()), settings);
+        }
+
+        private void responded(Response response, HttpAttachmentSettings settings) {
+            statusLine = response.getStatusLine() == null ? "Response" : response.getStatusLine();
+            statusCode = response.getStatusCode();
+            responseHeaders = toMap(response.getHeaders());
+            responseContentType = response.getContentType();
+            responseBody = Body.of(response.asByteArray(), settings);
+        }
+
+        /** Deletes the files of a call that is not going to be attached. */
+        private void discard() {
+            if (requestBody != null) {
+                requestBody.discard();
+            }
+            if (responseBody != null) {
+                responseBody.discard();
+            }
+        }
+    }
+
+    /**
+     * A body as kept until the test finishes: the body itself when it is within the cap, else its
+     * first bytes and a file holding all of it. A body within the cap is referenced, not copied.
+     */
+    private static final class Body {
+        private final byte[] shown;
+        private final int length;
+        private final Path file;
+
+        private Body(byte[] shown, int length, Path file) {
+            this.shown = shown;
+            this.length = length;
+            this.file = file;
+        }
+
+        private static Body of(byte[] body, HttpAttachmentSettings settings) {
+            if (body == null) {
+                return null;
+            }
+            int max = settings.getMaxBodyBytes();
+            if (body.length <= max) {
+                return new Body(body, body.length, null);
+            }
+            Path file = null;
+            try {
+                Files.createDirectories(settings.getSpillDirectory());
+                file = Files.createTempFile(settings.getSpillDirectory(), "allure-http-", ".body");
+                Files.write(file, body);
+            } catch (IOException ex) {
+                // Only the truncated part is reported then
+                delete(file);
+                file = null;
+            }
+            return new Body(Arrays.copyOf(body, max), body.length, file);
+        }
+
+        private boolean isTruncated() {
+            return shown.length < length;
+        }
+
+        private void discard() {
+            delete(file);
+        }
+
+        private static void delete(Path file) {
+            if (file == null) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ex) {
+                // Left in the spill directory; it holds nothing the report needs
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.bookstoreapi.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.restassured.response.Response;
+
+/**
+ * {@code Cassette} replays HTTP interactions recorded by a {@link CassetteRecorder}, without a network.
+ * <p>
+ * The whole file is read into memory when the cassette is loaded and indexed by the
+ * {@link RequestMatcher} key of each recorded request, so answering a request is one
+ * key computation and one hash lookup. When a request was recorded several times, the
+ * recordings are replayed in order and then repeated from the start. A cassette is
+ * safe to share between threads.
+ * </p>
+ * <p>
+ * File layout (big-endian): magic {@code "BKCS"} and version, then one entry per
+ * interaction until the end of the file: method, path, request body, status code,
+ * status line, headers and response body. Strings are modified UTF-8 and bodies are
+ * length-prefixed, with length {@code -1} for no body.
+ * </p>
+ */
+public final class Cassette {
+
+    static final int MAGIC = 0x424B4353;
+    static final int VERSION = 1;
+
+    private final Path file;
+    private final RequestMatcher matcher;
+    private final Map<String, Recordings> index;
+    private final int size;
+
+    private Cassette(Path file, RequestMatcher matcher, Map<String, Recordings> index, int size) {
+        this.file = file;
+        this.matcher = matcher;
+        this.index = index;
+        this.size = size;
+    }
+
+    /**
+     * Loads a cassette file into memory.
+     *
+     * @param file    the cassette file
+     * @param matcher the rules requests are matched by
+     * @return the loaded cassette
+     * @throws IOException if the file cannot be read or is not a cassette file
+     */
+    public static Cassette load(Path file, RequestMatcher matcher) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)));
+        try {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a cassette file: " + file);
+            }
+        } catch (EOFException ex) {
+            throw new IOException("Not a cassette file: " + file, ex);
+        }
+        Map<String, List<Interaction>> recorded = new HashMap<>();
+        int size = 0;
+        try {
+            while (in.available() > 0) {
+                Interaction interaction = Interaction.read(in);
+                recorded.computeIfAbsent(matcher.key(interaction.method, interaction.path, interaction.requestBody),
+                    key -> new ArrayList<>()).add(interaction);
+                size++;
+            }
+        } catch (EOFException ex) {
+            throw new IOException("Cassette file is truncated after " + size + " interactions: " + file, ex);
+        }
+        Map<String, Recordings> index = new HashMap<>(recorded.size() * 2);
+        recorded.forEach((key, interactions) -> index.put(key, new Recordings(interactions.toArray(new Interaction[0]))));
+        return new Cassette(file, matcher, index, size);
+    }
+
+    /**
+     * @return the cassette file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return the number of recorded interactions
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Replays the response recorded for a request.
+     *
+     * @param method the HTTP method
+     * @param path   the path and query string
+     * @param body   the request body, or {@code null} if there is none
+     * @return a new {@link Response} with the recorded status, headers and body
+     * @throws IllegalStateException if no recorded request matches
+     */
+    public Response replay(String method, String path, byte[] body) {
+        Recordings recordings = index.get(matcher.key(method, path, body));
+        if (recordings == null) {
+            throw new IllegalStateException("No interaction recorded in " + file + " for " + method + " " + path
+                + (body == null ? "" : " with body " + matcher.normalizeBody(body)));
+        }
+        return recordings.next().response.toResponse();
+    }
+
+    /** The interactions recorded for one key, replayed round-robin. */
+    private static final class Recordings {
+
+        private final Interaction[] interactions;
+        private final AtomicInteger cursor = new AtomicInteger();
+
+        Recordings(Interaction[] interactions) {
+            this.interactions = interactions;
+        }
+
+        Interaction next() {
+            if (interactions.length == 1) {
+                return interactions[0];
+            }
+            return interactions[Math.floorMod(cursor.getAndIncrement(), interactions.length)];
+        }
+    }
+
+    /** One recorded request and its response. */
+    static final class Interaction {
+
+        final String method;
+        final String path;
+        final byte[] requestBody;
+        final StoredResponse response;
+
+        Interaction(String method, String path, byte[] requestBody, StoredResponse response) {
+            this.method = method;
+            this.path = path;
+            this.requestBody = requestBody;
+            this.response = response;
+        }
+
+        void write(DataOutput out) throws IOException {
+            out.writeUTF(method);
+            out.writeUTF(path);
+            if (requestBody == null) {
+                out.writeInt(-1);
+            } else {
+                out.writeInt(requestBody.length);
+                out.write(requestBody);
+            }
+            response.write(out);
+        }
+
+        static Interaction read(DataInput in) throws IOException {
+            String method = in.readUTF();
+            String path = in.readUTF();
+            int length = in.readInt();
+            byte[] requestBody = null;
+            if (length >= 0) {
+                requestBody = new byte[length];
+                in.readFully(requestBody);
+            }
+            return new Interaction(method, path, requestBody, StoredResponse.read(in));
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.bookstoreapi.http;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import com.example.bookstoreapi.config.ConfigReader;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * {@code CassetteFilter} is a RestAssured filter that records the requests of the API clients
+ * to a cassette, or answers them from one instead of the network.
+ * <p>
+ * The filter runs after every other filter but the {@link TransportFilter}, so Allure still
+ * reports replayed requests like real ones, and recordings do not depend on the transport. Cassettes match requests by host-independent path, so a cassette recorded
+ * against {@code base.url} or the stand-in server replays for either.
+ * </p>
+ * Configured through {@link ConfigReader}:
+ * <ul>
+ *   <li>{@code http.cassette.mode} - {@code off} (default), {@code record} or {@code replay}</li>
+ *   <li>{@code http.cassette.file} - the cassette file (default {@code target/cassettes/bookstore.cassette})</li>
+ *   <li>{@code http.cassette.match} and {@code http.cassette.ignore.fields} - see {@link RequestMatcher}</li>
+ * </ul>
+ */
+public final class CassetteFilter implements OrderedFilter {
+
+    /** What the filter does with each request. */
+    public enum Mode {
+        /** Requests go to the network and are not recorded. */
+        OFF,
+        /** Requests go to the network and every interaction is written to the cassette. */
+        RECORD,
+        /** Requests are answered from the cassette and never reach the network. */
+        REPLAY
+    }
+
+    private static final String DEFAULT_FILE = "target/cassettes/bookstore.cassette";
+
+    private static volatile CassetteFilter configured;
+
+    private final CassetteRecorder recorder;
+    private final Cassette cassette;
+
+    private CassetteFilter(CassetteRecorder recorder, Cassette cassette) {
+        this.recorder = recorder;
+        this.cassette = cassette;
+    }
+
+    /**
+     * Creates a filter that records every interaction.
+     *
+     * @param recorder the recorder to write to
+     * @return the recording filter
+     */
+    public static CassetteFilter recording(CassetteRecorder recorder) {
+        return new CassetteFilter(recorder, null);
+    }
+
+    /**
+     * Creates a filter that answers every request from a cassette.
+     *
+     * @param cassette the cassette to replay
+     * @return the replaying filter
+     */
+    public static CassetteFilter replaying(Cassette cassette) {
+        return new CassetteFilter(null, cassette);
+    }
+
+    /**
+     * @return the mode configured under {@code http.cassette.mode}
+     * @throws IllegalArgumentException if the mode is unknown
+     */
+    public static Mode configuredMode() {
+        String mode = ConfigReader.get("http.cassette.mode");
+        if (mode == null || mode.trim().isEmpty()) {
+            return Mode.OFF;
+        }
+        try {
+            return Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("http.cassette.mode must be 'off', 'record' or 'replay': " + mode, ex);
+        }
+    }
+
+    /**
+     * Returns the filter for the configured mode, shared by all clients. The cassette is
+     * opened on first use; a recording is closed when the JVM exits.
+     *
+     * @return the configured filter, or {@code null} if the mode is {@code off}
+     * @throws UncheckedIOException if the cassette cannot be opened
+     */
+    public static CassetteFilter fromConfig() {
+        Mode mode = configuredMode();
+        if (mode == Mode.OFF) {
+            return null;
+        }
+        CassetteFilter filter = configured;
+        if (filter == null) {
+            synchronized (CassetteFilter.class) {
+                filter = configured;
+                if (filter == null) {
+                    filter = open(mode);
+                    configured = filter;
+                }
+            }
+        }
+        return filter;
+    }
+
+    private static CassetteFilter open(Mode mode) {
+        String file = ConfigReader.get("http.cassette.file");
+        Path path = Paths.get(file == null || file.trim().isEmpty() ? DEFAULT_FILE : file.trim());
+        try {
+            if (mode == Mode.REPLAY) {
+                return replaying(Cassette.load(path, RequestMatcher.fromConfig()));
+            }
+            CassetteRecorder recorder = CassetteRecorder.create(path);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    recorder.close();
+                } catch (IOException ignored) {
+                    // the JVM is exiting; every interaction has already been written
+                }
+            }, "cassette-recorder-close"));
+            return recording(recorder);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open cassette " + path.toAbsolutePath(), ex);
+        }
+    }
+
+    /**
+     * @return whether this filter answers requests without the network
+     */
+    public boolean isReplaying() {
+        return cassette != null;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String method = requestSpec.getMethod();
+        String path = pathOf(requestSpec.getURI());
+        byte[] body = bodyOf(requestSpec.getBody());
+        if (cassette != null) {
+            return cassette.replay(method, path, body);
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        try {
+            recorder.record(method, path, body, response);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to record to cassette " + recorder.getFile(), ex);
+        }
+        return response;
+    }
+
+    private static String pathOf(String uri) {
+        URI parsed = URI.create(uri);
+        return parsed.getRawQuery() == null ? parsed.getRawPath() : parsed.getRawPath() + "?" + parsed.getRawQuery();
+    }
+
+    private static byte[] bodyOf(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
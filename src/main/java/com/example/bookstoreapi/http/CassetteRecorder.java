@@ -0,0 +1,102 @@
+package com.example.bookstoreapi.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import io.restassured.response.Response;
+
+/**
+ * {@code CassetteRecorder} writes HTTP interactions to a cassette file that a {@link Cassette}
+ * can replay later.
+ * <p>
+ * Each interaction is encoded in memory and appended to the file with a single write, so
+ * the file always ends on a complete interaction, even if the process is killed during a
+ * recording. A recorder is safe to share between threads.
+ * </p>
+ */
+public final class CassetteRecorder implements Closeable {
+
+    private final Path file;
+    private final FileChannel channel;
+    private int size;
+
+    private CassetteRecorder(Path file, FileChannel channel) {
+        this.file = file;
+        this.channel = channel;
+    }
+
+    /**
+     * Creates a recorder, replacing any existing cassette file.
+     *
+     * @param file the cassette file
+     * @return a recorder writing to the file
+     * @throws IOException if the file cannot be created
+     */
+    public static CassetteRecorder create(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(2 * Integer.BYTES).putInt(Cassette.MAGIC).putInt(Cassette.VERSION);
+            header.flip();
+            writeFully(channel, header);
+        } catch (IOException ex) {
+            channel.close();
+            throw ex;
+        }
+        return new CassetteRecorder(file, channel);
+    }
+
+    /**
+     * Appends one interaction to the cassette.
+     *
+     * @param method      the HTTP method
+     * @param path        the path and query string
+     * @param requestBody the request body, or {@code null} if there is none
+     * @param response    the response; its body is read
+     * @throws IOException if the interaction cannot be written
+     */
+    public void record(String method, String path, byte[] requestBody, Response response) throws IOException {
+        StoredResponse stored = StoredResponse.of(response);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + stored.bodyLength());
+        new Cassette.Interaction(method, path, requestBody, stored).write(new DataOutputStream(bytes));
+        ByteBuffer entry = ByteBuffer.wrap(bytes.toByteArray());
+        synchronized (this) {
+            writeFully(channel, entry);
+            size++;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * @return the cassette file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return the number of interactions recorded so far
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.bookstoreapi.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.BasicHttpContext;
+
+import com.example.bookstoreapi.config.ConfigSnapshot;
+
+/**
+ * {@code ConnectionPool} manages the keep-alive HTTP connections used by the API clients.
+ * <p>
+ * By default RestAssured creates a new Apache HttpClient (and therefore a new TCP/TLS
+ * connection) for every request. The clients instead obtain their HttpClient from this
+ * pool, so connections to {@code base.url} are leased, returned and reused across calls
+ * and threads.
+ * </p>
+ * The shared pool is sized by the {@code http.pool.*} settings of the {@link ConfigSnapshot}, and
+ * its clients use the {@code http.connect.timeout.ms} and {@code http.read.timeout.ms} timeouts.
+ * RestAssured still works against the deprecated HttpClient 4.0 API ({@code AbstractHttpClient}),
+ * which is why the older connection manager classes are used here.
+ */
+@SuppressWarnings("deprecation")
+public final class ConnectionPool {
+
+    private static final long PREWARM_TIMEOUT_SECONDS = 10;
+
+    private static volatile ConnectionPool shared;
+
+    private final PoolingClientConnectionManager connectionManager;
+    private final ScheduledExecutorService evictor;
+    private final long idleEvictSeconds;
+    private final int prewarmConnections;
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final Set<HttpRoute> prewarmedRoutes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a pool with explicit sizing.
+     *
+     * @param maxPerRoute        maximum connections per route
+     * @param maxTotal           maximum connections overall
+     * @param idleEvictSeconds   idle time in seconds after which connections are closed, {@code 0} to disable
+     * @param prewarmConnections connections to open when a route is first used
+     */
+    public ConnectionPool(int maxPerRoute, int maxTotal, long idleEvictSeconds, int prewarmConnections) {
+        this(maxPerRoute, maxTotal, idleEvictSeconds, prewarmConnections, Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * Creates a pool with explicit sizing and timeouts.
+     *
+     * @param maxPerRoute        maximum connections per route
+     * @param maxTotal           maximum connections overall
+     * @param idleEvictSeconds   idle time in seconds after which connections are closed, {@code 0} to disable
+     * @param prewarmConnections connections to open when a route is first used
+     * @param connectTimeout     time allowed to open a connection, {@link Duration#ZERO} for no limit
+     * @param readTimeout        time allowed between response bytes, {@link Duration#ZERO} for no limit
+     */
+    public ConnectionPool(int maxPerRoute, int maxTotal, long idleEvictSeconds, int prewarmConnections,
+                          Duration connectTimeout, Duration readTimeout) {
+        this.connectionManager = new CountingConnectionManager(SchemeRegistryFactory.createDefault());
+        this.connectionManager.setMaxTotal(maxTotal);
+        this.connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        this.idleEvictSeconds = idleEvictSeconds;
+        this.prewarmConnections = Math.min(prewarmConnections, maxPerRoute);
+        this.connectTimeoutMillis = (int) Math.min(connectTimeout.toMillis(), Integer.MAX_VALUE);
+        this.readTimeoutMillis = (int) Math.min(readTimeout.toMillis(), Integer.MAX_VALUE);
+
+        if (idleEvictSeconds > 0) {
+            evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "connection-pool-evictor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = Math.max(1, idleEvictSeconds / 2);
+            evictor.scheduleWithFixedDelay(this::evictIdleConnections, period, period, TimeUnit.SECONDS);
+        } else {
+            evictor = null;
+        }
+    }
+
+    /**
+     * Returns the pool shared by all API clients in this JVM, creating it from
+     * the {@link ConfigSnapshot} on first use.
+     *
+     * @return the shared {@code ConnectionPool}
+     */
+    public static ConnectionPool shared() {
+        ConnectionPool pool = shared;
+        if (pool == null) {
+            synchronized (ConnectionPool.class) {
+                pool = shared;
+                if (pool == null) {
+                    ConfigSnapshot config = ConfigSnapshot.current();
+                    pool = new ConnectionPool(
+                        config.getPoolMaxPerRoute(),
+                        config.getPoolMaxTotal(),
+                        config.getPoolIdleEvictSeconds(),
+                        config.getPoolPrewarm(),
+                        config.getConnectTimeout(),
+                        config.getReadTimeout());
+                    shared = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Creates an HttpClient backed by this pool. The client itself is cheap; all
+     * connections belong to the pool and are shared between the clients it creates.
+     * <p>
+     * RestAssured never reads an empty response body (e.g., of a {@code DELETE}), and a
+     * connection only returns to the pool once its body has been read. Empty bodies are
+     * therefore replaced by an in-memory entity, which releases the connection right away.
+     * </p>
+     *
+     * @return a new {@link HttpClient} using the pooled connection manager
+     */
+    public HttpClient newHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+        HttpConnectionParams.setConnectionTimeout(client.getParams(), connectTimeoutMillis);
+        HttpConnectionParams.setSoTimeout(client.getParams(), readTimeoutMillis);
+        client.addResponseInterceptor((response, context) -> {
+            HttpEntity entity = response.getEntity();
+            if (entity != null && entity.isStreaming() && entity.getContentLength() == 0) {
+                ByteArrayEntity empty = new ByteArrayEntity(new byte[0]);
+                empty.setContentType(entity.getContentType());
+                response.setEntity(empty);
+            }
+        });
+        return client;
+    }
+
+    /**
+     * Opens the configured number of connections to the host of {@code baseUrl}, once per route.
+     * <p>
+     * Failures are ignored: pre-warming is an optimization, and a host that cannot be
+     * reached will be reported by the first real request instead.
+     * </p>
+     *
+     * @param baseUrl the base URL whose route should be pre-warmed
+     */
+    public void prewarm(String baseUrl) {
+        if (prewarmConnections <= 0 || baseUrl == null) {
+            return;
+        }
+        HttpRoute route = routeFor(baseUrl);
+        if (!prewarmedRoutes.add(route)) {
+            return;
+        }
+        List<ManagedClientConnection> opened = new ArrayList<>(prewarmConnections);
+        try {
+            // Lease all connections at once, otherwise the pool would hand back the same one
+            for (int i = 0; i < prewarmConnections; i++) {
+                ManagedClientConnection connection = connectionManager.requestConnection(route, null)
+                    .getConnection(PREWARM_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                opened.add(connection);
+                connection.open(route, new BasicHttpContext(), new BasicHttpParams());
+                connection.markReusable();
+            }
+        } catch (IOException | InterruptedException ex) {
+            if (ex instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            for (ManagedClientConnection connection : opened) {
+                connectionManager.releaseConnection(connection, idleEvictSeconds > 0 ? idleEvictSeconds : -1, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    /**
+     * @return a snapshot of the pool counters
+     */
+    public ConnectionPoolStats stats() {
+        PoolStats total = connectionManager.getTotalStats();
+        return new ConnectionPoolStats(total.getLeased(), total.getAvailable(), total.getPending(), total.getMax(),
+            created.get(), evicted.get());
+    }
+
+    /**
+     * Closes all connections and stops the eviction task.
+     */
+    public void shutdown() {
+        if (evictor != null) {
+            evictor.shutdownNow();
+        }
+        connectionManager.shutdown();
+    }
+
+    private void evictIdleConnections() {
+        int before = connectionManager.getTotalStats().getAvailable();
+        connectionManager.closeExpiredConnections();
+        connectionManager.closeIdleConnections(idleEvictSeconds, TimeUnit.SECONDS);
+        int after = connectionManager.getTotalStats().getAvailable();
+        if (before > after) {
+            evicted.addAndGet(before - after);
+        }
+    }
+
+    private static HttpRoute routeFor(String baseUrl) {
+        URI uri = URI.create(baseUrl);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(uri.getHost(), port, uri.getScheme()), null, secure);
+    }
+
+    /**
+     * Connection manager that counts every connection it opens.
+     */
+    private final class CountingConnectionManager extends PoolingClientConnectionManager {
+
+        CountingConnectionManager(SchemeRegistry schemeRegistry) {
+            super(schemeRegistry);
+        }
+
+        @Override
+        protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+            return new DefaultClientConnectionOperator(schemeRegistry) {
+                @Override
+                public OperatedClientConnection createConnection() {
+                    created.incrementAndGet();
+                    return super.createConnection();
+                }
+            };
+        }
+    }
+}
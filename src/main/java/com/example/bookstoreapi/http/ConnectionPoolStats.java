@@ -0,0 +1,57 @@
+package com.example.bookstoreapi.http;
+
+/**
+ * {@code ConnectionPoolStats} is an immutable snapshot of the {@link ConnectionPool} counters.
+ * <p>
+ * {@code leased}, {@code available}, {@code pending} and {@code max} describe the pool at
+ * the moment of the snapshot. {@code created} and {@code evicted} are running totals since
+ * the pool was created, so comparing {@code created} with the number of requests sent shows
+ * how well connections are being reused.
+ * </p>
+ */
+public final class ConnectionPoolStats {
+
+    private final int leased;
+    private final int available;
+    private final int pending;
+    private final int max;
+    private final long created;
+    private final long evicted;
+
+    ConnectionPoolStats(int leased, int available, int pending, int max, long created, long evicted) {
+        this.leased = leased;
+        this.available = available;
+        this.pending = pending;
+        this.max = max;
+        this.created = created;
+        this.evicted = evicted;
+    }
+
+    /** @return connections currently in use by a request */
+    public int getLeased() { return leased; }
+
+    /** @return idle keep-alive connections ready to be reused */
+    public int getAvailable() { return available; }
+
+    /** @return requests waiting for a connection */
+    public int getPending() { return pending; }
+
+    /** @return the maximum number of connections in the pool */
+    public int getMax() { return max; }
+
+    /** @return connections opened since the pool was created */
+    public long getCreated() { return created; }
+
+    /** @return idle or expired connections closed by the eviction task */
+    public long getEvicted() { return evicted; }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolStats[leased=" + leased
+            + ", available=" + available
+            + ", pending=" + pending
+            + ", max=" + max
+            + ", created=" + created
+            + ", evicted=" + evicted + "]";
+    }
+}
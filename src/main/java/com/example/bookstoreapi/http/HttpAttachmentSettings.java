@@ -0,0 +1,91 @@
+package com.example.bookstoreapi.http;
+
+import java.nio.file.Path;
+
+import com.example.bookstoreapi.config.ConfigReader;
+import com.example.bookstoreapi.config.ConfigSnapshot;
+
+/**
+ * {@code HttpAttachmentSettings} controls which HTTP calls the {@link AllureHttpFilter}
+ * attaches to the Allure report and how much of their bodies it renders.
+ * <p>
+ * The settings are read through {@link ConfigReader}:
+ * </p>
+ * <ul>
+ *   <li>{@code allure.http.sample.percent} - share of the calls of a passing test that are attached,
+ *       0 to 100 (default 10); every call of a failing test is attached</li>
+ *   <li>{@code allure.http.body.max.bytes} - body bytes rendered into the request and response attachments
+ *       (default 16384); a longer body is truncated there and written whole to a separate attachment</li>
+ *   <li>{@code allure.http.max.calls.per.test} - calls kept per test until it finishes (default 100);
+ *       beyond that the oldest calls that were not sampled are dropped</li>
+ *   <li>{@code allure.http.spill.dir} - where longer bodies wait for the outcome of their test
+ *       (default: the system temporary directory)</li>
+ * </ul>
+ */
+public final class HttpAttachmentSettings {
+
+    private final int samplePercent;
+    private final int maxBodyBytes;
+    private final int maxCallsPerTest;
+    private final Path spillDirectory;
+
+    /**
+     * Creates settings that keep longer bodies in the system temporary directory.
+     *
+     * @param samplePercent   share of the calls of a passing test that are attached, 0 to 100
+     * @param maxBodyBytes    body bytes rendered into the request and response attachments
+     * @param maxCallsPerTest calls kept per test until it finishes
+     */
+    public HttpAttachmentSettings(int samplePercent, int maxBodyBytes, int maxCallsPerTest) {
+        this(samplePercent, maxBodyBytes, maxCallsPerTest, null);
+    }
+
+    /**
+     * @param samplePercent   share of the calls of a passing test that are attached, 0 to 100
+     * @param maxBodyBytes    body bytes rendered into the request and response attachments
+     * @param maxCallsPerTest calls kept per test until it finishes
+     * @param spillDirectory  where longer bodies wait for the outcome of their test, or {@code null}
+     *                        for the system temporary directory
+     */
+    public HttpAttachmentSettings(int samplePercent, int maxBodyBytes, int maxCallsPerTest, Path spillDirectory) {
+        if (samplePercent < 0 || samplePercent > 100) {
+            throw new IllegalArgumentException("allure.http.sample.percent must be between 0 and 100: " + samplePercent);
+        }
+        if (maxBodyBytes < 0) {
+            throw new IllegalArgumentException("allure.http.body.max.bytes must not be negative: " + maxBodyBytes);
+        }
+        if (maxCallsPerTest <= 0) {
+            throw new IllegalArgumentException("allure.http.max.calls.per.test must be positive: " + maxCallsPerTest);
+        }
+        this.samplePercent = samplePercent;
+        this.maxBodyBytes = maxBodyBytes;
+        this.maxCallsPerTest = maxCallsPerTest;
+        this.spillDirectory = spillDirectory != null ? spillDirectory : Path.of(System.getProperty("java.io.tmpdir"));
+    }
+
+    /**
+     * Reads the settings from the configuration.
+     *
+     * @return the configured {@code HttpAttachmentSettings}
+     */
+    public static HttpAttachmentSettings fromConfig() {
+        String spillDirectory = ConfigReader.get("allure.http.spill.dir");
+        return new HttpAttachmentSettings(
+            ConfigSnapshot.current().getHttpSamplePercent(),
+            ConfigReader.getInt("allure.http.body.max.bytes", 16384),
+            ConfigReader.getInt("allure.http.max.calls.per.test", 100),
+            spillDirectory == null || spillDirectory.trim().isEmpty() ? null : Path.of(spillDirectory.trim()));
+    }
+
+    /** @return share of the calls of a passing test that are attached, 0 to 100 */
+    public int getSamplePercent() { return samplePercent; }
+
+    /** @return body bytes rendered into the request and response attachments */
+    public int getMaxBodyBytes() { return maxBodyBytes; }
+
+    /** @return calls kept per test until it finishes */
+    public int getMaxCallsPerTest() { return maxCallsPerTest; }
+
+    /** @return where longer bodies wait for the outcome of their test */
+    public Path getSpillDirectory() { return spillDirectory; }
+}
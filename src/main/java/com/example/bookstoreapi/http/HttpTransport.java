@@ -0,0 +1,69 @@
+package com.example.bookstoreapi.http;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.ServiceLoader;
+
+import com.example.bookstoreapi.config.ConfigReader;
+
+/**
+ * {@code HttpTransport} sends the requests of the API clients over the network.
+ * <p>
+ * By default the clients use RestAssured's own Apache HttpClient stack (transport name
+ * {@code restassured}). Setting {@code http.transport} to another name hands every request,
+ * once RestAssured has built it and the filters have run, to that transport through a
+ * {@link TransportFilter}. Built in is {@code jdk} ({@link JdkHttpTransport}, {@code java.net.http}
+ * with HTTP/2); further transports can be plugged in by implementing this interface and
+ * registering the class under {@code META-INF/services/com.example.bookstoreapi.http.HttpTransport}.
+ * </p>
+ * Implementations must be safe to share between threads.
+ */
+public interface HttpTransport {
+
+    /** The name of RestAssured's built-in transport, which needs no {@code HttpTransport}. */
+    String RESTASSURED = "restassured";
+
+    /**
+     * @return the name the transport is selected by in {@code http.transport}
+     */
+    String name();
+
+    /**
+     * Sends a request and reads the whole response.
+     *
+     * @param request the request
+     * @return the response
+     * @throws IOException if the request could not be sent or the response could not be read
+     */
+    TransportResponse send(TransportRequest request) throws IOException;
+
+    /**
+     * @return the transport name configured under {@code http.transport} (default {@code restassured})
+     */
+    static String configuredName() {
+        String name = ConfigReader.get("http.transport");
+        return name == null || name.trim().isEmpty() ? RESTASSURED : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Looks up a transport by name.
+     *
+     * @param name the transport name
+     * @return the transport, or {@code null} for {@code restassured}
+     * @throws IllegalArgumentException if no transport has that name
+     */
+    static HttpTransport forName(String name) {
+        if (RESTASSURED.equalsIgnoreCase(name)) {
+            return null;
+        }
+        if (JdkHttpTransport.NAME.equalsIgnoreCase(name)) {
+            return JdkHttpTransport.shared();
+        }
+        for (HttpTransport transport : ServiceLoader.load(HttpTransport.class)) {
+            if (transport.name().equalsIgnoreCase(name)) {
+                return transport;
+            }
+        }
+        throw new IllegalArgumentException("http.transport must be 'restassured', 'jdk' or a registered transport: " + name);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.bookstoreapi.http;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import com.example.bookstoreapi.config.ConfigSnapshot;
+
+/**
+ * {@code JdkHttpClients} holds the {@link HttpClient} shared by the clients built on
+ * {@code java.net.http}.
+ * <p>
+ * The JDK client multiplexes all connections on a selector thread, so requests sent
+ * with {@code sendAsync} do not tie up a thread while they are in flight. One instance
+ * is shared so that its connection pool is shared too. Its connect timeout is
+ * {@code http.connect.timeout.ms} of the {@link ConfigSnapshot}, none if that is 0; requests apply
+ * {@code http.read.timeout.ms} themselves.
+ * </p>
+ */
+public final class JdkHttpClients {
+
+    private static volatile HttpClient shared;
+
+    private JdkHttpClients() {
+    }
+
+    /**
+     * Returns the shared client, creating it on first use.
+     *
+     * @return the shared {@link HttpClient}
+     */
+    public static HttpClient shared() {
+        HttpClient client = shared;
+        if (client == null) {
+            synchronized (JdkHttpClients.class) {
+                client = shared;
+                if (client == null) {
+                    HttpClient.Builder builder = HttpClient.newBuilder();
+                    Duration connectTimeout = ConfigSnapshot.current().getConnectTimeout();
+                    if (!connectTimeout.isZero()) {
+                        builder.connectTimeout(connectTimeout);
+                    }
+                    client = builder.build();
+                    shared = client;
+                }
+            }
+        }
+        return client;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.bookstoreapi.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.bookstoreapi.config.ConfigSnapshot;
+
+/**
+ * {@code JdkHttpTransport} sends requests with the {@code java.net.http} {@link HttpClient}.
+ * <p>
+ * The client negotiates HTTP/2 where the server supports it (ALPN over TLS, upgrade over
+ * cleartext), so concurrent requests to one host share a single multiplexed connection instead
+ * of one pooled connection each, and header compression applies. Servers that only speak
+ * HTTP/1.1 are served over HTTP/1.1.
+ * </p>
+ * Headers the JDK client manages itself ({@code Host}, {@code Connection}, {@code Content-Length},
+ * {@code Expect}, {@code Upgrade}) are not copied from the request. Requests time out after
+ * {@code http.read.timeout.ms} of the {@link ConfigSnapshot}, if set.
+ */
+public final class JdkHttpTransport implements HttpTransport {
+
+    /** The name the transport is selected by in {@code http.transport}. */
+    public static final String NAME = "jdk";
+
+    private static final Set<String> RESTRICTED_HEADERS =
+        Set.of("host", "connection", "content-length", "expect", "upgrade");
+
+    private static volatile JdkHttpTransport shared;
+
+    private final HttpClient client;
+    private final Duration timeout;
+
+    /**
+     * @param client the client to send requests with
+     */
+    public JdkHttpTransport(HttpClient client) {
+        this(client, Duration.ZERO);
+    }
+
+    /**
+     * @param client  the client to send requests with
+     * @param timeout time allowed for a response, {@link Duration#ZERO} for no limit
+     */
+    public JdkHttpTransport(HttpClient client, Duration timeout) {
+        this.client = client;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the transport over {@link JdkHttpClients#shared()}, creating it on first use.
+     *
+     * @return the shared transport
+     */
+    public static JdkHttpTransport shared() {
+        JdkHttpTransport transport = shared;
+        if (transport == null) {
+            synchronized (JdkHttpTransport.class) {
+                transport = shared;
+                if (transport == null) {
+                    transport = new JdkHttpTransport(JdkHttpClients.shared(), ConfigSnapshot.current().getReadTimeout());
+                    shared = transport;
+                }
+            }
+        }
+        return transport;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public TransportResponse send(TransportRequest request) throws IOException {
+        byte[] body = request.getBody();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri())
+            .method(request.getMethod(), body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(body));
+        if (!timeout.isZero()) {
+            builder.timeout(timeout);
+        }
+        for (Map.Entry<String, List<String>> header : request.getHeaders().entrySet()) {
+            if (!RESTRICTED_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                for (String value : header.getValue()) {
+                    builder.header(header.getKey(), value);
+                }
+            }
+        }
+
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("Interrupted while sending " + request);
+            interrupted.initCause(ex);
+            throw interrupted;
+        }
+
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        response.headers().map().forEach((name, values) -> {
+            if (!name.startsWith(":")) {
+                headers.put(name, values);
+            }
+        });
+        String protocol = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        return new TransportResponse(protocol, response.statusCode(), headers, response.body());
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.bookstoreapi.http;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.bookstoreapi.config.ConfigReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * {@code RequestMatcher} decides which recorded interaction of a {@link Cassette} answers a request.
+ * <p>
+ * A request is reduced to a key made of the parts selected by the matching {@link Rule}s; two
+ * requests with the same key are answered by the same recording. Bodies are compared after
+ * normalization: JSON is re-serialized with sorted keys and without the ignored fields, so
+ * fields filled in by the data factories (titles, names, dates) do not prevent a match.
+ * Field names are compared case-insensitively, like the API binds them.
+ * </p>
+ * Configured through {@link ConfigReader}:
+ * <ul>
+ *   <li>{@code http.cassette.match} - comma-separated rules (default {@code method,path,body})</li>
+ *   <li>{@code http.cassette.ignore.fields} - comma-separated JSON fields left out of the body (default none)</li>
+ * </ul>
+ */
+public final class RequestMatcher {
+
+    /** The parts of a request that must be equal for a recording to match. */
+    public enum Rule {
+        /** The HTTP method. */
+        METHOD,
+        /** The path and query string, without scheme and host. */
+        PATH,
+        /** The normalized request body. */
+        BODY
+    }
+
+    private static final ObjectMapper CANONICAL = new ObjectMapper()
+        .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    private final Set<Rule> rules;
+    private final Set<String> ignoredFields;
+
+    /**
+     * @param rules         the parts of a request to compare
+     * @param ignoredFields the JSON fields to leave out of the body, at any depth
+     */
+    public RequestMatcher(Set<Rule> rules, Set<String> ignoredFields) {
+        this.rules = rules.isEmpty() ? EnumSet.noneOf(Rule.class) : EnumSet.copyOf(rules);
+        Set<String> lowerCase = new HashSet<>();
+        for (String field : ignoredFields) {
+            lowerCase.add(field.toLowerCase(Locale.ROOT));
+        }
+        this.ignoredFields = Collections.unmodifiableSet(lowerCase);
+    }
+
+    /**
+     * Creates the matcher configured under {@code http.cassette.match} and {@code http.cassette.ignore.fields}.
+     *
+     * @return the configured matcher
+     * @throws IllegalArgumentException if a rule name is unknown
+     */
+    public static RequestMatcher fromConfig() {
+        String match = ConfigReader.get("http.cassette.match");
+        Set<Rule> rules = EnumSet.noneOf(Rule.class);
+        if (match == null || match.trim().isEmpty()) {
+            rules = EnumSet.allOf(Rule.class);
+        } else {
+            for (String name : split(match)) {
+                try {
+                    rules.add(Rule.valueOf(name.toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException ex) {
+                    throw new IllegalArgumentException("http.cassette.match must list method, path and/or body: " + match, ex);
+                }
+            }
+        }
+        String ignore = ConfigReader.get("http.cassette.ignore.fields");
+        return new RequestMatcher(rules, new HashSet<>(split(ignore == null ? "" : ignore)));
+    }
+
+    private static List<String> split(String value) {
+        return value.trim().isEmpty() ? Collections.emptyList() : Arrays.asList(value.trim().split("\\s*,\\s*"));
+    }
+
+    /**
+     * Computes the matching key of a request.
+     *
+     * @param method the HTTP method
+     * @param path   the path and query string
+     * @param body   the request body, or {@code null} if there is none
+     * @return the key; requests with equal keys match the same recording
+     */
+    public String key(String method, String path, byte[] body) {
+        StringBuilder key = new StringBuilder();
+        if (rules.contains(Rule.METHOD)) {
+            key.append(method.toUpperCase(Locale.ROOT));
+        }
+        key.append(' ');
+        if (rules.contains(Rule.PATH)) {
+            key.append(path);
+        }
+        if (rules.contains(Rule.BODY) && body != null && body.length > 0) {
+            key.append('\n').append(normalizeBody(body));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Normalizes a request body for comparison. Bodies that are not JSON are compared as they are.
+     *
+     * @param body the request body
+     * @return the normalized body
+     */
+    String normalizeBody(byte[] body) {
+        Object tree;
+        try {
+            tree = CANONICAL.readValue(body, Object.class);
+        } catch (IOException ex) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+        if (!ignoredFields.isEmpty()) {
+            removeIgnored(tree);
+        }
+        try {
+            return CANONICAL.writeValueAsString(tree);
+        } catch (JsonProcessingException ex) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    private void removeIgnored(Object node) {
+        if (node instanceof Map) {
+            Iterator<? extends Map.Entry<?, ?>> entries = ((Map<?, ?>) node).entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<?, ?> entry = entries.next();
+                if (ignoredFields.contains(String.valueOf(entry.getKey()).toLowerCase(Locale.ROOT))) {
+                    entries.remove();
+                } else {
+                    removeIgnored(entry.getValue());
+                }
+            }
+        } else if (node instanceof List) {
+            for (Object item : (List<?>) node) {
+                removeIgnored(item);
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.bookstoreapi.http;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.example.bookstoreapi.config.ConfigReader;
+
+/**
+ * {@code ResponseCache} keeps the successful responses of {@code GET} requests so that repeated
+ * calls for the same URI are answered without the network.
+ * <p>
+ * The cache holds at most {@code maxEntries} responses and evicts the least recently used one
+ * when it is full. A response is fresh for the configured time to live; after that, a response
+ * that carried an {@code ETag} or {@code Last-Modified} header is revalidated with a conditional
+ * request ({@code If-None-Match} / {@code If-Modified-Since}), and any other response is fetched
+ * again. Requests that change a resource invalidate every cached response of that resource.
+ * The cache is safe to share between threads.
+ * </p>
+ * The shared cache is configured through {@link ConfigReader}:
+ * <ul>
+ *   <li>{@code http.cache.enabled} - whether the API clients use the cache (default false)</li>
+ *   <li>{@code http.cache.max.entries} - maximum number of cached responses (default 1000)</li>
+ *   <li>{@code http.cache.ttl.seconds} - time a response is used without revalidation (default 60)</li>
+ * </ul>
+ */
+public final class ResponseCache {
+
+    private static final ThreadLocal<Boolean> BYPASS = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private static volatile ResponseCache shared;
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidated = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder invalidated = new LongAdder();
+
+    /**
+     * Creates a cache with explicit sizing.
+     *
+     * @param maxEntries maximum number of cached responses
+     * @param ttlMillis  time in milliseconds a response is used without revalidation
+     */
+    public ResponseCache(int maxEntries, long ttlMillis) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > ResponseCache.this.maxEntries) {
+                    evicted.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return whether the API clients use the shared cache, configured under {@code http.cache.enabled}
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.get("http.cache.enabled"));
+    }
+
+    /**
+     * Returns the cache shared by all API clients in this JVM, creating it from
+     * the configuration on first use.
+     *
+     * @return the shared {@code ResponseCache}
+     */
+    public static ResponseCache shared() {
+        ResponseCache cache = shared;
+        if (cache == null) {
+            synchronized (ResponseCache.class) {
+                cache = shared;
+                if (cache == null) {
+                    cache = new ResponseCache(
+                        ConfigReader.getInt("http.cache.max.entries", 1000),
+                        TimeUnit.SECONDS.toMillis(ConfigReader.getInt("http.cache.ttl.seconds", 60)));
+                    shared = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Makes the calls of the current thread inside {@code call} go to the server, for tests that
+     * must see the server's answer. Their responses still refresh the cache.
+     *
+     * @param call the API calls to make
+     * @param <T>  the result type
+     * @return the result of {@code call}
+     */
+    public static <T> T bypass(Supplier<T> call) {
+        Boolean outer = BYPASS.get();
+        BYPASS.set(Boolean.TRUE);
+        try {
+            return call.get();
+        } finally {
+            BYPASS.set(outer);
+        }
+    }
+
+    /**
+     * @return whether the current thread is inside {@link #bypass(Supplier)}
+     */
+    static boolean isBypassed() {
+        return BYPASS.get();
+    }
+
+    /**
+     * Looks up a response. Fresh entries count as hits and missing ones as misses; the
+     * outcome of a stale entry is counted once it has been revalidated.
+     *
+     * @param key the request URI
+     * @param now the current {@link System#nanoTime()}, against which freshness is judged
+     * @return the cached entry, fresh or stale, or {@code null} on a miss
+     */
+    Entry lookup(String key, long now) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && !entry.isFresh(now) && !entry.canRevalidate()) {
+                entries.remove(key);
+                evicted.increment();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+        } else if (entry.isFresh(now)) {
+            hits.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * Stores a response, replacing any previous one for the key.
+     *
+     * @param key      the request URI
+     * @param response the response
+     */
+    void store(String key, StoredResponse response) {
+        Entry entry = new Entry(response, System.nanoTime() + ttlNanos);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Marks a stale entry as fresh again after the server answered {@code 304 Not Modified}.
+     *
+     * @param key   the request URI
+     * @param entry the revalidated entry
+     */
+    void revalidated(String key, Entry entry) {
+        revalidated.increment();
+        store(key, entry.response);
+    }
+
+    /** Counts a stale entry that the server did not confirm. */
+    void countMiss() {
+        misses.increment();
+    }
+
+    /** Counts a request sent to the server because of {@link #bypass(Supplier)}. */
+    void countBypass() {
+        bypassed.increment();
+    }
+
+    /**
+     * Removes every response whose key starts with the given prefix.
+     *
+     * @param prefix the URI of a resource, e.g. {@code https://host/api/v1/Books}
+     */
+    public void invalidate(String prefix) {
+        synchronized (entries) {
+            Iterator<String> keys = entries.keySet().iterator();
+            while (keys.hasNext()) {
+                if (keys.next().startsWith(prefix)) {
+                    keys.remove();
+                    invalidated.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every cached response.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return a snapshot of the cache counters
+     */
+    public ResponseCacheStats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new ResponseCacheStats(size, maxEntries, hits.sum(), revalidated.sum(), misses.sum(), bypassed.sum(),
+            evicted.sum(), invalidated.sum());
+    }
+
+    /** A cached response and the time until which it is fresh. */
+    static final class Entry {
+
+        final StoredResponse response;
+        private final long freshUntil;
+
+        Entry(StoredResponse response, long freshUntil) {
+            this.response = response;
+            this.freshUntil = freshUntil;
+        }
+
+        boolean isFresh(long now) {
+            return now - freshUntil < 0;
+        }
+
+        boolean canRevalidate() {
+            return etag() != null || lastModified() != null;
+        }
+
+        String etag() {
+            return response.headers().getValue("ETag");
+        }
+
+        String lastModified() {
+            return response.headers().getValue("Last-Modified");
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.bookstoreapi.http;
+
+import java.util.Locale;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * {@code ResponseCacheFilter} is a RestAssured filter that answers {@code GET} requests from a
+ * {@link ResponseCache} and invalidates it when a request changes a resource.
+ * <p>
+ * Only {@code 200} responses without {@code Cache-Control: no-store} are cached, keyed by the full
+ * request URI. Any other method ({@code POST}, {@code PUT}, {@code DELETE}) invalidates every cached
+ * response under the request's base path, e.g. all of {@code /api/v1/Books} after a book is updated.
+ * The filter runs after the {@link AllureHttpFilter}, so cached responses are still reported,
+ * and before the {@link CassetteFilter}, so a cache hit is not looked up in a cassette.
+ * </p>
+ */
+public final class ResponseCacheFilter implements OrderedFilter {
+
+    private static final int NOT_MODIFIED = 304;
+
+    private final ResponseCache cache;
+
+    /**
+     * @param cache the cache to answer requests from
+     */
+    public ResponseCacheFilter(ResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 2;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String uri = requestSpec.getURI();
+        if (!"GET".equalsIgnoreCase(requestSpec.getMethod())) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            cache.invalidate(resourceOf(uri, requestSpec.getBasePath()));
+            return response;
+        }
+        if (ResponseCache.isBypassed()) {
+            cache.countBypass();
+            return storeIfCacheable(uri, ctx.next(requestSpec, responseSpec));
+        }
+
+        long now = System.nanoTime();
+        ResponseCache.Entry entry = cache.lookup(uri, now);
+        if (entry == null) {
+            return storeIfCacheable(uri, ctx.next(requestSpec, responseSpec));
+        }
+        if (entry.isFresh(now)) {
+            return entry.response.toResponse();
+        }
+
+        if (entry.etag() != null) {
+            requestSpec.header("If-None-Match", entry.etag());
+        }
+        if (entry.lastModified() != null) {
+            requestSpec.header("If-Modified-Since", entry.lastModified());
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response.statusCode() == NOT_MODIFIED) {
+            cache.revalidated(uri, entry);
+            return entry.response.toResponse();
+        }
+        cache.countMiss();
+        return storeIfCacheable(uri, response);
+    }
+
+    private Response storeIfCacheable(String uri, Response response) {
+        if (response.statusCode() != 200) {
+            return response;
+        }
+        String cacheControl = response.header("Cache-Control");
+        if (cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains("no-store")) {
+            return response;
+        }
+        cache.store(uri, StoredResponse.of(response));
+        return response;
+    }
+
+    /**
+     * @return the URI of the resource a request belongs to: everything up to the end of its base path
+     */
+    private static String resourceOf(String uri, String basePath) {
+        int authority = uri.indexOf("://");
+        int pathStart = uri.indexOf('/', authority < 0 ? 0 : authority + 3);
+        if (pathStart < 0) {
+            return uri;
+        }
+        if (basePath == null || basePath.isEmpty() || "/".equals(basePath)) {
+            return uri.substring(0, pathStart);
+        }
+        return uri.startsWith(basePath, pathStart) ? uri.substring(0, pathStart + basePath.length()) : uri.substring(0, pathStart);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.bookstoreapi.http;
+
+/**
+ * {@code ResponseCacheStats} is an immutable snapshot of the {@link ResponseCache} counters.
+ * <p>
+ * {@code size} and {@code maxEntries} describe the cache at the moment of the snapshot; all
+ * other values are running totals since the cache was created. Every {@code GET} outside
+ * a bypass counts as exactly one hit, revalidation or miss; a stale entry that the server
+ * no longer confirms counts as a miss.
+ * </p>
+ */
+public final class ResponseCacheStats {
+
+    private final int size;
+    private final int maxEntries;
+    private final long hits;
+    private final long revalidated;
+    private final long misses;
+    private final long bypassed;
+    private final long evicted;
+    private final long invalidated;
+
+    ResponseCacheStats(int size, int maxEntries, long hits, long revalidated, long misses, long bypassed,
+                       long evicted, long invalidated) {
+        this.size = size;
+        this.maxEntries = maxEntries;
+        this.hits = hits;
+        this.revalidated = revalidated;
+        this.misses = misses;
+        this.bypassed = bypassed;
+        this.evicted = evicted;
+        this.invalidated = invalidated;
+    }
+
+    /** @return responses currently cached */
+    public int getSize() { return size; }
+
+    /** @return the maximum number of cached responses */
+    public int getMaxEntries() { return maxEntries; }
+
+    /** @return requests answered from a fresh entry without the network */
+    public long getHits() { return hits; }
+
+    /** @return stale entries the server confirmed with {@code 304 Not Modified} */
+    public long getRevalidated() { return revalidated; }
+
+    /** @return requests with no usable entry */
+    public long getMisses() { return misses; }
+
+    /** @return requests sent to the server inside {@link ResponseCache#bypass(java.util.function.Supplier)} */
+    public long getBypassed() { return bypassed; }
+
+    /** @return entries removed because the cache was full or they expired without validators */
+    public long getEvicted() { return evicted; }
+
+    /** @return entries removed because their resource was created, updated or deleted */
+    public long getInvalidated() { return invalidated; }
+
+    @Override
+    public String toString() {
+        return "ResponseCacheStats[size=" + size
+            + ", maxEntries=" + maxEntries
+            + ", hits=" + hits
+            + ", revalidated=" + revalidated
+            + ", misses=" + misses
+            + ", bypassed=" + bypassed
+            + ", evicted=" + evicted
+            + ", invalidated=" + invalidated + "]";
+    }
+}
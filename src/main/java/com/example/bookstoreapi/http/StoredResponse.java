@@ -0,0 +1,98 @@
+package com.example.bookstoreapi.http;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+/**
+ * {@code StoredResponse} is an immutable copy of a response's status, headers and body,
+ * from which a fresh RestAssured {@link Response} can be built any number of times.
+ * Used by the {@link Cassette} and the {@link ResponseCache}.
+ */
+final class StoredResponse {
+
+    private static final byte[] NO_BODY = new byte[0];
+
+    private final int statusCode;
+    private final String statusLine;
+    private final Headers headers;
+    private final byte[] body;
+
+    StoredResponse(int statusCode, String statusLine, Headers headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.statusLine = statusLine;
+        this.headers = headers;
+        this.body = body == null ? NO_BODY : body;
+    }
+
+    /**
+     * Reads the body of a response and copies it.
+     *
+     * @param response the response to copy
+     * @return the stored copy
+     */
+    static StoredResponse of(Response response) {
+        return new StoredResponse(response.statusCode(), response.statusLine(), response.headers(), response.asByteArray());
+    }
+
+    int statusCode() {
+        return statusCode;
+    }
+
+    Headers headers() {
+        return headers;
+    }
+
+    int bodyLength() {
+        return body.length;
+    }
+
+    /**
+     * @return a new {@link Response} with the stored status, headers and body
+     */
+    Response toResponse() {
+        ResponseBuilder builder = new ResponseBuilder()
+            .setStatusCode(statusCode)
+            .setStatusLine(statusLine)
+            .setHeaders(headers)
+            .setBody(body);
+        String contentType = headers.getValue("Content-Type");
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeShort(statusCode);
+        out.writeUTF(statusLine);
+        out.writeShort(headers.size());
+        for (Header header : headers) {
+            out.writeUTF(header.getName());
+            out.writeUTF(header.getValue());
+        }
+        out.writeInt(body.length);
+        out.write(body);
+    }
+
+    static StoredResponse read(DataInput in) throws IOException {
+        int statusCode = in.readUnsignedShort();
+        String statusLine = in.readUTF();
+        int headerCount = in.readUnsignedShort();
+        List<Header> headers = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(new Header(in.readUTF(), in.readUTF()));
+        }
+        int length = in.readInt();
+        byte[] body = length < 0 ? NO_BODY : new byte[length];
+        in.readFully(body);
+        return new StoredResponse(statusCode, statusLine, new Headers(headers), body);
+    }
+}
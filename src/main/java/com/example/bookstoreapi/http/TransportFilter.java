@@ -0,0 +1,95 @@
+package com.example.bookstoreapi.http;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * {@code TransportFilter} is a RestAssured filter that sends requests through an
+ * {@link HttpTransport} instead of RestAssured's own HTTP client.
+ * <p>
+ * The filter runs last and never calls the next filter: it sends the fully built request
+ * (URI with query, headers, serialized body) and answers with the transport's response.
+ * Every other filter - Allure, the {@link ResponseCacheFilter}, the {@link CassetteFilter} -
+ * runs before it, so reporting, caching and recording work the same with every transport.
+ * </p>
+ */
+public final class TransportFilter implements OrderedFilter {
+
+    private final HttpTransport transport;
+
+    /**
+     * @param transport the transport to send requests with
+     */
+    public TransportFilter(HttpTransport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Returns a filter for the transport configured under {@code http.transport}.
+     *
+     * @return the filter, or {@code null} if the transport is {@code restassured}
+     * @throws IllegalArgumentException if the configured transport is unknown
+     */
+    public static TransportFilter fromConfig() {
+        HttpTransport transport = HttpTransport.forName(HttpTransport.configuredName());
+        return transport == null ? null : new TransportFilter(transport);
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (Header header : requestSpec.getHeaders()) {
+            headers.computeIfAbsent(header.getName(), name -> new ArrayList<>(1)).add(header.getValue());
+        }
+        TransportRequest request = new TransportRequest(requestSpec.getMethod(), URI.create(requestSpec.getURI()),
+            headers, bodyOf(requestSpec.getBody()));
+
+        TransportResponse response;
+        try {
+            response = transport.send(request);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to send " + request + " over " + transport.name(), ex);
+        }
+
+        List<Header> responseHeaders = new ArrayList<>();
+        response.getHeaders().forEach((name, values) -> {
+            for (String value : values) {
+                responseHeaders.add(new Header(name, value));
+            }
+        });
+        String statusLine = response.getProtocol() + " " + response.getStatusCode();
+        return new StoredResponse(response.getStatusCode(), statusLine, new Headers(responseHeaders), response.getBody())
+            .toResponse();
+    }
+
+    private static byte[] bodyOf(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
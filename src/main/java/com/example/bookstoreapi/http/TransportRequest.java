@@ -0,0 +1,48 @@
+package com.example.bookstoreapi.http;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code TransportRequest} is a request as handed to an {@link HttpTransport}: fully built,
+ * with the final URI, headers and body.
+ */
+public final class TransportRequest {
+
+    private final String method;
+    private final URI uri;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+
+    /**
+     * @param method  the HTTP method
+     * @param uri     the request URI, including the query string
+     * @param headers the request headers
+     * @param body    the request body, or {@code null} if there is none
+     */
+    public TransportRequest(String method, URI uri, Map<String, List<String>> headers, byte[] body) {
+        this.method = method;
+        this.uri = uri;
+        this.headers = Collections.unmodifiableMap(headers);
+        this.body = body;
+    }
+
+    /** @return the HTTP method */
+    public String getMethod() { return method; }
+
+    /** @return the request URI, including the query string */
+    public URI getUri() { return uri; }
+
+    /** @return the request headers */
+    public Map<String, List<String>> getHeaders() { return headers; }
+
+    /** @return the request body, or {@code null} if there is none */
+    public byte[] getBody() { return body; }
+
+    @Override
+    public String toString() {
+        return "TransportRequest[" + method + " " + uri + "]";
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.bookstoreapi.http;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code TransportResponse} is a response read completely by an {@link HttpTransport}.
+ */
+public final class TransportResponse {
+
+    private final String protocol;
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+
+    /**
+     * @param protocol   the protocol the response came over, e.g. {@code HTTP/1.1} or {@code HTTP/2}
+     * @param statusCode the status code
+     * @param headers    the response headers
+     * @param body       the response body, empty if there was none
+     */
+    public TransportResponse(String protocol, int statusCode, Map<String, List<String>> headers, byte[] body) {
+        this.protocol = protocol;
+        this.statusCode = statusCode;
+        this.headers = Collections.unmodifiableMap(headers);
+        this.body = body;
+    }
+
+    /** @return the protocol the response came over, e.g. {@code HTTP/1.1} or {@code HTTP/2} */
+    public String getProtocol() { return protocol; }
+
+    /** @return the status code */
+    public int getStatusCode() { return statusCode; }
+
+    /** @return the response headers */
+    public Map<String, List<String>> getHeaders() { return headers; }
+
+    /** @return the response body, empty if there was none */
+    public byte[] getBody() { return body; }
+
+    @Override
+    public String toString() {
+        return "TransportResponse[" + protocol + " " + statusCode + ", " + body.length + " bytes]";
+    }
+}
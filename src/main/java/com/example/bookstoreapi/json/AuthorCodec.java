@@ -0,0 +1,111 @@
+package com.example.bookstoreapi.json;
+
+import java.io.IOException;
+
+import com.example.bookstoreapi.model.Author;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * {@code AuthorCodec} writes and reads the JSON of an {@link Author} without reflection.
+ * <p>
+ * {@link #write(Author, JsonWriter)} produces the same bytes RestAssured sends for the POJO,
+ * {@code bookId} included. {@link #read(JsonParser)} takes the book from {@code idBook}, as the
+ * API returns it, or else from {@code bookId}; like {@link BookCodec} it matches the fields in the
+ * API's order against pre-encoded names first.
+ * </p>
+ */
+public final class AuthorCodec {
+
+    private static final byte[] ID = JsonWriter.ascii("{\"id\":");
+    private static final byte[] BOOK_ID = JsonWriter.ascii(",\"bookId\":");
+    private static final byte[] FIRST_NAME = JsonWriter.ascii(",\"firstName\":");
+    private static final byte[] LAST_NAME = JsonWriter.ascii(",\"lastName\":");
+
+    /** In the order of the API's responses; {@code bookId} is only accepted for the model's own JSON. */
+    private static final SerializableString[] FIELDS = {
+        new SerializedString("id"), new SerializedString("idBook"), new SerializedString("firstName"),
+        new SerializedString("lastName"), new SerializedString("bookId")
+    };
+
+    private AuthorCodec() {
+    }
+
+    /**
+     * Appends the JSON of an author.
+     *
+     * @param author the author
+     * @param out    the writer to append to
+     */
+    public static void write(Author author, JsonWriter out) {
+        out.raw(ID);
+        out.number(author.getId());
+        out.raw(BOOK_ID);
+        out.number(author.getBookId());
+        out.raw(FIRST_NAME);
+        out.string(author.getFirstName());
+        out.raw(LAST_NAME);
+        out.string(author.getLastName());
+        out.raw('}');
+    }
+
+    /**
+     * @param author the author
+     * @return the JSON of the author, encoded in the calling thread's {@link JsonWriter}
+     */
+    public static byte[] encode(Author author) {
+        JsonWriter out = JsonWriter.local();
+        write(author, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads the author object at the parser's current token field by field. Unknown fields are skipped.
+     *
+     * @return the author, or {@code null} for a JSON {@code null}
+     */
+    static Author read(JsonParser parser) throws IOException {
+        if (!JsonMapper.startObject(parser)) {
+            return null;
+        }
+        Integer id = null;
+        Integer idBook = null;
+        Integer bookId = null;
+        boolean hasIdBook = false;
+        String firstName = null;
+        String lastName = null;
+        int next = 0;
+        while (true) {
+            int field;
+            if (parser.nextFieldName(FIELDS[next])) {
+                field = next;
+            } else if (parser.currentToken() == JsonToken.FIELD_NAME) {
+                field = indexOf(parser.getCurrentName());
+            } else {
+                break;
+            }
+            parser.nextToken();
+            switch (field) {
+                case 0: id = JsonMapper.pullInt(parser); break;
+                case 1: idBook = JsonMapper.pullInt(parser); hasIdBook = true; break;
+                case 2: firstName = JsonMapper.pullText(parser); break;
+                case 3: lastName = JsonMapper.pullText(parser); break;
+                case 4: bookId = JsonMapper.pullInt(parser); break;
+                default: parser.skipChildren();
+            }
+            next = field < 0 ? next : (field + 1) % FIELDS.length;
+        }
+        return new Author(id, hasIdBook ? idBook : bookId, firstName, lastName);
+    }
+
+    private static int indexOf(String name) {
+        for (int i = 0; i < FIELDS.length; i++) {
+            if (FIELDS[i].getValue().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.bookstoreapi.json;
+
+import java.io.IOException;
+
+import com.example.bookstoreapi.model.Book;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * {@code BookCodec} writes and reads the JSON of a {@link Book} without reflection.
+ * <p>
+ * {@link #write(Book, JsonWriter)} produces the same bytes RestAssured sends for the POJO
+ * (all six fields in declaration order, {@code null}s included), from field names encoded once.
+ * {@link #read(JsonParser)} pulls the fields off a streaming parser; it first tries the fields in
+ * the order the API returns them, which the parser can match against pre-encoded names without
+ * creating a {@code String}, and falls back to a lookup by name for any other order.
+ * </p>
+ */
+public final class BookCodec {
+
+    private static final byte[] ID = JsonWriter.ascii("{\"id\":");
+    private static final byte[] TITLE = JsonWriter.ascii(",\"title\":");
+    private static final byte[] DESCRIPTION = JsonWriter.ascii(",\"description\":");
+    private static final byte[] PAGE_COUNT = JsonWriter.ascii(",\"pageCount\":");
+    private static final byte[] EXCERPT = JsonWriter.ascii(",\"excerpt\":");
+    private static final byte[] PUBLISH_DATE = JsonWriter.ascii(",\"publishDate\":");
+
+    private static final SerializableString[] FIELDS = {
+        new SerializedString("id"), new SerializedString("title"), new SerializedString("description"),
+        new SerializedString("pageCount"), new SerializedString("excerpt"), new SerializedString("publishDate")
+    };
+
+    private BookCodec() {
+    }
+
+    /**
+     * Appends the JSON of a book.
+     *
+     * @param book the book
+     * @param out  the writer to append to
+     */
+    public static void write(Book book, JsonWriter out) {
+        out.raw(ID);
+        out.number(book.getId());
+        out.raw(TITLE);
+        out.string(book.getTitle());
+        out.raw(DESCRIPTION);
+        out.string(book.getDescription());
+        out.raw(PAGE_COUNT);
+        out.number(book.getPageCount());
+        out.raw(EXCERPT);
+        out.string(book.getExcerpt());
+        out.raw(PUBLISH_DATE);
+        out.string(book.getPublishDate());
+        out.raw('}');
+    }
+
+    /**
+     * @param book the book
+     * @return the JSON of the book, encoded in the calling thread's {@link JsonWriter}
+     */
+    public static byte[] encode(Book book) {
+        JsonWriter out = JsonWriter.local();
+        write(book, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads the book object at the parser's current token field by field. Unknown fields are skipped.
+     *
+     * @return the book, or {@code null} for a JSON {@code null}
+     */
+    static Book read(JsonParser parser) throws IOException {
+        if (!JsonMapper.startObject(parser)) {
+            return null;
+        }
+        Integer id = null;
+        String title = null;
+        String description = null;
+        Integer pageCount = null;
+        String excerpt = null;
+        String publishDate = null;
+        int next = 0;
+        while (true) {
+            int field;
+            if (parser.nextFieldName(FIELDS[next])) {
+                field = next;
+            } else if (parser.currentToken() == JsonToken.FIELD_NAME) {
+                field = indexOf(parser.getCurrentName());
+            } else {
+                break;
+            }
+            parser.nextToken();
+            switch (field) {
+                case 0: id = JsonMapper.pullInt(parser); break;
+                case 1: title = JsonMapper.pullText(parser); break;
+                case 2: description = JsonMapper.pullText(parser); break;
+                case 3: pageCount = JsonMapper.pullInt(parser); break;
+                case 4: excerpt = JsonMapper.pullText(parser); break;
+                case 5: publishDate = JsonMapper.pullText(parser); break;
+                default: parser.skipChildren();
+            }
+            next = field < 0 ? next : (field + 1) % FIELDS.length;
+        }
+        return new Book(id, title, description, pageCount, excerpt, publishDate);
+    }
+
+    private static int indexOf(String name) {
+        for (int i = 0; i < FIELDS.length; i++) {
+            if (FIELDS[i].getValue().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
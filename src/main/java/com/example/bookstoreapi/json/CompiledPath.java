@@ -0,0 +1,159 @@
+package com.example.bookstoreapi.json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code CompiledPath} is a field path such as {@code id}, {@code errors.id[0]} or
+ * {@code [-1].title}, parsed once into steps and evaluated against a {@link JsonView}.
+ * <p>
+ * It covers the subset of RestAssured's GPath the tests use, with the same results:
+ * </p>
+ * <ul>
+ *   <li>{@code a.b} - field {@code b} of object {@code a}; a missing field is {@code null}</li>
+ *   <li>{@code a[i]} - element {@code i} of array {@code a}, counted from the end if negative;
+ *       out of range is {@code null}</li>
+ *   <li>a field of an array collects that field of every non-null element, so {@code idBook}
+ *       on a list of authors is the list of their book IDs; nested arrays give nested lists</li>
+ * </ul>
+ * Expressions with anything else (closures, method calls, wildcards) are rejected; those still
+ * need RestAssured's GPath. {@link #compile(String)} caches every expression it parsed, since
+ * the expressions are constants in the code.
+ */
+public final class CompiledPath {
+
+    private static final Map<String, CompiledPath> CACHE = new ConcurrentHashMap<>();
+
+    private final String expression;
+    /** A {@code String} is a field name, an {@code Integer} an array index. */
+    private final Object[] steps;
+
+    private CompiledPath(String expression, Object[] steps) {
+        this.expression = expression;
+        this.steps = steps;
+    }
+
+    /**
+     * Returns the compiled form of an expression, parsing it on first use.
+     *
+     * @param expression the path, e.g. {@code errors.id[0]}
+     * @return the compiled path
+     * @throws IllegalArgumentException if the expression is not a supported path
+     */
+    public static CompiledPath compile(String expression) {
+        CompiledPath path = CACHE.get(expression);
+        if (path == null) {
+            path = CACHE.computeIfAbsent(expression, key -> new CompiledPath(key, parse(key)));
+        }
+        return path;
+    }
+
+    /**
+     * @param root the parsed document, as built by {@link JsonView}
+     * @return the value at this path: a {@code Map}, {@code List}, {@code String}, number,
+     *         {@code Boolean} or {@code null}
+     */
+    Object evaluate(Object root) {
+        Object value = root;
+        for (Object step : steps) {
+            if (step instanceof String) {
+                value = field(value, (String) step);
+            } else {
+                value = index(value, (Integer) step);
+            }
+        }
+        return value;
+    }
+
+    /** @return the expression this path was compiled from */
+    public String getExpression() { return expression; }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private static Object field(Object value, String name) {
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).get(name);
+        }
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            List<Object> collected = new ArrayList<>(list.size());
+            for (Object element : list) {
+                if (element != null) {
+                    collected.add(field(element, name));
+                }
+            }
+            return Collections.unmodifiableList(collected);
+        }
+        return null;
+    }
+
+    private static Object index(Object value, int index) {
+        if (!(value instanceof List)) {
+            return null;
+        }
+        List<?> list = (List<?>) value;
+        int at = index < 0 ? list.size() + index : index;
+        return at < 0 || at >= list.size() ? null : list.get(at);
+    }
+
+    private static Object[] parse(String expression) {
+        List<Object> steps = new ArrayList<>();
+        int length = expression.length();
+        int i = 0;
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (c == '[') {
+                int end = expression.indexOf(']', i);
+                if (end < 0) {
+                    throw unsupported(expression, "unclosed '['");
+                }
+                try {
+                    steps.add(Integer.parseInt(expression.substring(i + 1, end).trim()));
+                } catch (NumberFormatException ex) {
+                    throw unsupported(expression, "index must be an integer");
+                }
+                i = end + 1;
+                if (i < length && expression.charAt(i) == '.') {
+                    i++;
+                    if (i == length) {
+                        throw unsupported(expression, "ends with '.'");
+                    }
+                }
+            } else {
+                int end = i;
+                while (end < length && expression.charAt(end) != '.' && expression.charAt(end) != '[') {
+                    char n = expression.charAt(end);
+                    if (!Character.isLetterOrDigit(n) && n != '_' && n != '$' && n != '-') {
+                        throw unsupported(expression, "'" + n + "' in a field name");
+                    }
+                    end++;
+                }
+                if (end == i) {
+                    throw unsupported(expression, "empty field name");
+                }
+                steps.add(expression.substring(i, end));
+                i = end;
+                if (i < length && expression.charAt(i) == '.') {
+                    i++;
+                    if (i == length) {
+                        throw unsupported(expression, "ends with '.'");
+                    }
+                }
+            }
+        }
+        if (steps.isEmpty()) {
+            throw unsupported(expression, "empty path");
+        }
+        return steps.toArray();
+    }
+
+    private static IllegalArgumentException unsupported(String expression, String reason) {
+        return new IllegalArgumentException("Not a supported JSON path (" + reason + "): " + expression);
+    }
+}
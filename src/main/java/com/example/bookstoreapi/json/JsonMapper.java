@@ -0,0 +1,169 @@
+package com.example.bookstoreapi.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.example.bookstoreapi.model.Author;
+import com.example.bookstoreapi.model.Book;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@code JsonMapper} converts {@link Book} and {@link Author} objects to and from JSON
+ * for the clients that do not go through RestAssured.
+ * <p>
+ * Books and authors are written and read by the reflection-free {@link BookCodec} and
+ * {@link AuthorCodec}; any other object is serialized by Jackson. Serialization produces the
+ * same JSON RestAssured sends for the POJOs. Responses are read with a streaming parser, field
+ * by field, because the models have no default constructors, and because the API returns an
+ * author's book as {@code idBook} while the model calls it {@code bookId}.
+ * </p>
+ */
+public final class JsonMapper {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private JsonMapper() {
+    }
+
+    /**
+     * Serializes an object (POJO or map) to JSON.
+     *
+     * @param value the object to serialize
+     * @return the JSON bytes
+     */
+    public static byte[] toJson(Object value) {
+        if (value instanceof Book) {
+            return BookCodec.encode((Book) value);
+        }
+        if (value instanceof Author) {
+            return AuthorCodec.encode((Author) value);
+        }
+        try {
+            return MAPPER.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * @param json a JSON object
+     * @return the {@link Book} read from it
+     */
+    public static Book readBook(String json) {
+        return readOne(json, BookCodec::read);
+    }
+
+    /**
+     * @param json a JSON array of books
+     * @return the {@link Book}s read from it
+     */
+    public static List<Book> readBooks(String json) {
+        return readAll(json, BookCodec::read);
+    }
+
+    /**
+     * @param json a JSON object
+     * @return the {@link Author} read from it
+     */
+    public static Author readAuthor(String json) {
+        return readOne(json, AuthorCodec::read);
+    }
+
+    /**
+     * @param json a JSON array of authors
+     * @return the {@link Author}s read from it
+     */
+    public static List<Author> readAuthors(String json) {
+        return readAll(json, AuthorCodec::read);
+    }
+
+    /**
+     * Reads a JSON array of books one book at a time; see {@link RecordStream}.
+     *
+     * @param json the response body; closed when the stream is closed
+     * @return the books of the array
+     */
+    public static RecordStream<Book> streamBooks(InputStream json) {
+        return new RecordStream<>(createParser(json), BookCodec::read);
+    }
+
+    /**
+     * Reads a JSON array of authors one author at a time; see {@link RecordStream}.
+     *
+     * @param json the response body; closed when the stream is closed
+     * @return the authors of the array
+     */
+    public static RecordStream<Author> streamAuthors(InputStream json) {
+        return new RecordStream<>(createParser(json), AuthorCodec::read);
+    }
+
+    private static <T> T readOne(String json, RecordStream.RecordReader<T> reader) {
+        try (JsonParser parser = MAPPER.getFactory().createParser(json)) {
+            parser.nextToken();
+            return reader.read(parser);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static <T> List<T> readAll(String json, RecordStream.RecordReader<T> reader) {
+        try (JsonParser parser = MAPPER.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return Collections.emptyList();
+            }
+            List<T> records = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                records.add(reader.read(parser));
+            }
+            return records;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static JsonParser createParser(InputStream json) {
+        try {
+            return MAPPER.getFactory().createParser(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static boolean startObject(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            return true;
+        }
+        if (parser.currentToken() != JsonToken.VALUE_NULL) {
+            throw new JsonParseException(parser, "Expected a JSON object but found " + parser.currentToken());
+        }
+        return false;
+    }
+
+    static Integer pullInt(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        int value = parser.getValueAsInt();
+        parser.skipChildren();
+        return value;
+    }
+
+    static String pullText(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        String value = parser.getValueAsString();
+        if (value == null) {
+            value = parser.readValueAsTree().toString();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.bookstoreapi.json;
+
+import java.io.UncheckedIOException;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * {@code JsonMatchers} asserts fields of a response body through a {@link JsonView} instead of
+ * RestAssured's GPath.
+ * <p>
+ * {@code .body(at("title", equalTo(title)))} passes and fails exactly where
+ * {@code .body("title", equalTo(title))} does. RestAssured hands every body matcher its own copy
+ * of the body, so the view of the last body each thread parsed is kept, and the other fields
+ * asserted on the same response reuse it instead of parsing again. The copies are equal but never
+ * the same instance, so reuse is decided by comparing the text, which costs a fraction of parsing
+ * it. Call {@link #clear()} when a test finishes so that the view is not kept any longer.
+ * </p>
+ */
+public final class JsonMatchers {
+
+    private static final ThreadLocal<JsonView> LAST = new ThreadLocal<>();
+
+    private JsonMatchers() {
+    }
+
+    /**
+     * @param path    a path as accepted by {@link CompiledPath#compile(String)}
+     * @param matcher the matcher for the value at the path
+     * @return a matcher of the response body
+     * @throws IllegalArgumentException if the path is not supported
+     */
+    public static Matcher<String> at(String path, Matcher<?> matcher) {
+        return new PathMatcher(CompiledPath.compile(path), matcher);
+    }
+
+    /**
+     * Drops the view this thread kept of the last body it asserted on.
+     */
+    public static void clear() {
+        LAST.remove();
+    }
+
+    /**
+     * @param json a JSON document
+     * @return its view, parsed now or reused if this thread parsed the same text last
+     */
+    static JsonView view(String json) {
+        JsonView view = LAST.get();
+        if (view == null || !json.equals(view.source())) {
+            view = JsonView.parse(json);
+            LAST.set(view);
+        }
+        return view;
+    }
+
+    private static final class PathMatcher extends TypeSafeDiagnosingMatcher<String> {
+
+        private final CompiledPath path;
+        private final Matcher<?> matcher;
+
+        PathMatcher(CompiledPath path, Matcher<?> matcher) {
+            this.path = path;
+            this.matcher = matcher;
+        }
+
+        @Override
+        protected boolean matchesSafely(String body, Description mismatch) {
+            Object value;
+            try {
+                value = view(body).get(path);
+            } catch (UncheckedIOException ex) {
+                mismatch.appendText("body is not JSON: ").appendText(ex.getCause().getMessage());
+                return false;
+            }
+            if (matcher.matches(value)) {
+                return true;
+            }
+            mismatch.appendText("JSON path ").appendValue(path.getExpression()).appendText(" ");
+            matcher.describeMismatch(value, mismatch);
+            return false;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("JSON path ").appendValue(path.getExpression()).appendText(" ")
+                .appendDescriptionOf(matcher);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.bookstoreapi.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import io.restassured.response.ResponseBodyData;
+
+/**
+ * {@code JsonView} is a response body parsed once, from which any number of fields are read
+ * by {@link CompiledPath}.
+ * <p>
+ * {@code response.then().body("title", ...)} and {@code extract().path("id")} hand the body to
+ * RestAssured's GPath, which parses it and evaluates the expression as a Groovy script for
+ * every field asserted. A view parses the body with a streaming parser into plain maps and
+ * lists, and each field after that is a few map lookups:
+ * </p>
+ * <pre>
+ * JsonView body = JsonView.of(response);
+ * int id = body.intAt("id");
+ * String title = body.stringAt("title");
+ * </pre>
+ * Values are typed as RestAssured's {@code JsonPath} types them: whole numbers are
+ * {@code Integer}, {@code Long} or {@code BigInteger}, whichever fits, decimals are
+ * {@code Float}, or {@code Double} if they do not fit a float. {@link JsonMatchers} asserts
+ * fields through a view. A view is immutable and can be shared between threads.
+ */
+public final class JsonView {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final Object root;
+    private final String source;
+
+    private JsonView(Object root, String source) {
+        this.root = root;
+        this.source = source;
+    }
+
+    /**
+     * @param response a RestAssured response or extracted response
+     * @return the view of its body
+     * @throws UncheckedIOException if the body is not JSON
+     */
+    public static JsonView of(ResponseBodyData response) {
+        return parse(response.asByteArray());
+    }
+
+    /**
+     * @param json a JSON document as UTF-8; empty for no document
+     * @return the view of the document
+     * @throws UncheckedIOException if the bytes are not JSON
+     */
+    public static JsonView parse(byte[] json) {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            return new JsonView(read(parser), null);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * @param json a JSON document; empty for no document
+     * @return the view of the document
+     * @throws UncheckedIOException if the text is not JSON
+     */
+    public static JsonView parse(String json) {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            return new JsonView(read(parser), json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /** @return the document: a {@code Map}, {@code List}, scalar, or {@code null} if empty */
+    public Object root() { return root; }
+
+    /** @return the text this view was parsed from, or {@code null} if it was parsed from bytes */
+    String source() { return source; }
+
+    /**
+     * @param path a path as accepted by {@link CompiledPath#compile(String)}
+     * @return the value at the path, or {@code null} if there is none
+     */
+    public Object get(String path) {
+        return CompiledPath.compile(path).evaluate(root);
+    }
+
+    /**
+     * @param path a compiled path
+     * @return the value at the path, or {@code null} if there is none
+     */
+    public Object get(CompiledPath path) {
+        return path.evaluate(root);
+    }
+
+    /**
+     * @param path a path to a number, or to a string holding one
+     * @return the number as an {@code int}
+     * @throws IllegalArgumentException if there is no value at the path or it is not a number
+     */
+    public int intAt(String path) {
+        Object value = get(path);
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        try {
+            return Integer.parseInt(required(path, value).toString());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("JSON path '" + path + "' is not a number: " + value);
+        }
+    }
+
+    /**
+     * @param path a path to a number, or to a string holding one
+     * @return the number as a {@code long}
+     * @throws IllegalArgumentException if there is no value at the path or it is not a number
+     */
+    public long longAt(String path) {
+        Object value = get(path);
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        try {
+            return Long.parseLong(required(path, value).toString());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("JSON path '" + path + "' is not a number: " + value);
+        }
+    }
+
+    /**
+     * @param path a path to a boolean, or to a string holding one
+     * @return the boolean
+     * @throws IllegalArgumentException if there is no value at the path
+     */
+    public boolean booleanAt(String path) {
+        Object value = required(path, get(path));
+        return value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(value.toString());
+    }
+
+    /**
+     * @param path a path to any value
+     * @return the value as text, or {@code null} if there is none
+     */
+    public String stringAt(String path) {
+        Object value = get(path);
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * @param path a path to an array, or to a field of the elements of an array
+     * @param <T>  the element type
+     * @return the unmodifiable list, or {@code null} if there is none
+     * @throws IllegalArgumentException if the value at the path is not an array
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> listAt(String path) {
+        Object value = get(path);
+        if (value != null && !(value instanceof List)) {
+            throw new IllegalArgumentException("JSON path '" + path + "' is not an array: " + value);
+        }
+        return (List<T>) value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(root);
+    }
+
+    private static Object required(String path, Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("JSON path '" + path + "' has no value");
+        }
+        return value;
+    }
+
+    private static Object read(JsonParser parser) throws IOException {
+        if (parser.nextToken() == null) {
+            return null;
+        }
+        Object value = readValue(parser);
+        if (parser.nextToken() != null) {
+            throw new JsonParseException(parser, "Unexpected content after the JSON document: " + parser.currentToken());
+        }
+        return value;
+    }
+
+    private static Object readValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+                Map<String, Object> object = new LinkedHashMap<>();
+                for (String name = parser.nextFieldName(); name != null; name = parser.nextFieldName()) {
+                    parser.nextToken();
+                    object.put(name, readValue(parser));
+                }
+                return Collections.unmodifiableMap(object);
+            case START_ARRAY:
+                List<Object> array = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    array.add(readValue(parser));
+                }
+                return Collections.unmodifiableList(array);
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                // INT, LONG or BIG_INTEGER, whichever is the smallest that holds the value
+                return parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT:
+                BigDecimal number = parser.getDecimalValue();
+                float narrow = number.floatValue();
+                return Float.isInfinite(narrow) ? (Object) number.doubleValue() : (Object) narrow;
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new JsonParseException(parser, "Unexpected token: " + parser.currentToken());
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.bookstoreapi.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@code JsonWriter} is a reusable byte buffer that JSON is written into as UTF-8, with the
+ * same escaping as Jackson.
+ * <p>
+ * It is the output of the {@link BookCodec} and {@link AuthorCodec}: field names are copied in
+ * as pre-encoded bytes, numbers and strings are encoded in place, and nothing is allocated
+ * once the buffer has grown to the size of the largest document. {@link #reset()} empties it
+ * for the next document. A writer belongs to one thread at a time; {@link #local()} hands out
+ * one per thread.
+ * </p>
+ */
+public final class JsonWriter {
+
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] MIN_INT = ascii(Integer.toString(Integer.MIN_VALUE));
+
+    private static final ThreadLocal<JsonWriter> LOCAL = ThreadLocal.withInitial(() -> new JsonWriter(512));
+
+    private byte[] buf;
+    private int count;
+
+    /**
+     * @param capacity the initial buffer size in bytes
+     */
+    public JsonWriter(int capacity) {
+        buf = new byte[capacity];
+    }
+
+    /**
+     * @return the calling thread's writer, emptied
+     */
+    public static JsonWriter local() {
+        JsonWriter writer = LOCAL.get();
+        writer.reset();
+        return writer;
+    }
+
+    /**
+     * Encodes a pre-computed token, e.g. a field name, once up front.
+     *
+     * @param text ASCII text
+     * @return its bytes
+     */
+    static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /** Empties the buffer, keeping its capacity. */
+    public void reset() {
+        count = 0;
+    }
+
+    /** @return the number of bytes written */
+    public int size() { return count; }
+
+    /** @return a copy of the bytes written */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    /** @return the bytes written, without copying; valid until the writer is written to again */
+    public ByteBuffer contents() {
+        return ByteBuffer.wrap(buf, 0, count);
+    }
+
+    /**
+     * @param out the stream to copy the bytes written to
+     * @throws IOException if the stream fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buf, 0, count);
+    }
+
+    /** Appends pre-encoded bytes, e.g. a field name with its quotes and colon. */
+    void raw(byte[] bytes) {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buf, count, bytes.length);
+        count += bytes.length;
+    }
+
+    /** Appends one ASCII character. */
+    void raw(char c) {
+        ensure(1);
+        buf[count++] = (byte) c;
+    }
+
+    /** Appends a number, or {@code null}. */
+    void number(Integer value) {
+        if (value == null) {
+            raw(NULL);
+            return;
+        }
+        int v = value;
+        if (v == Integer.MIN_VALUE) {
+            raw(MIN_INT);
+            return;
+        }
+        ensure(11);
+        if (v < 0) {
+            buf[count++] = '-';
+            v = -v;
+        }
+        int digits = 1;
+        for (int rest = v / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = count + digits - 1; i >= count; i--) {
+            buf[i] = (byte) ('0' + v % 10);
+            v /= 10;
+        }
+        count += digits;
+    }
+
+    /**
+     * Appends a quoted string, or {@code null}.
+     *
+     * @throws IllegalArgumentException if the string contains an unpaired surrogate
+     */
+    void string(String value) {
+        if (value == null) {
+            raw(NULL);
+            return;
+        }
+        int length = value.length();
+        // worst case: every char a 6-byte \\u escape
+        ensure(2 + 6 * length);
+        byte[] b = buf;
+        int n = count;
+        b[n++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    b[n++] = (byte) c;
+                } else {
+                    n = escape(b, n, c);
+                }
+            } else if (c < 0x800) {
+                b[n++] = (byte) (0xC0 | (c >> 6));
+                b[n++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (!Character.isHighSurrogate(c) || i + 1 == length || !Character.isLowSurrogate(value.charAt(i + 1))) {
+                    throw new IllegalArgumentException("Unpaired surrogate at index " + i + " of a JSON string");
+                }
+                int cp = Character.toCodePoint(c, value.charAt(++i));
+                b[n++] = (byte) (0xF0 | (cp >> 18));
+                b[n++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                b[n++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                b[n++] = (byte) (0x80 | (cp & 0x3F));
+            } else {
+                b[n++] = (byte) (0xE0 | (c >> 12));
+                b[n++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                b[n++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        b[n++] = '"';
+        count = n;
+    }
+
+    private static int escape(byte[] b, int n, char c) {
+        b[n++] = '\\';
+        switch (c) {
+            case '"': b[n++] = '"'; break;
+            case '\\': b[n++] = '\\'; break;
+            case '\b': b[n++] = 'b'; break;
+            case '\f': b[n++] = 'f'; break;
+            case '\n': b[n++] = 'n'; break;
+            case '\r': b[n++] = 'r'; break;
+            case '\t': b[n++] = 't'; break;
+            default:
+                b[n++] = 'u';
+                b[n++] = '0';
+                b[n++] = '0';
+                b[n++] = HEX[c >> 4];
+                b[n++] = HEX[c & 0xF];
+        }
+        return n;
+    }
+
+    private void ensure(int extra) {
+        if (count + extra > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(count + extra, buf.length * 2));
+        }
+    }
+}
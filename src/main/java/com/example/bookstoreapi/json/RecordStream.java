@@ -0,0 +1,232 @@
+package com.example.bookstoreapi.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * {@code RecordStream} reads the records of a JSON array one at a time from an input stream.
+ * <p>
+ * The array is consumed with a pull parser: only the current record is held in memory, so
+ * a list response of any size is read in constant memory, and nothing is ever built for the
+ * whole document. {@link #count()} does not even map the records; it skips over them.
+ * Create one with {@link JsonMapper#streamBooks(java.io.InputStream)} or
+ * {@link JsonMapper#streamAuthors(java.io.InputStream)}.
+ * </p>
+ * <p>
+ * A stream can be consumed once. The helpers ({@link #count()}, {@link #allMatch(Predicate)},
+ * etc.) consume what is left and close it; when iterating by hand, close it with
+ * try-with-resources. Malformed JSON fails with an {@link UncheckedIOException}.
+ * </p>
+ *
+ * @param <T> the record type
+ */
+public final class RecordStream<T> implements Iterator<T>, Closeable {
+
+    /** Reads one record; the parser is positioned on the token that starts it. */
+    @FunctionalInterface
+    interface RecordReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    private final JsonParser parser;
+    private final RecordReader<T> reader;
+    private boolean started;
+    private boolean pending;
+    private boolean done;
+
+    /** Nothing is read until the first record is asked for, so creating a stream never blocks. */
+    RecordStream(JsonParser parser, RecordReader<T> reader) {
+        this.parser = parser;
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pending) {
+            return true;
+        }
+        if (done) {
+            return false;
+        }
+        try {
+            if (!started) {
+                started = true;
+                JsonToken first = parser.nextToken();
+                if (first != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected a JSON array but found " + first);
+                }
+            }
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                close();
+                return false;
+            }
+            pending = true;
+            return true;
+        } catch (IOException ex) {
+            closeQuietly();
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        pending = false;
+        try {
+            return reader.read(parser);
+        } catch (IOException ex) {
+            closeQuietly();
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void skip() {
+        pending = false;
+        try {
+            parser.skipChildren();
+        } catch (IOException ex) {
+            closeQuietly();
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Counts the remaining records without mapping them.
+     *
+     * @return the number of remaining records
+     */
+    public long count() {
+        long count = 0;
+        while (hasNext()) {
+            skip();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Counts the remaining records that match a predicate.
+     *
+     * @param predicate the condition to test each record with
+     * @return the number of matching records
+     */
+    public long count(Predicate<? super T> predicate) {
+        try {
+            long count = 0;
+            while (hasNext()) {
+                if (predicate.test(next())) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    /**
+     * Tests the remaining records, stopping at the first one that does not match.
+     *
+     * @param predicate the condition every record must meet
+     * @return {@code true} if every remaining record matches (or there are none)
+     */
+    public boolean allMatch(Predicate<? super T> predicate) {
+        try {
+            while (hasNext()) {
+                if (!predicate.test(next())) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    /**
+     * Tests the remaining records, stopping at the first one that matches.
+     *
+     * @param predicate the condition to look for
+     * @return {@code true} if any remaining record matches
+     */
+    public boolean anyMatch(Predicate<? super T> predicate) {
+        try {
+            while (hasNext()) {
+                if (predicate.test(next())) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    /**
+     * Reads up to the first record that matches, then closes the stream.
+     *
+     * @param predicate the condition to look for
+     * @return the first matching record, or empty if none matches (or it is a JSON {@code null})
+     */
+    public Optional<T> findFirst(Predicate<? super T> predicate) {
+        try {
+            while (hasNext()) {
+                T record = next();
+                if (predicate.test(record)) {
+                    return Optional.ofNullable(record);
+                }
+            }
+            return Optional.empty();
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    /**
+     * Adapts the remaining records to a sequential {@link Stream}; closing the stream closes this one.
+     *
+     * @return a stream of the remaining records
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+            .onClose(this::closeQuietly);
+    }
+
+    /**
+     * Closes the parser and the underlying input stream.
+     */
+    @Override
+    public void close() {
+        done = true;
+        pending = false;
+        try {
+            parser.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (UncheckedIOException ignored) {
+            // the stream is being abandoned; the original failure, if any, is reported instead
+        }
+    }
+}
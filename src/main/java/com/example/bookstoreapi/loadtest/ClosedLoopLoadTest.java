@@ -0,0 +1,103 @@
+package com.example.bookstoreapi.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.example.bookstoreapi.api.AuthorsApis;
+import com.example.bookstoreapi.api.BooksApis;
+import com.example.bookstoreapi.data.DataRandom;
+
+import io.restassured.response.Response;
+
+/**
+ * {@code ClosedLoopLoadTest} drives the Books and Authors endpoints with a fixed number
+ * of concurrent virtual users.
+ * <p>
+ * Each user sends a request, waits for the response, records its latency and status,
+ * and immediately sends the next one, cycling through the configured operations. The
+ * run ends when the duration has elapsed or every user has completed its iterations.
+ * </p>
+ * Because a user only sends when its previous request has completed, the offered load
+ * drops when the server slows down; use {@link OpenLoopLoadTest} to measure latency at
+ * a fixed arrival rate.
+ */
+public class ClosedLoopLoadTest {
+
+    private final BooksApis books;
+    private final AuthorsApis authors;
+    private final LoadTestSettings settings;
+
+    /**
+     * @param books    the Books client shared by all users
+     * @param authors  the Authors client shared by all users
+     * @param settings the run settings
+     */
+    public ClosedLoopLoadTest(BooksApis books, AuthorsApis authors, LoadTestSettings settings) {
+        this.books = books;
+        this.authors = authors;
+        this.settings = settings;
+    }
+
+    /**
+     * Runs the load test and blocks until it has finished.
+     *
+     * @return the per-endpoint results
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public LoadTestReport run() throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        LoadTestPayloads payloads = LoadTestPayloads.fromConfig(settings.getOperations());
+        AtomicInteger userIds = new AtomicInteger();
+        ExecutorService users = Executors.newFixedThreadPool(settings.getUsers(), runnable -> {
+            Thread thread = new Thread(runnable, "virtual-user-" + userIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long start = System.nanoTime();
+        long deadline = start + settings.getDuration().toNanos();
+        List<Future<?>> running = new ArrayList<>(settings.getUsers());
+        for (int user = 0; user < settings.getUsers(); user++) {
+            int offset = user;
+            running.add(users.submit(() -> runUser(offset, payloads, deadline, recorder)));
+        }
+        try {
+            for (Future<?> user : running) {
+                user.get();
+            }
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Virtual user failed", ex.getCause());
+        } finally {
+            users.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - start;
+        return new LoadTestReport("Closed-loop load test, " + settings.getUsers() + " users",
+            elapsed, recorder.summarize(elapsed));
+    }
+
+    private void runUser(int offset, LoadTestPayloads payloads, long deadline, LatencyRecorder recorder) {
+        List<Operation> operations = settings.getOperations();
+        long iterations = settings.getIterations();
+        // One data shard per user keeps its generated payloads reproducible from the seed
+        DataRandom.startShard(offset);
+        // Users start at different points of the operation list so that a mix is spread evenly
+        for (long i = 0; (iterations <= 0 || i < iterations) && System.nanoTime() < deadline; i++) {
+            Operation operation = operations.get((int) ((i + offset) % operations.size()));
+            int status = LatencyRecorder.NO_RESPONSE;
+            long sent = System.nanoTime();
+            try {
+                Response response = operation.execute(books, authors, payloads);
+                status = response.getStatusCode();
+            } catch (Exception ex) {
+                // RestAssured rethrows connection failures as undeclared IOExceptions.
+                // Recorded as a request without response; the run goes on
+            }
+            recorder.record(operation.getEndpoint(), System.nanoTime() - sent, status);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.bookstoreapi.loadtest;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * {@code EndpointSummary} holds the results of a load test for one endpoint:
+ * request and error counts, throughput and latency percentiles.
+ * <p>
+ * A request counts as an error when it got no response or a status outside the 2xx range.
+ * Latencies are reported in milliseconds.
+ * </p>
+ */
+public final class EndpointSummary {
+
+    private final String endpoint;
+    private final Histogram histogram;
+    private final Map<Integer, Long> statusCodes;
+    private final long elapsedNanos;
+
+    EndpointSummary(String endpoint, Histogram histogram, Map<Integer, Long> statusCodes, long elapsedNanos) {
+        this.endpoint = endpoint;
+        this.histogram = histogram;
+        this.statusCodes = Collections.unmodifiableMap(statusCodes);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /** @return the endpoint (e.g., {@code GET /api/v1/Books/{id}}) */
+    public String getEndpoint() { return endpoint; }
+
+    /** @return the number of requests sent */
+    public long getCount() { return histogram.getTotalCount(); }
+
+    /** @return the number of requests that got no response or a non-2xx status */
+    public long getErrors() {
+        long errors = 0;
+        for (Map.Entry<Integer, Long> entry : statusCodes.entrySet()) {
+            int status = entry.getKey();
+            if (status < 200 || status >= 300) {
+                errors += entry.getValue();
+            }
+        }
+        return errors;
+    }
+
+    /** @return request counts by status code ({@link LatencyRecorder#NO_RESPONSE} for failed requests) */
+    public Map<Integer, Long> getStatusCodes() { return statusCodes; }
+
+    /** @return requests per second over the whole run */
+    public double getThroughput() {
+        return elapsedNanos <= 0 ? 0 : getCount() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * @param percentile the percentile (e.g., {@code 99.9})
+     * @return the latency at that percentile in milliseconds
+     */
+    public double getPercentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /** @return the mean latency in milliseconds */
+    public double getMeanMillis() { return histogram.getMean() / 1000.0; }
+
+    /** @return the highest latency in milliseconds */
+    public double getMaxMillis() { return histogram.getMaxValue() / 1000.0; }
+
+    /** @return a copy of the latency histogram, in microseconds */
+    public Histogram getHistogram() { return histogram.copy(); }
+}
@@ -0,0 +1,67 @@
+package com.example.bookstoreapi.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * {@code LatencyRecorder} collects latencies and status codes per endpoint while a load test runs.
+ * <p>
+ * Recording is wait-free ({@link Recorder}) so that many virtual users can record
+ * concurrently without contending on a lock. Latencies are kept in microseconds with
+ * three significant digits, up to one hour.
+ * </p>
+ */
+public class LatencyRecorder {
+
+    /** Status recorded when a request failed without a response (e.g., connection refused). */
+    public static final int NO_RESPONSE = -1;
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, EndpointRecorder> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Records one request.
+     *
+     * @param endpoint     the endpoint (e.g., {@code GET /api/v1/Books/{id}})
+     * @param latencyNanos the latency of the request in nanoseconds
+     * @param statusCode   the HTTP status code, or {@link #NO_RESPONSE}
+     */
+    public void record(String endpoint, long latencyNanos, int statusCode) {
+        EndpointRecorder recorder = endpoints.computeIfAbsent(endpoint, key -> new EndpointRecorder());
+        long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(latencyNanos), 0), HIGHEST_TRACKABLE_MICROS);
+        recorder.latencies.recordValue(micros);
+        recorder.statusCodes.computeIfAbsent(statusCode, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Summarizes everything recorded so far.
+     *
+     * @param elapsedNanos the wall-clock duration of the run, used to compute throughput
+     * @return the per-endpoint summaries, ordered by endpoint
+     */
+    public Map<String, EndpointSummary> summarize(long elapsedNanos) {
+        Map<String, EndpointSummary> summaries = new TreeMap<>();
+        endpoints.forEach((endpoint, recorder) -> {
+            Histogram histogram = recorder.latencies.getIntervalHistogram();
+            recorder.total.add(histogram);
+            Map<Integer, Long> statusCodes = new TreeMap<>();
+            recorder.statusCodes.forEach((status, count) -> statusCodes.put(status, count.sum()));
+            summaries.put(endpoint, new EndpointSummary(endpoint, recorder.total.copy(), statusCodes, elapsedNanos));
+        });
+        return summaries;
+    }
+
+    private static final class EndpointRecorder {
+        private final Recorder latencies = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+    }
+}
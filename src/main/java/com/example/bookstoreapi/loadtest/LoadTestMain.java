@@ -0,0 +1,80 @@
+package com.example.bookstoreapi.loadtest;
+
+import com.example.bookstoreapi.api.AuthorsApis;
+import com.example.bookstoreapi.api.BooksApis;
+import com.example.bookstoreapi.config.ConfigReader;
+import com.example.bookstoreapi.config.ConfigSnapshot;
+import com.example.bookstoreapi.data.DataRandom;
+import com.example.bookstoreapi.http.ResponseCache;
+import com.example.bookstoreapi.nio.NioEngineSettings;
+import com.example.bookstoreapi.nio.NioHttpEngine;
+import com.example.bookstoreapi.stub.BookstoreStubServer;
+
+/**
+ * Command-line entry point for load test runs.
+ * <p>
+ * Runs a load test against {@code base.url} (or, with {@code stub.server=true}, against an
+ * in-process {@link BookstoreStubServer}) and prints the report. {@code loadtest.mode}
+ * selects a {@link ClosedLoopLoadTest} ({@code closed}, the default, configured by
+ * {@link LoadTestSettings}) or an {@link OpenLoopLoadTest} ({@code open}, configured by
+ * {@link OpenLoopSettings}), e.g.:
+ * </p>
+ * <pre>
+ * mvn test-compile exec:java@loadtest -Dloadtest.users=20 -Dloadtest.duration.seconds=60 \
+ *     -Dloadtest.operations=GET_BOOK_BY_ID,GET_AUTHOR_BY_BOOK_ID
+ * mvn test-compile exec:java@loadtest -Dloadtest.mode=open -Dloadtest.rate=2000
+ * </pre>
+ * With {@code loadtest.engine=nio} an open-loop run sends its requests through a
+ * {@link NioHttpEngine} (configured by {@link NioEngineSettings}) instead of the API clients.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (Boolean.parseBoolean(ConfigReader.get("stub.server"))) {
+            try (BookstoreStubServer server = BookstoreStubServer.start()) {
+                System.out.println("Running against the in-process stub server at " + server.getBaseUrl());
+                run(server.getBaseUrl());
+            }
+        } else {
+            run(ConfigReader.get("base.url"));
+        }
+    }
+
+    private static void run(String baseUrl) throws InterruptedException {
+        String mode = ConfigReader.get("loadtest.mode");
+        System.out.println(ConfigSnapshot.current());
+        System.out.println("Test data seed: " + DataRandom.seed() + " (rerun with -Ddata.seed=" + DataRandom.seed() + ")");
+        String engine = ConfigReader.get("loadtest.engine");
+        if ("nio".equalsIgnoreCase(engine)) {
+            if (!"open".equalsIgnoreCase(mode)) {
+                throw new IllegalArgumentException("loadtest.engine=nio needs loadtest.mode=open");
+            }
+            try (NioHttpEngine nio = NioHttpEngine.start(baseUrl, NioEngineSettings.fromConfig())) {
+                OpenLoopReport report = new OpenLoopLoadTest(nio, OpenLoopSettings.fromConfig()).run();
+                report.print(System.out);
+                System.out.println(nio.stats());
+            }
+            return;
+        }
+        if (engine != null && !engine.isEmpty() && !"clients".equalsIgnoreCase(engine)) {
+            throw new IllegalArgumentException("loadtest.engine must be 'clients' or 'nio': " + engine);
+        }
+        BooksApis books = new BooksApis(baseUrl);
+        AuthorsApis authors = new AuthorsApis(baseUrl);
+        if ("open".equalsIgnoreCase(mode)) {
+            OpenLoopReport report = new OpenLoopLoadTest(books, authors, OpenLoopSettings.fromConfig()).run();
+            report.print(System.out);
+        } else if (mode == null || mode.isEmpty() || "closed".equalsIgnoreCase(mode)) {
+            LoadTestReport report = new ClosedLoopLoadTest(books, authors, LoadTestSettings.fromConfig()).run();
+            report.print(System.out);
+        } else {
+            throw new IllegalArgumentException("loadtest.mode must be 'closed' or 'open': " + mode);
+        }
+        if (ResponseCache.isEnabled()) {
+            System.out.println(ResponseCache.shared().stats());
+        }
+    }
+}
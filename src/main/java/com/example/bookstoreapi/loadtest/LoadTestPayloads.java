@@ -0,0 +1,83 @@
+package com.example.bookstoreapi.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import com.example.bookstoreapi.config.ConfigReader;
+import com.example.bookstoreapi.data.AuthorDataFactory;
+import com.example.bookstoreapi.data.BookDataFactory;
+import com.example.bookstoreapi.data.PayloadPool;
+
+/**
+ * {@code LoadTestPayloads} holds the pre-generated request bodies of a load run.
+ * <p>
+ * When {@code loadtest.payloads.dir} is set, the create and update operations send
+ * bodies from {@link PayloadPool} files in that directory ({@code books.pool},
+ * {@code authors.pool}) instead of calling the data factories during the run.
+ * Missing files are generated with {@code loadtest.payloads.count} payloads
+ * (default 1,000,000) before the run starts and reused by later runs.
+ * </p>
+ * <p>
+ * Payloads are handed out as views of the mapped files. The NIO engine sends them from
+ * there; RestAssured only accepts arrays, so the RestAssured operations copy each one.
+ * </p>
+ */
+final class LoadTestPayloads {
+
+    /** No pools: operations generate their bodies with the data factories. */
+    static final LoadTestPayloads NONE = new LoadTestPayloads(null, null);
+
+    private final PayloadPool books;
+    private final PayloadPool authors;
+
+    private LoadTestPayloads(PayloadPool books, PayloadPool authors) {
+        this.books = books;
+        this.authors = authors;
+    }
+
+    /**
+     * Opens (or generates) the pools the given operations need.
+     *
+     * @param operations the operations of the run
+     * @return the payloads, or {@link #NONE} if {@code loadtest.payloads.dir} is not set
+     */
+    static LoadTestPayloads fromConfig(List<Operation> operations) {
+        String dir = ConfigReader.get("loadtest.payloads.dir");
+        if (dir == null || dir.trim().isEmpty()) {
+            return NONE;
+        }
+        int count = ConfigReader.getInt("loadtest.payloads.count", 1_000_000);
+        Path directory = Paths.get(dir.trim());
+        try {
+            PayloadPool books = operations.contains(Operation.CREATE_BOOK) || operations.contains(Operation.UPDATE_BOOK)
+                ? PayloadPool.openOrGenerate(directory.resolve("books.pool"), count, BookDataFactory::createBaseBook)
+                : null;
+            PayloadPool authors = operations.contains(Operation.CREATE_AUTHOR) || operations.contains(Operation.UPDATE_AUTHOR)
+                ? PayloadPool.openOrGenerate(directory.resolve("authors.pool"), count, AuthorDataFactory::createBaseAuthor)
+                : null;
+            return new LoadTestPayloads(books, authors);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open payload pools in " + directory, ex);
+        }
+    }
+
+    /**
+     * @return the next book body as a view of the pool file, or {@code null} to generate one
+     *         with {@link BookDataFactory}
+     */
+    ByteBuffer nextBook() {
+        return books == null ? null : books.next();
+    }
+
+    /**
+     * @return the next author body as a view of the pool file, or {@code null} to generate one
+     *         with {@link AuthorDataFactory}
+     */
+    ByteBuffer nextAuthor() {
+        return authors == null ? null : authors.next();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.bookstoreapi.loadtest;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code LoadTestReport} is the result of a load test run: one {@link EndpointSummary}
+ * per endpoint, plus the run duration.
+ */
+public final class LoadTestReport {
+
+    private static final String ROW_FORMAT = "%-46s %9s %7s %9s %9s %9s %9s %9s %9s%n";
+
+    private final String title;
+    private final long elapsedNanos;
+    private final List<EndpointSummary> endpoints;
+
+    LoadTestReport(String title, long elapsedNanos, Map<String, EndpointSummary> endpoints) {
+        this.title = title;
+        this.elapsedNanos = elapsedNanos;
+        this.endpoints = Collections.unmodifiableList(new ArrayList<>(endpoints.values()));
+    }
+
+    /** @return the wall-clock duration of the run in nanoseconds */
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    /** @return the per-endpoint summaries, ordered by endpoint */
+    public List<EndpointSummary> getEndpoints() { return endpoints; }
+
+    /**
+     * Prints the report as a table.
+     *
+     * @param out the stream to print to
+     */
+    public void print(PrintStream out) {
+        out.printf("%s - %.1f s%n", title, elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        out.printf(ROW_FORMAT, "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (EndpointSummary summary : endpoints) {
+            out.printf(ROW_FORMAT,
+                summary.getEndpoint(),
+                summary.getCount(),
+                summary.getErrors(),
+                String.format("%.1f", summary.getThroughput()),
+                String.format("%.2f", summary.getPercentileMillis(50)),
+                String.format("%.2f", summary.getPercentileMillis(90)),
+                String.format("%.2f", summary.getPercentileMillis(99)),
+                String.format("%.2f", summary.getPercentileMillis(99.9)),
+                String.format("%.2f", summary.getMaxMillis()));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.bookstoreapi.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import com.example.bookstoreapi.config.ConfigReader;
+import com.example.bookstoreapi.config.ConfigSnapshot;
+
+/**
+ * {@code LoadTestSettings} describes a closed-loop load test run.
+ * <p>
+ * The settings are read through {@link ConfigReader}, so they can be given in
+ * {@code config.properties}, as environment variables or as {@code -D} options:
+ * </p>
+ * <ul>
+ *   <li>{@code loadtest.users} - number of concurrent virtual users (default 10)</li>
+ *   <li>{@code loadtest.duration.seconds} - how long each user keeps looping (default 30)</li>
+ *   <li>{@code loadtest.iterations} - requests per user; when set, the run stops after this many
+ *       iterations or the duration, whichever comes first (default 0, unlimited)</li>
+ *   <li>{@code loadtest.operations} - comma-separated {@link Operation} names each user cycles
+ *       through (default {@code GET_BOOK_BY_ID})</li>
+ * </ul>
+ */
+public final class LoadTestSettings {
+
+    private final int users;
+    private final Duration duration;
+    private final long iterations;
+    private final List<Operation> operations;
+
+    /**
+     * @param users      number of concurrent virtual users
+     * @param duration   how long the run lasts at most
+     * @param iterations requests per user, {@code 0} for no limit
+     * @param operations the operations each user cycles through
+     */
+    public LoadTestSettings(int users, Duration duration, long iterations, List<Operation> operations) {
+        if (users <= 0) {
+            throw new IllegalArgumentException("loadtest.users must be positive: " + users);
+        }
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.operations must name at least one operation");
+        }
+        this.users = users;
+        this.duration = duration;
+        this.iterations = iterations;
+        this.operations = Collections.unmodifiableList(new ArrayList<>(operations));
+    }
+
+    /**
+     * Reads the settings from the configuration.
+     *
+     * @return the configured {@code LoadTestSettings}
+     */
+    public static LoadTestSettings fromConfig() {
+        return new LoadTestSettings(
+            ConfigReader.getInt("loadtest.users", 10),
+            ConfigSnapshot.current().getLoadTestDuration(),
+            ConfigReader.getInt("loadtest.iterations", 0),
+            parseOperations(ConfigReader.get("loadtest.operations")));
+    }
+
+    /**
+     * Parses a comma-separated list of operation names.
+     *
+     * @param value the list (e.g., {@code GET_BOOK_BY_ID,GET_AUTHOR_BY_BOOK_ID}); {@code null} selects {@code GET_BOOK_BY_ID}
+     * @return the parsed operations
+     */
+    static List<Operation> parseOperations(String value) {
+        List<Operation> operations = new ArrayList<>();
+        if (value == null || value.trim().isEmpty()) {
+            operations.add(Operation.GET_BOOK_BY_ID);
+            return operations;
+        }
+        for (String name : value.split(",")) {
+            if (!name.trim().isEmpty()) {
+                operations.add(Operation.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            }
+        }
+        return operations;
+    }
+
+    /** @return number of concurrent virtual users */
+    public int getUsers() { return users; }
+
+    /** @return how long the run lasts at most */
+    public Duration getDuration() { return duration; }
+
+    /** @return requests per user, {@code 0} for no limit */
+    public long getIterations() { return iterations; }
+
+    /** @return the operations each user cycles through */
+    public List<Operation> getOperations() { return operations; }
+}
@@ -0,0 +1,219 @@
+package com.example.bookstoreapi.loadtest;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Recorder;
+
+import com.example.bookstoreapi.api.AuthorsApis;
+import com.example.bookstoreapi.api.BooksApis;
+import com.example.bookstoreapi.nio.NioHttpEngine;
+
+import io.restassured.response.Response;
+
+/**
+ * {@code OpenLoopLoadTest} issues requests to the Books and Authors endpoints at a fixed
+ * arrival rate, independent of how fast the responses come back.
+ * <p>
+ * Request {@code i} is scheduled for {@code start + i / rate}. A dispatcher hands each
+ * request to a worker pool at its scheduled time, and its latency is measured from that
+ * <em>intended</em> send time rather than from when a worker actually sent it. When the
+ * server slows down, requests queue up behind the busy workers and the waiting time shows
+ * up in the latency, instead of the generator quietly sending less (coordinated omission).
+ * </p>
+ * The report contains three views of the run:
+ * <ul>
+ *   <li>response time - from intended send time to response, corrected for coordinated omission</li>
+ *   <li>service time - from actual send time to response, what a closed-loop test would report</li>
+ *   <li>send lag - how late the dispatcher handed requests off compared to the schedule; a
+ *       large lag means the generator itself could not keep up and the results understate the
+ *       target rate</li>
+ * </ul>
+ * <p>
+ * Requests still waiting for a worker when the drain timeout expires are never sent; they
+ * count as requests without a response, with their response time taken up to the timeout.
+ * </p>
+ * Built with a {@link NioHttpEngine}, the dispatcher sends every request itself without a worker
+ * pool, and the engine's connections rather than {@code loadtest.max.in.flight} bound the requests
+ * outstanding at once; requests beyond that wait inside the engine, and the wait is part of their
+ * response time.
+ */
+public class OpenLoopLoadTest {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+
+    private final BooksApis books;
+    private final AuthorsApis authors;
+    private final NioHttpEngine engine;
+    private final OpenLoopSettings settings;
+
+    /**
+     * @param books    the Books client shared by all workers
+     * @param authors  the Authors client shared by all workers
+     * @param settings the run settings
+     */
+    public OpenLoopLoadTest(BooksApis books, AuthorsApis authors, OpenLoopSettings settings) {
+        this.books = books;
+        this.authors = authors;
+        this.engine = null;
+        this.settings = settings;
+    }
+
+    /**
+     * @param engine   the non-blocking engine every request is sent through
+     * @param settings the run settings
+     */
+    public OpenLoopLoadTest(NioHttpEngine engine, OpenLoopSettings settings) {
+        this.books = null;
+        this.authors = null;
+        this.engine = engine;
+        this.settings = settings;
+    }
+
+    /**
+     * Runs the load test and blocks until every issued request has completed.
+     *
+     * @return the results of the run
+     * @throws InterruptedException if the calling thread is interrupted while dispatching or waiting
+     */
+    public OpenLoopReport run() throws InterruptedException {
+        LatencyRecorder responseTimes = new LatencyRecorder();
+        LatencyRecorder serviceTimes = new LatencyRecorder();
+        Recorder sendLag = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        ExecutorService workers = engine == null ? newWorkerPool(settings.getMaxInFlight()) : null;
+        AtomicLong outstanding = new AtomicLong();
+
+        List<Operation> operations = settings.getOperations();
+        LoadTestPayloads payloads = LoadTestPayloads.fromConfig(operations);
+        long period = (long) (TimeUnit.SECONDS.toNanos(1) / settings.getRate());
+        long start = System.nanoTime();
+        long end = start + settings.getDuration().toNanos();
+        long scheduled = 0;
+        long unsent = 0;
+        try {
+            for (long i = 0; ; i++) {
+                long intended = start + i * period;
+                if (intended >= end) {
+                    break;
+                }
+                waitUntil(intended);
+                long submitted = System.nanoTime();
+                sendLag.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(Math.max(submitted - intended, 0)), HIGHEST_TRACKABLE_MICROS));
+                Operation operation = operations.get((int) (i % operations.size()));
+                if (workers != null) {
+                    workers.execute(new ScheduledRequest(operation, payloads, intended, responseTimes, serviceTimes));
+                } else {
+                    sendAsync(operation, payloads, intended, responseTimes, serviceTimes, outstanding);
+                }
+                scheduled++;
+            }
+        } finally {
+            if (workers != null) {
+                workers.shutdown();
+            }
+        }
+        if (workers != null) {
+            boolean drained = workers.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (!drained) {
+                List<Runnable> queued = workers.shutdownNow();
+                long abandoned = System.nanoTime();
+                unsent = queued.size();
+                for (Runnable runnable : queued) {
+                    ScheduledRequest request = (ScheduledRequest) runnable;
+                    responseTimes.record(request.operation.getEndpoint(), abandoned - request.intended, LatencyRecorder.NO_RESPONSE);
+                }
+            }
+        } else {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DRAIN_TIMEOUT_SECONDS);
+            while (outstanding.get() > 0 && deadline - System.nanoTime() > 0) {
+                waitUntil(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        String title = String.format("Open-loop load test, %.0f req/s target", settings.getRate());
+        return new OpenLoopReport(
+            new LoadTestReport(title + ", response time (from intended send time)", elapsed, responseTimes.summarize(elapsed)),
+            new LoadTestReport(title + ", service time (from actual send time)", elapsed, serviceTimes.summarize(elapsed)),
+            sendLag.getIntervalHistogram(), scheduled, unsent, settings.getRate(), period);
+    }
+
+    private void sendAsync(Operation operation, LoadTestPayloads payloads, long intended, LatencyRecorder responseTimes,
+                           LatencyRecorder serviceTimes, AtomicLong outstanding) {
+        long sent = System.nanoTime();
+        outstanding.incrementAndGet();
+        // Completes on an event-loop thread; recording is wait-free, so the loop is not held up
+        operation.send(engine, payloads).whenComplete((response, failure) -> {
+            long done = System.nanoTime();
+            int status = response != null ? response.getStatusCode() : LatencyRecorder.NO_RESPONSE;
+            responseTimes.record(operation.getEndpoint(), done - intended, status);
+            serviceTimes.record(operation.getEndpoint(), done - sent, status);
+            outstanding.decrementAndGet();
+        });
+    }
+
+    private static void waitUntil(long deadline) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    private static ExecutorService newWorkerPool(int threads) {
+        AtomicInteger ids = new AtomicInteger();
+        // Unbounded queue: when every worker is busy the request waits, and the wait is part of its latency
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "open-loop-worker-" + ids.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * A request handed to the worker pool, kept as an object so that the requests still queued
+     * when the drain timeout expires can be recorded.
+     */
+    private final class ScheduledRequest implements Runnable {
+
+        final Operation operation;
+        final long intended;
+        private final LoadTestPayloads payloads;
+        private final LatencyRecorder responseTimes;
+        private final LatencyRecorder serviceTimes;
+
+        ScheduledRequest(Operation operation, LoadTestPayloads payloads, long intended,
+                         LatencyRecorder responseTimes, LatencyRecorder serviceTimes) {
+            this.operation = operation;
+            this.payloads = payloads;
+            this.intended = intended;
+            this.responseTimes = responseTimes;
+            this.serviceTimes = serviceTimes;
+        }
+
+        @Override
+        public void run() {
+            long sent = System.nanoTime();
+            int status = LatencyRecorder.NO_RESPONSE;
+            try {
+                Response response = operation.execute(books, authors, payloads);
+                status = response.getStatusCode();
+            } catch (Exception ex) {
+                // Recorded as a request without response; the run goes on.
+                // RestAssured rethrows connection failures as undeclared IOExceptions.
+            }
+            long done = System.nanoTime();
+            responseTimes.record(operation.getEndpoint(), done - intended, status);
+            serviceTimes.record(operation.getEndpoint(), done - sent, status);
+        }
+    }
+}
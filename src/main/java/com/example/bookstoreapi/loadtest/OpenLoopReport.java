@@ -0,0 +1,91 @@
+package com.example.bookstoreapi.loadtest;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * {@code OpenLoopReport} is the result of an {@link OpenLoopLoadTest} run.
+ * <p>
+ * Besides the per-endpoint response and service times it reports how closely the
+ * generator kept to its schedule. If requests were handed off noticeably later than
+ * scheduled, or some were never sent, the generator was the bottleneck and the run did
+ * not apply the target rate.
+ * </p>
+ */
+public final class OpenLoopReport {
+
+    private final LoadTestReport responseTimes;
+    private final LoadTestReport serviceTimes;
+    private final Histogram sendLag;
+    private final long scheduled;
+    private final long unsent;
+    private final double targetRate;
+    private final long periodNanos;
+
+    OpenLoopReport(LoadTestReport responseTimes, LoadTestReport serviceTimes, Histogram sendLag,
+                   long scheduled, long unsent, double targetRate, long periodNanos) {
+        this.responseTimes = responseTimes;
+        this.serviceTimes = serviceTimes;
+        this.sendLag = sendLag;
+        this.scheduled = scheduled;
+        this.unsent = unsent;
+        this.targetRate = targetRate;
+        this.periodNanos = periodNanos;
+    }
+
+    /** @return latencies measured from each request's intended send time */
+    public LoadTestReport getResponseTimes() { return responseTimes; }
+
+    /** @return latencies measured from each request's actual send time */
+    public LoadTestReport getServiceTimes() { return serviceTimes; }
+
+    /** @return the number of requests the schedule called for */
+    public long getScheduled() { return scheduled; }
+
+    /** @return the number of requests that were actually sent */
+    public long getSent() { return scheduled - unsent; }
+
+    /**
+     * @param percentile the percentile (e.g., {@code 99})
+     * @return how late requests were handed off for sending compared to the schedule, in milliseconds
+     */
+    public double getSendLagMillis(double percentile) {
+        return sendLag.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * The generator is considered behind schedule when not every scheduled request was
+     * sent, or when the 99th percentile send lag exceeds both one millisecond and the
+     * interval between two requests.
+     *
+     * @return {@code true} if the generator could not keep up with the target rate
+     */
+    public boolean isBehindSchedule() {
+        long p99LagMicros = sendLag.getValueAtPercentile(99);
+        long thresholdMicros = Math.max(TimeUnit.MILLISECONDS.toMicros(1), TimeUnit.NANOSECONDS.toMicros(periodNanos));
+        return getSent() < scheduled || p99LagMicros > thresholdMicros;
+    }
+
+    /**
+     * Prints the report.
+     *
+     * @param out the stream to print to
+     */
+    public void print(PrintStream out) {
+        responseTimes.print(out);
+        out.println();
+        serviceTimes.print(out);
+        out.println();
+        double elapsedSeconds = responseTimes.getElapsedNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        out.printf("Schedule: target %.1f req/s, scheduled %d, sent %d, achieved %.1f req/s%n",
+            targetRate, scheduled, getSent(), elapsedSeconds <= 0 ? 0 : getSent() / elapsedSeconds);
+        out.printf("Send lag: p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+            getSendLagMillis(50), getSendLagMillis(99), sendLag.getMaxValue() / 1000.0);
+        if (isBehindSchedule()) {
+            out.println("WARNING: the generator fell behind its schedule; increase loadtest.max.in.flight"
+                + " or lower loadtest.rate, otherwise the target rate was not applied");
+        }
+    }
+}
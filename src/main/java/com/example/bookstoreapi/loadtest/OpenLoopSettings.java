@@ -0,0 +1,77 @@
+package com.example.bookstoreapi.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.example.bookstoreapi.config.ConfigReader;
+import com.example.bookstoreapi.config.ConfigSnapshot;
+
+/**
+ * {@code OpenLoopSettings} describes a constant-arrival-rate load test run.
+ * <p>
+ * The settings are read through {@link ConfigReader}:
+ * </p>
+ * <ul>
+ *   <li>{@code loadtest.rate} - target requests per second (default 100)</li>
+ *   <li>{@code loadtest.duration.seconds} - how long requests are issued (default 30)</li>
+ *   <li>{@code loadtest.max.in.flight} - worker threads, i.e. the most requests outstanding at once (default 200)</li>
+ *   <li>{@code loadtest.operations} - comma-separated {@link Operation} names issued in turn
+ *       (default {@code GET_BOOK_BY_ID})</li>
+ * </ul>
+ */
+public final class OpenLoopSettings {
+
+    private final double rate;
+    private final Duration duration;
+    private final int maxInFlight;
+    private final List<Operation> operations;
+
+    /**
+     * @param rate        target requests per second
+     * @param duration    how long requests are issued
+     * @param maxInFlight the most requests outstanding at once
+     * @param operations  the operations issued in turn
+     */
+    public OpenLoopSettings(double rate, Duration duration, int maxInFlight, List<Operation> operations) {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("loadtest.rate must be positive: " + rate);
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("loadtest.max.in.flight must be positive: " + maxInFlight);
+        }
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.operations must name at least one operation");
+        }
+        this.rate = rate;
+        this.duration = duration;
+        this.maxInFlight = maxInFlight;
+        this.operations = Collections.unmodifiableList(new ArrayList<>(operations));
+    }
+
+    /**
+     * Reads the settings from the configuration.
+     *
+     * @return the configured {@code OpenLoopSettings}
+     */
+    public static OpenLoopSettings fromConfig() {
+        return new OpenLoopSettings(
+            ConfigReader.getInt("loadtest.rate", 100),
+            ConfigSnapshot.current().getLoadTestDuration(),
+            ConfigReader.getInt("loadtest.max.in.flight", 200),
+            LoadTestSettings.parseOperations(ConfigReader.get("loadtest.operations")));
+    }
+
+    /** @return target requests per second */
+    public double getRate() { return rate; }
+
+    /** @return how long requests are issued */
+    public Duration getDuration() { return duration; }
+
+    /** @return the most requests outstanding at once */
+    public int getMaxInFlight() { return maxInFlight; }
+
+    /** @return the operations issued in turn */
+    public List<Operation> getOperations() { return operations; }
+}
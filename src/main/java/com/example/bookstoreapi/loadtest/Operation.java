@@ -0,0 +1,198 @@
+package com.example.bookstoreapi.loadtest;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+import com.example.bookstoreapi.api.AuthorsApis;
+import com.example.bookstoreapi.api.BooksApis;
+import com.example.bookstoreapi.data.AuthorDataFactory;
+import com.example.bookstoreapi.data.BookDataFactory;
+import com.example.bookstoreapi.data.PayloadPool;
+import com.example.bookstoreapi.json.JsonMapper;
+import com.example.bookstoreapi.nio.NioHttpEngine;
+import com.example.bookstoreapi.nio.NioResponse;
+
+import io.restassured.response.Response;
+
+/**
+ * {@code Operation} lists the endpoint calls a load test can drive.
+ * <p>
+ * Every operation goes through the same {@link BooksApis} / {@link AuthorsApis}
+ * methods the functional tests use, with valid data from the data factories
+ * (or pre-generated bodies from {@link LoadTestPayloads}), so a load run
+ * exercises exactly the code paths the suite verifies. For capacity runs the same
+ * requests can be sent through a {@link NioHttpEngine} instead.
+ * </p>
+ */
+public enum Operation {
+
+    GET_ALL_BOOKS("GET /api/v1/Books") {
+        @Override
+        Response execute(BooksApis books, AuthorsApis authors, LoadTestPayloads payloads) {
+            return books.getAllBooks();
+        }
+
+        @Override
+        CompletableFuture<NioResponse> send(NioHttpEngine engine, LoadTestPayloads payloads) {
+            return engine.send("GET", "/api/v1/Books", null);
+        }
+    },
+    GET_BOOK_BY_ID("GET /api/v1/Books/{id}") {
+        @Override
+        Response execute(BooksApis books, AuthorsApis authors, LoadTestPayloads payloads) {
+            return books.getBookById(BookDataFactory.randomBookId());
+        }
+
+        @Override
+        CompletableFuture<NioResponse> send(NioHttpEngine engine, LoadTestPayloads payloads) {
+            return engine.send("GET", "/api/v1/Books/" + BookDataFactory.randomBookId(), null);
+        }
+    },
+    CREATE_BOOK("POST /api/v1/Books") {
+        @Override
+        Response execute(BooksApis books, AuthorsApis authors, LoadTestPayloads payloads) {
+            ByteBuffer json = payloads.nextBook();
+            return json != null ? books.createBook(PayloadPool.toBytes(json)) : books.createBook(BookDataFactory.createBaseBook());
+        }
+
+        @Override
+        CompletableFuture<NioResponse> send(NioHttpEngine engine, LoadTestPayloads payloads) {
+            ByteBuffer json = payloads.nextBook();
+            return engine.send("POST", "/api/v1/Books",
+                json != null ? json : ByteBuffer.wrap(JsonMapper.toJson(BookDataFactory.createBaseBook())));
+        }
+    },
+    UPDATE_BOOK("PUT /api/v1/Books/{id}") {
+        @Override
+        Response execute(BooksApis books, AuthorsApis authors, LoadTestPayloads payloads) {
+            ByteBuffer json = payloads.nextBook();
+            return json != null
+                ? books.updateBook(BookDataFactory.randomBookId(), PayloadPool.toBytes(json))
+                : books.updateBook(BookDataFactory.randomBookId(), BookDataFactory.updateBookWithValidData());
+        }
+
+        @Override
+        CompletableFuture<NioResponse> send(NioHttpEngine engine, LoadTestPayloads payloads) {
+            ByteBuffer json = payloads.nextBook();
+            return engine.send("PUT", "/api/v1/Books/" + BookDataFactory.randomBookId(),
+                json != null ? json : ByteBuffer.wrap(JsonMapper.toJson(BookDataFactory.updateBookWithValidData())));
+        }
+    },
+    DELETE_BOOK("DELETE /api/v1/Books/{id}") {
+        @Override
+        Response execute(BooksApis books, AuthorsApis authors, LoadTestPayloads payloads) {
+            return books.deleteBook(BookDataFactory.randomBookId());
+        }
+
+        @Override
+        CompletableFuture<NioResponse> send(NioHttpEngine engine, LoadTestPayloads payloads) {
+            return engine.send("DELETE", "/api/v1/Books/" + BookDataFactory.randomBookId(), null);
+        }
+    },
+    GET_ALL_AUTHORS("GET /api/v1/Authors") {
+        @Override
+        Response execute(BooksApis books, AuthorsApis authors, LoadTestPayloads payloads) {
+            return authors.getAllAuthors();
+        }
+
+        @Override
+        CompletableFuture<NioResponse> send(NioHttpEngine engine, LoadTestPayloads payloads) {
+            return engine.send("GET", "/api/v1/Authors", null);
+        }
+    },
+    GET_AUTHOR_BY_ID("GET /api/v1/Authors/{id}") {
+        @Override
+        Response execute(BooksApis books, AuthorsApis authors, LoadTestPayloads payloads) {
+            return authors.getAuthorById(AuthorDataFactory.randomAuthorId());
+        }
+
+        @Override
+        CompletableFuture<NioResponse> send(NioHttpEngine engine, LoadTestPayloads payloads) {
+            return engine.send("GET", "/api/v1/Authors/" + AuthorDataFactory.randomAuthorId(), null);
+        }
+    },
+    GET_AUTHOR_BY_BOOK_ID("GET /api/v1/Authors/authors/books/{idBook}") {
+        @Override
+        Response execute(BooksApis books, AuthorsApis authors, LoadTestPayloads payloads) {
+            return authors.getAuthorByBookId(BookDataFactory.randomBookId());
+        }
+
+        @Override
+        CompletableFuture<NioResponse> send(NioHttpEngine engine, LoadTestPayloads payloads) {
+            return engine.send("GET", "/api/v1/Authors/authors/books/" + BookDataFactory.randomBookId(), null);
+        }
+    },
+    CREATE_AUTHOR("POST /api/v1/Authors") {
+        @Override
+        Response execute(BooksApis books, AuthorsApis authors, LoadTestPayloads payloads) {
+            ByteBuffer json = payloads.nextAuthor();
+            return json != null ? authors.createAuthor(PayloadPool.toBytes(json)) : authors.createAuthor(AuthorDataFactory.createBaseAuthor());
+        }
+
+        @Override
+        CompletableFuture<NioResponse> send(NioHttpEngine engine, LoadTestPayloads payloads) {
+            ByteBuffer json = payloads.nextAuthor();
+            return engine.send("POST", "/api/v1/Authors",
+                json != null ? json : ByteBuffer.wrap(JsonMapper.toJson(AuthorDataFactory.createBaseAuthor())));
+        }
+    },
+    UPDATE_AUTHOR("PUT /api/v1/Authors/{id}") {
+        @Override
+        Response execute(BooksApis books, AuthorsApis authors, LoadTestPayloads payloads) {
+            ByteBuffer json = payloads.nextAuthor();
+            return json != null
+                ? authors.updateAuthor(AuthorDataFactory.randomAuthorId(), PayloadPool.toBytes(json))
+                : authors.updateAuthor(AuthorDataFactory.randomAuthorId(), AuthorDataFactory.updateAuthorWithValidData());
+        }
+
+        @Override
+        CompletableFuture<NioResponse> send(NioHttpEngine engine, LoadTestPayloads payloads) {
+            ByteBuffer json = payloads.nextAuthor();
+            return engine.send("PUT", "/api/v1/Authors/" + AuthorDataFactory.randomAuthorId(),
+                json != null ? json : ByteBuffer.wrap(JsonMapper.toJson(AuthorDataFactory.updateAuthorWithValidData())));
+        }
+    },
+    DELETE_AUTHOR("DELETE /api/v1/Authors/{id}") {
+        @Override
+        Response execute(BooksApis books, AuthorsApis authors, LoadTestPayloads payloads) {
+            return authors.deleteAuthor(AuthorDataFactory.randomAuthorId());
+        }
+
+        @Override
+        CompletableFuture<NioResponse> send(NioHttpEngine engine, LoadTestPayloads payloads) {
+            return engine.send("DELETE", "/api/v1/Authors/" + AuthorDataFactory.randomAuthorId(), null);
+        }
+    };
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * @return the endpoint this operation calls, as method and path template (e.g., {@code GET /api/v1/Books/{id}})
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Sends one request for this operation.
+     *
+     * @param books    the Books client
+     * @param authors  the Authors client
+     * @param payloads pre-generated request bodies for create and update operations
+     * @return the {@link Response} of the request
+     */
+    abstract Response execute(BooksApis books, AuthorsApis authors, LoadTestPayloads payloads);
+
+    /**
+     * Sends the same request as {@link #execute} through a non-blocking engine.
+     *
+     * @param engine   the engine
+     * @param payloads pre-generated request bodies for create and update operations
+     * @return a future completed with the response
+     */
+    abstract CompletableFuture<NioResponse> send(NioHttpEngine engine, LoadTestPayloads payloads);
+}
@@ -0,0 +1,68 @@
+package com.example.bookstoreapi.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code EndpointNamer} maps the concrete path of a request to the endpoint it calls, so that
+ * {@code GET /api/v1/Books/7} and {@code GET /api/v1/Books/abc123} are both counted under
+ * {@code GET /api/v1/Books/{id}}.
+ * <p>
+ * A client lists the path templates below its resource; a {@code {name}} segment matches any
+ * single segment. A path that matches no template is named as it is.
+ * </p>
+ */
+public final class EndpointNamer {
+
+    private final String basePath;
+    private final List<String> templates;
+    private final List<String[]> segments = new ArrayList<>();
+
+    /**
+     * @param basePath  the resource path (e.g., {@code /api/v1/Authors})
+     * @param templates the path templates below the resource (e.g., {@code ""}, {@code /{id}},
+     *                  {@code /authors/books/{idBook}})
+     */
+    public EndpointNamer(String basePath, List<String> templates) {
+        this.basePath = basePath;
+        this.templates = Collections.unmodifiableList(new ArrayList<>(templates));
+        for (String template : templates) {
+            segments.add(template.split("/", -1));
+        }
+    }
+
+    /**
+     * @param method the HTTP method
+     * @param path   the path below the resource, possibly with a query string
+     * @return the endpoint as method and path template (e.g., {@code GET /api/v1/Books/{id}})
+     */
+    public String name(String method, String path) {
+        String relative = path == null ? "" : path;
+        int query = relative.indexOf('?');
+        if (query >= 0) {
+            relative = relative.substring(0, query);
+        }
+        String[] actual = relative.split("/", -1);
+        for (int i = 0; i < templates.size(); i++) {
+            if (matches(segments.get(i), actual)) {
+                return method + " " + basePath + templates.get(i);
+            }
+        }
+        return method + " " + basePath + relative;
+    }
+
+    private static boolean matches(String[] template, String[] actual) {
+        if (template.length != actual.length) {
+            return false;
+        }
+        for (int i = 0; i < template.length; i++) {
+            String segment = template[i];
+            boolean variable = segment.startsWith("{") && segment.endsWith("}");
+            if (!variable && !segment.equals(actual[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
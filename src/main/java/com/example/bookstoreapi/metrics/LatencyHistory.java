@@ -0,0 +1,143 @@
+package com.example.bookstoreapi.metrics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+
+import org.HdrHistogram.Histogram;
+
+import com.example.bookstoreapi.config.ConfigReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * {@code LatencyHistory} is an append-only file with the per-endpoint latency distributions of
+ * past runs, one {@link LatencyRun} per line.
+ * <p>
+ * Each line is a JSON object with the run's ID, timestamp and target and, per endpoint, the
+ * complete HdrHistogram in its compressed, Base64-encoded form - a few hundred bytes per endpoint.
+ * Lines are only ever appended, so the file can be kept between CI runs as a cache. A line that
+ * cannot be read, such as the last line of a run that was killed while writing, is skipped.
+ * </p>
+ * The file is {@value #FILE} in {@code metrics.history.dir} (default {@code latency-history});
+ * the test run appends to it unless {@code metrics.history.enabled} is {@code false}.
+ */
+public final class LatencyHistory {
+
+    /** Name of the history file in the history directory. */
+    public static final String FILE = "latency-history.jsonl";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path file;
+
+    /**
+     * @param directory the directory holding the history file
+     */
+    public LatencyHistory(Path directory) {
+        this.file = directory.resolve(FILE);
+    }
+
+    /**
+     * @return whether runs are appended to the history ({@code metrics.history.enabled}, default true)
+     */
+    public static boolean isEnabled() {
+        String enabled = ConfigReader.get("metrics.history.enabled");
+        return enabled == null || enabled.trim().isEmpty() || Boolean.parseBoolean(enabled.trim());
+    }
+
+    /**
+     * @return the history in {@code metrics.history.dir} (default {@code latency-history})
+     */
+    public static LatencyHistory fromConfig() {
+        String dir = ConfigReader.get("metrics.history.dir");
+        return new LatencyHistory(Paths.get(dir == null || dir.trim().isEmpty() ? "latency-history" : dir.trim()));
+    }
+
+    /** @return the history file */
+    public Path getFile() { return file; }
+
+    /**
+     * Appends a run as one line.
+     *
+     * @param run the run
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void append(LatencyRun run) throws IOException {
+        ObjectNode line = MAPPER.createObjectNode();
+        line.put("id", run.getId());
+        line.put("timestamp", run.getTimestamp().toString());
+        line.put("target", run.getTarget());
+        ObjectNode endpoints = line.putObject("endpoints");
+        for (Map.Entry<String, Histogram> entry : run.getEndpoints().entrySet()) {
+            Histogram histogram = entry.getValue();
+            ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+            int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+            endpoints.put(entry.getKey(), Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length)));
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(file, (MAPPER.writeValueAsString(line) + "\n").getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Reads every run, oldest first.
+     *
+     * @return the runs, empty if there is no history yet
+     * @throws IOException if the file cannot be read
+     */
+    public List<LatencyRun> read() throws IOException {
+        List<LatencyRun> runs = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    LatencyRun run = parse(line);
+                    if (run != null) {
+                        runs.add(run);
+                    }
+                }
+            }
+        } catch (NoSuchFileException ex) {
+            return runs;
+        }
+        return runs;
+    }
+
+    private static LatencyRun parse(String line) {
+        try {
+            JsonNode node = MAPPER.readTree(line);
+            Map<String, Histogram> endpoints = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.get("endpoints").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(field.getValue().asText()));
+                endpoints.put(field.getKey(), Histogram.decodeFromCompressedByteBuffer(buffer, 0));
+            }
+            return new LatencyRun(node.get("id").asText(), Instant.parse(node.get("timestamp").asText()),
+                node.get("target").asText(), endpoints);
+        } catch (IOException | DataFormatException | RuntimeException ex) {
+            // a torn or hand-edited line; the other runs are still usable
+            return null;
+        }
+    }
+}
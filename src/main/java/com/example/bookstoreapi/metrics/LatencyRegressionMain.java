@@ -0,0 +1,45 @@
+package com.example.bookstoreapi.metrics;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.example.bookstoreapi.config.ConfigReader;
+
+/**
+ * Command-line entry point of the latency regression check.
+ * <p>
+ * Compares the latest run in the {@link LatencyHistory} (or the run named by
+ * {@code metrics.regression.run}) with the runs before it, prints the {@link RegressionReport}
+ * and exits with status 1 if an endpoint regressed, e.g.:
+ * </p>
+ * <pre>
+ * mvn test
+ * mvn test-compile exec:java@latency-check
+ * </pre>
+ * See {@link RegressionSettings} for the thresholds.
+ */
+public final class LatencyRegressionMain {
+
+    private LatencyRegressionMain() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LatencyHistory history = LatencyHistory.fromConfig();
+        List<LatencyRun> runs = history.read();
+        if (runs.isEmpty()) {
+            System.out.println("No runs in " + history.getFile().toAbsolutePath() + " yet; nothing to compare");
+            return;
+        }
+        String id = ConfigReader.get("metrics.regression.run");
+        LatencyRun run = runs.get(runs.size() - 1);
+        if (id != null && !id.trim().isEmpty()) {
+            run = runs.stream().filter(candidate -> candidate.getId().equals(id.trim())).findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("metrics.regression.run not found in the history: " + id));
+        }
+        RegressionReport report = new RegressionComparator(RegressionSettings.fromConfig()).compare(run, runs);
+        report.print(System.out);
+        if (!report.isPassed()) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.bookstoreapi.metrics;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * {@code LatencyRun} is the latency distribution of every endpoint called in one run, as kept
+ * in the {@link LatencyHistory}.
+ * <p>
+ * The histograms are in microseconds, as recorded by the {@link MetricsRegistry}. {@code target}
+ * says what the run called - the base URL, or {@code stub} for the in-process server - so runs
+ * are only compared with runs against the same target.
+ * </p>
+ */
+public final class LatencyRun {
+
+    private final String id;
+    private final Instant timestamp;
+    private final String target;
+    private final Map<String, Histogram> endpoints;
+
+    /**
+     * @param id        a unique ID of the run
+     * @param timestamp when the run finished
+     * @param target    what the run called, e.g. {@code https://fakerestapi.azurewebsites.net} or {@code stub}
+     * @param endpoints the latency histogram of each endpoint, in microseconds
+     */
+    public LatencyRun(String id, Instant timestamp, String target, Map<String, Histogram> endpoints) {
+        this.id = id;
+        this.timestamp = timestamp;
+        this.target = target;
+        this.endpoints = Collections.unmodifiableMap(new TreeMap<>(endpoints));
+    }
+
+    /** @return the unique ID of the run */
+    public String getId() { return id; }
+
+    /** @return when the run finished */
+    public Instant getTimestamp() { return timestamp; }
+
+    /** @return what the run called */
+    public String getTarget() { return target; }
+
+    /** @return the latency histogram of each endpoint, in microseconds, ordered by endpoint */
+    public Map<String, Histogram> getEndpoints() { return endpoints; }
+
+    @Override
+    public String toString() {
+        return "LatencyRun[" + id + " at " + timestamp + " against " + target + ", " + endpoints.size() + " endpoints]";
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.bookstoreapi.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.example.bookstoreapi.loadtest.EndpointSummary;
+import com.example.bookstoreapi.loadtest.LatencyRecorder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * {@code MetricsExporter} renders endpoint summaries as JSON and in the Prometheus text
+ * exposition format.
+ * <p>
+ * Both formats carry, per endpoint, the request count, the count per status code, the error
+ * count (no response or a status outside 2xx) and the latency percentiles. JSON latencies are
+ * in milliseconds; Prometheus latencies are in seconds, as its conventions require. Calls that
+ * got no response have the status {@code none}.
+ * </p>
+ */
+final class MetricsExporter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final double[] QUANTILES = {0.5, 0.9, 0.95, 0.99, 0.999};
+
+    private MetricsExporter() {
+    }
+
+    static byte[] toJson(Collection<EndpointSummary> endpoints, long elapsedNanos) {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("exportedAt", Instant.now().toString());
+        root.put("elapsedSeconds", elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        ObjectNode byEndpoint = root.putObject("endpoints");
+        for (EndpointSummary summary : endpoints) {
+            ObjectNode node = byEndpoint.putObject(summary.getEndpoint());
+            node.put("method", method(summary));
+            node.put("path", path(summary));
+            node.put("count", summary.getCount());
+            node.put("errors", summary.getErrors());
+            ObjectNode statusCodes = node.putObject("statusCodes");
+            for (Map.Entry<Integer, Long> entry : summary.getStatusCodes().entrySet()) {
+                statusCodes.put(status(entry.getKey()), entry.getValue());
+            }
+            ObjectNode latency = node.putObject("latencyMillis");
+            latency.put("mean", summary.getMeanMillis());
+            for (double quantile : QUANTILES) {
+                latency.put("p" + percentileLabel(quantile), summary.getPercentileMillis(quantile * 100));
+            }
+            latency.put("max", summary.getMaxMillis());
+        }
+        try {
+            return MAPPER.writeValueAsBytes(root);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static String toPrometheus(Collection<EndpointSummary> endpoints) {
+        StringBuilder out = new StringBuilder();
+        out.append("# HELP bookstore_api_requests_total Requests sent by the API clients, by endpoint and status.\n");
+        out.append("# TYPE bookstore_api_requests_total counter\n");
+        for (EndpointSummary summary : endpoints) {
+            for (Map.Entry<Integer, Long> entry : summary.getStatusCodes().entrySet()) {
+                out.append("bookstore_api_requests_total{").append(labels(summary))
+                    .append(",status=\"").append(status(entry.getKey())).append("\"} ").append(entry.getValue()).append('\n');
+            }
+        }
+        out.append("# HELP bookstore_api_request_errors_total Requests without a response or with a non-2xx status.\n");
+        out.append("# TYPE bookstore_api_request_errors_total counter\n");
+        for (EndpointSummary summary : endpoints) {
+            out.append("bookstore_api_request_errors_total{").append(labels(summary)).append("} ")
+                .append(summary.getErrors()).append('\n');
+        }
+        out.append("# HELP bookstore_api_request_duration_seconds Latency of the API calls.\n");
+        out.append("# TYPE bookstore_api_request_duration_seconds summary\n");
+        for (EndpointSummary summary : endpoints) {
+            String labels = labels(summary);
+            for (double quantile : QUANTILES) {
+                out.append("bookstore_api_request_duration_seconds{").append(labels)
+                    .append(",quantile=\"").append(quantile).append("\"} ")
+                    .append(seconds(summary.getPercentileMillis(quantile * 100))).append('\n');
+            }
+            out.append("bookstore_api_request_duration_seconds_sum{").append(labels).append("} ")
+                .append(seconds(summary.getMeanMillis() * summary.getCount())).append('\n');
+            out.append("bookstore_api_request_duration_seconds_count{").append(labels).append("} ")
+                .append(summary.getCount()).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static String labels(EndpointSummary summary) {
+        return "method=\"" + escape(method(summary)) + "\",path=\"" + escape(path(summary)) + "\"";
+    }
+
+    private static String method(EndpointSummary summary) {
+        String endpoint = summary.getEndpoint();
+        int space = endpoint.indexOf(' ');
+        return space < 0 ? "" : endpoint.substring(0, space);
+    }
+
+    private static String path(EndpointSummary summary) {
+        String endpoint = summary.getEndpoint();
+        return endpoint.substring(endpoint.indexOf(' ') + 1);
+    }
+
+    private static String status(int statusCode) {
+        return statusCode == LatencyRecorder.NO_RESPONSE ? "none" : Integer.toString(statusCode);
+    }
+
+    private static String percentileLabel(double quantile) {
+        // 0.5 -> 50, 0.999 -> 99.9
+        String percentile = String.format(Locale.ROOT, "%.1f", quantile * 100);
+        return percentile.endsWith(".0") ? percentile.substring(0, percentile.length() - 2) : percentile;
+    }
+
+    private static String seconds(double millis) {
+        return String.format(Locale.ROOT, "%.6f", millis / 1000.0);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.bookstoreapi.metrics;
+
+import com.example.bookstoreapi.loadtest.LatencyRecorder;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * {@code MetricsFilter} is a RestAssured filter that records every call of a client in a
+ * {@link MetricsRegistry}.
+ * <p>
+ * It runs before every other filter of the clients, so the latency is the one the test sees,
+ * including answers from the response cache or a cassette. A call that fails without a
+ * response is recorded with {@link LatencyRecorder#NO_RESPONSE}.
+ * </p>
+ */
+public final class MetricsFilter implements OrderedFilter {
+
+    private final MetricsRegistry registry;
+    private final EndpointNamer namer;
+
+    /**
+     * @param registry the registry to record into
+     * @param namer    names the endpoints of the client's resource
+     */
+    public MetricsFilter(MetricsRegistry registry, EndpointNamer namer) {
+        this.registry = registry;
+        this.namer = namer;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 4;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String endpoint = namer.name(requestSpec.getMethod(), requestSpec.getUserDefinedPath());
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException | Error ex) {
+            registry.record(endpoint, System.nanoTime() - start, LatencyRecorder.NO_RESPONSE);
+            throw ex;
+        }
+        registry.record(endpoint, System.nanoTime() - start, response.getStatusCode());
+        return response;
+    }
+}
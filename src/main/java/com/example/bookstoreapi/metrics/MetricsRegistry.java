@@ -0,0 +1,170 @@
+package com.example.bookstoreapi.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.HdrHistogram.Histogram;
+
+import com.example.bookstoreapi.config.ConfigReader;
+import com.example.bookstoreapi.loadtest.EndpointSummary;
+import com.example.bookstoreapi.loadtest.LatencyRecorder;
+
+/**
+ * {@code MetricsRegistry} collects request counts, status codes and latency histograms per
+ * endpoint for every call the API clients make to the configured {@code base.url}.
+ * <p>
+ * Endpoints are named by method and path template (e.g., {@code GET /api/v1/Books/{id}}, see
+ * {@link EndpointNamer}). Recording goes through a {@link LatencyRecorder}, so it is wait-free
+ * and costs the calling thread well under a microsecond. {@link #export(Path)} writes what was
+ * recorded as JSON and in the Prometheus text format.
+ * </p>
+ * The registry is on unless {@code metrics.enabled} is {@code false}; the test run exports it
+ * to {@code metrics.dir} (default {@code target/metrics}) when it finishes.
+ */
+public final class MetricsRegistry {
+
+    /** File name of the JSON export. */
+    public static final String JSON_FILE = "api-metrics.json";
+    /** File name of the Prometheus text export. */
+    public static final String PROMETHEUS_FILE = "api-metrics.prom";
+
+    private static volatile MetricsRegistry shared;
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final long startNanos = System.nanoTime();
+    private volatile boolean recorded;
+
+    /**
+     * Creates an empty registry. The API clients record into the {@link #shared()} one.
+     */
+    public MetricsRegistry() {
+    }
+
+    /**
+     * @return whether the API clients record into the shared registry ({@code metrics.enabled}, default true)
+     */
+    public static boolean isEnabled() {
+        String enabled = ConfigReader.get("metrics.enabled");
+        return enabled == null || enabled.trim().isEmpty() || Boolean.parseBoolean(enabled.trim());
+    }
+
+    /**
+     * @return the registry shared by all API clients, or {@code null} if metrics are disabled
+     */
+    public static MetricsRegistry shared() {
+        if (!isEnabled()) {
+            return null;
+        }
+        MetricsRegistry registry = shared;
+        if (registry == null) {
+            synchronized (MetricsRegistry.class) {
+                registry = shared;
+                if (registry == null) {
+                    registry = new MetricsRegistry();
+                    shared = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Picks the registry a client records into. Only clients of the configured {@code base.url}
+     * record, so the clients that unit tests point at their own in-process servers leave the
+     * shared registry, and the latency history built from it, alone.
+     *
+     * @param baseUrl the base URL the client calls
+     * @return the {@link #shared()} registry, or {@code null} if metrics are disabled or
+     *         {@code baseUrl} is not the configured {@code base.url}
+     */
+    public static MetricsRegistry sharedFor(String baseUrl) {
+        return isConfiguredTarget(baseUrl) ? shared() : null;
+    }
+
+    /**
+     * @param baseUrl a base URL
+     * @return whether it is the configured {@code base.url}, ignoring a trailing slash
+     */
+    private static boolean isConfiguredTarget(String baseUrl) {
+        String configured = ConfigReader.get("base.url");
+        return configured != null && baseUrl != null && trimSlash(configured).equals(trimSlash(baseUrl));
+    }
+
+    private static String trimSlash(String url) {
+        String trimmed = url.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+
+    /**
+     * @return the directory the test run exports to ({@code metrics.dir}, default {@code target/metrics})
+     */
+    public static Path configuredDirectory() {
+        String dir = ConfigReader.get("metrics.dir");
+        return Paths.get(dir == null || dir.trim().isEmpty() ? "target/metrics" : dir.trim());
+    }
+
+    /**
+     * Records one call.
+     *
+     * @param endpoint     the endpoint (e.g., {@code GET /api/v1/Books/{id}})
+     * @param latencyNanos the latency of the call in nanoseconds
+     * @param statusCode   the HTTP status code, or {@link LatencyRecorder#NO_RESPONSE}
+     */
+    public void record(String endpoint, long latencyNanos, int statusCode) {
+        recorder.record(endpoint, latencyNanos, statusCode);
+        if (!recorded) {
+            recorded = true;
+        }
+    }
+
+    /**
+     * @return whether any call was recorded
+     */
+    public boolean isEmpty() {
+        return !recorded;
+    }
+
+    /**
+     * Summarizes everything recorded so far.
+     *
+     * @return the per-endpoint summaries, ordered by endpoint
+     */
+    public synchronized Map<String, EndpointSummary> snapshot() {
+        return recorder.summarize(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Takes the latency distributions recorded so far as a run for the {@link LatencyHistory}.
+     *
+     * @param target what the clients called, e.g. the base URL
+     * @return the run, with a new random ID
+     */
+    public synchronized LatencyRun toRun(String target) {
+        Map<String, Histogram> histograms = new LinkedHashMap<>();
+        recorder.summarize(System.nanoTime() - startNanos)
+            .forEach((endpoint, summary) -> histograms.put(endpoint, summary.getHistogram()));
+        return new LatencyRun(UUID.randomUUID().toString(), Instant.now(), target, histograms);
+    }
+
+    /**
+     * Writes everything recorded so far to {@value #JSON_FILE} and {@value #PROMETHEUS_FILE}.
+     *
+     * @param directory the directory to write to; created if missing
+     * @throws IOException if a file cannot be written
+     */
+    public synchronized void export(Path directory) throws IOException {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        Map<String, EndpointSummary> endpoints = recorder.summarize(elapsedNanos);
+        Files.createDirectories(directory);
+        Files.write(directory.resolve(JSON_FILE), MetricsExporter.toJson(endpoints.values(), elapsedNanos));
+        Files.write(directory.resolve(PROMETHEUS_FILE),
+            MetricsExporter.toPrometheus(endpoints.values()).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.bookstoreapi.metrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * {@code RegressionComparator} compares the latencies of a run with a baseline of previous runs
+ * and flags the endpoints that got significantly slower.
+ * <p>
+ * The baseline is the union of the last {@code baseline.runs} runs against the same target
+ * that finished before the run. For every endpoint of the run, a one-sided {@link MannWhitneyU}
+ * test asks whether its latencies tend to be larger than the baseline's. The endpoint regressed
+ * when the p-value is below {@code alpha} and its median also rose by at least
+ * {@code min.increase.percent}. Endpoints without enough calls on either side are skipped.
+ * </p>
+ */
+public final class RegressionComparator {
+
+    private final RegressionSettings settings;
+
+    /**
+     * @param settings when to flag an endpoint
+     */
+    public RegressionComparator(RegressionSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * @param run     the run to check
+     * @param history previous runs, in any order; the run itself and runs against other targets are ignored
+     * @return the verdict per endpoint
+     */
+    public RegressionReport compare(LatencyRun run, List<LatencyRun> history) {
+        List<LatencyRun> baseline = new ArrayList<>();
+        for (LatencyRun previous : history) {
+            if (!previous.getId().equals(run.getId()) && previous.getTarget().equals(run.getTarget())
+                && previous.getTimestamp().isBefore(run.getTimestamp())) {
+                baseline.add(previous);
+            }
+        }
+        baseline.sort((a, b) -> a.getTimestamp().compareTo(b.getTimestamp()));
+        if (baseline.size() > settings.getBaselineRuns()) {
+            baseline = new ArrayList<>(baseline.subList(baseline.size() - settings.getBaselineRuns(), baseline.size()));
+        }
+
+        Map<String, Histogram> merged = new HashMap<>();
+        for (LatencyRun previous : baseline) {
+            previous.getEndpoints().forEach((endpoint, histogram) ->
+                merged.computeIfAbsent(endpoint, key -> new Histogram(histogram.getHighestTrackableValue(),
+                    histogram.getNumberOfSignificantValueDigits())).add(histogram));
+        }
+
+        List<RegressionReport.Row> rows = new ArrayList<>();
+        run.getEndpoints().forEach((endpoint, histogram) -> rows.add(compare(endpoint, histogram, merged.get(endpoint))));
+        return new RegressionReport(run, baseline.size(), settings, rows);
+    }
+
+    private RegressionReport.Row compare(String endpoint, Histogram current, Histogram baseline) {
+        if (baseline == null) {
+            return new RegressionReport.Row(endpoint, current, null, null, RegressionReport.Verdict.NO_BASELINE);
+        }
+        if (current.getTotalCount() < settings.getMinSamples() || baseline.getTotalCount() < settings.getMinSamples()) {
+            return new RegressionReport.Row(endpoint, current, baseline, null, RegressionReport.Verdict.TOO_FEW_SAMPLES);
+        }
+        MannWhitneyU test = MannWhitneyU.greater(current, baseline);
+        double increase = RegressionReport.Row.medianIncreasePercent(current, baseline);
+        boolean regressed = test.getPValue() < settings.getAlpha() && increase >= settings.getMinIncreasePercent();
+        return new RegressionReport.Row(endpoint, current, baseline, test,
+            regressed ? RegressionReport.Verdict.REGRESSED : RegressionReport.Verdict.OK);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.bookstoreapi.metrics;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * {@code RegressionReport} is the result of a {@link RegressionComparator}: a verdict per
+ * endpoint and an overall pass or fail.
+ */
+public final class RegressionReport {
+
+    /** The verdict for one endpoint. */
+    public enum Verdict {
+        /** Not significantly slower than the baseline. */
+        OK,
+        /** Significantly slower, by at least the minimum increase of the median. */
+        REGRESSED,
+        /** The endpoint was not called in any baseline run. */
+        NO_BASELINE,
+        /** The run or the baseline has too few calls to test. */
+        TOO_FEW_SAMPLES
+    }
+
+    private static final String ROW_FORMAT = "%-52s %7s %7s %10s %10s %10s %10s %8s %9s  %s%n";
+
+    private final LatencyRun run;
+    private final int baselineRuns;
+    private final RegressionSettings settings;
+    private final List<Row> rows;
+
+    RegressionReport(LatencyRun run, int baselineRuns, RegressionSettings settings, List<Row> rows) {
+        this.run = run;
+        this.baselineRuns = baselineRuns;
+        this.settings = settings;
+        this.rows = Collections.unmodifiableList(new ArrayList<>(rows));
+    }
+
+    /** @return the run that was checked */
+    public LatencyRun getRun() { return run; }
+
+    /** @return the number of previous runs in the baseline */
+    public int getBaselineRuns() { return baselineRuns; }
+
+    /** @return the verdict per endpoint, ordered by endpoint */
+    public List<Row> getRows() { return rows; }
+
+    /** @return the endpoints that regressed */
+    public List<Row> getRegressions() {
+        List<Row> regressions = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.getVerdict() == Verdict.REGRESSED) {
+                regressions.add(row);
+            }
+        }
+        return regressions;
+    }
+
+    /** @return whether no endpoint regressed */
+    public boolean isPassed() {
+        return getRegressions().isEmpty();
+    }
+
+    /**
+     * Prints the report as a table, followed by the overall verdict.
+     *
+     * @param out the stream to print to
+     */
+    public void print(PrintStream out) {
+        out.printf("Latency regression check of run %s (%s, %s) against %d previous run(s)%n",
+            run.getId(), run.getTimestamp(), run.getTarget(), baselineRuns);
+        out.printf("One-sided Mann-Whitney U, alpha %s, minimum median increase %s%%%n",
+            settings.getAlpha(), settings.getMinIncreasePercent());
+        out.printf(ROW_FORMAT, "Endpoint", "Base n", "Run n", "Base p50", "Run p50", "Base p95", "Run p95",
+            "p50 +%", "p-value", "Verdict");
+        for (Row row : rows) {
+            Histogram base = row.baseline;
+            out.printf(ROW_FORMAT,
+                row.endpoint,
+                base == null ? "-" : Long.toString(base.getTotalCount()),
+                row.current.getTotalCount(),
+                base == null ? "-" : millis(base.getValueAtPercentile(50)),
+                millis(row.current.getValueAtPercentile(50)),
+                base == null ? "-" : millis(base.getValueAtPercentile(95)),
+                millis(row.current.getValueAtPercentile(95)),
+                base == null ? "-" : String.format(Locale.ROOT, "%+.1f", Row.medianIncreasePercent(row.current, base)),
+                row.test == null ? "-" : String.format(Locale.ROOT, "%.3g", row.test.getPValue()),
+                row.verdict);
+        }
+        int regressions = getRegressions().size();
+        out.println(regressions == 0 ? "Verdict: PASS" : "Verdict: FAIL - " + regressions + " endpoint(s) regressed");
+    }
+
+    private static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.2f ms", micros / 1000.0);
+    }
+
+    /** The comparison of one endpoint. */
+    public static final class Row {
+
+        private final String endpoint;
+        private final Histogram current;
+        private final Histogram baseline;
+        private final MannWhitneyU test;
+        private final Verdict verdict;
+
+        Row(String endpoint, Histogram current, Histogram baseline, MannWhitneyU test, Verdict verdict) {
+            this.endpoint = endpoint;
+            this.current = current;
+            this.baseline = baseline;
+            this.test = test;
+            this.verdict = verdict;
+        }
+
+        static double medianIncreasePercent(Histogram current, Histogram baseline) {
+            long base = baseline.getValueAtPercentile(50);
+            return base == 0 ? 0 : (current.getValueAtPercentile(50) - base) * 100.0 / base;
+        }
+
+        /** @return the endpoint (e.g., {@code GET /api/v1/Books/{id}}) */
+        public String getEndpoint() { return endpoint; }
+
+        /** @return the latencies of the run, in microseconds */
+        public Histogram getCurrent() { return current; }
+
+        /** @return the merged latencies of the baseline runs, in microseconds, or {@code null} if there are none */
+        public Histogram getBaseline() { return baseline; }
+
+        /** @return the test result, or {@code null} if the endpoint was skipped */
+        public MannWhitneyU getTest() { return test; }
+
+        /** @return the verdict */
+        public Verdict getVerdict() { return verdict; }
+    }
+}
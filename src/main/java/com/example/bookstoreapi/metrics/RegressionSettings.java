@@ -0,0 +1,79 @@
+package com.example.bookstoreapi.metrics;
+
+import com.example.bookstoreapi.config.ConfigReader;
+
+/**
+ * {@code RegressionSettings} controls when the {@link RegressionComparator} flags an endpoint
+ * as slower than its baseline.
+ * <p>
+ * The settings are read through {@link ConfigReader}:
+ * </p>
+ * <ul>
+ *   <li>{@code metrics.regression.baseline.runs} - previous runs against the same target that
+ *       form the baseline (default 7)</li>
+ *   <li>{@code metrics.regression.alpha} - significance level of the one-sided Mann-Whitney U test
+ *       (default 0.01)</li>
+ *   <li>{@code metrics.regression.min.increase.percent} - increase of the median an endpoint must
+ *       also show to count as a regression (default 20), so that a tiny but significant shift
+ *       over many samples does not fail the run</li>
+ *   <li>{@code metrics.regression.min.samples} - calls the run and the baseline each need before
+ *       an endpoint is tested (default 10)</li>
+ * </ul>
+ */
+public final class RegressionSettings {
+
+    private final int baselineRuns;
+    private final double alpha;
+    private final double minIncreasePercent;
+    private final int minSamples;
+
+    /**
+     * @param baselineRuns       previous runs that form the baseline
+     * @param alpha              significance level of the test
+     * @param minIncreasePercent increase of the median a regression must also show
+     * @param minSamples         calls the run and the baseline each need
+     */
+    public RegressionSettings(int baselineRuns, double alpha, double minIncreasePercent, int minSamples) {
+        if (baselineRuns <= 0) {
+            throw new IllegalArgumentException("metrics.regression.baseline.runs must be positive: " + baselineRuns);
+        }
+        if (alpha <= 0 || alpha >= 1) {
+            throw new IllegalArgumentException("metrics.regression.alpha must be between 0 and 1: " + alpha);
+        }
+        if (minIncreasePercent < 0) {
+            throw new IllegalArgumentException("metrics.regression.min.increase.percent must not be negative: " + minIncreasePercent);
+        }
+        if (minSamples <= 0) {
+            throw new IllegalArgumentException("metrics.regression.min.samples must be positive: " + minSamples);
+        }
+        this.baselineRuns = baselineRuns;
+        this.alpha = alpha;
+        this.minIncreasePercent = minIncreasePercent;
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * Reads the settings from the configuration.
+     *
+     * @return the configured {@code RegressionSettings}
+     */
+    public static RegressionSettings fromConfig() {
+        return new RegressionSettings(
+            ConfigReader.getInt("metrics.regression.baseline.runs", 7),
+            ConfigReader.getDouble("metrics.regression.alpha", 0.01),
+            ConfigReader.getDouble("metrics.regression.min.increase.percent", 20),
+            ConfigReader.getInt("metrics.regression.min.samples", 10));
+    }
+
+    /** @return previous runs that form the baseline */
+    public int getBaselineRuns() { return baselineRuns; }
+
+    /** @return significance level of the test */
+    public double getAlpha() { return alpha; }
+
+    /** @return increase of the median a regression must also show, in percent */
+    public double getMinIncreasePercent() { return minIncreasePercent; }
+
+    /** @return calls the run and the baseline each need */
+    public int getMinSamples() { return minSamples; }
+}
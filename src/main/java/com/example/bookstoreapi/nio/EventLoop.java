@@ -0,0 +1,363 @@
+package com.example.bookstoreapi.nio;
+
+import java.io.IOException;
+import java.net.StandardSocketOptions;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code EventLoop} is one selector thread of a {@link NioHttpEngine}, serving its own share
+ * of the engine's connections.
+ * <p>
+ * Requests arrive on a lock-free queue and wait in a backlog until a connection has room:
+ * an idle connection is used first, then a new one is opened while the loop is below its
+ * connection limit, and only then are requests pipelined behind others. Every request is
+ * encoded into the loop's direct write buffer and every read lands in its direct read buffer,
+ * so the memory of the loop does not grow with its connection count.
+ * </p>
+ */
+final class EventLoop implements Runnable {
+
+    private static final long TIMEOUT_CHECK_MILLIS = 200;
+
+    private final NioHttpEngine engine;
+    private final Selector selector;
+    private final int maxConnections;
+    private final int pipelineDepth;
+    private final ByteBuffer readBuffer;
+    private final ByteBuffer writeBuffer;
+
+    private final Queue<PendingRequest> submitted = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean wakeupPending = new AtomicBoolean();
+    private final ArrayDeque<PendingRequest> backlog = new ArrayDeque<>();
+    private final ArrayDeque<NioConnection> available = new ArrayDeque<>();
+    private final List<NioConnection> connections = new ArrayList<>();
+    private volatile boolean running = true;
+
+    EventLoop(NioHttpEngine engine, int maxConnections, int pipelineDepth, int bufferBytes) throws IOException {
+        this.engine = engine;
+        this.selector = Selector.open();
+        this.maxConnections = maxConnections;
+        this.pipelineDepth = pipelineDepth;
+        this.readBuffer = ByteBuffer.allocateDirect(bufferBytes);
+        this.writeBuffer = ByteBuffer.allocateDirect(bufferBytes);
+    }
+
+    /**
+     * Hands a request to this loop. May be called from any thread.
+     *
+     * @param request the request
+     */
+    void submit(PendingRequest request) {
+        submitted.add(request);
+        if (!running) {
+            failSubmitted(new IOException("NIO engine is closed"));
+        } else if (wakeupPending.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * Stops the loop; requests not yet completed fail.
+     */
+    void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        long nextTimeoutCheck = System.nanoTime();
+        Exception failure = null;
+        try {
+            while (running) {
+                selector.select(TIMEOUT_CHECK_MILLIS);
+                wakeupPending.set(false);
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+                for (PendingRequest request; (request = submitted.poll()) != null; ) {
+                    backlog.add(request);
+                }
+                dispatch();
+                long now = System.nanoTime();
+                if (now - nextTimeoutCheck >= 0) {
+                    expire(now);
+                    nextTimeoutCheck = now + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_CHECK_MILLIS);
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            failure = ex;
+        } finally {
+            running = false;
+            IOException closed = failure == null
+                ? new IOException("NIO engine is closed")
+                : new IOException("NIO event loop failed", failure);
+            for (NioConnection connection : new ArrayList<>(connections)) {
+                for (PendingRequest request; (request = connection.inFlight.poll()) != null; ) {
+                    engine.fail(request, closed);
+                }
+                close(connection, closed);
+            }
+            for (PendingRequest request; (request = backlog.poll()) != null; ) {
+                engine.fail(request, closed);
+            }
+            failSubmitted(closed);
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+                // nothing is left to release
+            }
+        }
+    }
+
+    private void failSubmitted(IOException cause) {
+        for (PendingRequest request; (request = submitted.poll()) != null; ) {
+            engine.fail(request, cause);
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        NioConnection connection = (NioConnection) key.attachment();
+        if (!key.isValid() || connection.closed) {
+            return;
+        }
+        try {
+            if (key.isConnectable()) {
+                connection.channel.finishConnect();
+                connection.connected = true;
+                key.interestOps(SelectionKey.OP_READ);
+                engine.connectionOpened();
+                flush(connection);
+                return;
+            }
+            if (key.isReadable()) {
+                read(connection);
+            }
+            if (!connection.closed && key.isValid() && key.isWritable()) {
+                flush(connection);
+            }
+        } catch (IOException ex) {
+            close(connection, ex);
+        }
+    }
+
+    private void dispatch() {
+        while (!backlog.isEmpty()) {
+            NioConnection connection = nextConnection();
+            if (connection == null) {
+                return;
+            }
+            PendingRequest request = backlog.poll();
+            try {
+                send(connection, request);
+            } catch (IOException ex) {
+                close(connection, ex);
+                continue;
+            }
+            if (connection.inFlight.size() < pipelineDepth) {
+                connection.available = true;
+                available.addLast(connection);
+            }
+        }
+    }
+
+    /** An idle connection, else a new one, else one with room for another pipelined request. */
+    private NioConnection nextConnection() {
+        NioConnection candidate;
+        while ((candidate = available.peekFirst()) != null
+            && (candidate.closed || candidate.inFlight.size() >= pipelineDepth)) {
+            available.pollFirst().available = false;
+        }
+        if (candidate != null && candidate.inFlight.isEmpty()) {
+            available.pollFirst().available = false;
+            return candidate;
+        }
+        if (connections.size() < maxConnections) {
+            NioConnection opened = open();
+            if (opened != null) {
+                return opened;
+            }
+        }
+        if (candidate != null) {
+            available.pollFirst().available = false;
+        }
+        return candidate;
+    }
+
+    private NioConnection open() {
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            boolean connected = channel.connect(engine.address());
+            SelectionKey key = channel.register(selector, connected ? SelectionKey.OP_READ : SelectionKey.OP_CONNECT);
+            NioConnection connection = new NioConnection(channel, key);
+            key.attach(connection);
+            connections.add(connection);
+            if (connected) {
+                connection.connected = true;
+                engine.connectionOpened();
+            }
+            return connection;
+        } catch (IOException ex) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // the connect failure is what gets reported
+                }
+            }
+            PendingRequest request = backlog.poll();
+            if (request != null) {
+                engine.fail(request, ex);
+            }
+            return null;
+        }
+    }
+
+    private void send(NioConnection connection, PendingRequest request) throws IOException {
+        connection.inFlight.add(request);
+        ByteBuffer encoded = engine.encode(request, writeBuffer);
+        if (connection.unwritten != null || !connection.connected) {
+            connection.unwritten = append(connection.unwritten, encoded);
+            return;
+        }
+        connection.channel.write(encoded);
+        if (encoded.hasRemaining()) {
+            connection.unwritten = append(null, encoded);
+            connection.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        }
+    }
+
+    private void flush(NioConnection connection) throws IOException {
+        ByteBuffer unwritten = connection.unwritten;
+        if (unwritten == null) {
+            return;
+        }
+        connection.channel.write(unwritten);
+        if (unwritten.hasRemaining()) {
+            connection.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        } else {
+            connection.unwritten = null;
+            connection.key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    private void read(NioConnection connection) throws IOException {
+        readBuffer.clear();
+        int read = connection.channel.read(readBuffer);
+        if (read < 0) {
+            NioResponse last = connection.parser.finish();
+            if (last != null) {
+                complete(connection, last);
+            }
+            close(connection, new IOException("Connection closed by the server"));
+            return;
+        }
+        readBuffer.flip();
+        while (readBuffer.hasRemaining() && !connection.closed) {
+            NioResponse response = connection.parser.parse(readBuffer);
+            if (response == null) {
+                return;
+            }
+            complete(connection, response);
+            if (!connection.parser.isKeepAlive()) {
+                close(connection, new IOException("Connection closed by the server"));
+            }
+        }
+    }
+
+    private void complete(NioConnection connection, NioResponse response) throws IOException {
+        PendingRequest request = connection.inFlight.poll();
+        if (request == null) {
+            throw new IOException("Response without a request");
+        }
+        engine.complete(request, response);
+        if (!connection.available && connection.parser.isKeepAlive()) {
+            connection.available = true;
+            if (connection.inFlight.isEmpty()) {
+                available.addFirst(connection);
+            } else {
+                available.addLast(connection);
+            }
+        }
+    }
+
+    /**
+     * Closes a connection. Requests it has not answered are sent again on another connection
+     * when that is safe (not {@code POST}, not already retried) and fail otherwise.
+     */
+    private void close(NioConnection connection, IOException cause) {
+        if (connection.closed) {
+            return;
+        }
+        connection.closed = true;
+        connection.key.cancel();
+        try {
+            connection.channel.close();
+        } catch (IOException ignored) {
+            // the connection is discarded either way
+        }
+        connections.remove(connection);
+        if (connection.connected) {
+            engine.connectionClosed();
+        }
+        for (Iterator<PendingRequest> requests = connection.inFlight.descendingIterator(); requests.hasNext(); ) {
+            PendingRequest request = requests.next();
+            if (running && request.isRetryable()) {
+                request.retried = true;
+                engine.retrying();
+                backlog.addFirst(request);
+            } else {
+                engine.fail(request, cause);
+            }
+        }
+        connection.inFlight.clear();
+    }
+
+    private void expire(long now) {
+        for (NioConnection connection : new ArrayList<>(connections)) {
+            PendingRequest oldest = connection.inFlight.peekFirst();
+            if (oldest != null && now - oldest.deadline >= 0) {
+                connection.inFlight.pollFirst();
+                HttpTimeoutException timeout = new HttpTimeoutException("No response to " + oldest.method + " " + oldest.path);
+                engine.fail(oldest, timeout);
+                close(connection, timeout);
+            }
+        }
+        backlog.removeIf(request -> {
+            if (now - request.deadline >= 0) {
+                engine.fail(request, new HttpTimeoutException("No connection for " + request.method + " " + request.path));
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static ByteBuffer append(ByteBuffer pending, ByteBuffer bytes) {
+        if (pending == null) {
+            ByteBuffer copy = ByteBuffer.allocate(bytes.remaining());
+            copy.put(bytes).flip();
+            return copy;
+        }
+        ByteBuffer joined = ByteBuffer.allocate(pending.remaining() + bytes.remaining());
+        joined.put(pending).put(bytes).flip();
+        return joined;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.bookstoreapi.nio;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+
+/**
+ * {@code NioConnection} is the state of one keep-alive connection of an {@link EventLoop}.
+ * <p>
+ * Only its event loop's thread touches a connection. The requests written to it wait in
+ * {@link #inFlight} in the order they were sent, which is the order HTTP/1.1 answers them in.
+ * Bytes a non-blocking write could not send yet wait in {@link #unwritten}; the connection
+ * holds no buffer otherwise.
+ * </p>
+ */
+final class NioConnection {
+
+    final SocketChannel channel;
+    final SelectionKey key;
+    final ArrayDeque<PendingRequest> inFlight = new ArrayDeque<>();
+    final ResponseParser parser = new ResponseParser();
+    ByteBuffer unwritten;
+    boolean connected;
+    boolean closed;
+    boolean available;
+
+    NioConnection(SocketChannel channel, SelectionKey key) {
+        this.channel = channel;
+        this.key = key;
+    }
+}
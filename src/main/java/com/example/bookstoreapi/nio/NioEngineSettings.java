@@ -0,0 +1,84 @@
+package com.example.bookstoreapi.nio;
+
+import java.time.Duration;
+
+import com.example.bookstoreapi.config.ConfigReader;
+
+/**
+ * {@code NioEngineSettings} sizes a {@link NioHttpEngine}.
+ * <p>
+ * The settings are read through {@link ConfigReader}:
+ * </p>
+ * <ul>
+ *   <li>{@code nio.event.loops} - selector threads (default: the number of processors, at most 4)</li>
+ *   <li>{@code nio.max.connections} - connections opened at most, spread over the event loops (default 1000)</li>
+ *   <li>{@code nio.pipeline.depth} - requests sent on a connection before its first response arrives;
+ *       1 (the default) disables pipelining</li>
+ *   <li>{@code nio.buffer.bytes} - size of each event loop's direct read and write buffer (default 65536)</li>
+ *   <li>{@code nio.request.timeout.seconds} - time a request may take from {@code send} to its response (default 30)</li>
+ * </ul>
+ */
+public final class NioEngineSettings {
+
+    private final int eventLoops;
+    private final int maxConnections;
+    private final int pipelineDepth;
+    private final int bufferBytes;
+    private final Duration requestTimeout;
+
+    /**
+     * @param eventLoops     selector threads
+     * @param maxConnections connections opened at most
+     * @param pipelineDepth  requests outstanding per connection; 1 disables pipelining
+     * @param bufferBytes    size of each event loop's direct read and write buffer
+     * @param requestTimeout time a request may take from {@code send} to its response
+     */
+    public NioEngineSettings(int eventLoops, int maxConnections, int pipelineDepth, int bufferBytes, Duration requestTimeout) {
+        if (eventLoops <= 0) {
+            throw new IllegalArgumentException("nio.event.loops must be positive: " + eventLoops);
+        }
+        if (maxConnections < eventLoops) {
+            throw new IllegalArgumentException("nio.max.connections must be at least nio.event.loops: " + maxConnections);
+        }
+        if (pipelineDepth <= 0) {
+            throw new IllegalArgumentException("nio.pipeline.depth must be positive: " + pipelineDepth);
+        }
+        if (bufferBytes < 1024) {
+            throw new IllegalArgumentException("nio.buffer.bytes must be at least 1024: " + bufferBytes);
+        }
+        this.eventLoops = eventLoops;
+        this.maxConnections = maxConnections;
+        this.pipelineDepth = pipelineDepth;
+        this.bufferBytes = bufferBytes;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Reads the settings from the configuration.
+     *
+     * @return the configured {@code NioEngineSettings}
+     */
+    public static NioEngineSettings fromConfig() {
+        return new NioEngineSettings(
+            ConfigReader.getInt("nio.event.loops", Math.min(Runtime.getRuntime().availableProcessors(), 4)),
+            ConfigReader.getInt("nio.max.connections", 1000),
+            ConfigReader.getInt("nio.pipeline.depth", 1),
+            ConfigReader.getInt("nio.buffer.bytes", 65536),
+            Duration.ofSeconds(ConfigReader.getInt("nio.request.timeout.seconds", 30)));
+    }
+
+    /** @return selector threads */
+    public int getEventLoops() { return eventLoops; }
+
+    /** @return connections opened at most */
+    public int getMaxConnections() { return maxConnections; }
+
+    /** @return requests outstanding per connection; 1 disables pipelining */
+    public int getPipelineDepth() { return pipelineDepth; }
+
+    /** @return size of each event loop's direct read and write buffer */
+    public int getBufferBytes() { return bufferBytes; }
+
+    /** @return time a request may take from {@code send} to its response */
+    public Duration getRequestTimeout() { return requestTimeout; }
+}
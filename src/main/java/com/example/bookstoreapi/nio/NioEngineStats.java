@@ -0,0 +1,47 @@
+package com.example.bookstoreapi.nio;
+
+/**
+ * {@code NioEngineStats} is a snapshot of a {@link NioHttpEngine}'s counters.
+ */
+public final class NioEngineStats {
+
+    private final int openConnections;
+    private final long connectionsOpened;
+    private final long inFlight;
+    private final long completed;
+    private final long failed;
+    private final long retried;
+
+    NioEngineStats(int openConnections, long connectionsOpened, long inFlight, long completed, long failed, long retried) {
+        this.openConnections = openConnections;
+        this.connectionsOpened = connectionsOpened;
+        this.inFlight = inFlight;
+        this.completed = completed;
+        this.failed = failed;
+        this.retried = retried;
+    }
+
+    /** @return connections currently open */
+    public int getOpenConnections() { return openConnections; }
+
+    /** @return connections opened since the engine started */
+    public long getConnectionsOpened() { return connectionsOpened; }
+
+    /** @return requests sent to the engine and not yet completed, including those waiting for a connection */
+    public long getInFlight() { return inFlight; }
+
+    /** @return requests completed with a response */
+    public long getCompleted() { return completed; }
+
+    /** @return requests completed with an exception */
+    public long getFailed() { return failed; }
+
+    /** @return requests sent again after their connection closed before the response */
+    public long getRetried() { return retried; }
+
+    @Override
+    public String toString() {
+        return String.format("NIO engine: %d open connections (%d opened), %d in flight, %d completed, %d failed, %d retried",
+            openConnections, connectionsOpened, inFlight, completed, failed, retried);
+    }
+}
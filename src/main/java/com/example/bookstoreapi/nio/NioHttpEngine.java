@@ -0,0 +1,210 @@
+package com.example.bookstoreapi.nio;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code NioHttpEngine} is a non-blocking HTTP/1.1 client for capacity tests of the Books and
+ * Authors endpoints, built to hold tens of thousands of requests in flight from one machine.
+ * <p>
+ * A few {@link EventLoop} threads each run a {@link java.nio.channels.Selector} over their share
+ * of up to {@link NioEngineSettings#getMaxConnections()} keep-alive connections. No thread waits
+ * for a response: {@link #send} returns at once and its future completes on an event-loop thread
+ * when the response has been read, so callbacks on it must not block. Requests beyond what the
+ * connections can carry wait in the loops' backlogs; with a pipeline depth above 1 a connection
+ * carries several requests before the first response arrives.
+ * </p>
+ * Request and response bytes pass through direct buffers owned by the event loops and reused
+ * for every connection. The engine speaks plain {@code http} only, and sends JSON: every request
+ * accepts {@code application/json}, and a request body is sent as {@code application/json}.
+ */
+public final class NioHttpEngine implements AutoCloseable {
+
+    private static final byte[] CONTENT_HEADERS = "Content-Type: application/json\r\nContent-Length: "
+        .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final InetSocketAddress address;
+    private final String basePath;
+    private final byte[] requestHeaders;
+    private final long timeoutNanos;
+    private final EventLoop[] loops;
+    private final Thread[] threads;
+    private final AtomicInteger nextLoop = new AtomicInteger();
+    private volatile boolean closed;
+
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+
+    private NioHttpEngine(URI baseUrl, NioEngineSettings settings) throws IOException {
+        int port = baseUrl.getPort() < 0 ? 80 : baseUrl.getPort();
+        this.address = new InetSocketAddress(baseUrl.getHost(), port);
+        if (address.isUnresolved()) {
+            throw new IOException("Unknown host: " + baseUrl.getHost());
+        }
+        String path = baseUrl.getRawPath() == null ? "" : baseUrl.getRawPath();
+        this.basePath = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        String host = baseUrl.getPort() < 0 ? baseUrl.getHost() : baseUrl.getHost() + ":" + port;
+        this.requestHeaders = (" HTTP/1.1\r\nHost: " + host + "\r\nAccept: application/json\r\n")
+            .getBytes(StandardCharsets.US_ASCII);
+        this.timeoutNanos = settings.getRequestTimeout().toNanos();
+
+        int loopCount = settings.getEventLoops();
+        this.loops = new EventLoop[loopCount];
+        this.threads = new Thread[loopCount];
+        for (int i = 0; i < loopCount; i++) {
+            int connections = settings.getMaxConnections() / loopCount + (i < settings.getMaxConnections() % loopCount ? 1 : 0);
+            loops[i] = new EventLoop(this, connections, settings.getPipelineDepth(), settings.getBufferBytes());
+            threads[i] = new Thread(loops[i], "nio-engine-loop-" + (i + 1));
+            threads[i].setDaemon(true);
+        }
+    }
+
+    /**
+     * Starts an engine for one server.
+     *
+     * @param baseUrl  the base URL of the API, e.g. {@code http://localhost:8080}; must use {@code http}
+     * @param settings the engine settings
+     * @return the running engine
+     * @throws IllegalArgumentException if the URL is not an {@code http} URL
+     * @throws UncheckedIOException     if the host cannot be resolved or a selector cannot be opened
+     */
+    public static NioHttpEngine start(String baseUrl, NioEngineSettings settings) {
+        URI uri = URI.create(baseUrl);
+        if (!"http".equalsIgnoreCase(uri.getScheme()) || uri.getHost() == null) {
+            throw new IllegalArgumentException("The NIO engine needs an http:// base URL: " + baseUrl);
+        }
+        NioHttpEngine engine;
+        try {
+            engine = new NioHttpEngine(uri, settings);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to start the NIO engine for " + baseUrl, ex);
+        }
+        for (Thread thread : engine.threads) {
+            thread.start();
+        }
+        return engine;
+    }
+
+    /**
+     * Sends a request.
+     *
+     * @param method the HTTP method
+     * @param path   the path below the base URL, including any query string (e.g. {@code /api/v1/Books/7})
+     * @param body   the JSON body, or {@code null} to send none; its remaining bytes are sent,
+     *               straight from the buffer (e.g., a {@link com.example.bookstoreapi.data.PayloadPool}
+     *               payload), and its position is left as it is
+     * @return a future completed with the response, or exceptionally with an {@link IOException}
+     *         ({@link java.net.http.HttpTimeoutException} if the request timed out)
+     */
+    public CompletableFuture<NioResponse> send(String method, String path, ByteBuffer body) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("NIO engine is closed"));
+        }
+        PendingRequest request = new PendingRequest(method, path,
+            body == null ? null : body.duplicate(), System.nanoTime() + timeoutNanos);
+        inFlight.incrementAndGet();
+        loops[Math.floorMod(nextLoop.getAndIncrement(), loops.length)].submit(request);
+        return request.future;
+    }
+
+    /**
+     * @return a snapshot of the engine's counters
+     */
+    public NioEngineStats stats() {
+        return new NioEngineStats(openConnections.get(), connectionsOpened.sum(), inFlight.get(),
+            completed.sum(), failed.sum(), retried.sum());
+    }
+
+    /**
+     * Stops the event loops and closes every connection. Requests not yet completed fail.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (EventLoop loop : loops) {
+            loop.shutdown();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    InetSocketAddress address() {
+        return address;
+    }
+
+    /**
+     * Encodes a request into {@code buffer}, or into a new heap buffer if it does not fit.
+     *
+     * @return the encoded request, ready to be written
+     */
+    ByteBuffer encode(PendingRequest request, ByteBuffer buffer) {
+        byte[] length = request.body == null ? null : Integer.toString(request.body.remaining()).getBytes(StandardCharsets.US_ASCII);
+        int size = request.method.length() + 1 + basePath.length() + request.path.length() + requestHeaders.length
+            + (length == null ? 0 : CONTENT_HEADERS.length + length.length + CRLF.length + request.body.remaining())
+            + CRLF.length;
+        ByteBuffer target = size <= buffer.capacity() ? buffer.clear() : ByteBuffer.allocate(size);
+        putAscii(target, request.method);
+        target.put((byte) ' ');
+        putAscii(target, basePath);
+        putAscii(target, request.path);
+        target.put(requestHeaders);
+        if (length != null) {
+            target.put(CONTENT_HEADERS).put(length).put(CRLF);
+        }
+        target.put(CRLF);
+        if (length != null) {
+            target.put(request.body.duplicate());
+        }
+        return target.flip();
+    }
+
+    void complete(PendingRequest request, NioResponse response) {
+        inFlight.decrementAndGet();
+        completed.increment();
+        request.future.complete(response);
+    }
+
+    void fail(PendingRequest request, IOException cause) {
+        inFlight.decrementAndGet();
+        failed.increment();
+        request.future.completeExceptionally(cause);
+    }
+
+    void connectionOpened() {
+        openConnections.incrementAndGet();
+        connectionsOpened.increment();
+    }
+
+    void connectionClosed() {
+        openConnections.decrementAndGet();
+    }
+
+    void retrying() {
+        retried.increment();
+    }
+
+    private static void putAscii(ByteBuffer target, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            target.put((byte) value.charAt(i));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.bookstoreapi.nio;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@code NioResponse} is a response read by the {@link NioHttpEngine}.
+ */
+public final class NioResponse {
+
+    private final int statusCode;
+    private final Map<String, String> headers;
+    private final byte[] body;
+
+    NioResponse(int statusCode, Map<String, String> headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.headers = Collections.unmodifiableMap(headers);
+        this.body = body;
+    }
+
+    /** @return the status code */
+    public int getStatusCode() { return statusCode; }
+
+    /** @return the headers, by lower-case name; repeated headers are joined with {@code ", "} */
+    public Map<String, String> getHeaders() { return headers; }
+
+    /**
+     * @param name the header name, in any case
+     * @return the header value, or {@code null} if the response has no such header
+     */
+    public String getHeader(String name) {
+        return headers.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /** @return the body, empty if there was none */
+    public byte[] getBody() { return body; }
+
+    /** @return the body decoded as UTF-8 */
+    public String getBodyAsString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "NioResponse[" + statusCode + ", " + body.length + " bytes]";
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.bookstoreapi.nio;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code PendingRequest} is a request on its way through a {@link NioHttpEngine}: queued,
+ * written to a connection, or waiting for its response.
+ */
+final class PendingRequest {
+
+    final String method;
+    final String path;
+    final ByteBuffer body;
+    final CompletableFuture<NioResponse> future = new CompletableFuture<>();
+    final long deadline;
+    boolean retried;
+
+    PendingRequest(String method, String path, ByteBuffer body, long deadline) {
+        this.method = method;
+        this.path = path;
+        this.body = body;
+        this.deadline = deadline;
+    }
+
+    /**
+     * @return whether the request may be sent again when its connection closes before the response
+     */
+    boolean isRetryable() {
+        return !retried && !"POST".equals(method);
+    }
+}
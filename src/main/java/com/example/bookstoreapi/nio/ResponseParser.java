@@ -0,0 +1,269 @@
+package com.example.bookstoreapi.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@code ResponseParser} reads HTTP/1.1 responses incrementally, from whatever bytes a
+ * non-blocking read returned.
+ * <p>
+ * One parser belongs to one connection and reads its responses one after another. Bodies
+ * are framed by {@code Content-Length}, by chunked transfer encoding, or - when neither is
+ * present - by the server closing the connection. Interim {@code 1xx} responses are skipped.
+ * </p>
+ */
+final class ResponseParser {
+
+    private static final int MAX_LINE_BYTES = 16 * 1024;
+    private static final int MAX_HEAD_BYTES = 64 * 1024;
+    private static final byte[] NO_BODY = new byte[0];
+
+    private enum State { STATUS_LINE, HEADER, FIXED_BODY, CHUNK_SIZE, CHUNK_DATA, CHUNK_END, TRAILER, UNTIL_CLOSE }
+
+    private State state = State.STATUS_LINE;
+    private byte[] line = new byte[128];
+    private int lineLength;
+    private boolean lineRead;
+    private int headBytes;
+
+    private boolean http11;
+    private int statusCode;
+    private Map<String, String> headers;
+    private byte[] body;
+    private int bodyLength;
+    private long remaining;
+    private boolean keepAlive = true;
+
+    /**
+     * Consumes bytes up to the end of the next response.
+     *
+     * @param in the bytes read; its position is advanced past what was consumed
+     * @return the response, or {@code null} if {@code in} ended before the response did
+     * @throws IOException if the bytes are not a valid response
+     */
+    NioResponse parse(ByteBuffer in) throws IOException {
+        while (in.hasRemaining()) {
+            switch (state) {
+                case STATUS_LINE:
+                    if (readLine(in)) {
+                        statusLine();
+                    }
+                    break;
+                case HEADER:
+                    if (readLine(in)) {
+                        NioResponse response = lineLength == 0 ? endOfHead() : header();
+                        if (response != null) {
+                            return response;
+                        }
+                    }
+                    break;
+                case FIXED_BODY:
+                    readBody(in);
+                    if (remaining == 0) {
+                        return complete();
+                    }
+                    break;
+                case CHUNK_SIZE:
+                    if (readLine(in)) {
+                        chunkSize();
+                    }
+                    break;
+                case CHUNK_DATA:
+                    readBody(in);
+                    if (remaining == 0) {
+                        state = State.CHUNK_END;
+                    }
+                    break;
+                case CHUNK_END:
+                    if (readLine(in)) {
+                        if (lineLength != 0) {
+                            throw new IOException("Malformed chunk: missing CRLF after chunk data");
+                        }
+                        state = State.CHUNK_SIZE;
+                    }
+                    break;
+                case TRAILER:
+                    if (readLine(in) && lineLength == 0) {
+                        return complete();
+                    }
+                    break;
+                case UNTIL_CLOSE:
+                    remaining = in.remaining();
+                    readBody(in);
+                    break;
+                default:
+                    throw new IllegalStateException(state.name());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Ends the response at the end of the stream.
+     *
+     * @return the response if its body runs until the connection closes, {@code null} if no response was started
+     * @throws IOException if the stream ended inside a response
+     */
+    NioResponse finish() throws IOException {
+        if (state == State.UNTIL_CLOSE) {
+            return complete();
+        }
+        if (state == State.STATUS_LINE && (lineRead || lineLength == 0)) {
+            return null;
+        }
+        throw new IOException("Connection closed in the middle of a response");
+    }
+
+    /**
+     * @return whether the connection stays open after the last response
+     */
+    boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    private void statusLine() throws IOException {
+        String status = new String(line, 0, lineLength, StandardCharsets.ISO_8859_1);
+        int first = status.indexOf(' ');
+        if (!status.startsWith("HTTP/1.") || first < 0 || status.length() < first + 4) {
+            throw new IOException("Malformed status line: " + status);
+        }
+        try {
+            statusCode = Integer.parseInt(status.substring(first + 1, first + 4));
+        } catch (NumberFormatException ex) {
+            throw new IOException("Malformed status line: " + status, ex);
+        }
+        http11 = status.startsWith("HTTP/1.1");
+        headers = new HashMap<>();
+        state = State.HEADER;
+    }
+
+    private NioResponse header() throws IOException {
+        String header = new String(line, 0, lineLength, StandardCharsets.ISO_8859_1);
+        int colon = header.indexOf(':');
+        if (colon <= 0) {
+            throw new IOException("Malformed header: " + header);
+        }
+        String name = header.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+        String value = header.substring(colon + 1).trim();
+        headers.merge(name, value, (previous, next) -> previous + ", " + next);
+        return null;
+    }
+
+    private NioResponse endOfHead() throws IOException {
+        headBytes = 0;
+        if (statusCode >= 100 && statusCode < 200) {
+            // interim response: the final one follows
+            state = State.STATUS_LINE;
+            return null;
+        }
+        String connection = headers.getOrDefault("connection", "").toLowerCase(Locale.ROOT);
+        keepAlive = http11 ? !connection.contains("close") : connection.contains("keep-alive");
+
+        String transferEncoding = headers.get("transfer-encoding");
+        String contentLength = headers.get("content-length");
+        if (statusCode == 204 || statusCode == 304) {
+            body = NO_BODY;
+            return complete();
+        }
+        if (transferEncoding != null && transferEncoding.toLowerCase(Locale.ROOT).contains("chunked")) {
+            body = new byte[256];
+            state = State.CHUNK_SIZE;
+            return null;
+        }
+        if (contentLength != null) {
+            long length;
+            try {
+                length = Long.parseLong(contentLength);
+            } catch (NumberFormatException ex) {
+                throw new IOException("Malformed Content-Length: " + contentLength, ex);
+            }
+            if (length < 0 || length > Integer.MAX_VALUE - 8) {
+                throw new IOException("Unsupported Content-Length: " + contentLength);
+            }
+            if (length == 0) {
+                body = NO_BODY;
+                return complete();
+            }
+            body = new byte[(int) length];
+            remaining = length;
+            state = State.FIXED_BODY;
+            return null;
+        }
+        keepAlive = false;
+        body = new byte[256];
+        state = State.UNTIL_CLOSE;
+        return null;
+    }
+
+    private void chunkSize() throws IOException {
+        String size = new String(line, 0, lineLength, StandardCharsets.ISO_8859_1);
+        int extension = size.indexOf(';');
+        try {
+            remaining = Long.parseLong((extension < 0 ? size : size.substring(0, extension)).trim(), 16);
+        } catch (NumberFormatException ex) {
+            throw new IOException("Malformed chunk size: " + size, ex);
+        }
+        if (remaining < 0 || bodyLength + remaining > Integer.MAX_VALUE - 8) {
+            throw new IOException("Unsupported chunk size: " + size);
+        }
+        headBytes = 0;
+        state = remaining == 0 ? State.TRAILER : State.CHUNK_DATA;
+    }
+
+    private void readBody(ByteBuffer in) {
+        int count = (int) Math.min(remaining, in.remaining());
+        if (bodyLength + count > body.length) {
+            body = Arrays.copyOf(body, Math.max(bodyLength + count, body.length * 2));
+        }
+        in.get(body, bodyLength, count);
+        bodyLength += count;
+        remaining -= count;
+    }
+
+    private boolean readLine(ByteBuffer in) throws IOException {
+        if (lineRead) {
+            lineLength = 0;
+            lineRead = false;
+        }
+        while (in.hasRemaining()) {
+            byte b = in.get();
+            if (++headBytes > MAX_HEAD_BYTES) {
+                throw new IOException("Response head exceeds " + MAX_HEAD_BYTES + " bytes");
+            }
+            if (b == '\n') {
+                if (lineLength > 0 && line[lineLength - 1] == '\r') {
+                    lineLength--;
+                }
+                lineRead = true;
+                return true;
+            }
+            if (lineLength == line.length) {
+                if (lineLength == MAX_LINE_BYTES) {
+                    throw new IOException("Response line exceeds " + MAX_LINE_BYTES + " bytes");
+                }
+                line = Arrays.copyOf(line, Math.min(line.length * 2, MAX_LINE_BYTES));
+            }
+            line[lineLength++] = b;
+        }
+        return false;
+    }
+
+    private NioResponse complete() {
+        byte[] content = body.length == bodyLength ? body : Arrays.copyOf(body, bodyLength);
+        NioResponse response = new NioResponse(statusCode, headers, content);
+        state = State.STATUS_LINE;
+        headers = null;
+        body = null;
+        bodyLength = 0;
+        remaining = 0;
+        headBytes = 0;
+        lineLength = 0;
+        lineRead = false;
+        return response;
+    }
+}
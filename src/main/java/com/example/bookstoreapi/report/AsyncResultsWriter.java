@@ -0,0 +1,305 @@
+package com.example.bookstoreapi.report;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import io.qameta.allure.AllureResultsWriteException;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.internal.Allure2ModelJackson;
+import io.qameta.allure.internal.shadowed.jackson.databind.ObjectMapper;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.ExecutableItem;
+import io.qameta.allure.model.FixtureResult;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+/**
+ * {@code AsyncResultsWriter} writes Allure results and attachments on a background thread,
+ * so the test threads only hand them over.
+ * <p>
+ * Results, containers and attachment bytes go into a bounded queue. One writer thread takes
+ * them in batches of up to {@code allure.results.batch.size}, serializes each into a reused
+ * buffer and writes it with a single {@link FileChannel} write. File names and JSON are the
+ * same as Allure's own {@code FileSystemResultsWriter}. With
+ * {@code allure.results.compress.attachments} attachments are gzipped to {@code <source>.gz},
+ * and the results that reference them are rewritten to point at the compressed file.
+ * </p>
+ * {@link #close()} writes everything still queued and is also run by a shutdown hook, so an
+ * aborted run keeps the results it produced. Anything handed over after {@code close()} is
+ * written on the calling thread. A file that cannot be written is counted in
+ * {@link #getFailed()} instead of failing the test that produced it.
+ */
+public final class AsyncResultsWriter implements AllureResultsWriter, Closeable {
+
+    private static final String GZIP_TYPE = "application/gzip";
+    private static final Entry STOP = new Entry(null, null, null);
+
+    private final ResultsWriterSettings settings;
+    private final ObjectMapper mapper = Allure2ModelJackson.createMapper();
+    private final BlockingQueue<Entry> queue;
+    private final Thread thread;
+    private final Object writeLock = new Object();
+    private final Buffer buffer = new Buffer();
+    private final Set<String> compressed = new HashSet<>();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile Exception firstFailure;
+    private volatile boolean closed;
+    private boolean directoryCreated;
+
+    /**
+     * Starts the writer thread.
+     *
+     * @param settings where and how to write
+     */
+    public AsyncResultsWriter(ResultsWriterSettings settings) {
+        this.settings = settings;
+        this.queue = new ArrayBlockingQueue<>(settings.getQueueCapacity());
+        this.thread = new Thread(this::run, "allure-results-writer");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "allure-results-writer-close"));
+    }
+
+    @Override
+    public void write(TestResult testResult) {
+        enqueue(new Entry(testResult.getUuid() + "-result.json", testResult, null));
+    }
+
+    @Override
+    public void write(TestResultContainer testResultContainer) {
+        enqueue(new Entry(testResultContainer.getUuid() + "-container.json", testResultContainer, null));
+    }
+
+    @Override
+    public void write(String source, InputStream attachment) {
+        byte[] bytes;
+        try (InputStream in = attachment) {
+            bytes = in.readAllBytes();
+        } catch (IOException ex) {
+            throw new AllureResultsWriteException("Could not write Allure attachment", ex);
+        }
+        enqueue(new Entry(source, null, bytes));
+    }
+
+    /**
+     * Waits until everything handed over so far has been written.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void flush() throws InterruptedException {
+        if (closed) {
+            return;
+        }
+        CountDownLatch done = new CountDownLatch(1);
+        enqueue(new Entry(null, done, null));
+        done.await();
+    }
+
+    /**
+     * Writes everything still queued and stops the writer thread. Later results are written
+     * on the calling thread.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            queue.put(STOP);
+            thread.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        drain();
+    }
+
+    /** @return files written so far */
+    public long getWritten() { return written.get(); }
+
+    /** @return files that could not be written */
+    public long getFailed() { return failed.get(); }
+
+    /** @return the first write failure, or {@code null} if every file was written */
+    public Exception getFirstFailure() { return firstFailure; }
+
+    /** @return the settings of this writer */
+    public ResultsWriterSettings getSettings() { return settings; }
+
+    private void enqueue(Entry entry) {
+        if (closed) {
+            synchronized (writeLock) {
+                process(entry);
+            }
+            return;
+        }
+        try {
+            queue.put(entry);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            synchronized (writeLock) {
+                process(entry);
+            }
+            return;
+        }
+        if (closed) {
+            // close() may have drained the queue before this entry arrived
+            drain();
+        }
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(settings.getBatchSize());
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, settings.getBatchSize() - 1);
+                boolean stop = false;
+                synchronized (writeLock) {
+                    for (Entry entry : batch) {
+                        if (entry == STOP) {
+                            stop = true;
+                        } else {
+                            process(entry);
+                        }
+                    }
+                }
+                batch.clear();
+                if (stop) {
+                    return;
+                }
+            }
+        } catch (InterruptedException ex) {
+            // close() writes whatever is left on its own thread
+        }
+    }
+
+    private void drain() {
+        synchronized (writeLock) {
+            Entry entry;
+            while ((entry = queue.poll()) != null) {
+                if (entry != STOP) {
+                    process(entry);
+                }
+            }
+        }
+    }
+
+    private void process(Entry entry) {
+        if (entry.item instanceof CountDownLatch) {
+            ((CountDownLatch) entry.item).countDown();
+            return;
+        }
+        try {
+            buffer.reset();
+            String name = entry.name;
+            if (entry.attachment != null) {
+                if (settings.isCompressAttachments()) {
+                    try (OutputStream gzip = new GZIPOutputStream(buffer, 8192)) {
+                        gzip.write(entry.attachment);
+                    }
+                    compressed.add(name);
+                    name = name + ".gz";
+                } else {
+                    buffer.write(entry.attachment);
+                }
+            } else {
+                if (!compressed.isEmpty()) {
+                    pointAtCompressed(entry.item);
+                }
+                mapper.writeValue(buffer, entry.item);
+            }
+            writeFile(name);
+            written.incrementAndGet();
+        } catch (IOException | RuntimeException ex) {
+            failed.incrementAndGet();
+            if (firstFailure == null) {
+                firstFailure = ex;
+            }
+        }
+    }
+
+    private void writeFile(String name) throws IOException {
+        if (!directoryCreated) {
+            Files.createDirectories(settings.getDirectory());
+            directoryCreated = true;
+        }
+        Path file = settings.getDirectory().resolve(name);
+        try (FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer bytes = buffer.contents();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+    }
+
+    private void pointAtCompressed(Object item) {
+        if (item instanceof ExecutableItem) {
+            pointAtCompressed((ExecutableItem) item);
+        } else if (item instanceof TestResultContainer) {
+            TestResultContainer container = (TestResultContainer) item;
+            for (FixtureResult fixture : container.getBefores()) {
+                pointAtCompressed(fixture);
+            }
+            for (FixtureResult fixture : container.getAfters()) {
+                pointAtCompressed(fixture);
+            }
+        }
+    }
+
+    private void pointAtCompressed(ExecutableItem item) {
+        for (Attachment attachment : item.getAttachments()) {
+            if (compressed.remove(attachment.getSource())) {
+                attachment.setSource(attachment.getSource() + ".gz").setType(GZIP_TYPE);
+            }
+        }
+        for (StepResult step : item.getSteps()) {
+            pointAtCompressed(step);
+        }
+    }
+
+    /** Serialization buffer that is reused for every file and written without copying. */
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        Buffer() {
+            super(64 * 1024);
+        }
+
+        ByteBuffer contents() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+
+    /** A result or container ({@code item}), attachment bytes, or a flush marker. */
+    private static final class Entry {
+        private final String name;
+        private final Object item;
+        private final byte[] attachment;
+
+        Entry(String name, Object item, byte[] attachment) {
+            this.name = name;
+            this.item = item;
+            this.attachment = attachment;
+        }
+    }
+}
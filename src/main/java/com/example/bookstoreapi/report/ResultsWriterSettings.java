@@ -0,0 +1,86 @@
+package com.example.bookstoreapi.report;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.example.bookstoreapi.config.ConfigReader;
+
+/**
+ * {@code ResultsWriterSettings} controls where and how the {@link AsyncResultsWriter} writes
+ * the Allure result files.
+ * <p>
+ * The settings are read through {@link ConfigReader}:
+ * </p>
+ * <ul>
+ *   <li>{@code allure.results.directory} - the results directory, as for Allure itself (default {@code allure-results})</li>
+ *   <li>{@code allure.results.async} - write the files on a background thread instead of the test thread (default true)</li>
+ *   <li>{@code allure.results.queue.capacity} - results and attachments waiting to be written (default 4096);
+ *       a test that finds the queue full waits for room</li>
+ *   <li>{@code allure.results.batch.size} - files the background thread writes per wake-up (default 64)</li>
+ *   <li>{@code allure.results.compress.attachments} - gzip attachment files (default false); the report
+ *       then offers them as downloads instead of showing them inline</li>
+ * </ul>
+ */
+public final class ResultsWriterSettings {
+
+    private final Path directory;
+    private final boolean async;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final boolean compressAttachments;
+
+    /**
+     * @param directory           the results directory
+     * @param async               whether the files are written on a background thread
+     * @param queueCapacity       results and attachments waiting to be written
+     * @param batchSize           files the background thread writes per wake-up
+     * @param compressAttachments whether attachment files are gzipped
+     */
+    public ResultsWriterSettings(Path directory, boolean async, int queueCapacity, int batchSize, boolean compressAttachments) {
+        if (directory == null) {
+            throw new IllegalArgumentException("allure.results.directory must not be empty");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("allure.results.queue.capacity must be positive: " + queueCapacity);
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("allure.results.batch.size must be positive: " + batchSize);
+        }
+        this.directory = directory;
+        this.async = async;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.compressAttachments = compressAttachments;
+    }
+
+    /**
+     * Reads the settings from the configuration.
+     *
+     * @return the configured {@code ResultsWriterSettings}
+     */
+    public static ResultsWriterSettings fromConfig() {
+        String directory = ConfigReader.get("allure.results.directory");
+        String async = ConfigReader.get("allure.results.async");
+        return new ResultsWriterSettings(
+            Paths.get(directory == null || directory.trim().isEmpty() ? "allure-results" : directory.trim()),
+            async == null || async.trim().isEmpty() || Boolean.parseBoolean(async.trim()),
+            ConfigReader.getInt("allure.results.queue.capacity", 4096),
+            ConfigReader.getInt("allure.results.batch.size", 64),
+            Boolean.parseBoolean(ConfigReader.get("allure.results.compress.attachments")));
+    }
+
+    /** @return the results directory */
+    public Path getDirectory() { return directory; }
+
+    /** @return whether the files are written on a background thread */
+    public boolean isAsync() { return async; }
+
+    /** @return results and attachments waiting to be written */
+    public int getQueueCapacity() { return queueCapacity; }
+
+    /** @return files the background thread writes per wake-up */
+    public int getBatchSize() { return batchSize; }
+
+    /** @return whether attachment files are gzipped */
+    public boolean isCompressAttachments() { return compressAttachments; }
+}
@@ -0,0 +1,58 @@
+package com.example.bookstoreapi.stub;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * {@code AuthorsHandler} serves {@code /api/v1/Authors}, adding
+ * {@code GET /authors/books/{idBook}} to the routes of {@link ResourceHandler}.
+ * Like the real API it answers 200 with an empty array for a book without authors.
+ */
+final class AuthorsHandler extends ResourceHandler {
+
+    private static final String BY_BOOK = "authors/books/";
+    private static final byte[] EMPTY_ARRAY = "[]".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[][] byBook;
+
+    AuthorsHandler(String basePath, ArrayNode authors) {
+        super(basePath, StubField.AUTHOR, authors);
+        ArrayNode[] grouped = new ArrayNode[StubFixtures.BOOK_COUNT + 1];
+        for (JsonNode author : authors) {
+            int book = author.get("idBook").asInt();
+            if (grouped[book] == null) {
+                grouped[book] = JsonNodeFactory.instance.arrayNode();
+            }
+            grouped[book].add(author);
+        }
+        byBook = new byte[grouped.length][];
+        for (int book = 1; book < grouped.length; book++) {
+            byBook[book] = grouped[book] == null ? EMPTY_ARRAY : StubResponses.toJson(grouped[book]);
+        }
+    }
+
+    @Override
+    void handleSubresource(HttpExchange exchange, String method, String path) throws IOException {
+        if (!"GET".equals(method) || !path.startsWith(BY_BOOK) || path.indexOf('/', BY_BOOK.length()) >= 0) {
+            super.handleSubresource(exchange, method, path);
+            return;
+        }
+        Map<String, List<String>> errors = new LinkedHashMap<>();
+        Integer idBook = parseInt(path.substring(BY_BOOK.length()), "idBook", errors);
+        if (idBook == null) {
+            StubResponses.validationProblem(exchange, errors);
+        } else if (idBook < 1 || idBook >= byBook.length) {
+            StubResponses.json(exchange, 200, EMPTY_ARRAY);
+        } else {
+            StubResponses.json(exchange, 200, byBook[idBook]);
+        }
+    }
+}
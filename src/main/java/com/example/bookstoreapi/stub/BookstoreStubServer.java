@@ -0,0 +1,99 @@
+package com.example.bookstoreapi.stub;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * {@code BookstoreStubServer} is an in-process stand-in for the Bookstore API
+ * ({@code /api/v1/Books} and {@code /api/v1/Authors}), built on the JDK HTTP server.
+ * <p>
+ * It answers with the same status codes and error bodies as
+ * {@code https://fakerestapi.azurewebsites.net}, including the cases the suite marks as
+ * expected to fail, so tests and load runs can work offline and without WAN latency:
+ * </p>
+ * <pre>
+ * try (BookstoreStubServer server = BookstoreStubServer.start()) {
+ *     BooksApis books = new BooksApis(server.getBaseUrl());
+ *     ...
+ * }
+ * </pre>
+ * Like the real API it keeps no state: created and updated items are echoed back, not stored.
+ */
+public final class BookstoreStubServer implements AutoCloseable {
+
+    static {
+        // Disable Nagle's algorithm on accepted connections; must be set before the server is created
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private static final String BOOKS_PATH = "/api/v1/Books";
+    private static final String AUTHORS_PATH = "/api/v1/Authors";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private BookstoreStubServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts a server on a free loopback port.
+     *
+     * @return the running server
+     */
+    public static BookstoreStubServer start() {
+        return start(0);
+    }
+
+    /**
+     * Starts a server on the given loopback port.
+     *
+     * @param port the port, or {@code 0} for a free one
+     * @return the running server
+     * @throws UncheckedIOException if the port cannot be bound
+     */
+    public static BookstoreStubServer start(int port) {
+        HttpServer server;
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to start the Bookstore stub server on port " + port, ex);
+        }
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "bookstore-stub-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext(BOOKS_PATH, new ResourceHandler(BOOKS_PATH, StubField.BOOK, StubFixtures.books()));
+        server.createContext(AUTHORS_PATH, new AuthorsHandler(AUTHORS_PATH, StubFixtures.authors()));
+        server.setExecutor(executor);
+        server.start();
+        return new BookstoreStubServer(server, executor);
+    }
+
+    /**
+     * @return the base URL to point {@code base.url} at (e.g., {@code http://127.0.0.1:53211})
+     */
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    /**
+     * Stops the server immediately.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.bookstoreapi.stub;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+/**
+ * {@code ResourceHandler} serves one resource of the stand-in server (e.g.,
+ * {@code /api/v1/Books}) the way the real API does:
+ * <ul>
+ *   <li>{@code GET /} returns the seed data and {@code GET /{id}} one item, or 404.</li>
+ *   <li>{@code POST /} and {@code PUT /{id}} validate the body and echo it back;
+ *       nothing is stored.</li>
+ *   <li>{@code DELETE /{id}} answers 200 for any valid ID.</li>
+ *   <li>An ID that is not a 32-bit integer, or a body that does not bind to the
+ *       model, is rejected with 400.</li>
+ * </ul>
+ * Responses for the seed data are serialized once up front.
+ */
+class ResourceHandler implements HttpHandler {
+
+    private final String basePath;
+    private final List<StubField> fields;
+    private final byte[] all;
+    private final byte[][] byId;
+
+    ResourceHandler(String basePath, List<StubField> fields, ArrayNode items) {
+        this.basePath = basePath;
+        this.fields = fields;
+        this.all = StubResponses.toJson(items);
+        this.byId = new byte[items.size() + 1][];
+        for (JsonNode item : items) {
+            byId[item.get("id").asInt()] = StubResponses.toJson(item);
+        }
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            byte[] body = readBody(exchange);
+            String path = exchange.getRequestURI().getPath().substring(basePath.length());
+            if (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+            String method = exchange.getRequestMethod();
+            if (!path.isEmpty() && path.charAt(0) != '/') {
+                StubResponses.empty(exchange, 404);
+            } else if (path.isEmpty()) {
+                handleCollection(exchange, method, body);
+            } else if (path.indexOf('/', 1) < 0) {
+                handleItem(exchange, method, path.substring(1), body);
+            } else {
+                handleSubresource(exchange, method, path.substring(1));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleCollection(HttpExchange exchange, String method, byte[] body) throws IOException {
+        switch (method) {
+            case "GET":
+                StubResponses.json(exchange, 200, all);
+                break;
+            case "POST":
+                echo(exchange, body, new LinkedHashMap<>());
+                break;
+            default:
+                StubResponses.empty(exchange, 405);
+        }
+    }
+
+    private void handleItem(HttpExchange exchange, String method, String rawId, byte[] body) throws IOException {
+        Map<String, List<String>> errors = new LinkedHashMap<>();
+        Integer id = parseInt(rawId, "id", errors);
+        switch (method) {
+            case "GET":
+                if (id == null) {
+                    StubResponses.validationProblem(exchange, errors);
+                } else if (id < 1 || id >= byId.length) {
+                    StubResponses.notFound(exchange);
+                } else {
+                    StubResponses.json(exchange, 200, byId[id]);
+                }
+                break;
+            case "PUT":
+                echo(exchange, body, errors);
+                break;
+            case "DELETE":
+                if (id == null) {
+                    StubResponses.validationProblem(exchange, errors);
+                } else {
+                    StubResponses.empty(exchange, 200);
+                }
+                break;
+            default:
+                StubResponses.empty(exchange, 405);
+        }
+    }
+
+    /**
+     * Handles paths with more than one segment below the resource. The base resource has none.
+     *
+     * @param exchange the exchange
+     * @param method   the HTTP method
+     * @param path     the path below the resource, without leading slash
+     * @throws IOException if the response cannot be written
+     */
+    void handleSubresource(HttpExchange exchange, String method, String path) throws IOException {
+        StubResponses.empty(exchange, 404);
+    }
+
+    /**
+     * Binds the body to the model like the real API and echoes it, or answers 400 with
+     * the binding errors (added to any errors already found in the path).
+     */
+    private void echo(HttpExchange exchange, byte[] body, Map<String, List<String>> errors) throws IOException {
+        ObjectNode model = bind(body, errors);
+        if (!errors.isEmpty()) {
+            StubResponses.validationProblem(exchange, errors);
+        } else {
+            StubResponses.json(exchange, 200, StubResponses.toJson(model));
+        }
+    }
+
+    private ObjectNode bind(byte[] body, Map<String, List<String>> errors) {
+        if (body.length == 0) {
+            errors.computeIfAbsent("", key -> new ArrayList<>()).add("A non-empty request body is required.");
+            return null;
+        }
+        JsonNode json;
+        try {
+            json = StubResponses.MAPPER.readTree(body);
+        } catch (IOException ex) {
+            errors.computeIfAbsent("$", key -> new ArrayList<>()).add("The JSON value is not valid.");
+            return null;
+        }
+        if (json == null || !json.isObject()) {
+            errors.computeIfAbsent("$", key -> new ArrayList<>()).add("The JSON value could not be converted to the model.");
+            return null;
+        }
+        ObjectNode model = StubResponses.MAPPER.createObjectNode();
+        for (StubField field : fields) {
+            JsonNode value = findIgnoreCase(json, field.getName());
+            if (value == null) {
+                model.set(field.getName(), field.defaultValue());
+            } else if (field.accepts(value)) {
+                model.set(field.getName(), value);
+            } else {
+                String path = "$." + field.getName();
+                errors.computeIfAbsent(path, key -> new ArrayList<>())
+                    .add("The JSON value could not be converted to " + field.typeName() + ". Path: " + path + ".");
+            }
+        }
+        return model;
+    }
+
+    private static JsonNode findIgnoreCase(JsonNode json, String name) {
+        JsonNode exact = json.get(name);
+        if (exact != null) {
+            return exact;
+        }
+        for (Iterator<Map.Entry<String, JsonNode>> it = json.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            if (entry.getKey().equalsIgnoreCase(name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses a route value as the real API's {@code int} binding does.
+     *
+     * @return the value, or {@code null} after adding a validation error
+     */
+    static Integer parseInt(String raw, String name, Map<String, List<String>> errors) {
+        try {
+            return Integer.valueOf(raw.trim());
+        } catch (NumberFormatException ex) {
+            errors.computeIfAbsent(name, key -> new ArrayList<>()).add("The value '" + raw + "' is not valid.");
+            return null;
+        }
+    }
+
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.bookstoreapi.stub;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+/**
+ * {@code StubField} is one property of a resource model and the JSON values the real
+ * API accepts for it.
+ * <p>
+ * The real API binds request bodies to non-nullable .NET types: integers and dates
+ * must be present as a valid value or be left out (then they get their default),
+ * while strings may be {@code null}. Property names match case-insensitively.
+ * </p>
+ */
+final class StubField {
+
+    enum Type { INT, STRING, DATE_TIME }
+
+    static final List<StubField> BOOK = Collections.unmodifiableList(Arrays.asList(
+        new StubField("id", Type.INT),
+        new StubField("title", Type.STRING),
+        new StubField("description", Type.STRING),
+        new StubField("pageCount", Type.INT),
+        new StubField("excerpt", Type.STRING),
+        new StubField("publishDate", Type.DATE_TIME)));
+
+    static final List<StubField> AUTHOR = Collections.unmodifiableList(Arrays.asList(
+        new StubField("id", Type.INT),
+        new StubField("idBook", Type.INT),
+        new StubField("firstName", Type.STRING),
+        new StubField("lastName", Type.STRING)));
+
+    private final String name;
+    private final Type type;
+
+    private StubField(String name, Type type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * @return the value a property gets when the request leaves it out
+     */
+    JsonNode defaultValue() {
+        switch (type) {
+            case INT:
+                return JsonNodeFactory.instance.numberNode(0);
+            case DATE_TIME:
+                return JsonNodeFactory.instance.textNode("0001-01-01T00:00:00");
+            default:
+                return JsonNodeFactory.instance.nullNode();
+        }
+    }
+
+    /**
+     * @param value the JSON value sent for this property
+     * @return whether the real API can bind the value
+     */
+    boolean accepts(JsonNode value) {
+        switch (type) {
+            case INT:
+                return value.isIntegralNumber() && value.canConvertToInt();
+            case STRING:
+                return value.isTextual() || value.isNull();
+            default:
+                return value.isTextual() && isDateTime(value.asText());
+        }
+    }
+
+    /**
+     * @return the .NET type name used in validation messages
+     */
+    String typeName() {
+        switch (type) {
+            case INT:
+                return "System.Int32";
+            case STRING:
+                return "System.String";
+            default:
+                return "System.DateTime";
+        }
+    }
+
+    private static boolean isDateTime(String text) {
+        try {
+            LocalDateTime.parse(text);
+            return true;
+        } catch (DateTimeParseException notLocal) {
+            try {
+                OffsetDateTime.parse(text);
+                return true;
+            } catch (DateTimeParseException notOffset) {
+                try {
+                    LocalDate.parse(text);
+                    return true;
+                } catch (DateTimeParseException notDate) {
+                    return false;
+                }
+            }
+        }
+    }
+}
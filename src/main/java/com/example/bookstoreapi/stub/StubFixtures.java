@@ -0,0 +1,61 @@
+package com.example.bookstoreapi.stub;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * {@code StubFixtures} builds the seed data the stand-in server returns, shaped like
+ * the real API's: books 1 to 200 and authors 1 to 610, every book with three or four
+ * authors.
+ */
+final class StubFixtures {
+
+    static final int BOOK_COUNT = 200;
+    static final int AUTHOR_COUNT = 610;
+
+    private static final String LOREM = "Lorem lorem lorem. Lorem lorem lorem. Lorem lorem lorem.\n";
+
+    private StubFixtures() {
+    }
+
+    static ArrayNode books() {
+        OffsetDateTime today = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
+        ArrayNode books = JsonNodeFactory.instance.arrayNode(BOOK_COUNT);
+        for (int id = 1; id <= BOOK_COUNT; id++) {
+            ObjectNode book = books.addObject();
+            book.put("id", id);
+            book.put("title", "Book " + id);
+            book.put("description", LOREM);
+            book.put("pageCount", id * 100);
+            book.put("excerpt", LOREM + LOREM + LOREM);
+            book.put("publishDate", today.minusDays(id).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+        }
+        return books;
+    }
+
+    static ArrayNode authors() {
+        ArrayNode authors = JsonNodeFactory.instance.arrayNode(AUTHOR_COUNT);
+        for (int id = 1; id <= AUTHOR_COUNT; id++) {
+            ObjectNode author = authors.addObject();
+            author.put("id", id);
+            author.put("idBook", bookOf(id));
+            author.put("firstName", "First Name " + id);
+            author.put("lastName", "Last Name " + id);
+        }
+        return authors;
+    }
+
+    /**
+     * @param authorId an author ID
+     * @return the ID of the book the author belongs to
+     */
+    static int bookOf(int authorId) {
+        return (authorId - 1) % BOOK_COUNT + 1;
+    }
+}
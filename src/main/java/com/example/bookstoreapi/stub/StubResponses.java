@@ -0,0 +1,77 @@
+package com.example.bookstoreapi.stub;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * {@code StubResponses} writes responses in the format of the real API, including its
+ * RFC 7807 problem details for {@code 404 Not Found} and validation errors.
+ */
+final class StubResponses {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String JSON = "application/json; charset=utf-8; v=1.0";
+    private static final String PROBLEM_JSON = "application/problem+json; charset=utf-8";
+
+    static final String NOT_FOUND_TITLE = "Not Found";
+    static final String VALIDATION_TITLE = "One or more validation errors occurred.";
+
+    private StubResponses() {
+    }
+
+    static byte[] toJson(Object value) {
+        try {
+            return MAPPER.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static void json(HttpExchange exchange, int status, byte[] body) throws IOException {
+        send(exchange, status, JSON, body);
+    }
+
+    static void empty(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    static void notFound(HttpExchange exchange) throws IOException {
+        ObjectNode problem = problem("https://tools.ietf.org/html/rfc7231#section-6.5.4", NOT_FOUND_TITLE, 404);
+        send(exchange, 404, PROBLEM_JSON, toJson(problem));
+    }
+
+    static void validationProblem(HttpExchange exchange, Map<String, List<String>> errors) throws IOException {
+        ObjectNode problem = problem("https://tools.ietf.org/html/rfc7231#section-6.5.1", VALIDATION_TITLE, 400);
+        ObjectNode fields = problem.putObject("errors");
+        errors.forEach((field, messages) -> messages.forEach(fields.withArray(field)::add));
+        send(exchange, 400, PROBLEM_JSON, toJson(problem));
+    }
+
+    private static ObjectNode problem(String type, String title, int status) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ObjectNode problem = MAPPER.createObjectNode();
+        problem.put("type", type);
+        problem.put("title", title);
+        problem.put("status", status);
+        problem.put("traceId", String.format("00-%016x%016x-%016x-00", random.nextLong(), random.nextLong(), random.nextLong()));
+        return problem;
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package bookstore.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.bookstoreapi.api.ApiResult;
+import com.example.bookstoreapi.api.AsyncAuthorsApis;
+import com.example.bookstoreapi.api.AsyncBooksApis;
+import com.example.bookstoreapi.data.AuthorDataFactory;
+import com.example.bookstoreapi.data.BookDataFactory;
+import com.example.bookstoreapi.model.Author;
+import com.example.bookstoreapi.model.Book;
+import com.example.bookstoreapi.stub.BookstoreStubServer;
+
+/**
+ * Test class for the asynchronous clients {@link AsyncBooksApis} and {@link AsyncAuthorsApis}.
+ * <p>
+ * Runs without the API, against the in-process stand-in server.
+ */
+public class AsyncClientTests {
+
+    private static BookstoreStubServer server;
+    private static AsyncBooksApis books;
+    private static AsyncAuthorsApis authors;
+
+    @BeforeAll
+    public static void startServer() {
+        server = BookstoreStubServer.start();
+        books = new AsyncBooksApis(server.getBaseUrl());
+        authors = new AsyncAuthorsApis(server.getBaseUrl());
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        server.close();
+    }
+
+    /**
+     * Positive test: A book and the list of books are read into the model.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Get books asynchronously")
+    public void getBooks() {
+        ApiResult<Book> book = books.getBookByIdAsync(7).join();
+        ApiResult<List<Book>> all = books.getAllBooksAsync().join();
+
+        assertEquals(200, book.getStatusCode());
+        assertEquals(7, book.getValue().getId());
+        assertEquals("Book 7", book.getValue().getTitle());
+        assertTrue(all.isSuccessful());
+        assertFalse(all.getValue().isEmpty());
+        assertEquals(1, all.getValue().get(0).getId());
+    }
+
+    /**
+     * Positive test: Created and updated items are sent as JSON and read back, and an author's book comes from {@code idBook}.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Create and update asynchronously")
+    public void createAndUpdate() {
+        Book book = BookDataFactory.createBaseBook();
+        Author author = AuthorDataFactory.createBaseAuthor();
+
+        ApiResult<Book> created = books.createBookAsync(book).join();
+        ApiResult<Author> updated = authors.updateAuthorAsync(author.getId(), author).join();
+        ApiResult<List<Author>> byBook = authors.getAuthorByBookIdAsync(3).join();
+
+        assertEquals(200, created.getStatusCode());
+        assertEquals(book.getTitle(), created.getValue().getTitle());
+        assertEquals(book.getPageCount(), created.getValue().getPageCount());
+        assertEquals(author.getFirstName(), updated.getValue().getFirstName());
+        assertFalse(byBook.getValue().isEmpty());
+        for (Author item : byBook.getValue()) {
+            assertEquals(3, item.getBookId());
+        }
+    }
+
+    /**
+     * Negative test: A 404 is a result, not an exception, and carries the raw body but no value.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Report a missing book as a 404 result")
+    public void missingBookIsResult() {
+        ApiResult<Book> result = books.getBookByIdAsync(999_999).join();
+
+        assertEquals(404, result.getStatusCode());
+        assertFalse(result.isSuccessful());
+        assertNull(result.getValue());
+        assertTrue(result.getBody().contains("Not Found"), result.getBody());
+    }
+
+    /**
+     * Edge test: A DELETE answered without a body gives an empty body and no value.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Delete with an empty response body")
+    public void deleteHasEmptyBody() {
+        ApiResult<Void> result = authors.deleteAuthorAsync(1).join();
+
+        assertEquals(200, result.getStatusCode());
+        assertEquals("", result.getBody());
+        assertNull(result.getValue());
+    }
+
+    /**
+     * Edge test: Many requests in flight at once all complete, and an unreachable server fails the future instead of the caller.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Keep many requests in flight")
+    public void manyRequestsInFlight() throws IOException {
+        List<CompletableFuture<ApiResult<Book>>> futures = new ArrayList<>();
+        for (int id = 1; id <= 100; id++) {
+            futures.add(books.getBookByIdAsync(id));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        for (int id = 1; id <= 100; id++) {
+            assertEquals(id, futures.get(id - 1).join().getValue().getId());
+        }
+
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            closedPort = socket.getLocalPort();
+        }
+        CompletableFuture<ApiResult<Book>> unreachable = new AsyncBooksApis("http://127.0.0.1:" + closedPort).getBookByIdAsync(1);
+        CompletionException failure = assertThrows(CompletionException.class, unreachable::join);
+        assertInstanceOf(ConnectException.class, failure.getCause());
+    }
+}
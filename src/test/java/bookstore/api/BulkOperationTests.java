@@ -0,0 +1,104 @@
+package bookstore.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.bookstoreapi.api.ApiResult;
+import com.example.bookstoreapi.api.AsyncAuthorsApis;
+import com.example.bookstoreapi.api.AsyncBooksApis;
+import com.example.bookstoreapi.api.BulkResult;
+import com.example.bookstoreapi.data.BookDataFactory;
+import com.example.bookstoreapi.model.Book;
+import com.example.bookstoreapi.stub.BookstoreStubServer;
+
+/**
+ * Test class for the bulk operations of the asynchronous clients.
+ * <p>
+ * Runs without the API, against the in-process stand-in server.
+ */
+public class BulkOperationTests {
+
+    private static BookstoreStubServer server;
+
+    @BeforeAll
+    public static void startServer() {
+        server = BookstoreStubServer.start();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        server.close();
+    }
+
+    /**
+     * Positive test: Every book is created, and the results come back in the order of the items.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Create books in bulk")
+    public void createBooks() throws InterruptedException {
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            books.add(BookDataFactory.createBaseBook());
+        }
+
+        BulkResult<Book> result = new AsyncBooksApis(server.getBaseUrl()).createBooks(books, 8);
+
+        assertTrue(result.isSuccessful(), result.toString());
+        assertEquals(100, result.getSucceeded());
+        for (int i = 0; i < books.size(); i++) {
+            assertEquals(books.get(i).getTitle(), result.getResults().get(i).getValue().getTitle());
+        }
+        assertTrue(result.getLatencyMillis(100) <= result.getElapsed().toNanos() / 1e6);
+    }
+
+    /**
+     * Positive test: Authors are deleted in bulk; non-2xx answers are reported per item.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Delete authors in bulk")
+    public void deleteAuthors() throws InterruptedException {
+        int[] ids = {1, 2, 3, 4, 5};
+
+        BulkResult<Void> result = new AsyncAuthorsApis(server.getBaseUrl()).deleteAuthors(ids, 2);
+
+        assertEquals(ids.length, result.getSucceeded());
+        assertTrue(result.getFailures().isEmpty());
+        for (ApiResult<Void> item : result.getResults()) {
+            assertEquals(200, item.getStatusCode());
+        }
+    }
+
+    /**
+     * Negative test: A book without an ID fails on its own, and the other items still run.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Report a failed item without stopping the others")
+    public void updateBooksWithMissingId() throws InterruptedException {
+        Book first = BookDataFactory.createBaseBook();
+        Book withoutId = new Book("No ID", "", 1, "", "2024-01-01T00:00:00");
+        Book last = BookDataFactory.createBaseBook();
+
+        BulkResult<Book> result = new AsyncBooksApis(server.getBaseUrl()).updateBooks(Arrays.asList(first, withoutId, last));
+
+        assertEquals(2, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertNull(result.getResults().get(1));
+        assertInstanceOf(IllegalArgumentException.class, result.getFailures().get(1));
+        assertEquals(last.getTitle(), result.getResults().get(2).getValue().getTitle());
+    }
+}
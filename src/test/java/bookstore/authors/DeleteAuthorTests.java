@@ -6,11 +6,13 @@ import org.junit.jupiter.api.Tag;
 
 import io.restassured.response.Response;
 import static org.hamcrest.Matchers.*;
+import static com.example.bookstoreapi.json.JsonMatchers.at;
 
 import org.junit.jupiter.api.Test;
 
 import com.example.bookstoreapi.api.AuthorsApis;
 import com.example.bookstoreapi.data.AuthorDataFactory;
+import com.example.bookstoreapi.json.JsonView;
 import com.example.bookstoreapi.model.Author;
 
 /**
@@ -29,7 +31,6 @@ import com.example.bookstoreapi.model.Author;
 public class DeleteAuthorTests 
 {
     private AuthorsApis authorsApi;
-    int createdAuthorId;
     
 
     private int nonExistingId = 777777; // Example of a non-existing ID. The valid ID range is between 1 and 590.
@@ -58,13 +59,13 @@ public class DeleteAuthorTests
     @Tag("positive")
     @DisplayName("Delete a book with valid data")
     public void deleteBookValidData() {
-        // Create a random author and store its ID for use in tests
+        // Create a random author and store its ID for use in test
+        int createdAuthorId;
         Author author = AuthorDataFactory.createBaseAuthor();
         Response createResponse = authorsApi.createAuthor(author);
-        createdAuthorId = createResponse.then()
-            .statusCode(200)
-            .extract()
-            .path("id");
+        createResponse.then()
+            .statusCode(200);
+        createdAuthorId = JsonView.of(createResponse).intAt("id");
         authorsApi.deleteAuthor(createdAuthorId).then().assertThat()
             .statusCode(200);  
     }
@@ -93,7 +94,7 @@ public class DeleteAuthorTests
         Response response = authorsApi.deleteAuthor(nonExistingId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -107,7 +108,7 @@ public class DeleteAuthorTests
         Response response = authorsApi.deleteAuthor(idAboveMaxId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("Not Found"));
+            .body(at("title", equalTo("Not Found")));
     }
 
     /**
@@ -121,7 +122,7 @@ public class DeleteAuthorTests
         Response response = authorsApi.deleteAuthor(alphaNumericInput);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -135,7 +136,7 @@ public class DeleteAuthorTests
         Response response = authorsApi.deleteAuthor(specialSign);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -149,7 +150,7 @@ public class DeleteAuthorTests
         Response response = authorsApi.deleteAuthor(negativeId);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -163,7 +164,7 @@ public class DeleteAuthorTests
         Response response = authorsApi.deleteAuthor(nullId);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -177,7 +178,7 @@ public class DeleteAuthorTests
         Response response = authorsApi.deleteAuthor(maxIntegerId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("Not Found"));
+            .body(at("title", equalTo("Not Found")));
     }
 
     /**
@@ -191,7 +192,7 @@ public class DeleteAuthorTests
         Response response = authorsApi.deleteAuthor(minIntegerId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("Not Found"));
+            .body(at("title", equalTo("Not Found")));
     }
 
 }
\ No newline at end of file
@@ -1,20 +1,28 @@
 package bookstore.authors;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 
 import io.restassured.response.Response;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
-
-import java.util.concurrent.ThreadLocalRandom;
+import static com.example.bookstoreapi.json.JsonMatchers.at;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
 import com.example.bookstoreapi.api.AuthorsApis;
 import com.example.bookstoreapi.data.AuthorDataFactory;
+import com.example.bookstoreapi.data.BookDataFactory;
+import com.example.bookstoreapi.json.JsonMapper;
+import com.example.bookstoreapi.json.JsonView;
 import com.example.bookstoreapi.model.Author;
 
+import bookstore.support.LatencyBudget;
+
 /**
  * Test class for API GET author endpoint.
  * <p>
@@ -40,7 +48,6 @@ public class GetAuthorTests
     private String nullId = null; // Example of a null ID that should not be valid.
     private int maxIntegerId = Integer.MAX_VALUE; // Example of a maximum integer ID that should not be valid.
     private int minIntegerId = Integer.MIN_VALUE; // Example of a minimum integer ID that should not be valid.
-    private int existingBookId = ThreadLocalRandom.current().nextInt(1, 200); // Example of an existing book ID that should return authors.
     private int bookIdWithExtraZeros = 0001; // Example of a book ID with extra zeros upfront that should return authors.
     private int nonExistingBookId = 999999; // Example of a non-existing book ID that should not return authors.
     private int bookIdAboveMaxId = 201; // Example of a book ID that is above the maximum range and should not return authors.
@@ -66,8 +73,8 @@ public class GetAuthorTests
     public void getAllAuthors() {
         Response response = authorsApi.getAllAuthors();
         response.then().assertThat()
-            .statusCode(200)
-            .body("size()", greaterThan(0));
+            .statusCode(200);
+        assertThat(JsonMapper.streamAuthors(response.asInputStream()).count(), greaterThan(0L));
     }
 
     /**
@@ -82,15 +89,14 @@ public class GetAuthorTests
         int createdAuthorId;
         Author author = AuthorDataFactory.createBaseAuthor();
         Response createResponse = authorsApi.createAuthor(author);
-        createdAuthorId = createResponse.then()
-            .statusCode(200)
-            .extract()
-            .path("id");
+        createResponse.then()
+            .statusCode(200);
+        createdAuthorId = JsonView.of(createResponse).intAt("id");
 
         Response response = authorsApi.getAuthorById(createdAuthorId);
         response.then().assertThat()
             .statusCode(200)
-            .body("id", equalTo(createdAuthorId));
+            .body(at("id", equalTo(createdAuthorId)));
     }
 
     /**
@@ -117,7 +123,7 @@ public class GetAuthorTests
         Response response = authorsApi.getAuthorById(nonExistingId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("Not Found"));   
+            .body(at("title", equalTo("Not Found")));   
     }
 
     /**
@@ -132,7 +138,7 @@ public class GetAuthorTests
         Response response = authorsApi.getAuthorById(idAboveMaxId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("Not Found"));
+            .body(at("title", equalTo("Not Found")));
     }
 
     /**
@@ -146,7 +152,7 @@ public class GetAuthorTests
         Response response = authorsApi.getAuthorById(alphaNumericInput);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -160,7 +166,7 @@ public class GetAuthorTests
         Response response = authorsApi.getAuthorById(negativeId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("Not Found"));
+            .body(at("title", equalTo("Not Found")));
     }
 
     /**
@@ -174,7 +180,7 @@ public class GetAuthorTests
         Response response = authorsApi.getAuthorById(nullId);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -188,7 +194,7 @@ public class GetAuthorTests
         Response response = authorsApi.getAuthorById(specialSign);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -202,7 +208,7 @@ public class GetAuthorTests
         Response response = authorsApi.getAuthorById(maxIntegerId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("Not Found"));
+            .body(at("title", equalTo("Not Found")));
     }
 
     /**
@@ -216,21 +222,27 @@ public class GetAuthorTests
         Response response = authorsApi.getAuthorById(minIntegerId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("Not Found"));
+            .body(at("title", equalTo("Not Found")));
     }
 
     /**
      * Positive test: Get authors by existing book ID.
-     * Verifies that the API returns status code 200 and all returned authors have the correct book ID.
+     * Verifies that the API returns status code 200 and all returned authors have the correct book ID,
+     * and that 95% of 20 repeated calls take at most 800 ms.
      */
     @Test
     @Tag("positive")
     @DisplayName("Test getting an author by existing bookID")
+    @LatencyBudget(p95 = "800ms", samples = 20)
     public void getAuthorByExistingBookId() {
+        int existingBookId = BookDataFactory.randomBookId(); // Example of an existing book ID that should return authors.
         Response response = authorsApi.getAuthorByBookId(existingBookId);
         response.then().assertThat()
-            .statusCode(200)
-            .body("idBook", everyItem(equalTo(existingBookId))); // because the response is an array
+            .statusCode(200);
+        Optional<Author> otherBook = JsonMapper.streamAuthors(response.asInputStream())
+            .findFirst(author -> !Integer.valueOf(existingBookId).equals(author.getBookId())); // because the response is an array
+        assertTrue(otherBook.isEmpty(), () -> "Author " + otherBook.get().getId() + " of book "
+            + otherBook.get().getBookId() + " returned for book " + existingBookId);
     }
 
     /**
@@ -244,7 +256,7 @@ public class GetAuthorTests
         Response response = authorsApi.getAuthorByBookId(bookIdWithExtraZeros);
         response.then().assertThat()
             .statusCode(200)
-            .body("idBook", everyItem(equalTo(bookIdWithExtraZeros)));
+            .body(at("idBook", everyItem(equalTo(bookIdWithExtraZeros))));
     }
 
     /**
@@ -259,7 +271,7 @@ public class GetAuthorTests
         Response response = authorsApi.getAuthorByBookId(nonExistingBookId);
         response.then().assertThat()
             .statusCode(404)
-            .body("idBook", everyItem(equalTo("[]")));
+            .body(at("idBook", everyItem(equalTo("[]"))));
     }
 
     /**
@@ -274,7 +286,7 @@ public class GetAuthorTests
         Response response = authorsApi.getAuthorByBookId(bookIdAboveMaxId);
         response.then().assertThat()
             .statusCode(404)
-            .body("idBook", everyItem(equalTo("[]")));
+            .body(at("idBook", everyItem(equalTo("[]"))));
     }
 
     /**
@@ -289,7 +301,7 @@ public class GetAuthorTests
         Response response = authorsApi.getAuthorByBookId(bookIdWithZero);
         response.then().assertThat()
             .statusCode(404)
-            .body("idBook", everyItem(equalTo("[]")));
+            .body(at("idBook", everyItem(equalTo("[]"))));
     }
 
     /**
@@ -304,7 +316,7 @@ public class GetAuthorTests
         Response response = authorsApi.getAuthorByBookId(bookIdWithNegativeValue);
         response.then().assertThat()
             .statusCode(404)
-            .body("idBook", everyItem(equalTo("[]")));
+            .body(at("idBook", everyItem(equalTo("[]"))));
     }
 
     /**
@@ -318,7 +330,7 @@ public class GetAuthorTests
         Response response = authorsApi.getAuthorByBookId(bookIdWithNullValue);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -332,7 +344,7 @@ public class GetAuthorTests
         Response response = authorsApi.getAuthorByBookId(alphaNumericInput);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -346,7 +358,7 @@ public class GetAuthorTests
         Response response = authorsApi.getAuthorByBookId(specialSign);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
 }
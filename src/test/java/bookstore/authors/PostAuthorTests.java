@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Tag;
 
 import io.restassured.response.Response;
 import static org.hamcrest.Matchers.*;
+import static com.example.bookstoreapi.json.JsonMatchers.at;
 import org.junit.jupiter.api.Test;
 import com.example.bookstoreapi.api.AuthorsApis;
 import com.example.bookstoreapi.data.AuthorDataFactory;
@@ -48,9 +49,9 @@ public class PostAuthorTests
         Response response = authorsApi.createAuthor(author);
         response.then().assertThat()
             .statusCode(200)
-            .body("id", equalTo(author.getId()))
-            .body("firstName", equalTo(author.getFirstName()))
-            .body("lastName",  equalTo(author.getLastName()));
+            .body(at("id", equalTo(author.getId())))
+            .body(at("firstName", equalTo(author.getFirstName())))
+            .body(at("lastName", equalTo(author.getLastName())));
         
         //delete the alredy created author
         authorsApi.deleteAuthor(author.getId()); 
@@ -68,7 +69,7 @@ public class PostAuthorTests
         Response response = authorsApi.createAuthor(author);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -84,7 +85,7 @@ public class PostAuthorTests
         Response response = authorsApi.createAuthor(author);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -100,9 +101,9 @@ public class PostAuthorTests
         Response response = authorsApi.createAuthor(author);
         response.then().assertThat()
             .statusCode(200)
-            .body("id", equalTo(author.getId()))
-            .body("firstName", equalTo(author.getFirstName()))
-            .body("lastName",  equalTo(author.getLastName()));
+            .body(at("id", equalTo(author.getId())))
+            .body(at("firstName", equalTo(author.getFirstName())))
+            .body(at("lastName", equalTo(author.getLastName())));
 
              //delete the alredy created author
         authorsApi.deleteAuthor(author.getId());
@@ -122,9 +123,9 @@ public class PostAuthorTests
         Response response = authorsApi.createAuthor(author);
         response.then().assertThat()
             .statusCode(200)
-            .body("id", equalTo(author.getId()))
-            .body("firstName", equalTo(author.getFirstName()))
-            .body("lastName",  equalTo(author.getLastName()));
+            .body(at("id", equalTo(author.getId())))
+            .body(at("firstName", equalTo(author.getFirstName())))
+            .body(at("lastName", equalTo(author.getLastName())));
 
         //delete the alredy created author
         authorsApi.deleteAuthor(author.getId());
@@ -144,7 +145,7 @@ public class PostAuthorTests
         Response response = authorsApi.createAuthor(author);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -159,9 +160,9 @@ public class PostAuthorTests
         Response response = authorsApi.createAuthor(author);
         response.then().assertThat()
             .statusCode(200)
-            .body("id", equalTo(author.getId()))
-            .body("firstName", equalTo(author.getFirstName()))
-            .body("lastName",  equalTo(author.getLastName()));
+            .body(at("id", equalTo(author.getId())))
+            .body(at("firstName", equalTo(author.getFirstName())))
+            .body(at("lastName", equalTo(author.getLastName())));
 
         //delete the alredy created author
         authorsApi.deleteAuthor(author.getId());
@@ -179,9 +180,9 @@ public class PostAuthorTests
         Response response = authorsApi.createAuthor(author);
         response.then().assertThat()
             .statusCode(200)
-            .body("id", equalTo(author.getId()))
-            .body("firstName", equalTo(author.getFirstName()))      
-            .body("lastName",  equalTo(author.getLastName()));
+            .body(at("id", equalTo(author.getId())))
+            .body(at("firstName", equalTo(author.getFirstName())))      
+            .body(at("lastName", equalTo(author.getLastName())));
             
         //delete the alredy created author
         authorsApi.deleteAuthor(author.getId());
@@ -199,7 +200,7 @@ public class PostAuthorTests
         Response response = authorsApi.createAuthor(author);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));   
+            .body(at("title", equalTo("One or more validation errors occurred.")));   
     }
 
 }
\ No newline at end of file
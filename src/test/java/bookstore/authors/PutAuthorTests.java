@@ -6,10 +6,12 @@ import org.junit.jupiter.api.Tag;
 
 import io.restassured.response.Response;
 import static org.hamcrest.Matchers.*;
+import static com.example.bookstoreapi.json.JsonMatchers.at;
 import org.junit.jupiter.api.Test;
 
 import com.example.bookstoreapi.api.AuthorsApis;
 import com.example.bookstoreapi.data.AuthorDataFactory;
+import com.example.bookstoreapi.json.JsonView;
 import com.example.bookstoreapi.model.Author;
 
 /**
@@ -37,10 +39,9 @@ public class PutAuthorTests
      // Create a random author and store its ID for use in tests
         Author author = AuthorDataFactory.createBaseAuthor();
         Response createResponse = authorsApi.createAuthor(author);
-        createdAuthorId = createResponse.then()
-            .statusCode(200)
-            .extract()
-            .path("id");
+        createResponse.then()
+            .statusCode(200);
+        createdAuthorId = JsonView.of(createResponse).intAt("id");
     }
 
     /**
@@ -55,9 +56,9 @@ public class PutAuthorTests
         Response response = authorsApi.updateAuthor(createdAuthorId, author);
         response.then().assertThat()
             .statusCode(200)
-            .body("id", equalTo(author.getId()))
-            .body("firstName", equalTo(author.getFirstName()))
-            .body("lastName",  equalTo(author.getLastName()));
+            .body(at("id", equalTo(author.getId())))
+            .body(at("firstName", equalTo(author.getFirstName())))
+            .body(at("lastName", equalTo(author.getLastName())));
 
         //delete the alredy created book
         authorsApi.deleteAuthor(createdAuthorId);  
@@ -76,9 +77,9 @@ public class PutAuthorTests
         Response response = authorsApi.updateAuthor(createdAuthorId, author);
         response.then().assertThat()
             .statusCode(200)
-            .body("id", equalTo(author.getId()))
-            .body("firstName", equalTo(author.getFirstName()))
-            .body("lastName",  equalTo(author.getLastName()));
+            .body(at("id", equalTo(author.getId())))
+            .body(at("firstName", equalTo(author.getFirstName())))
+            .body(at("lastName", equalTo(author.getLastName())));
         
         //delete the alredy created book
         authorsApi.deleteAuthor(createdAuthorId);               
@@ -97,9 +98,9 @@ public class PutAuthorTests
         Response response = authorsApi.updateAuthor(createdAuthorId, author);
         response.then().assertThat()
             .statusCode(200)
-            .body("id", equalTo(author.getId()))
-            .body("firstName", equalTo(author.getFirstName()))
-            .body("lastName",  equalTo(author.getLastName()));
+            .body(at("id", equalTo(author.getId())))
+            .body(at("firstName", equalTo(author.getFirstName())))
+            .body(at("lastName", equalTo(author.getLastName())));
 
         //delete the alredy created book
         authorsApi.deleteAuthor(createdAuthorId);
@@ -117,7 +118,7 @@ public class PutAuthorTests
         Response response = authorsApi.updateAuthor(createdAuthorId, author);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -133,7 +134,7 @@ public class PutAuthorTests
         Response response = authorsApi.updateAuthor(createdAuthorId, author);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -150,7 +151,7 @@ public class PutAuthorTests
         Response response = authorsApi.updateAuthor(createdAuthorId, author);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
 }
\ No newline at end of file
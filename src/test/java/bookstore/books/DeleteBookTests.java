@@ -6,9 +6,11 @@ import org.junit.jupiter.api.Tag;
 
 import io.restassured.response.Response;
 import static org.hamcrest.Matchers.*;
+import static com.example.bookstoreapi.json.JsonMatchers.at;
 import org.junit.jupiter.api.Test;
 import com.example.bookstoreapi.api.BooksApis;
 import com.example.bookstoreapi.data.BookDataFactory;
+import com.example.bookstoreapi.json.JsonView;
 import com.example.bookstoreapi.model.Book;
 
 /**
@@ -36,7 +38,6 @@ public class DeleteBookTests
     private int minIntegerId = Integer.MIN_VALUE; // Example of a minimum integer ID that should not be valid.
 
     private BooksApis booksApis;
-    int createdBookId;
     
     /**
      * Initializes the BooksApis instance before each test.
@@ -54,13 +55,13 @@ public class DeleteBookTests
     @Tag("positive")
     @DisplayName("Delete a book with valid data")
     public void deleteBookValidData() {
-        // Create a random book and store its ID for use in tests
+        // Create a random book and store its ID for use in test
+        int createdBookId;
         Book book = BookDataFactory.createBaseBook();
         Response createResponse = booksApis.createBook(book);
-        createdBookId = createResponse.then()
-            .statusCode(200)
-            .extract()
-            .path("id");
+        createResponse.then()
+            .statusCode(200);
+        createdBookId = JsonView.of(createResponse).intAt("id");
         booksApis.deleteBook(createdBookId).then().assertThat()
             .statusCode(200);  
     }
@@ -90,7 +91,7 @@ public class DeleteBookTests
         Response response = booksApis.deleteBook(nonExistingId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -104,7 +105,7 @@ public class DeleteBookTests
         Response response = booksApis.deleteBook(alphaNumericInput);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -118,7 +119,7 @@ public class DeleteBookTests
         Response response = booksApis.deleteBook(specialSign);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -133,7 +134,7 @@ public class DeleteBookTests
         Response response = booksApis.deleteBook(negativeId);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -147,7 +148,7 @@ public class DeleteBookTests
         Response response = booksApis.deleteBook(nullId);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -162,7 +163,7 @@ public class DeleteBookTests
         Response response = booksApis.deleteBook(maxIntegerId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("Not Found"));
+            .body(at("title", equalTo("Not Found")));
     }
 
     /**
@@ -177,7 +178,7 @@ public class DeleteBookTests
         Response response = booksApis.deleteBook(minIntegerId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("Not Found"));
+            .body(at("title", equalTo("Not Found")));
     }
 
 }
\ No newline at end of file
@@ -5,12 +5,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 
 import io.restassured.response.Response;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static com.example.bookstoreapi.json.JsonMatchers.at;
 import org.junit.jupiter.api.Test;
 import com.example.bookstoreapi.api.BooksApis;
 import com.example.bookstoreapi.data.BookDataFactory;
+import com.example.bookstoreapi.json.JsonMapper;
+import com.example.bookstoreapi.json.JsonView;
 import com.example.bookstoreapi.model.Book;
 
+import bookstore.support.LatencyBudget;
+
 /**
  * Test class for API GET book endpoint.
  * <p>
@@ -47,16 +53,18 @@ public class GetBookTests
 
     /**
      * Positive test: Get all books.
-     * Verifies that the API returns a list of books with status code 200 and a non-empty response.
+     * Verifies that the API returns a list of books with status code 200 and a non-empty response,
+     * and that 95% of 20 repeated calls take at most one second.
      */
     @Test
     @Tag("positive")
     @DisplayName("Test getting all books")
+    @LatencyBudget(p95 = "1s", samples = 20)
     public void getAllBooks() {
         Response response = booksApis.getAllBooks();
         response.then().assertThat()
-            .statusCode(200)
-            .body("size()", greaterThan(0));
+            .statusCode(200);
+        assertThat(JsonMapper.streamBooks(response.asInputStream()).count(), greaterThan(0L));
     }
 
     /**
@@ -71,15 +79,14 @@ public class GetBookTests
         int createdBookId;
         Book book = BookDataFactory.createBaseBook();
         Response createResponse = booksApis.createBook(book);
-        createdBookId = createResponse.then()
-            .statusCode(200)
-            .extract()
-            .path("id");
+        createResponse.then()
+            .statusCode(200);
+        createdBookId = JsonView.of(createResponse).intAt("id");
 
         Response response = booksApis.getBookById(createdBookId);
         response.then().assertThat()
             .statusCode(200)
-            .body("id", equalTo(createdBookId));
+            .body(at("id", equalTo(createdBookId)));
     }
 
     /**
@@ -106,7 +113,7 @@ public class GetBookTests
         Response response = booksApis.getBookById(idAboveMaxId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("Not Found"));
+            .body(at("title", equalTo("Not Found")));
     }
 
     /**
@@ -120,7 +127,7 @@ public class GetBookTests
         Response response = booksApis.getBookById(nonExistingId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("Not Found"));
+            .body(at("title", equalTo("Not Found")));
     }
 
     /**
@@ -135,7 +142,7 @@ public class GetBookTests
         Response response = booksApis.getBookById(negativeId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("Not Found"));
+            .body(at("title", equalTo("Not Found")));
     }
 
     /**
@@ -188,7 +195,7 @@ public class GetBookTests
         Response response = booksApis.getBookById(maxIntegerId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("Not Found"));
+            .body(at("title", equalTo("Not Found")));
     }
 
     /**
@@ -202,7 +209,7 @@ public class GetBookTests
         Response response = booksApis.getBookById(minIntegerId);
         response.then().assertThat()
             .statusCode(404)
-            .body("title", equalTo("Not Found"));
+            .body(at("title", equalTo("Not Found")));
     }
 
 }
\ No newline at end of file
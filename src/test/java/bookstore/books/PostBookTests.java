@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Tag;
 
 import io.restassured.response.Response;
 import static org.hamcrest.Matchers.*;
+import static com.example.bookstoreapi.json.JsonMatchers.at;
 import org.junit.jupiter.api.Test;
 import com.example.bookstoreapi.api.BooksApis;
 import com.example.bookstoreapi.data.BookDataFactory;
@@ -46,10 +47,10 @@ public class PostBookTests
         Response response = booksApis.createBook(book);
         response.then().assertThat()
             .statusCode(200)
-            .body("title", equalTo(book.getTitle()))
-            .body("pageCount", equalTo(book.getPageCount()))
-            .body("description", equalTo(book.getDescription()))
-            .body("excerpt",  equalTo(book.getExcerpt()));
+            .body(at("title", equalTo(book.getTitle())))
+            .body(at("pageCount", equalTo(book.getPageCount())))
+            .body(at("description", equalTo(book.getDescription())))
+            .body(at("excerpt", equalTo(book.getExcerpt())));
 
         //delete the alredy created book
         booksApis.deleteBook(book.getId());  
@@ -68,10 +69,10 @@ public class PostBookTests
         Response response = booksApis.createBook(book);
         response.then().assertThat()
             .statusCode(200)
-            .body("title", equalTo(book.getTitle()))
-            .body("pageCount", equalTo(book.getPageCount()))
-            .body("description", equalTo(book.getDescription()))
-            .body("excerpt",  equalTo(book.getExcerpt()));
+            .body(at("title", equalTo(book.getTitle())))
+            .body(at("pageCount", equalTo(book.getPageCount())))
+            .body(at("description", equalTo(book.getDescription())))
+            .body(at("excerpt", equalTo(book.getExcerpt())));
 
         //delete the alredy created book
         booksApis.deleteBook(book.getId());  
@@ -90,10 +91,10 @@ public class PostBookTests
         Response response = booksApis.createBook(book);
         response.then().assertThat()
             .statusCode(200)
-            .body("title", equalTo(book.getTitle()))
-            .body("pageCount", equalTo(book.getPageCount()))
-            .body("description", equalTo(book.getDescription()))
-            .body("excerpt",  equalTo(book.getExcerpt()));
+            .body(at("title", equalTo(book.getTitle())))
+            .body(at("pageCount", equalTo(book.getPageCount())))
+            .body(at("description", equalTo(book.getDescription())))
+            .body(at("excerpt", equalTo(book.getExcerpt())));
 
         //delete the alredy created book
         booksApis.deleteBook(book.getId());  
@@ -128,7 +129,7 @@ public class PostBookTests
         Response response = booksApis.createBook(book);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -159,7 +160,7 @@ public class PostBookTests
         Response response = booksApis.createBook(book);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -174,7 +175,7 @@ public class PostBookTests
         Response response = booksApis.createBook(book);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -189,6 +190,6 @@ public class PostBookTests
         Response response = booksApis.createBook(book);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 }
\ No newline at end of file
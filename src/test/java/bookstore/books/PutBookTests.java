@@ -6,9 +6,11 @@ import org.junit.jupiter.api.Tag;
 
 import io.restassured.response.Response;
 import static org.hamcrest.Matchers.*;
+import static com.example.bookstoreapi.json.JsonMatchers.at;
 import org.junit.jupiter.api.Test;
 import com.example.bookstoreapi.api.BooksApis;
 import com.example.bookstoreapi.data.BookDataFactory;
+import com.example.bookstoreapi.json.JsonView;
 import com.example.bookstoreapi.model.Book;
 
 /**
@@ -36,10 +38,9 @@ public class PutBookTests
      // Create a random book and store its ID for use in tests
         Book book = BookDataFactory.createBaseBook();
         Response createResponse = booksApis.createBook(book);
-        createdBookId = createResponse.then()
-            .statusCode(200)
-            .extract()
-            .path("id");
+        createResponse.then()
+            .statusCode(200);
+        createdBookId = JsonView.of(createResponse).intAt("id");
     }
 
     /**
@@ -54,10 +55,10 @@ public class PutBookTests
         Response response = booksApis.updateBook(createdBookId, book);
         response.then().assertThat()
             .statusCode(200)
-            .body("title", equalTo(book.getTitle()))
-            .body("pageCount", equalTo(book.getPageCount()))
-            .body("description", equalTo(book.getDescription()))
-            .body("excerpt",  equalTo(book.getExcerpt()));
+            .body(at("title", equalTo(book.getTitle())))
+            .body(at("pageCount", equalTo(book.getPageCount())))
+            .body(at("description", equalTo(book.getDescription())))
+            .body(at("excerpt", equalTo(book.getExcerpt())));
 
         //delete the alredy created book
         booksApis.deleteBook(createdBookId);  
@@ -76,10 +77,10 @@ public class PutBookTests
         Response response = booksApis.updateBook(createdBookId, book);
         response.then().assertThat()
             .statusCode(200)
-            .body("title", equalTo(book.getTitle()))
-            .body("pageCount", equalTo(book.getPageCount()))
-            .body("description", equalTo(book.getDescription()))
-            .body("excerpt",  equalTo(book.getExcerpt()));
+            .body(at("title", equalTo(book.getTitle())))
+            .body(at("pageCount", equalTo(book.getPageCount())))
+            .body(at("description", equalTo(book.getDescription())))
+            .body(at("excerpt", equalTo(book.getExcerpt())));
 
         //delete the alredy created book
         booksApis.deleteBook(book.getId());  
@@ -98,10 +99,10 @@ public class PutBookTests
         Response response = booksApis.updateBook(createdBookId, book);
         response.then().assertThat()
             .statusCode(200)
-            .body("title", equalTo(book.getTitle()))
-            .body("pageCount", equalTo(book.getPageCount()))
-            .body("description", equalTo(book.getDescription()))
-            .body("excerpt",  equalTo(book.getExcerpt()));
+            .body(at("title", equalTo(book.getTitle())))
+            .body(at("pageCount", equalTo(book.getPageCount())))
+            .body(at("description", equalTo(book.getDescription())))
+            .body(at("excerpt", equalTo(book.getExcerpt())));
 
         //delete the alredy created book
         booksApis.deleteBook(book.getId());  
@@ -137,7 +138,7 @@ public class PutBookTests
         Response response = booksApis.updateBook(createdBookId, book);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -168,7 +169,7 @@ public class PutBookTests
         Response response = booksApis.updateBook(createdBookId, book);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -183,7 +184,7 @@ public class PutBookTests
         Response response = booksApis.updateBook(createdBookId, book);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 
     /**
@@ -198,6 +199,6 @@ public class PutBookTests
         Response response = booksApis.updateBook(createdBookId, book);
         response.then().assertThat()
             .statusCode(400)
-            .body("title", equalTo("One or more validation errors occurred."));
+            .body(at("title", equalTo("One or more validation errors occurred.")));
     }
 }
\ No newline at end of file
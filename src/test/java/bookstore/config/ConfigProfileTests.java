@@ -0,0 +1,141 @@
+package bookstore.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.bookstoreapi.config.ConfigReader;
+import com.example.bookstoreapi.config.ConfigSnapshot;
+
+/**
+ * Test class for the named profiles of {@code config.properties} and the typed {@link ConfigSnapshot}.
+ * <p>
+ * Works on the properties file only; no API calls are made.
+ */
+public class ConfigProfileTests {
+
+    /**
+     * Positive test: A profile's entries replace the plain keys, and keys it does not set keep their value.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Apply a profile on top of the plain keys")
+    public void applyProfile() {
+        Properties file = new Properties();
+        file.setProperty("http.pool.max.total", "50");
+        file.setProperty("http.pool.max.per.route", "20");
+        file.setProperty("profile.load.http.pool.max.total", "400");
+
+        Properties resolved = ConfigReader.withProfile(file, "load");
+
+        assertEquals("400", resolved.getProperty("http.pool.max.total"));
+        assertEquals("20", resolved.getProperty("http.pool.max.per.route"));
+        assertEquals("50", ConfigReader.withProfile(file, null).getProperty("http.pool.max.total"));
+        assertEquals("50", file.getProperty("http.pool.max.total"));
+    }
+
+    /**
+     * Negative test: A profile the file does not define is rejected with the names of those it does.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Reject an unknown profile")
+    public void rejectUnknownProfile() throws IOException {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+            () -> ConfigReader.withProfile(shippedConfig(), "stress"));
+
+        assertTrue(error.getMessage().contains("[load, regression, smoke, soak]"), error.getMessage());
+    }
+
+    /**
+     * Positive test: Every shipped profile resolves to a valid snapshot with its own settings.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Resolve every shipped profile")
+    public void resolveShippedProfiles() throws IOException {
+        for (String profile : new String[] {"smoke", "regression", "load", "soak"}) {
+            Properties resolved = ConfigReader.withProfile(shippedConfig(), profile);
+
+            ConfigSnapshot snapshot = snapshot(profile, resolved);
+
+            assertEquals(profile, snapshot.getProfile());
+            assertEquals(Integer.parseInt(resolved.getProperty("profile." + profile + ".junit.parallel.threads")),
+                snapshot.getParallelism(), profile);
+            assertEquals(Duration.ofSeconds(Long.parseLong(resolved.getProperty("profile." + profile + ".loadtest.duration.seconds"))),
+                snapshot.getLoadTestDuration(), profile);
+        }
+    }
+
+    /**
+     * Edge test: Without a profile, the snapshot holds the plain keys; a zero read timeout means no limit.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Resolve the plain keys without a profile")
+    public void resolveWithoutProfile() throws IOException {
+        ConfigSnapshot snapshot = snapshot(null, ConfigReader.withProfile(shippedConfig(), null));
+
+        assertNull(snapshot.getProfile());
+        assertEquals(8, snapshot.getParallelism());
+        assertEquals(Duration.ZERO, snapshot.getReadTimeout());
+        assertTrue(snapshot.toString().contains("readTimeout=none"), snapshot.toString());
+    }
+
+    /**
+     * Negative test: A pool whose per-host limit exceeds its total is rejected.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Reject an inconsistent pool size")
+    public void rejectInconsistentPool() {
+        assertThrows(IllegalArgumentException.class, () -> new ConfigSnapshot(null, 8, 100, 50, 30, 0,
+            Duration.ofSeconds(10), Duration.ZERO, 10, Duration.ofSeconds(30)));
+    }
+
+    /**
+     * Edge test: A connect timeout of 0 means no limit; a negative one is rejected.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Accept no connect timeout")
+    public void noConnectTimeout() {
+        ConfigSnapshot snapshot = new ConfigSnapshot(null, 8, 20, 50, 30, 0,
+            Duration.ZERO, Duration.ZERO, 10, Duration.ofSeconds(30));
+
+        assertEquals(Duration.ZERO, snapshot.getConnectTimeout());
+        assertThrows(IllegalArgumentException.class, () -> new ConfigSnapshot(null, 8, 20, 50, 30, 0,
+            Duration.ofMillis(-1), Duration.ZERO, 10, Duration.ofSeconds(30)));
+    }
+
+    private static Properties shippedConfig() throws IOException {
+        Properties file = new Properties();
+        try (InputStream input = ConfigProfileTests.class.getClassLoader().getResourceAsStream("config.properties")) {
+            file.load(input);
+        }
+        return file;
+    }
+
+    private static ConfigSnapshot snapshot(String profile, Properties values) {
+        return new ConfigSnapshot(profile,
+            Integer.parseInt(values.getProperty("junit.parallel.threads")),
+            Integer.parseInt(values.getProperty("http.pool.max.per.route")),
+            Integer.parseInt(values.getProperty("http.pool.max.total")),
+            Integer.parseInt(values.getProperty("http.pool.idle.evict.seconds")),
+            Integer.parseInt(values.getProperty("http.pool.prewarm")),
+            Duration.ofMillis(Long.parseLong(values.getProperty("http.connect.timeout.ms"))),
+            Duration.ofMillis(Long.parseLong(values.getProperty("http.read.timeout.ms"))),
+            Integer.parseInt(values.getProperty("allure.http.sample.percent")),
+            Duration.ofSeconds(Long.parseLong(values.getProperty("loadtest.duration.seconds"))));
+    }
+}
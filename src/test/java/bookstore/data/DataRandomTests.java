@@ -0,0 +1,125 @@
+package bookstore.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.bookstoreapi.data.AuthorDataFactory;
+import com.example.bookstoreapi.data.BookDataFactory;
+import com.example.bookstoreapi.data.DataCoordinates;
+import com.example.bookstoreapi.data.DataRandom;
+import com.example.bookstoreapi.model.Author;
+import com.example.bookstoreapi.model.Book;
+
+/**
+ * Test class for seeded test-data generation.
+ * <p>
+ * Runs without the API: it checks that records generated by the data factories can be
+ * regenerated from their {@link DataCoordinates} alone.
+ */
+public class DataRandomTests {
+
+    /**
+     * Positive test: A book is regenerated from its coordinates.
+     * Other records generated in between must not affect it.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Regenerate a book from its seed, shard and index")
+    public void regenerateBook() {
+        DataRandom.startShard(7);
+        BookDataFactory.createBaseBook();
+        DataCoordinates coordinates = DataRandom.position();
+        Book book = BookDataFactory.createBaseBook();
+        AuthorDataFactory.createBaseAuthor();
+
+        Book regenerated = DataRandom.regenerate(coordinates, BookDataFactory::createBaseBook);
+
+        assertEquals(book.getId(), regenerated.getId());
+        assertEquals(book.getTitle(), regenerated.getTitle());
+        assertEquals(book.getDescription(), regenerated.getDescription());
+        assertEquals(book.getPageCount(), regenerated.getPageCount());
+        assertEquals(book.getExcerpt(), regenerated.getExcerpt());
+        assertEquals(book.getPublishDate(), regenerated.getPublishDate());
+    }
+
+    /**
+     * Positive test: An author is regenerated from its coordinates on another shard.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Regenerate an author from its seed, shard and index")
+    public void regenerateAuthor() {
+        DataRandom.startShard(3);
+        DataCoordinates coordinates = DataRandom.position();
+        Author author = AuthorDataFactory.createBaseAuthor();
+
+        DataRandom.startShard(4);
+        Author regenerated = DataRandom.regenerate(coordinates, AuthorDataFactory::createBaseAuthor);
+
+        assertEquals(author.getId(), regenerated.getId());
+        assertEquals(author.getBookId(), regenerated.getBookId());
+        assertEquals(author.getFirstName(), regenerated.getFirstName());
+        assertEquals(author.getLastName(), regenerated.getLastName());
+    }
+
+    /**
+     * Edge test: Different shards of the same seed produce different records.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Different shards produce different books")
+    public void shardsAreIndependent() {
+        long seed = DataRandom.seed();
+        Book first = DataRandom.regenerate(new DataCoordinates(seed, 1, 0), BookDataFactory::createBaseBook);
+        Book second = DataRandom.regenerate(new DataCoordinates(seed, 2, 0), BookDataFactory::createBaseBook);
+
+        assertNotEquals(first.getDescription(), second.getDescription());
+    }
+
+    /**
+     * Edge test: Adjacent records of a shard are unrelated, not shifted copies of one random stream.
+     * No run of four words in a description may reappear in the next record's description.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Adjacent records are uncorrelated")
+    public void adjacentRecordsAreUncorrelated() {
+        long seed = DataRandom.seed();
+        List<String> related = new ArrayList<>();
+        Book previous = DataRandom.regenerate(new DataCoordinates(seed, 5, 0), BookDataFactory::createBaseBook);
+        for (int index = 1; index <= 100; index++) {
+            Book book = DataRandom.regenerate(new DataCoordinates(seed, 5, index), BookDataFactory::createBaseBook);
+            if (sharesWordRun(previous.getDescription(), book.getDescription(), 4)) {
+                related.add(previous.getDescription() + " / " + book.getDescription());
+            }
+            previous = book;
+        }
+
+        assertEquals(List.of(), related);
+    }
+
+    private static boolean sharesWordRun(String first, String second, int length) {
+        List<String> a = words(first);
+        List<String> b = words(second);
+        for (int i = 0; i + length <= b.size(); i++) {
+            if (Collections.indexOfSubList(a, b.subList(i, i + length)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> words(String text) {
+        return Arrays.asList(text.toLowerCase(Locale.ROOT).replaceAll("[^a-z ]", "").trim().split(" +"));
+    }
+}
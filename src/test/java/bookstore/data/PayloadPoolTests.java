@@ -0,0 +1,194 @@
+package bookstore.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.bookstoreapi.data.BookDataFactory;
+import com.example.bookstoreapi.data.PayloadPool;
+import com.example.bookstoreapi.json.JsonMapper;
+import com.example.bookstoreapi.model.Book;
+import com.example.bookstoreapi.nio.NioEngineSettings;
+import com.example.bookstoreapi.nio.NioHttpEngine;
+import com.example.bookstoreapi.nio.NioResponse;
+import com.example.bookstoreapi.stub.BookstoreStubServer;
+
+/**
+ * Test class for {@link PayloadPool} files.
+ * <p>
+ * Runs without the API, on pool files in a temporary directory. The header is
+ * magic, version and count at bytes 0, 4 and 8, followed by the offsets.
+ */
+public class PayloadPoolTests {
+
+    private static final int COUNT = 50;
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Positive test: Every payload reads back as the JSON of the object it was generated from.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Read back generated payloads")
+    public void roundTrip() throws IOException {
+        List<Book> books = new ArrayList<>();
+        Path file = dir.resolve("books.pool");
+
+        PayloadPool.generate(file, COUNT, () -> {
+            Book book = BookDataFactory.createBaseBook();
+            books.add(book);
+            return book;
+        });
+        PayloadPool pool = PayloadPool.open(file);
+
+        assertEquals(COUNT, pool.size());
+        for (int i = 0; i < COUNT; i++) {
+            assertArrayEquals(JsonMapper.toJson(books.get(i)), PayloadPool.toBytes(pool.get(i)), "payload " + i);
+        }
+        for (int i = 0; i < COUNT + 3; i++) {
+            assertEquals(pool.get(i % COUNT), pool.next(), "next " + i);
+        }
+        assertEquals(COUNT, PayloadPool.openOrGenerate(file, 1, BookDataFactory::createBaseBook).size());
+    }
+
+    /**
+     * Positive test: A payload is a read-only view of exactly its own bytes, and reading it
+     * leaves the pool and later views unaffected.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Slice payloads at their offsets")
+    public void payloadsAreSlices() throws IOException {
+        Path file = dir.resolve("books.pool");
+        PayloadPool.generate(file, COUNT, BookDataFactory::createBaseBook);
+        PayloadPool pool = PayloadPool.open(file);
+        ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(file));
+        int dataStart = 3 * Integer.BYTES + (COUNT + 1) * Integer.BYTES;
+
+        for (int i = 0; i < COUNT; i++) {
+            int start = header.getInt(3 * Integer.BYTES + i * Integer.BYTES);
+            int end = header.getInt(3 * Integer.BYTES + (i + 1) * Integer.BYTES);
+            ByteBuffer payload = pool.get(i);
+
+            assertTrue(payload.isReadOnly());
+            assertEquals(0, payload.position());
+            assertEquals(end - start, payload.remaining());
+            assertEquals('{', payload.get(0));
+            assertEquals('}', payload.get(payload.limit() - 1));
+            assertArrayEquals(Arrays.copyOfRange(header.array(), dataStart + start, dataStart + end), PayloadPool.toBytes(payload));
+        }
+
+        ByteBuffer first = pool.get(0);
+        first.get(new byte[first.remaining()]);
+        assertEquals(0, pool.get(0).position());
+        assertThrows(IndexOutOfBoundsException.class, () -> pool.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> pool.get(COUNT));
+    }
+
+    /**
+     * Positive test: The NIO engine sends a payload straight from the mapped file.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Send a mapped payload without copying it")
+    public void sendMappedPayload() throws Exception {
+        Path file = dir.resolve("books.pool");
+        PayloadPool.generate(file, COUNT, BookDataFactory::createBaseBook);
+        PayloadPool pool = PayloadPool.open(file);
+        ByteBuffer payload = pool.get(7);
+
+        try (BookstoreStubServer server = BookstoreStubServer.start();
+             NioHttpEngine engine = NioHttpEngine.start(server.getBaseUrl(),
+                 new NioEngineSettings(1, 1, 1, 4096, Duration.ofSeconds(10)))) {
+            NioResponse response = engine.send("POST", "/api/v1/Books", payload).get();
+
+            assertEquals(200, response.getStatusCode());
+            Book sent = JsonMapper.readBook(new String(PayloadPool.toBytes(payload), StandardCharsets.UTF_8));
+            Book echoed = JsonMapper.readBook(response.getBodyAsString());
+            assertEquals(sent.getTitle(), echoed.getTitle());
+            assertEquals(sent.getDescription(), echoed.getDescription());
+            assertEquals(0, payload.position());
+        }
+    }
+
+    /**
+     * Negative test: A file cut short in its offsets or its data is rejected when opened.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Reject a truncated pool file")
+    public void rejectTruncated() throws IOException {
+        Path file = dir.resolve("books.pool");
+        PayloadPool.generate(file, COUNT, BookDataFactory::createBaseBook);
+        byte[] bytes = Files.readAllBytes(file);
+
+        assertRejected(Arrays.copyOf(bytes, bytes.length - 1), "truncated or corrupt");
+        assertRejected(Arrays.copyOf(bytes, 3 * Integer.BYTES + 10 * Integer.BYTES), "truncated or corrupt");
+        assertRejected(Arrays.copyOf(bytes, 2 * Integer.BYTES), "Not a payload pool file");
+        assertRejected(new byte[0], "Not a payload pool file");
+    }
+
+    /**
+     * Negative test: A wrong magic, version, count or offset table is rejected when opened.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Reject a pool file with a corrupt header")
+    public void rejectCorruptHeader() throws IOException {
+        Path file = dir.resolve("books.pool");
+        PayloadPool.generate(file, COUNT, BookDataFactory::createBaseBook);
+        byte[] bytes = Files.readAllBytes(file);
+
+        assertRejected(withInt(bytes, 0, 0x4A534F4E), "Not a payload pool file");
+        assertRejected(withInt(bytes, Integer.BYTES, 2), "Not a payload pool file");
+        assertRejected(withInt(bytes, 2 * Integer.BYTES, -1), "truncated or corrupt");
+        assertRejected(withInt(bytes, 2 * Integer.BYTES, Integer.MAX_VALUE), "truncated or corrupt");
+        assertRejected(withInt(bytes, 2 * Integer.BYTES, COUNT - 1), "truncated or corrupt");
+        assertRejected(withInt(bytes, 3 * Integer.BYTES, 4), "truncated or corrupt");
+        assertRejected(withInt(bytes, 3 * Integer.BYTES + 5 * Integer.BYTES, 0), "truncated or corrupt");
+    }
+
+    /**
+     * Edge test: A pool needs at least one payload.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Reject generating an empty pool")
+    public void rejectEmptyPool() {
+        assertThrows(IllegalArgumentException.class,
+            () -> PayloadPool.generate(dir.resolve("empty.pool"), 0, BookDataFactory::createBaseBook));
+        assertTrue(Files.notExists(dir.resolve("empty.pool")));
+    }
+
+    private void assertRejected(byte[] bytes, String message) throws IOException {
+        Path file = Files.write(Files.createTempFile(dir, "corrupt", ".pool"), bytes);
+
+        IOException error = assertThrows(IOException.class, () -> PayloadPool.open(file));
+        assertTrue(error.getMessage().contains(message), error.getMessage());
+    }
+
+    private static byte[] withInt(byte[] bytes, int position, int value) {
+        byte[] copy = bytes.clone();
+        ByteBuffer.wrap(copy).order(ByteOrder.BIG_ENDIAN).putInt(position, value);
+        return copy;
+    }
+}
@@ -0,0 +1,243 @@
+package bookstore.http;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.bookstoreapi.http.AllureHttpFilter;
+import com.example.bookstoreapi.http.HttpAttachmentSettings;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+/**
+ * Test class for the sampling and size caps of the Allure HTTP filter.
+ * <p>
+ * Runs without the API, against a local server. Each test drives its own Allure lifecycle,
+ * whose results are kept in memory instead of in {@code allure-results}.
+ */
+public class AllureHttpFilterTests {
+
+    private static final byte[] LARGE_BODY = largeBody();
+
+    private final InMemoryResults results = new InMemoryResults();
+    private final AllureLifecycle lifecycle = new AllureLifecycle(results);
+    private HttpServer server;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/api/v1/Books", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    /**
+     * Positive test: Every call of a failing test is attached, even when none was sampled.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Attach every call of a failing test")
+    public void failingTestAttachesAll() {
+        AllureHttpFilter filter = new AllureHttpFilter(new HttpAttachmentSettings(0, 16384, 100), lifecycle);
+
+        TestResult result = runTest(filter, true, "/1", "/2", "/404");
+
+        assertEquals(List.of("Request", "HTTP/1.1 200 OK", "Request", "HTTP/1.1 200 OK", "Request", "HTTP/1.1 404 Not Found"),
+            names(result));
+        assertTrue(content(result.getAttachments().get(1)).contains("&quot;id&quot;: 1"));
+    }
+
+    /**
+     * Positive test: A passing test keeps only its sampled calls.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Attach only sampled calls of a passing test")
+    public void passingTestAttachesSample() {
+        TestResult none = runTest(new AllureHttpFilter(new HttpAttachmentSettings(0, 16384, 100), lifecycle), false, "/1", "/2");
+        TestResult all = runTest(new AllureHttpFilter(new HttpAttachmentSettings(100, 16384, 100), lifecycle), false, "/1", "/2");
+
+        assertTrue(none.getAttachments().isEmpty());
+        assertEquals(4, all.getAttachments().size());
+    }
+
+    /**
+     * Edge test: A body above the cap is truncated in the report and attached whole as a separate file.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Truncate a large body and attach it whole")
+    public void largeBodyIsSpilled() {
+        AllureHttpFilter filter = new AllureHttpFilter(new HttpAttachmentSettings(100, 1024, 100), lifecycle);
+
+        TestResult result = runTest(filter, false, "");
+
+        assertEquals(List.of("Request", "HTTP/1.1 200 OK", "Response body"), names(result));
+        assertTrue(content(result.getAttachments().get(1)).contains("truncated: 1024 of " + LARGE_BODY.length + " bytes shown"));
+        Attachment body = result.getAttachments().get(2);
+        assertEquals("application/json", body.getType());
+        assertArrayEquals(LARGE_BODY, results.attachments.get(body.getSource()));
+    }
+
+    /**
+     * Edge test: Until the test finishes, a large body is kept in a file, which is deleted once it is attached or dropped.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Keep large bodies in files until the test finishes")
+    public void largeBodyWaitsInFile(@TempDir Path spill) throws IOException {
+        AllureHttpFilter filter = new AllureHttpFilter(new HttpAttachmentSettings(0, 1024, 100, spill), lifecycle);
+
+        String failing = startTest();
+        call(filter, "");
+        call(filter, "/1");
+        assertEquals(1, files(spill));
+        TestResult failed = finishTest(filter, failing, true);
+
+        String passing = startTest();
+        call(filter, "");
+        TestResult passed = finishTest(filter, passing, false);
+
+        assertEquals(List.of("Request", "HTTP/1.1 200 OK", "Response body", "Request", "HTTP/1.1 200 OK"), names(failed));
+        assertArrayEquals(LARGE_BODY, results.attachments.get(failed.getAttachments().get(2).getSource()));
+        assertTrue(passed.getAttachments().isEmpty());
+        assertEquals(0, files(spill));
+    }
+
+    /**
+     * Edge test: Beyond the per-test limit the oldest calls are dropped, and a failing test says how many.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Drop the oldest calls beyond the per-test limit")
+    public void callsPerTestAreCapped() {
+        AllureHttpFilter filter = new AllureHttpFilter(new HttpAttachmentSettings(0, 16384, 2), lifecycle);
+
+        TestResult result = runTest(filter, true, "/1", "/2", "/3", "/4");
+
+        assertEquals(List.of("HTTP calls not attached", "Request", "HTTP/1.1 200 OK", "Request", "HTTP/1.1 200 OK"),
+            names(result));
+        assertTrue(content(result.getAttachments().get(0)).startsWith("2 earlier call(s)"));
+        assertTrue(content(result.getAttachments().get(3)).contains("/api/v1/Books/4"));
+    }
+
+    private TestResult runTest(AllureHttpFilter filter, boolean failed, String... paths) {
+        String uuid = startTest();
+        for (String path : paths) {
+            call(filter, path);
+        }
+        return finishTest(filter, uuid, failed);
+    }
+
+    private String startTest() {
+        String uuid = UUID.randomUUID().toString();
+        lifecycle.scheduleTestCase(new TestResult().setUuid(uuid).setName("test"));
+        lifecycle.startTestCase(uuid);
+        return uuid;
+    }
+
+    private void call(AllureHttpFilter filter, String path) {
+        given().baseUri("http://127.0.0.1:" + server.getAddress().getPort()).filter(filter).get("/api/v1/Books" + path);
+    }
+
+    private TestResult finishTest(AllureHttpFilter filter, String uuid, boolean failed) {
+        filter.testFinished(failed);
+        lifecycle.stopTestCase(uuid);
+        lifecycle.writeTestCase(uuid);
+        return results.tests.get(uuid);
+    }
+
+    private static long files(Path directory) throws IOException {
+        try (Stream<Path> listing = Files.list(directory)) {
+            return listing.count();
+        }
+    }
+
+    private static List<String> names(TestResult result) {
+        return result.getAttachments().stream().map(Attachment::getName).collect(Collectors.toList());
+    }
+
+    private String content(Attachment attachment) {
+        return new String(results.attachments.get(attachment.getSource()), StandardCharsets.UTF_8);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String id = path.substring(path.lastIndexOf('/') + 1);
+        byte[] body = "Books".equals(id) ? LARGE_BODY : ("{\"id\":" + id + "}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders("404".equals(id) ? 404 : 200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] largeBody() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= 200; i++) {
+            json.append(i == 1 ? "" : ",").append("{\"id\":").append(i).append(",\"title\":\"Book ").append(i).append("\"}");
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Keeps written results and attachments in memory. */
+    private static final class InMemoryResults implements AllureResultsWriter {
+        private final Map<String, TestResult> tests = new ConcurrentHashMap<>();
+        private final Map<String, byte[]> attachments = new ConcurrentHashMap<>();
+
+        @Override
+        public void write(TestResult testResult) {
+            tests.put(testResult.getUuid(), testResult);
+        }
+
+        @Override
+        public void write(TestResultContainer testResultContainer) {
+        }
+
+        @Override
+        public void write(String source, InputStream attachment) {
+            try (InputStream in = attachment) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                in.transferTo(out);
+                attachments.put(source, out.toByteArray());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
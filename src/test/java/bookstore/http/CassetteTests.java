@@ -0,0 +1,102 @@
+package bookstore.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.bookstoreapi.http.Cassette;
+import com.example.bookstoreapi.http.CassetteFilter;
+import com.example.bookstoreapi.http.CassetteRecorder;
+import com.example.bookstoreapi.http.RequestMatcher;
+import com.example.bookstoreapi.stub.BookstoreStubServer;
+
+/**
+ * Test class for recording and replaying HTTP cassettes.
+ * <p>
+ * Runs without the API: interactions are recorded against the in-process stand-in server,
+ * which is stopped before they are replayed.
+ */
+public class CassetteTests {
+
+    private static final String UNREACHABLE = "http://127.0.0.1:9";
+
+    private final RequestMatcher matcher = new RequestMatcher(
+        EnumSet.allOf(RequestMatcher.Rule.class), Set.of("title", "publishDate"));
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Positive test: Recorded responses are replayed with their status, headers and body
+     * after the server is gone.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Replay recorded responses without a server")
+    public void replayWithoutServer() throws IOException {
+        Path file = dir.resolve("books.cassette");
+        try (BookstoreStubServer server = BookstoreStubServer.start();
+             CassetteRecorder recorder = CassetteRecorder.create(file)) {
+            CassetteFilter recording = CassetteFilter.recording(recorder);
+            given().baseUri(server.getBaseUrl()).filter(recording).get("/api/v1/Books/7").then().statusCode(200);
+            given().baseUri(server.getBaseUrl()).filter(recording).get("/api/v1/Books/999").then().statusCode(404);
+        }
+
+        Cassette cassette = Cassette.load(file, matcher);
+        CassetteFilter replaying = CassetteFilter.replaying(cassette);
+
+        assertEquals(2, cassette.size());
+        given().baseUri(UNREACHABLE).filter(replaying).get("/api/v1/Books/7")
+            .then().statusCode(200).body("id", equalTo(7)).body("title", equalTo("Book 7"));
+        given().baseUri(UNREACHABLE).filter(replaying).get("/api/v1/Books/999")
+            .then().statusCode(404).body("title", equalTo("Not Found"));
+    }
+
+    /**
+     * Positive test: Bodies match when they differ only in ignored fields, key order or letter case of ignored names.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Match bodies regardless of ignored fields and key order")
+    public void matchIgnoringFields() {
+        String recorded = "{\"id\":3,\"title\":\"First\",\"pageCount\":10,\"publishDate\":\"2001-01-01T00:00:00\"}";
+        String request = "{\"pageCount\":10,\"PublishDate\":\"2020-05-05T00:00:00\",\"title\":\"Second\",\"id\":3}";
+        String other = "{\"id\":4,\"title\":\"First\",\"pageCount\":10,\"publishDate\":\"2001-01-01T00:00:00\"}";
+
+        assertEquals(key("POST", recorded), key("POST", request));
+        assertNotEquals(key("POST", recorded), key("POST", other));
+        assertNotEquals(key("POST", recorded), key("PUT", recorded));
+    }
+
+    /**
+     * Negative test: A request that was never recorded fails instead of reaching the network.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Fail a request that was never recorded")
+    public void failUnrecordedRequest() throws IOException {
+        Path file = dir.resolve("empty.cassette");
+        CassetteRecorder.create(file).close();
+        CassetteFilter replaying = CassetteFilter.replaying(Cassette.load(file, matcher));
+
+        assertThrows(IllegalStateException.class,
+            () -> given().baseUri(UNREACHABLE).filter(replaying).get("/api/v1/Books/1"));
+    }
+
+    private String key(String method, String body) {
+        return matcher.key(method, "/api/v1/Books", body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,147 @@
+package bookstore.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import com.example.bookstoreapi.http.ConnectionPool;
+import com.example.bookstoreapi.http.ConnectionPoolStats;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Test class for the keep-alive {@link ConnectionPool}.
+ * <p>
+ * Runs without the API, against a local keep-alive server that answers {@code GET} with a book
+ * and {@code DELETE} with an empty body. Each test uses its own small pool, so its counters only
+ * see the test's own requests.
+ */
+public class ConnectionPoolTests {
+
+    private static final int MAX_PER_ROUTE = 2;
+
+    private HttpServer server;
+    private ConnectionPool pool;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/api/v1/Books", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+        server.stop(0);
+    }
+
+    /**
+     * Positive test: More DELETEs than the pool holds per route all succeed, because a response without a body releases its connection.
+     */
+    @Test
+    @Tag("positive")
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    @DisplayName("Release the connection of an empty DELETE response")
+    public void emptyResponsesReleaseConnections() {
+        pool = new ConnectionPool(MAX_PER_ROUTE, MAX_PER_ROUTE, 0, 0);
+
+        for (int i = 0; i < MAX_PER_ROUTE * 5; i++) {
+            spec().delete("/" + i).then().statusCode(200);
+        }
+
+        ConnectionPoolStats stats = pool.stats();
+        assertEquals(0, stats.getLeased(), stats.toString());
+        assertEquals(0, stats.getPending(), stats.toString());
+        assertEquals(1, stats.getCreated(), stats.toString());
+        assertEquals(1, stats.getAvailable(), stats.toString());
+    }
+
+    /**
+     * Positive test: Consecutive GETs whose bodies are read share one keep-alive connection.
+     */
+    @Test
+    @Tag("positive")
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    @DisplayName("Reuse one connection for consecutive GETs")
+    public void consecutiveGetsReuseConnection() {
+        pool = new ConnectionPool(MAX_PER_ROUTE, MAX_PER_ROUTE, 0, 0);
+
+        for (int i = 0; i < 20; i++) {
+            spec().get("/" + i).then().statusCode(200).body("id", equalTo(i));
+        }
+
+        ConnectionPoolStats stats = pool.stats();
+        assertEquals(1, stats.getCreated(), stats.toString());
+        assertEquals(0, stats.getLeased(), stats.toString());
+    }
+
+    /**
+     * Edge test: Pre-warming opens the configured connections once per route, capped at the per-route maximum.
+     */
+    @Test
+    @Tag("edge")
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    @DisplayName("Pre-warm a route once")
+    public void prewarmOpensConnectionsOnce() {
+        pool = new ConnectionPool(MAX_PER_ROUTE, MAX_PER_ROUTE, 0, 5);
+
+        pool.prewarm(baseUrl());
+        pool.prewarm(baseUrl());
+        spec().get("/1").then().statusCode(200).body("id", equalTo(1));
+
+        ConnectionPoolStats stats = pool.stats();
+        assertEquals(MAX_PER_ROUTE, stats.getCreated(), stats.toString());
+        assertTrue(stats.getAvailable() >= 1, stats.toString());
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private RequestSpecification spec() {
+        return given()
+            .config(RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                .reuseHttpClientInstance()
+                .httpClientFactory(pool::newHttpClient)))
+            .baseUri(baseUrl())
+            .basePath("/api/v1/Books");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        if ("DELETE".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+            return;
+        }
+        String path = exchange.getRequestURI().getPath();
+        byte[] body = ("{\"id\":" + path.substring(path.lastIndexOf('/') + 1) + "}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
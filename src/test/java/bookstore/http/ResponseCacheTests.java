@@ -0,0 +1,160 @@
+package bookstore.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.bookstoreapi.http.ResponseCache;
+import com.example.bookstoreapi.http.ResponseCacheFilter;
+import com.example.bookstoreapi.http.ResponseCacheStats;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Test class for the client-side response cache.
+ * <p>
+ * Runs without the API, against a local server that counts the requests it receives and
+ * answers {@code If-None-Match} with {@code 304 Not Modified}.
+ */
+public class ResponseCacheTests {
+
+    private static final String ETAG = "\"v1\"";
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/api/v1/Books", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    /**
+     * Positive test: A repeated GET is answered from the cache.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Answer a repeated GET from the cache")
+    public void repeatedGetIsHit() {
+        ResponseCache cache = new ResponseCache(10, 60_000);
+
+        get(cache, "/1").then().statusCode(200).body("id", equalTo(1));
+        get(cache, "/1").then().statusCode(200).body("id", equalTo(1));
+
+        ResponseCacheStats stats = cache.stats();
+        assertEquals(1, requests.get());
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+    }
+
+    /**
+     * Positive test: A stale response is revalidated with If-None-Match and reused on 304.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Revalidate a stale response with its ETag")
+    public void staleResponseIsRevalidated() {
+        ResponseCache cache = new ResponseCache(10, 0);
+
+        get(cache, "/2").then().statusCode(200);
+        get(cache, "/2").then().statusCode(200).body("id", equalTo(2));
+
+        assertEquals(2, requests.get());
+        assertEquals(1, cache.stats().getRevalidated());
+    }
+
+    /**
+     * Positive test: Changing a resource invalidates its cached responses, and bypassed calls reach the server.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Invalidate on update and bypass on request")
+    public void updateInvalidatesAndBypassReachesServer() {
+        ResponseCache cache = new ResponseCache(10, 60_000);
+
+        get(cache, "/3");
+        spec(cache).body("{\"id\":3}").put("/3").then().statusCode(200);
+        get(cache, "/3");
+        ResponseCache.bypass(() -> get(cache, "/3"));
+
+        ResponseCacheStats stats = cache.stats();
+        assertEquals(4, requests.get());
+        assertEquals(1, stats.getInvalidated());
+        assertEquals(1, stats.getBypassed());
+        assertEquals(0, stats.getHits());
+    }
+
+    /**
+     * Edge test: The least recently used response is evicted when the cache is full.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Evict the least recently used response")
+    public void leastRecentlyUsedIsEvicted() {
+        ResponseCache cache = new ResponseCache(2, 60_000);
+
+        get(cache, "/4");
+        get(cache, "/5");
+        get(cache, "/4");
+        get(cache, "/6");
+        get(cache, "/4");
+        get(cache, "/5");
+
+        ResponseCacheStats stats = cache.stats();
+        assertEquals(4, requests.get());
+        assertEquals(2, stats.getEvicted());
+        assertEquals(2, stats.getHits());
+    }
+
+    private RequestSpecification spec(ResponseCache cache) {
+        return given()
+            .baseUri("http://127.0.0.1:" + server.getAddress().getPort())
+            .basePath("/api/v1/Books")
+            .contentType("application/json")
+            .filter(new ResponseCacheFilter(cache));
+    }
+
+    private Response get(ResponseCache cache, String path) {
+        return spec(cache).get(path);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.getResponseHeaders().set("ETag", ETAG);
+        if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        String path = exchange.getRequestURI().getPath();
+        byte[] body = ("{\"id\":" + path.substring(path.lastIndexOf('/') + 1) + "}").getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package bookstore.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.bookstoreapi.http.HttpTransport;
+import com.example.bookstoreapi.http.JdkHttpTransport;
+import com.example.bookstoreapi.http.TransportFilter;
+import com.example.bookstoreapi.http.TransportRequest;
+import com.example.bookstoreapi.http.TransportResponse;
+import com.example.bookstoreapi.stub.BookstoreStubServer;
+
+import io.restassured.http.ContentType;
+
+/**
+ * Test class for the pluggable HTTP transports.
+ * <p>
+ * Runs without the API, against the in-process stand-in server.
+ */
+public class TransportTests {
+
+    private static BookstoreStubServer server;
+
+    @BeforeAll
+    public static void startServer() {
+        server = BookstoreStubServer.start();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        server.close();
+    }
+
+    /**
+     * Positive test: A request sent over the JDK transport is answered like one sent by RestAssured.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Send requests over the JDK transport")
+    public void jdkTransport() {
+        TransportFilter jdk = new TransportFilter(JdkHttpTransport.shared());
+
+        given().baseUri(server.getBaseUrl()).filter(jdk).accept(ContentType.JSON)
+            .get("/api/v1/Books/7")
+            .then().statusCode(200).statusLine(startsWith("HTTP/")).contentType(ContentType.JSON)
+            .body("id", equalTo(7)).body("title", equalTo("Book 7"));
+        given().baseUri(server.getBaseUrl()).filter(jdk).contentType(ContentType.JSON)
+            .body("{\"id\":0,\"title\":\"Über\",\"pageCount\":12}")
+            .post("/api/v1/Books")
+            .then().statusCode(200).body("title", equalTo("Über")).body("pageCount", equalTo(12));
+    }
+
+    /**
+     * Edge test: A transport receives the fully built request and its response is returned as is.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Hand the built request to a custom transport")
+    public void customTransport() {
+        AtomicReference<TransportRequest> sent = new AtomicReference<>();
+        HttpTransport canned = new HttpTransport() {
+            @Override
+            public String name() {
+                return "canned";
+            }
+
+            @Override
+            public TransportResponse send(TransportRequest request) {
+                sent.set(request);
+                return new TransportResponse("HTTP/1.1", 201,
+                    Map.of("Content-Type", List.of("application/json")),
+                    "{\"id\":42}".getBytes(StandardCharsets.UTF_8));
+            }
+        };
+
+        given().baseUri("http://127.0.0.1:9").filter(new TransportFilter(canned))
+            .header("X-Trace", "abc").queryParam("q", "x y").contentType(ContentType.JSON).body("{}")
+            .put("/api/v1/Authors/3")
+            .then().statusCode(201).statusLine("HTTP/1.1 201").body("id", equalTo(42));
+
+        TransportRequest request = sent.get();
+        assertEquals("PUT", request.getMethod());
+        assertEquals("/api/v1/Authors/3", request.getUri().getPath());
+        assertEquals("q=x y", request.getUri().getQuery());
+        assertEquals(List.of("abc"), request.getHeaders().get("X-Trace"));
+        assertEquals("{}", new String(request.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Negative test: Only known transport names are accepted.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Reject an unknown transport name")
+    public void unknownTransport() {
+        assertNull(HttpTransport.forName("restassured"));
+        assertEquals("jdk", HttpTransport.forName("JDK").name());
+        assertThrows(IllegalArgumentException.class, () -> HttpTransport.forName("carrier-pigeon"));
+    }
+}
@@ -0,0 +1,121 @@
+package bookstore.json;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static com.example.bookstoreapi.json.JsonMatchers.at;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.bookstoreapi.json.CompiledPath;
+import com.example.bookstoreapi.json.JsonView;
+
+import io.restassured.path.json.JsonPath;
+
+/**
+ * Test class for {@link CompiledPath}, {@link JsonView} and {@code JsonMatchers}.
+ * <p>
+ * Runs without the API. The reference is RestAssured's GPath: every path must give the value
+ * {@link JsonPath} gives, of the same type.
+ */
+public class CompiledPathTests {
+
+    private static final String AUTHORS = "[{\"id\":1,\"idBook\":7,\"firstName\":\"Ada\",\"lastName\":null},"
+        + "{\"id\":2,\"idBook\":7,\"firstName\":\"Über 🚀\",\"lastName\":\"L\"},null]";
+    private static final String ERROR = "{\"type\":\"https://tools.ietf.org/html/rfc7231#section-6.5.1\","
+        + "\"title\":\"One or more validation errors occurred.\",\"status\":400,"
+        + "\"errors\":{\"id\":[\"The value 'abc' is not valid.\"],\"$.pageCount\":[\"bad\",\"worse\"]},"
+        + "\"big\":9876543210,\"huge\":123456789012345678901234567890,\"ratio\":0.1,\"tiny\":1e-300,"
+        + "\"vast\":1e300,\"ok\":true,\"books\":[{\"tags\":[\"a\",\"b\"]},{\"tags\":[\"c\"]},{}],"
+        + "\"shelves\":[[{\"id\":1}],[{\"id\":2},null,{\"id\":3}],[]]}";
+
+    /**
+     * Positive test: Fields, indexes and collected fields give what RestAssured's GPath gives.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Evaluate paths as RestAssured does")
+    public void sameAsGPath() {
+        assertSame(AUTHORS, "id", "idBook", "firstName", "lastName", "[0]", "[1].firstName", "[-2].id", "[5]", "[0].missing");
+        assertSame(ERROR, "title", "status", "errors.id", "errors.id[0]", "errors.missing", "big", "huge", "ratio",
+            "tiny", "vast", "ok", "books.tags", "books[0].tags[-1]", "books[2].tags",
+            "shelves.id", "shelves[1].id", "shelves.id[1]");
+    }
+
+    /**
+     * Positive test: Typed accessors convert like RestAssured's getInt and getString, on bytes or text.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Read typed values from a parsed body")
+    public void typedAccessors() {
+        JsonView view = JsonView.parse(ERROR.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(400, view.intAt("status"));
+        assertEquals(9876543210L, view.longAt("big"));
+        assertEquals("400", view.stringAt("status"));
+        assertTrue(view.booleanAt("ok"));
+        assertEquals(List.of(2, 3), view.listAt("shelves[1].id"));
+        assertEquals(7, JsonView.parse(AUTHORS).intAt("[1].idBook"));
+        assertNull(JsonView.parse("").root());
+    }
+
+    /**
+     * Positive test: The body matcher passes and fails where RestAssured's {@code body(path, matcher)} does.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Assert body fields through the view")
+    public void bodyMatcher() {
+        assertThat(ERROR, at("title", equalTo("One or more validation errors occurred.")));
+        assertThat(ERROR, at("status", equalTo(400)));
+        assertThat(AUTHORS, at("idBook", everyItem(equalTo(7))));
+        assertThat(AUTHORS, not(at("idBook", everyItem(equalTo("7")))));
+        assertThat("<html>Not Found</html>", not(at("title", equalTo("Not Found"))));
+
+        AssertionError error = assertThrows(AssertionError.class,
+            () -> assertThat(ERROR, at("status", equalTo(404))));
+        assertTrue(error.getMessage().contains("JSON path \"status\" was <400>"), error.getMessage());
+    }
+
+    /**
+     * Negative test: Paths that need Groovy, malformed paths and missing values are rejected.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Reject unsupported paths and missing values")
+    public void rejectUnsupported() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledPath.compile("find { it.id == 1 }"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledPath.compile("errors.id[x]"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledPath.compile("errors."));
+        assertThrows(IllegalArgumentException.class, () -> CompiledPath.compile(""));
+        assertThrows(IllegalArgumentException.class, () -> JsonView.parse(ERROR).intAt("missing"));
+        assertThrows(IllegalArgumentException.class, () -> JsonView.parse(ERROR).intAt("title"));
+        assertTrue(CompiledPath.compile("errors.id[0]") == CompiledPath.compile("errors.id[0]"));
+    }
+
+    private static void assertSame(String json, String... paths) {
+        JsonPath gpath = JsonPath.from(json);
+        JsonView view = JsonView.parse(json);
+        for (String path : paths) {
+            Object expected = gpath.get(path);
+            Object actual = view.get(path);
+            assertEquals(expected, actual, path);
+            if (!(expected instanceof Map || expected instanceof List)) {
+                assertEquals(expected == null ? null : expected.getClass(), actual == null ? null : actual.getClass(), path);
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package bookstore.json;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.bookstoreapi.json.AuthorCodec;
+import com.example.bookstoreapi.json.BookCodec;
+import com.example.bookstoreapi.json.JsonMapper;
+import com.example.bookstoreapi.json.JsonWriter;
+import com.example.bookstoreapi.model.Author;
+import com.example.bookstoreapi.model.Book;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Test class for the reflection-free {@link BookCodec} and {@link AuthorCodec}.
+ * <p>
+ * Runs without the API. The reference output is RestAssured's: Jackson's databind writes the POJO
+ * to a string, which is sent as UTF-8.
+ */
+public class ModelCodecTests {
+
+    private static final ObjectMapper JACKSON = new ObjectMapper();
+
+    /**
+     * Positive test: The codecs write byte for byte what RestAssured sends for the POJOs, for any text and missing fields.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Write the same JSON as Jackson")
+    public void writeSameJsonAsJackson() throws Exception {
+        Random random = new Random(24);
+        for (int i = 0; i < 2_000; i++) {
+            Book book = new Book(maybe(random, random.nextInt()), text(random), text(random),
+                maybe(random, random.nextInt(2000) - 1000), text(random), text(random));
+            Author author = new Author(maybe(random, random.nextInt()), maybe(random, Integer.MIN_VALUE + random.nextInt(3)),
+                text(random), text(random));
+
+            assertArrayEquals(restAssuredJson(book), BookCodec.encode(book));
+            assertArrayEquals(restAssuredJson(author), AuthorCodec.encode(author));
+        }
+    }
+
+    /**
+     * Positive test: A book and an author survive a round trip, and the author's book is read from {@code idBook}.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Read back what was written")
+    public void roundTrip() {
+        Book book = JsonMapper.readBook(new String(BookCodec.encode(
+            new Book(3, "Über \"quoted\"", null, 120, "tab\there 🚀", "2024-01-01T00:00:00")), StandardCharsets.UTF_8));
+        Author author = JsonMapper.readAuthor("{\"id\":5,\"idBook\":9,\"firstName\":\"Ada\",\"lastName\":\"Lovelace\"}");
+
+        assertEquals(3, book.getId());
+        assertEquals("Über \"quoted\"", book.getTitle());
+        assertNull(book.getDescription());
+        assertEquals(120, book.getPageCount());
+        assertEquals("tab\there 🚀", book.getExcerpt());
+        assertEquals(9, author.getBookId());
+        assertEquals("Lovelace", author.getLastName());
+    }
+
+    /**
+     * Edge test: Fields in another order, unknown fields and a writer that is reused are all handled.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Read fields in any order and reuse the writer")
+    public void anyOrderAndReuse() {
+        Book book = JsonMapper.readBook("{\"publishDate\":\"d\",\"extra\":[1,{\"id\":99}],\"pageCount\":7,\"id\":4,\"title\":\"t\"}");
+        Author author = JsonMapper.readAuthor("{\"lastName\":\"L\",\"bookId\":3,\"id\":1}");
+        JsonWriter writer = new JsonWriter(4);
+        BookCodec.write(book, writer);
+        int first = writer.size();
+        writer.reset();
+        BookCodec.write(book, writer);
+
+        assertEquals(4, book.getId());
+        assertEquals(7, book.getPageCount());
+        assertEquals("d", book.getPublishDate());
+        assertNull(book.getExcerpt());
+        assertEquals(3, author.getBookId());
+        assertEquals(first, writer.size());
+        assertArrayEquals(BookCodec.encode(book), writer.toByteArray());
+    }
+
+    /**
+     * Negative test: A string with an unpaired surrogate is rejected rather than written as invalid UTF-8.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Reject an unpaired surrogate")
+    public void rejectUnpairedSurrogate() {
+        assertThrows(IllegalArgumentException.class,
+            () -> BookCodec.encode(new Book(1, "broken \uD83D", null, 1, null, null)));
+    }
+
+    private static byte[] restAssuredJson(Object value) throws Exception {
+        return JACKSON.writeValueAsString(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Integer maybe(Random random, int value) {
+        return random.nextInt(5) == 0 ? null : value;
+    }
+
+    /** Null, ASCII, escapes, control characters, and 2-, 3- and 4-byte UTF-8. */
+    private static String text(Random random) {
+        if (random.nextInt(6) == 0) {
+            return null;
+        }
+        String[] pieces = {"a", "Z", " ", "\"", "\\", "/", "\n", "\t", "\r", "\b", "\f", "\u0000", "\u001f", "\u007f",
+            "é", "ß", "߿", "ࠀ", "€", "中", "￿", "🚀", "𝄞"};
+        StringBuilder text = new StringBuilder();
+        int length = random.nextInt(40);
+        for (int i = 0; i < length; i++) {
+            text.append(pieces[random.nextInt(pieces.length)]);
+        }
+        return text.toString();
+    }
+}
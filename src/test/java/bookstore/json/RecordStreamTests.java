@@ -0,0 +1,113 @@
+package bookstore.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.bookstoreapi.json.JsonMapper;
+import com.example.bookstoreapi.json.RecordStream;
+import com.example.bookstoreapi.model.Book;
+
+/**
+ * Test class for streaming list responses.
+ * <p>
+ * Runs without the API, on JSON in the shape the API returns.
+ */
+public class RecordStreamTests {
+
+    /**
+     * Positive test: Books are read one by one with the same mapping as {@link JsonMapper#readBooks(String)}.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Stream books with the same mapping as the list reader")
+    public void streamBooks() {
+        String json = "[{\"id\":1,\"title\":\"Book 1\",\"description\":null,\"pageCount\":100,"
+            + "\"excerpt\":\"x\",\"publishDate\":\"2024-01-01T00:00:00\",\"extra\":{\"a\":[1,2]}},"
+            + "{\"id\":2,\"title\":\"Book 2\",\"pageCount\":200}]";
+
+        Iterator<Book> expected = JsonMapper.readBooks(json).iterator();
+        try (RecordStream<Book> books = JsonMapper.streamBooks(stream(json))) {
+            while (books.hasNext()) {
+                Book book = books.next();
+                Book read = expected.next();
+                assertEquals(read.getId(), book.getId());
+                assertEquals(read.getTitle(), book.getTitle());
+                assertEquals(read.getDescription(), book.getDescription());
+                assertEquals(read.getPageCount(), book.getPageCount());
+                assertEquals(read.getExcerpt(), book.getExcerpt());
+                assertEquals(read.getPublishDate(), book.getPublishDate());
+            }
+        }
+        assertFalse(expected.hasNext());
+    }
+
+    /**
+     * Positive test: Count and predicate helpers work on a list too large to hold as a tree.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Count and match a million authors")
+    public void countAndMatchLargeList() {
+        int size = 1_000_000;
+
+        assertEquals(size, JsonMapper.streamAuthors(authors(size)).count());
+        assertEquals(size / 200, JsonMapper.streamAuthors(authors(size)).count(author -> author.getBookId() == 7));
+        assertTrue(JsonMapper.streamAuthors(authors(size)).allMatch(author -> author.getFirstName().startsWith("First")));
+        assertTrue(JsonMapper.streamAuthors(authors(size)).anyMatch(author -> author.getId() == size));
+    }
+
+    /**
+     * Negative test: A body that is not a JSON array fails when it is read.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Fail on a body that is not an array")
+    public void rejectNonArray() {
+        RecordStream<Book> books = JsonMapper.streamBooks(stream("{\"title\":\"Not Found\",\"status\":404}"));
+
+        assertThrows(UncheckedIOException.class, books::count);
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Generates an author array lazily, so the test itself does not hold the document either. */
+    private static InputStream authors(int size) {
+        return new SequenceInputStream(new Enumeration<InputStream>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next <= size + 1;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                int index = next++;
+                if (index == 0) {
+                    return stream("[");
+                }
+                if (index == size + 1) {
+                    return stream("]");
+                }
+                return stream((index > 1 ? "," : "") + "{\"id\":" + index + ",\"idBook\":" + ((index - 1) % 200 + 1)
+                    + ",\"firstName\":\"First Name " + index + "\",\"lastName\":\"Last Name " + index + "\"}");
+            }
+        });
+    }
+}
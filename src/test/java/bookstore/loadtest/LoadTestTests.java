@@ -0,0 +1,198 @@
+package bookstore.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.api.parallel.Resources;
+
+import com.example.bookstoreapi.api.AuthorsApis;
+import com.example.bookstoreapi.api.BooksApis;
+import com.example.bookstoreapi.loadtest.ClosedLoopLoadTest;
+import com.example.bookstoreapi.loadtest.EndpointSummary;
+import com.example.bookstoreapi.loadtest.LatencyRecorder;
+import com.example.bookstoreapi.loadtest.LoadTestReport;
+import com.example.bookstoreapi.loadtest.LoadTestSettings;
+import com.example.bookstoreapi.loadtest.OpenLoopLoadTest;
+import com.example.bookstoreapi.loadtest.OpenLoopReport;
+import com.example.bookstoreapi.loadtest.OpenLoopSettings;
+import com.example.bookstoreapi.loadtest.Operation;
+import com.example.bookstoreapi.stub.BookstoreStubServer;
+
+/**
+ * Test class for the closed- and open-loop load generators and their {@link LatencyRecorder} and {@link LoadTestSettings}.
+ * <p>
+ * Runs without the API, against the in-process stand-in server.
+ */
+public class LoadTestTests {
+
+    private static BookstoreStubServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() {
+        server = BookstoreStubServer.start();
+        baseUrl = server.getBaseUrl();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        server.close();
+    }
+
+    /**
+     * Positive test: Every user runs its iterations, and the operation mix is spread evenly over the endpoints.
+     */
+    @Test
+    @Tag("positive")
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    @DisplayName("Run a closed-loop load test by iterations")
+    public void closedLoopRunsIterations() throws InterruptedException {
+        LoadTestSettings settings = new LoadTestSettings(2, Duration.ofMinutes(1), 5,
+            List.of(Operation.GET_BOOK_BY_ID, Operation.DELETE_BOOK));
+
+        LoadTestReport report = new ClosedLoopLoadTest(new BooksApis(baseUrl), new AuthorsApis(baseUrl), settings).run();
+
+        assertEquals(2, report.getEndpoints().size());
+        for (EndpointSummary endpoint : report.getEndpoints()) {
+            assertEquals(5, endpoint.getCount(), endpoint.getEndpoint());
+            assertEquals(0, endpoint.getErrors(), endpoint.getEndpoint());
+            assertEquals(Map.of(200, 5L), endpoint.getStatusCodes(), endpoint.getEndpoint());
+            assertTrue(endpoint.getThroughput() > 0, endpoint.getEndpoint());
+        }
+    }
+
+    /**
+     * Positive test: Latencies and status codes are summarized per endpoint, with failed requests counted as errors.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Summarize recorded latencies")
+    public void recorderSummarizes() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int millis = 1; millis <= 100; millis++) {
+            recorder.record("GET /a", TimeUnit.MILLISECONDS.toNanos(millis), millis % 10 == 0 ? 404 : 200);
+        }
+        recorder.record("GET /b", TimeUnit.MILLISECONDS.toNanos(5), LatencyRecorder.NO_RESPONSE);
+
+        Map<String, EndpointSummary> summaries = recorder.summarize(TimeUnit.SECONDS.toNanos(2));
+        EndpointSummary a = summaries.get("GET /a");
+        EndpointSummary b = summaries.get("GET /b");
+
+        assertEquals(List.of("GET /a", "GET /b"), List.copyOf(summaries.keySet()));
+        assertEquals(100, a.getCount());
+        assertEquals(10, a.getErrors());
+        assertEquals(50.0, a.getPercentileMillis(50), 0.1);
+        assertEquals(100.0, a.getMaxMillis(), 0.1);
+        assertEquals(50.0, a.getThroughput(), 1e-9);
+        assertEquals(Map.of(LatencyRecorder.NO_RESPONSE, 1L), b.getStatusCodes());
+        assertEquals(1, b.getErrors());
+    }
+
+    /**
+     * Positive test: Settings given as system properties are parsed, with operation names in any case.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Read the settings from the configuration")
+    @ResourceLock(Resources.SYSTEM_PROPERTIES)
+    public void settingsFromConfig() {
+        System.setProperty("loadtest.users", "3");
+        System.setProperty("loadtest.iterations", "7");
+        System.setProperty("loadtest.operations", " get_book_by_id, ,DELETE_AUTHOR ");
+        try {
+            LoadTestSettings settings = LoadTestSettings.fromConfig();
+
+            assertEquals(3, settings.getUsers());
+            assertEquals(7, settings.getIterations());
+            assertEquals(List.of(Operation.GET_BOOK_BY_ID, Operation.DELETE_AUTHOR), settings.getOperations());
+        } finally {
+            System.clearProperty("loadtest.users");
+            System.clearProperty("loadtest.iterations");
+            System.clearProperty("loadtest.operations");
+        }
+    }
+
+    /**
+     * Negative test: No users, no operations or an unknown operation are rejected.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Reject invalid settings")
+    @ResourceLock(Resources.SYSTEM_PROPERTIES)
+    public void rejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new LoadTestSettings(0, Duration.ofSeconds(1), 1, List.of(Operation.GET_BOOK_BY_ID)));
+        assertThrows(IllegalArgumentException.class,
+            () -> new LoadTestSettings(1, Duration.ofSeconds(1), 1, List.of()));
+
+        System.setProperty("loadtest.operations", "GET_EVERYTHING");
+        try {
+            assertThrows(IllegalArgumentException.class, LoadTestSettings::fromConfig);
+        } finally {
+            System.clearProperty("loadtest.operations");
+        }
+    }
+
+    /**
+     * Edge test: Requests that get no response are recorded as errors and do not stop the run.
+     */
+    @Test
+    @Tag("edge")
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    @DisplayName("Record requests without a response")
+    public void unreachableServerIsRecorded() throws IOException, InterruptedException {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            closedPort = socket.getLocalPort();
+        }
+        String unreachable = "http://127.0.0.1:" + closedPort;
+        LoadTestSettings settings = new LoadTestSettings(1, Duration.ofMinutes(1), 3, List.of(Operation.GET_BOOK_BY_ID));
+
+        LoadTestReport report = new ClosedLoopLoadTest(new BooksApis(unreachable), new AuthorsApis(unreachable), settings).run();
+
+        EndpointSummary endpoint = report.getEndpoints().get(0);
+        assertEquals(3, endpoint.getCount());
+        assertEquals(3, endpoint.getErrors());
+        assertEquals(Map.of(LatencyRecorder.NO_RESPONSE, 3L), endpoint.getStatusCodes());
+    }
+
+    /**
+     * Edge test: An open-loop run records requests that get no response as errors, and every scheduled request is sent.
+     */
+    @Test
+    @Tag("edge")
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    @DisplayName("Record open-loop requests without a response")
+    public void openLoopRecordsUnreachableServer() throws IOException, InterruptedException {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            closedPort = socket.getLocalPort();
+        }
+        String unreachable = "http://127.0.0.1:" + closedPort;
+        OpenLoopSettings settings = new OpenLoopSettings(20, Duration.ofMillis(500), 2, List.of(Operation.GET_BOOK_BY_ID));
+
+        OpenLoopReport report = new OpenLoopLoadTest(new BooksApis(unreachable), new AuthorsApis(unreachable), settings).run();
+
+        EndpointSummary endpoint = report.getResponseTimes().getEndpoints().get(0);
+        assertEquals(10, report.getScheduled());
+        assertEquals(report.getScheduled(), report.getSent());
+        assertEquals(report.getScheduled(), endpoint.getCount());
+        assertEquals(Map.of(LatencyRecorder.NO_RESPONSE, report.getScheduled()), endpoint.getStatusCodes());
+    }
+}
@@ -0,0 +1,192 @@
+package bookstore.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.opentest4j.AssertionFailedError;
+
+import bookstore.support.LatencyBudget;
+import bookstore.support.LatencyBudgetExtension;
+
+/**
+ * Test class for {@link LatencyBudget} and its {@link LatencyBudgetExtension}.
+ * <p>
+ * Runs without the API. The extension intercepts the methods of {@link Subject}, which are not
+ * tests themselves and only count their invocations.
+ */
+public class LatencyBudgetTests {
+
+    /**
+     * Positive test: A method within its budget passes after the first run, the warm-up and the samples.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Pass a test within its latency budget")
+    public void withinBudget() throws Throwable {
+        Subject subject = new Subject();
+
+        intercept(subject, "fast");
+
+        assertEquals(1 + 2 + 5, subject.invocations);
+    }
+
+    /**
+     * Negative test: A method over its budget fails with a message naming the exceeded percentile only.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Fail a test over its latency budget")
+    public void overBudget() {
+        Subject subject = new Subject();
+
+        AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> intercept(subject, "slow"));
+
+        assertTrue(error.getMessage().startsWith("Latency budget exceeded over 3 samples: p99 "), error.getMessage());
+        assertTrue(error.getMessage().contains("budget 0.00 ms"), error.getMessage());
+        assertFalse(error.getMessage().contains("p50"), error.getMessage());
+        assertEquals(1 + 3, subject.invocations);
+    }
+
+    /**
+     * Negative test: A budget that is not a number with a unit is rejected before the method runs.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Reject a malformed budget")
+    public void malformedBudget() {
+        Subject subject = new Subject();
+
+        ExtensionConfigurationException error = assertThrows(ExtensionConfigurationException.class,
+            () -> intercept(subject, "malformed"));
+
+        assertEquals("@LatencyBudget p95 must be a number with us, ms or s: 200 millis", error.getMessage());
+        assertEquals(0, subject.invocations);
+    }
+
+    /**
+     * Edge test: No samples, a negative warm-up or no budget at all is rejected before the method runs.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Reject a budget without samples")
+    public void noSamples() {
+        Subject subject = new Subject();
+
+        for (String method : List.of("noSamples", "negativeSamples", "negativeWarmup")) {
+            ExtensionConfigurationException error = assertThrows(ExtensionConfigurationException.class,
+                () -> intercept(subject, method));
+            assertEquals("@LatencyBudget needs samples > 0 and warmup >= 0", error.getMessage(), method);
+        }
+        assertThrows(ExtensionConfigurationException.class, () -> intercept(subject, "noBudget"));
+        assertEquals(0, subject.invocations);
+    }
+
+    /**
+     * Edge test: A sample that fails its assertions fails the test, even within budget.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Fail a test whose sample fails")
+    public void failingSample() {
+        Subject subject = new Subject();
+
+        AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> intercept(subject, "flaky"));
+
+        assertEquals("invocation 3", error.getMessage());
+    }
+
+    /**
+     * Lets the extension intercept one method of the subject, as JUnit would for a test method.
+     */
+    @SuppressWarnings("unchecked")
+    private static void intercept(Subject subject, String name) throws Throwable {
+        Method method = Subject.class.getDeclaredMethod(name);
+        ReflectiveInvocationContext<Method> invocationContext = stub(ReflectiveInvocationContext.class, Map.of(
+            "getTargetClass", Subject.class,
+            "getExecutable", method,
+            "getArguments", List.of(),
+            "getTarget", Optional.of(subject)));
+        ExtensionContext extensionContext = stub(ExtensionContext.class, Map.of("getRequiredTestMethod", method));
+
+        new LatencyBudgetExtension().interceptTestMethod(() -> {
+            method.invoke(subject);
+            return null;
+        }, invocationContext, extensionContext);
+    }
+
+    /** @return an implementation of the interface answering only the given methods */
+    private static <T> T stub(Class<T> type, Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            if (!answers.containsKey(method.getName())) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            return answers.get(method.getName());
+        }));
+    }
+
+    /**
+     * Methods for the extension to intercept.
+     */
+    static final class Subject {
+
+        int invocations;
+
+        @LatencyBudget(p95 = "10s", max = "10 s", samples = 5, warmup = 2)
+        void fast() {
+            invocations++;
+        }
+
+        @LatencyBudget(p50 = "10s", p99 = "1us", samples = 3, warmup = 0)
+        void slow() throws InterruptedException {
+            invocations++;
+            Thread.sleep(2);
+        }
+
+        @LatencyBudget(p95 = "200 millis")
+        void malformed() {
+            invocations++;
+        }
+
+        @LatencyBudget(p95 = "1s", samples = 0)
+        void noSamples() {
+            invocations++;
+        }
+
+        @LatencyBudget(p95 = "1s", samples = -1)
+        void negativeSamples() {
+            invocations++;
+        }
+
+        @LatencyBudget(p95 = "1s", warmup = -1)
+        void negativeWarmup() {
+            invocations++;
+        }
+
+        @LatencyBudget
+        void noBudget() {
+            invocations++;
+        }
+
+        @LatencyBudget(max = "10s", samples = 5, warmup = 0)
+        void flaky() {
+            invocations++;
+            if (invocations == 3) {
+                throw new AssertionFailedError("invocation " + invocations);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package bookstore.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.bookstoreapi.metrics.LatencyHistory;
+import com.example.bookstoreapi.metrics.LatencyRun;
+import com.example.bookstoreapi.metrics.MannWhitneyU;
+import com.example.bookstoreapi.metrics.RegressionComparator;
+import com.example.bookstoreapi.metrics.RegressionReport;
+import com.example.bookstoreapi.metrics.RegressionSettings;
+
+/**
+ * Test class for the cross-run latency regression check.
+ * <p>
+ * Works on generated latencies only; no API calls are made.
+ */
+public class LatencyRegressionTests {
+
+    private static final String BOOK = "GET /api/v1/Books/{id}";
+    private static final Instant START = Instant.parse("2026-01-01T02:00:00Z");
+
+    private final RegressionSettings settings = new RegressionSettings(7, 0.01, 20, 10);
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Positive test: A run whose latencies shifted up is significantly slower; the same distribution is not.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Mann-Whitney U detects a shift only")
+    public void mannWhitneyDetectsShift() {
+        Histogram baseline = latencies(1, 200, 20_000);
+        Histogram same = latencies(2, 200, 20_000);
+        Histogram slower = latencies(3, 200, 30_000);
+
+        MannWhitneyU shifted = MannWhitneyU.greater(slower, baseline);
+        MannWhitneyU unchanged = MannWhitneyU.greater(same, baseline);
+
+        assertTrue(shifted.getPValue() < 0.001, shifted.toString());
+        assertTrue(shifted.getProbabilityOfSuperiority() > 0.5, shifted.toString());
+        assertTrue(unchanged.getPValue() > 0.01, unchanged.toString());
+    }
+
+    /**
+     * Positive test: Runs are read back in the order they were appended, and a torn line is skipped.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Append runs to the history and read them back")
+    public void historyRoundTrip() throws IOException {
+        LatencyHistory history = new LatencyHistory(dir);
+        history.append(run("a", 0, "stub", latencies(1, 50, 20_000)));
+        Files.write(history.getFile(), "{\"id\":\"torn\",\"endp".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        Files.write(history.getFile(), "\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        history.append(run("b", 1, "stub", latencies(2, 50, 25_000)));
+
+        List<LatencyRun> runs = history.read();
+
+        assertEquals(2, runs.size());
+        assertEquals("a", runs.get(0).getId());
+        assertEquals("b", runs.get(1).getId());
+        assertEquals(START.plusSeconds(86_400), runs.get(1).getTimestamp());
+        assertEquals(50, runs.get(1).getEndpoints().get(BOOK).getTotalCount());
+        assertEquals(latencies(2, 50, 25_000).getValueAtPercentile(50),
+            runs.get(1).getEndpoints().get(BOOK).getValueAtPercentile(50));
+    }
+
+    /**
+     * Negative test: A run 50% slower than its baseline fails the check; one like the baseline passes.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Flag an endpoint that got slower")
+    public void flagRegression() {
+        List<LatencyRun> history = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            history.add(run("base" + i, i, "stub", latencies(i, 40, 20_000)));
+        }
+        LatencyRun slower = run("slower", 5, "stub", latencies(10, 40, 30_000));
+        LatencyRun same = run("same", 5, "stub", latencies(11, 40, 20_000));
+
+        RegressionReport regressed = new RegressionComparator(settings).compare(slower, history);
+        RegressionReport passed = new RegressionComparator(settings).compare(same, history);
+
+        assertEquals(5, regressed.getBaselineRuns());
+        assertFalse(regressed.isPassed());
+        assertEquals(RegressionReport.Verdict.REGRESSED, regressed.getRows().get(0).getVerdict());
+        assertTrue(passed.isPassed());
+        assertEquals(RegressionReport.Verdict.OK, passed.getRows().get(0).getVerdict());
+    }
+
+    /**
+     * Edge test: Runs against another target, and endpoints with too few calls, are not compared.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Skip other targets and small samples")
+    public void skipOtherTargetsAndSmallSamples() {
+        List<LatencyRun> history = List.of(
+            run("prod", 0, "https://fakerestapi.azurewebsites.net", latencies(1, 40, 20_000)),
+            run("small", 1, "stub", latencies(2, 5, 20_000)));
+
+        RegressionReport report = new RegressionComparator(settings)
+            .compare(run("run", 2, "stub", latencies(3, 40, 60_000)), history);
+
+        assertEquals(1, report.getBaselineRuns());
+        assertEquals(RegressionReport.Verdict.TOO_FEW_SAMPLES, report.getRows().get(0).getVerdict());
+        assertTrue(report.isPassed());
+    }
+
+    private static LatencyRun run(String id, int day, String target, Histogram book) {
+        return new LatencyRun(id, START.plusSeconds(86_400L * day), target, Map.of(BOOK, book));
+    }
+
+    /** Log-normal-ish latencies in microseconds around {@code medianMicros}. */
+    private static Histogram latencies(long seed, int count, long medianMicros) {
+        Random random = new Random(seed);
+        Histogram histogram = new Histogram(60_000_000L, 3);
+        for (int i = 0; i < count; i++) {
+            histogram.recordValue(Math.round(medianMicros * Math.exp(0.15 * random.nextGaussian())));
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,180 @@
+package bookstore.metrics;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.bookstoreapi.api.AsyncBooksApis;
+import com.example.bookstoreapi.api.BooksApis;
+import com.example.bookstoreapi.config.ConfigReader;
+import com.example.bookstoreapi.loadtest.EndpointSummary;
+import com.example.bookstoreapi.metrics.EndpointNamer;
+import com.example.bookstoreapi.metrics.LatencyHistory;
+import com.example.bookstoreapi.metrics.LatencyRun;
+import com.example.bookstoreapi.metrics.MetricsFilter;
+import com.example.bookstoreapi.metrics.MetricsRegistry;
+import com.example.bookstoreapi.stub.BookstoreStubServer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import bookstore.support.MetricsExportListener;
+
+/**
+ * Test class for the per-endpoint API metrics.
+ * <p>
+ * Runs without the API, against the in-process stand-in server. Isolated, so that no other test
+ * records into the shared registry or reads the system properties while a test compares it.
+ */
+@Isolated
+public class MetricsTests {
+
+    private static final String AUTHORS = "/api/v1/Authors";
+    private static final String API = "https://fakerestapi.azurewebsites.net";
+
+    private final EndpointNamer namer = new EndpointNamer(AUTHORS, List.of("", "/{id}", "/authors/books/{idBook}"));
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Positive test: Concrete paths are named by their template, whatever the ID looks like.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Name endpoints by path template")
+    public void nameEndpoints() {
+        assertEquals("GET /api/v1/Authors", namer.name("GET", ""));
+        assertEquals("GET /api/v1/Authors/{id}", namer.name("GET", "/7"));
+        assertEquals("DELETE /api/v1/Authors/{id}", namer.name("DELETE", "/*!"));
+        assertEquals("GET /api/v1/Authors/authors/books/{idBook}", namer.name("GET", "/authors/books/null?x=1"));
+    }
+
+    /**
+     * Edge test: A path that matches no template is named as it is.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Name an unknown path as it is")
+    public void nameUnknownPath() {
+        assertEquals("GET /api/v1/Authors/7/books", namer.name("GET", "/7/books"));
+    }
+
+    /**
+     * Positive test: Calls are counted per endpoint and status and exported as JSON and Prometheus text.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Record and export calls per endpoint")
+    public void recordAndExport() throws IOException {
+        MetricsRegistry registry = new MetricsRegistry();
+        MetricsFilter filter = new MetricsFilter(registry, namer);
+        try (BookstoreStubServer server = BookstoreStubServer.start()) {
+            for (String path : List.of("/1", "/2", "/3", "/999999", "/authors/books/1")) {
+                given().baseUri(server.getBaseUrl()).basePath(AUTHORS).filter(filter).get(path);
+            }
+        }
+
+        Map<String, EndpointSummary> endpoints = registry.snapshot();
+        EndpointSummary byId = endpoints.get("GET /api/v1/Authors/{id}");
+        assertEquals(4, byId.getCount());
+        assertEquals(1, byId.getErrors());
+        assertEquals(3L, byId.getStatusCodes().get(200));
+        assertEquals(1, endpoints.get("GET /api/v1/Authors/authors/books/{idBook}").getCount());
+
+        registry.export(dir);
+
+        JsonNode json = new ObjectMapper().readTree(dir.resolve(MetricsRegistry.JSON_FILE).toFile());
+        JsonNode endpoint = json.get("endpoints").get("GET /api/v1/Authors/{id}");
+        assertEquals(4, endpoint.get("count").asLong());
+        assertEquals(1, endpoint.get("statusCodes").get("404").asLong());
+        assertTrue(endpoint.get("latencyMillis").get("p99").asDouble() > 0);
+        String prometheus = new String(Files.readAllBytes(dir.resolve(MetricsRegistry.PROMETHEUS_FILE)), StandardCharsets.UTF_8);
+        assertTrue(prometheus.contains(
+            "bookstore_api_requests_total{method=\"GET\",path=\"/api/v1/Authors/{id}\",status=\"200\"} 3\n"), prometheus);
+        assertTrue(prometheus.contains(
+            "bookstore_api_request_duration_seconds_count{method=\"GET\",path=\"/api/v1/Authors/{id}\"} 4\n"), prometheus);
+    }
+
+    /**
+     * Negative test: Clients pointed at a server other than the configured base URL leave the shared registry alone.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Record no calls to another host in the shared registry")
+    public void otherHostNotRecorded() {
+        MetricsRegistry shared = MetricsRegistry.shared();
+        assertNotNull(shared, "metrics.enabled");
+        long before = totalCount(shared);
+
+        try (BookstoreStubServer server = BookstoreStubServer.start()) {
+            assertNull(MetricsRegistry.sharedFor(server.getBaseUrl()));
+            assertEquals(200, new BooksApis(server.getBaseUrl()).getBookById(1).getStatusCode());
+            assertEquals(200, new AsyncBooksApis(server.getBaseUrl()).getBookByIdAsync(1).join().getStatusCode());
+        }
+
+        assertEquals(before, totalCount(shared));
+        assertSame(shared, MetricsRegistry.sharedFor(ConfigReader.get("base.url") + "/"));
+    }
+
+    /**
+     * Negative test: A run in which only tests with their own stand-in servers call anything adds
+     * no samples under the API's base URL to the latency history.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Add no stub samples to the history of the API")
+    public void stubOnlyRunNotInApiHistory() throws IOException {
+        MetricsRegistry shared = MetricsRegistry.shared();
+        long before = totalCount(shared);
+        Map<String, String> properties = Map.of("base.url", API, "stub.server", "false",
+            "metrics.dir", dir.toString(), "metrics.history.dir", dir.resolve("history").toString());
+        Map<String, String> saved = new HashMap<>();
+        properties.forEach((key, value) -> saved.put(key, System.setProperty(key, value)));
+        List<LatencyRun> runs;
+        try {
+            try (BookstoreStubServer server = BookstoreStubServer.start()) {
+                new BooksApis(server.getBaseUrl()).getBookById(1);
+                new AsyncBooksApis(server.getBaseUrl()).getBookByIdAsync(1).join();
+            }
+            new MetricsExportListener().testPlanExecutionFinished(null);
+            runs = LatencyHistory.fromConfig().read();
+        } finally {
+            saved.forEach((key, value) -> {
+                if (value == null) {
+                    System.clearProperty(key);
+                } else {
+                    System.setProperty(key, value);
+                }
+            });
+        }
+
+        long appended = 0;
+        for (LatencyRun run : runs) {
+            assertEquals(API, run.getTarget());
+            appended += run.getEndpoints().values().stream().mapToLong(Histogram::getTotalCount).sum();
+        }
+        assertEquals(before, appended, "samples under " + API);
+    }
+
+    private static long totalCount(MetricsRegistry registry) {
+        return registry.snapshot().values().stream().mapToLong(EndpointSummary::getCount).sum();
+    }
+}
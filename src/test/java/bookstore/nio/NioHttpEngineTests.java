@@ -0,0 +1,166 @@
+package bookstore.nio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.bookstoreapi.json.JsonMapper;
+import com.example.bookstoreapi.model.Book;
+import com.example.bookstoreapi.nio.NioEngineSettings;
+import com.example.bookstoreapi.nio.NioHttpEngine;
+import com.example.bookstoreapi.nio.NioResponse;
+import com.example.bookstoreapi.stub.BookstoreStubServer;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Test class for the non-blocking NIO client engine.
+ * <p>
+ * Runs without the API, against the in-process stand-in server or a local server.
+ */
+public class NioHttpEngineTests {
+
+    private static NioEngineSettings settings(int connections, int pipelineDepth) {
+        return new NioEngineSettings(1, connections, pipelineDepth, 4096, Duration.ofSeconds(10));
+    }
+
+    /**
+     * Positive test: Requests of every method are answered over one keep-alive connection.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Send requests over a keep-alive connection")
+    public void keepAlive() throws Exception {
+        try (BookstoreStubServer server = BookstoreStubServer.start();
+             NioHttpEngine engine = NioHttpEngine.start(server.getBaseUrl(), settings(1, 1))) {
+            NioResponse get = engine.send("GET", "/api/v1/Books/7", null).get();
+            byte[] book = ("{\"id\":0,\"title\":\"Über\",\"description\":\"d\",\"pageCount\":3,"
+                + "\"excerpt\":\"e\",\"publishDate\":\"2024-01-01T00:00:00\"}").getBytes(StandardCharsets.UTF_8);
+            NioResponse post = engine.send("POST", "/api/v1/Books", ByteBuffer.wrap(book)).get();
+            NioResponse delete = engine.send("DELETE", "/api/v1/Authors/3", null).get();
+            NioResponse missing = engine.send("GET", "/api/v1/Books/999", null).get();
+
+            assertEquals(200, get.getStatusCode());
+            assertEquals(7, JsonMapper.readBook(get.getBodyAsString()).getId());
+            assertTrue(get.getHeader("Content-Type").startsWith("application/json"));
+            assertEquals("Über", JsonMapper.readBook(post.getBodyAsString()).getTitle());
+            assertEquals(200, delete.getStatusCode());
+            assertEquals(404, missing.getStatusCode());
+            assertEquals(1, engine.stats().getConnectionsOpened());
+            assertEquals(4, engine.stats().getCompleted());
+        }
+    }
+
+    /**
+     * Positive test: Pipelined requests on a single connection are matched to their own responses.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Pipeline requests on one connection")
+    public void pipelining() throws Exception {
+        try (BookstoreStubServer server = BookstoreStubServer.start();
+             NioHttpEngine engine = NioHttpEngine.start(server.getBaseUrl(), settings(1, 8))) {
+            List<CompletableFuture<NioResponse>> responses = new ArrayList<>();
+            for (int id = 1; id <= 50; id++) {
+                responses.add(engine.send("GET", "/api/v1/Books/" + id, null));
+            }
+
+            for (int id = 1; id <= 50; id++) {
+                Book book = JsonMapper.readBook(responses.get(id - 1).get().getBodyAsString());
+                assertEquals(id, book.getId());
+            }
+            assertEquals(1, engine.stats().getConnectionsOpened());
+            assertEquals(0, engine.stats().getInFlight());
+        }
+    }
+
+    /**
+     * Edge test: Chunked bodies and bodiless responses are read, and a connection the server
+     * closes after a response is replaced for the next request.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Read chunked, empty and close-delimited responses")
+    public void responseFraming() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/chunked", exchange -> {
+            byte[] part = "0123456789".getBytes(StandardCharsets.US_ASCII);
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                for (int i = 0; i < 1000; i++) {
+                    body.write(part);
+                    body.flush();
+                }
+            }
+        });
+        server.createContext("/empty", exchange -> {
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.createContext("/close", exchange -> {
+            exchange.getResponseHeaders().set("Connection", "close");
+            exchange.sendResponseHeaders(200, 2);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write("{}".getBytes(StandardCharsets.US_ASCII));
+            }
+        });
+        server.start();
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        try (NioHttpEngine engine = NioHttpEngine.start(baseUrl, settings(1, 1))) {
+            NioResponse chunked = engine.send("GET", "/chunked", null).get();
+            NioResponse closed = engine.send("GET", "/close", null).get();
+            NioResponse next = engine.send("GET", "/chunked", null).get();
+            NioResponse empty = engine.send("GET", "/empty", null).get();
+
+            assertEquals(10_000, chunked.getBody().length);
+            assertEquals("{}", closed.getBodyAsString());
+            assertEquals(10_000, next.getBody().length);
+            assertEquals(204, empty.getStatusCode());
+            assertEquals(0, empty.getBody().length);
+            assertEquals(2, engine.stats().getConnectionsOpened());
+            assertEquals(0, engine.stats().getRetried());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Negative test: A request to a port nobody listens on fails with an {@link IOException},
+     * and only {@code http} base URLs are accepted.
+     */
+    @Test
+    @Tag("negative")
+    @DisplayName("Fail requests that cannot connect")
+    public void connectionRefused() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = socket.getLocalPort();
+        }
+        try (NioHttpEngine engine = NioHttpEngine.start("http://127.0.0.1:" + port, settings(1, 1))) {
+            ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> engine.send("GET", "/api/v1/Books", null).get());
+
+            assertInstanceOf(IOException.class, failure.getCause());
+            assertEquals(1, engine.stats().getFailed());
+        }
+        assertThrows(IllegalArgumentException.class,
+            () -> NioHttpEngine.start("https://fakerestapi.azurewebsites.net", settings(1, 1)));
+    }
+}
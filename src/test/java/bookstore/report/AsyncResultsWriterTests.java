@@ -0,0 +1,108 @@
+package bookstore.report;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.bookstoreapi.report.AsyncResultsWriter;
+import com.example.bookstoreapi.report.ResultsWriterSettings;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.qameta.allure.internal.Allure2ModelJackson;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+/**
+ * Test class for the asynchronous Allure results writer.
+ */
+public class AsyncResultsWriterTests {
+
+    private static final byte[] ATTACHMENT = "{\"id\":1,\"title\":\"Book 1\"}".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Positive test: Results, containers and attachments end up under Allure's own file names.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Write results, containers and attachments")
+    public void writeFiles() throws Exception {
+        AsyncResultsWriter writer = new AsyncResultsWriter(new ResultsWriterSettings(dir, true, 4, 2, false));
+        try {
+            for (int i = 0; i < 10; i++) {
+                writer.write("attachment-" + i + ".json", new ByteArrayInputStream(ATTACHMENT));
+                writer.write(new TestResult().setUuid("test-" + i).setName("Test " + i).setStatus(Status.PASSED));
+            }
+            writer.write(new TestResultContainer().setUuid("container").setChildren(List.of("test-0")));
+            writer.flush();
+        } finally {
+            writer.close();
+        }
+
+        assertEquals(21, writer.getWritten());
+        assertEquals(0, writer.getFailed());
+        assertArrayEquals(ATTACHMENT, Files.readAllBytes(dir.resolve("attachment-9.json")));
+        JsonNode result = new ObjectMapper().readTree(dir.resolve("test-9-result.json").toFile());
+        assertEquals("Test 9", result.get("name").asText());
+        assertEquals("passed", result.get("status").asText());
+        assertTrue(Files.exists(dir.resolve("container-container.json")));
+    }
+
+    /**
+     * Positive test: Compressed attachments are gzipped, and the results point at the compressed files.
+     */
+    @Test
+    @Tag("positive")
+    @DisplayName("Compress attachments")
+    public void compressAttachments() throws Exception {
+        try (AsyncResultsWriter writer = new AsyncResultsWriter(new ResultsWriterSettings(dir, true, 16, 16, true))) {
+            writer.write("body.json", new ByteArrayInputStream(ATTACHMENT));
+            writer.write(new TestResult().setUuid("test").setSteps(List.of(new StepResult().setName("step")
+                .setAttachments(List.of(new Attachment().setName("Body").setSource("body.json").setType("application/json"))))));
+        }
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(dir.resolve("body.json.gz")))) {
+            assertArrayEquals(ATTACHMENT, in.readAllBytes());
+        }
+        TestResult result = Allure2ModelJackson.createMapper().readValue(dir.resolve("test-result.json").toFile(), TestResult.class);
+        Attachment attachment = result.getSteps().get(0).getAttachments().get(0);
+        assertEquals("body.json.gz", attachment.getSource());
+        assertEquals("application/gzip", attachment.getType());
+    }
+
+    /**
+     * Edge test: Results handed over after the writer was closed are written on the calling thread.
+     */
+    @Test
+    @Tag("edge")
+    @DisplayName("Write on the calling thread after close")
+    public void writeAfterClose() throws IOException {
+        AsyncResultsWriter writer = new AsyncResultsWriter(new ResultsWriterSettings(dir, true, 16, 16, false));
+        writer.close();
+
+        writer.write(new TestResult().setUuid("late"));
+
+        assertTrue(Files.exists(dir.resolve("late-result.json")));
+        assertEquals(1, writer.getWritten());
+    }
+}
@@ -0,0 +1,46 @@
+package bookstore.support;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import com.example.bookstoreapi.report.AsyncResultsWriter;
+import com.example.bookstoreapi.report.ResultsWriterSettings;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+
+/**
+ * JUnit Platform listener that has Allure write its result files through an
+ * {@link AsyncResultsWriter}, off the test threads.
+ * <p>
+ * Allure's own listener takes {@link Allure#getLifecycle()} when it is created, so the lifecycle
+ * is replaced in the constructor. This listener is registered in the test resources under
+ * {@code META-INF/services}, and the test classes come before the Allure jars on the class
+ * path, so it is created first. When {@code allure.results.async} is {@code false} Allure
+ * keeps writing synchronously. The queued files are written when the test plan finishes.
+ * </p>
+ */
+public class AllureResultsListener implements TestExecutionListener {
+
+    private final AsyncResultsWriter writer;
+
+    public AllureResultsListener() {
+        ResultsWriterSettings settings = ResultsWriterSettings.fromConfig();
+        writer = settings.isAsync() ? new AsyncResultsWriter(settings) : null;
+        if (writer != null) {
+            Allure.setLifecycle(new AllureLifecycle(writer));
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (writer == null) {
+            return;
+        }
+        writer.close();
+        if (writer.getFailed() > 0) {
+            System.err.println("Allure: " + writer.getFailed() + " result file(s) could not be written to "
+                + writer.getSettings().getDirectory().toAbsolutePath() + ": " + writer.getFirstFailure());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package bookstore.support;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+import com.example.bookstoreapi.config.ConfigSnapshot;
+
+/**
+ * JUnit Platform strategy that runs tests on {@code junit.parallel.threads} threads of the
+ * {@link ConfigSnapshot}, so the active profile decides the parallelism of the run.
+ * <p>
+ * It sizes the pool the way JUnit's {@code fixed} strategy does. {@code -Djunit.parallel.threads}
+ * still overrides the profile.
+ * </p>
+ * Selected in the surefire configuration of {@code pom.xml}.
+ */
+public class ConfiguredParallelism implements ParallelExecutionConfigurationStrategy {
+
+    private static final int KEEP_ALIVE_SECONDS = 30;
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+        int parallelism = ConfigSnapshot.current().getParallelism();
+        return new ParallelExecutionConfiguration() {
+            @Override
+            public int getParallelism() {
+                return parallelism;
+            }
+
+            @Override
+            public int getMinimumRunnable() {
+                return parallelism;
+            }
+
+            @Override
+            public int getMaxPoolSize() {
+                return parallelism + 256;
+            }
+
+            @Override
+            public int getCorePoolSize() {
+                return parallelism;
+            }
+
+            @Override
+            public int getKeepAliveSeconds() {
+                return KEEP_ALIVE_SECONDS;
+            }
+        };
+    }
+}
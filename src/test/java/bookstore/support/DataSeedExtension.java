@@ -0,0 +1,46 @@
+package bookstore.support;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import com.example.bookstoreapi.data.DataCoordinates;
+import com.example.bookstoreapi.data.DataRandom;
+
+import io.qameta.allure.Allure;
+
+/**
+ * JUnit 5 extension that makes the test data of every test reproducible.
+ * <p>
+ * Before each test it moves the test's thread to a {@link DataRandom} shard derived from
+ * the test's unique ID, so a test gets the same data for the same seed however the
+ * parallel run is scheduled, and it records the seed and shard as Allure parameters.
+ * When a test fails, the coordinates of the records it generated are attached to its
+ * Allure result; rerun with {@code -Ddata.seed=<seed>} or call
+ * {@link DataRandom#regenerate(DataCoordinates, java.util.function.Supplier)} to get them back.
+ * </p>
+ * Registered through {@code META-INF/services}, so it applies to every test class.
+ */
+public class DataSeedExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        int shard = context.getUniqueId().hashCode() & Integer.MAX_VALUE;
+        DataRandom.startShard(shard);
+        Allure.parameter("data.seed", DataRandom.seed(), true);
+        Allure.parameter("data.shard", shard, true);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        if (context.getExecutionException().isPresent()) {
+            DataCoordinates next = DataRandom.position();
+            Allure.addAttachment("Test data", "text/plain",
+                "Generated " + next.getIndex() + " record(s): seed=" + next.getSeed() + ", shard=" + next.getShard()
+                    + ", index 0 to " + (next.getIndex() - 1) + "\n"
+                    + "Rerun with -Ddata.seed=" + next.getSeed() + ", or regenerate a record with\n"
+                    + "DataRandom.regenerate(new DataCoordinates(" + next.getSeed() + "L, " + next.getShard()
+                    + ", index), BookDataFactory::createBaseBook)");
+        }
+    }
+}
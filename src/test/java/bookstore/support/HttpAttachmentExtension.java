@@ -0,0 +1,25 @@
+package bookstore.support;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import com.example.bookstoreapi.http.AllureHttpFilter;
+import com.example.bookstoreapi.json.JsonMatchers;
+
+/**
+ * JUnit 5 extension that reports the outcome of every test to the shared {@link AllureHttpFilter}.
+ * <p>
+ * The filter keeps a test's HTTP calls until then, and attaches all of them if the test failed,
+ * or only the sampled ones (see {@code allure.http.sample.percent}) if it passed. The parsed body
+ * that {@link JsonMatchers} keeps for the test's thread is dropped as well.
+ * </p>
+ * Registered through {@code META-INF/services}, so it applies to every test class.
+ */
+public class HttpAttachmentExtension implements AfterEachCallback {
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        AllureHttpFilter.shared().testFinished(context.getExecutionException().isPresent());
+        JsonMatchers.clear();
+    }
+}
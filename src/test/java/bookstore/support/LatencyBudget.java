@@ -0,0 +1,49 @@
+package bookstore.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Fails a test whose latency percentiles exceed a budget, e.g.
+ * {@code @LatencyBudget(p95 = "200ms", samples = 50)}.
+ * <p>
+ * The test runs once as usual. Then its method is invoked {@link #warmup()} more times
+ * without timing, then {@link #samples()} more times timed, bypassing the response cache. A
+ * budget is a number with the unit {@code us}, {@code ms} or {@code s}; unset budgets are not
+ * checked, and at least one must be set. Budgets are multiplied by {@code latency.budget.scale}
+ * (default 1.0), so a slower environment can relax all of them at once. The latency histogram
+ * is attached to the Allure result. See {@link LatencyBudgetExtension}.
+ * </p>
+ * Every invocation runs the whole test method, so it suits tests that read without leaving data
+ * behind. In a parallel run the samples include the load of the other tests.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(LatencyBudgetExtension.class)
+public @interface LatencyBudget {
+
+    /** @return the budget for the median, e.g. {@code "100ms"}; empty if not checked */
+    String p50() default "";
+
+    /** @return the budget for the 90th percentile; empty if not checked */
+    String p90() default "";
+
+    /** @return the budget for the 95th percentile; empty if not checked */
+    String p95() default "";
+
+    /** @return the budget for the 99th percentile; empty if not checked */
+    String p99() default "";
+
+    /** @return the budget for the slowest sample; empty if not checked */
+    String max() default "";
+
+    /** @return the number of timed invocations */
+    int samples() default 20;
+
+    /** @return the number of untimed invocations before the samples */
+    int warmup() default 3;
+}
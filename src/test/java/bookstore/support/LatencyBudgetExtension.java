@@ -0,0 +1,168 @@
+package bookstore.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.opentest4j.AssertionFailedError;
+
+import com.example.bookstoreapi.config.ConfigReader;
+import com.example.bookstoreapi.http.ResponseCache;
+
+import io.qameta.allure.Allure;
+
+/**
+ * JUnit 5 extension behind {@link LatencyBudget}.
+ * <p>
+ * After the test method has passed once, it invokes the method again for the warm-up and the
+ * samples and records the duration of every sample in an HdrHistogram (microseconds, three
+ * significant digits). The percentiles and the full distribution are attached to the Allure
+ * result as "Latency histogram"; the test fails with an {@link AssertionFailedError} naming
+ * every budget that was exceeded. A sample that fails its assertions fails the test as well.
+ * </p>
+ */
+public class LatencyBudgetExtension implements InvocationInterceptor {
+
+    private static final Pattern DURATION = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*(us|ms|s)");
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+        LatencyBudget annotation = AnnotationSupport.findAnnotation(extensionContext.getRequiredTestMethod(), LatencyBudget.class)
+            .orElseThrow(() -> new ExtensionConfigurationException("@LatencyBudget not found"));
+        List<Budget> budgets = budgets(annotation);
+
+        invocation.proceed();
+
+        Method method = invocationContext.getExecutable();
+        Object target = invocationContext.getTarget().orElse(null);
+        Object[] arguments = invocationContext.getArguments().toArray();
+        for (int i = 0; i < annotation.warmup(); i++) {
+            invoke(method, target, arguments);
+        }
+        Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        for (int i = 0; i < annotation.samples(); i++) {
+            long start = System.nanoTime();
+            invoke(method, target, arguments);
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            histogram.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        }
+
+        List<String> exceeded = new ArrayList<>();
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "%d samples after %d warm-up invocation(s), mean %.2f ms%n",
+            histogram.getTotalCount(), annotation.warmup(), histogram.getMean() / 1000.0));
+        for (Budget budget : budgets) {
+            long actual = budget.percentile >= 100 ? histogram.getMaxValue() : histogram.getValueAtPercentile(budget.percentile);
+            boolean over = actual > budget.micros;
+            String line = String.format(Locale.ROOT, "%s %.2f ms, budget %.2f ms", budget.name, actual / 1000.0, budget.micros / 1000.0);
+            report.append(line).append(over ? "  EXCEEDED" : "").append('\n');
+            if (over) {
+                exceeded.add(line);
+            }
+        }
+        report.append('\n').append(distribution(histogram));
+        Allure.addAttachment("Latency histogram", "text/plain", report.toString(), ".txt");
+
+        if (!exceeded.isEmpty()) {
+            throw new AssertionFailedError("Latency budget exceeded over " + histogram.getTotalCount() + " samples: "
+                + String.join("; ", exceeded));
+        }
+    }
+
+    private static void invoke(Method method, Object target, Object[] arguments) {
+        ResponseCache.bypass(() -> ReflectionSupport.invokeMethod(method, target, arguments));
+    }
+
+    private static String distribution(Histogram histogram) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(bytes, true, StandardCharsets.UTF_8)) {
+            // values are recorded in microseconds and printed in milliseconds
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    private static List<Budget> budgets(LatencyBudget annotation) {
+        if (annotation.samples() <= 0 || annotation.warmup() < 0) {
+            throw new ExtensionConfigurationException("@LatencyBudget needs samples > 0 and warmup >= 0");
+        }
+        double scale = scale();
+        List<Budget> budgets = new ArrayList<>();
+        add(budgets, "p50", 50, annotation.p50(), scale);
+        add(budgets, "p90", 90, annotation.p90(), scale);
+        add(budgets, "p95", 95, annotation.p95(), scale);
+        add(budgets, "p99", 99, annotation.p99(), scale);
+        add(budgets, "max", 100, annotation.max(), scale);
+        if (budgets.isEmpty()) {
+            throw new ExtensionConfigurationException("@LatencyBudget sets no budget; set p50, p90, p95, p99 or max");
+        }
+        return budgets;
+    }
+
+    private static void add(List<Budget> budgets, String name, double percentile, String value, double scale) {
+        if (value.trim().isEmpty()) {
+            return;
+        }
+        Matcher matcher = DURATION.matcher(value.trim());
+        if (!matcher.matches()) {
+            throw new ExtensionConfigurationException("@LatencyBudget " + name + " must be a number with us, ms or s: " + value);
+        }
+        double amount = Double.parseDouble(matcher.group(1));
+        double micros;
+        switch (matcher.group(2)) {
+            case "us":
+                micros = amount;
+                break;
+            case "ms":
+                micros = amount * 1000;
+                break;
+            default:
+                micros = amount * 1_000_000;
+        }
+        budgets.add(new Budget(name, percentile, Math.round(micros * scale)));
+    }
+
+    private static double scale() {
+        String scale = ConfigReader.get("latency.budget.scale");
+        if (scale == null || scale.trim().isEmpty()) {
+            return 1.0;
+        }
+        try {
+            double value = Double.parseDouble(scale.trim());
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        throw new ExtensionConfigurationException("latency.budget.scale must be a positive number: " + scale);
+    }
+
+    private static final class Budget {
+        private final String name;
+        private final double percentile;
+        private final long micros;
+
+        Budget(String name, double percentile, long micros) {
+            this.name = name;
+            this.percentile = percentile;
+            this.micros = micros;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package bookstore.support;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import com.example.bookstoreapi.config.ConfigReader;
+import com.example.bookstoreapi.http.CassetteFilter;
+import com.example.bookstoreapi.http.ResponseCache;
+import com.example.bookstoreapi.metrics.LatencyHistory;
+import com.example.bookstoreapi.metrics.MetricsRegistry;
+
+/**
+ * JUnit Platform listener that exports the API metrics of the run when the test plan finishes.
+ * <p>
+ * The calls recorded in the shared {@link MetricsRegistry}, which holds only the calls to the
+ * configured {@code base.url} (see {@link MetricsRegistry#sharedFor(String)}), are written to
+ * {@code metrics.dir} (default {@code target/metrics}) as {@value MetricsRegistry#JSON_FILE}
+ * and {@value MetricsRegistry#PROMETHEUS_FILE}. Nothing is written when metrics are disabled
+ * or no call was made.
+ * </p>
+ * <p>
+ * Unless {@code metrics.history.enabled} is {@code false}, the latencies are also appended to
+ * the {@link LatencyHistory} that {@code mvn exec:java@latency-check} compares runs against.
+ * Only runs whose latencies come from the API are recorded under its base URL. Runs against the
+ * stand-in server, replayed from a cassette or answered from the response cache are recorded
+ * under the targets {@code stub}, {@code replay} and {@code cached}, so they are never compared
+ * with runs against the real API.
+ * </p>
+ * Registered through {@code META-INF/services}, so it applies to every run.
+ */
+public class MetricsExportListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        MetricsRegistry registry = MetricsRegistry.shared();
+        if (registry == null || registry.isEmpty()) {
+            return;
+        }
+        Path directory = MetricsRegistry.configuredDirectory();
+        try {
+            registry.export(directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to export the API metrics to " + directory.toAbsolutePath(), ex);
+        }
+        if (LatencyHistory.isEnabled()) {
+            LatencyHistory history = LatencyHistory.fromConfig();
+            try {
+                history.append(registry.toRun(target()));
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to append the run to " + history.getFile().toAbsolutePath(), ex);
+            }
+        }
+    }
+
+    /**
+     * @return the target the run is recorded under. The metrics filter runs ahead of the cassette
+     *         and cache filters, so replayed and cached calls are measured too.
+     */
+    private static String target() {
+        if (Boolean.parseBoolean(ConfigReader.get("stub.server"))) {
+            return "stub";
+        }
+        if (CassetteFilter.configuredMode() == CassetteFilter.Mode.REPLAY) {
+            return "replay";
+        }
+        if (ResponseCache.isEnabled()) {
+            return "cached";
+        }
+        return ConfigReader.get("base.url");
+    }
+}
@@ -0,0 +1,46 @@
+package bookstore.support;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import com.example.bookstoreapi.config.ConfigReader;
+import com.example.bookstoreapi.stub.BookstoreStubServer;
+
+/**
+ * JUnit 5 extension that runs the suite against the in-process
+ * {@link BookstoreStubServer} instead of the real API.
+ * <p>
+ * When {@code stub.server} is {@code true} (e.g., {@code mvn test -Dstub.server=true}),
+ * the first test class starts one server for the whole run and sets the
+ * {@code base.url} system property to it, so every client created afterwards talks to
+ * the stand-in. The server is stopped when the run ends.
+ * </p>
+ * Registered through {@code META-INF/services}, so it applies to every test class.
+ */
+public class StubServerExtension implements BeforeAllCallback {
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!Boolean.parseBoolean(ConfigReader.get("stub.server"))) {
+            return;
+        }
+        context.getRoot().getStore(ExtensionContext.Namespace.create(StubServerExtension.class))
+            .getOrComputeIfAbsent(RunningServer.class, key -> new RunningServer(BookstoreStubServer.start()), RunningServer.class);
+    }
+
+    /** Closed by JUnit when the root context, i.e. the test run, ends. */
+    private static final class RunningServer implements ExtensionContext.Store.CloseableResource {
+
+        private final BookstoreStubServer server;
+
+        RunningServer(BookstoreStubServer server) {
+            this.server = server;
+            System.setProperty("base.url", server.getBaseUrl());
+        }
+
+        @Override
+        public void close() {
+            server.close();
+        }
+    }
+}